@@ -15,11 +15,15 @@ import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
 import org.jaudiotagger.audio.exceptions.NoWritePermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.generic.AudioPayloadHasher;
 import org.jaudiotagger.audio.generic.Permissions;
+import org.jaudiotagger.audio.mp4.Mp4AudioHeader;
+import org.jaudiotagger.audio.mp4.Mp4InfoReader;
+import org.jaudiotagger.audio.ogg.OggVorbisTagReader;
 import org.jaudiotagger.audio.real.RealTag;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.aiff.AiffTag;
 import org.jaudiotagger.tag.asf.AsfTag;
 import org.jaudiotagger.tag.flac.FlacTag;
@@ -35,8 +39,15 @@ import org.jaudiotagger.tag.wav.WavTag;
 import org.jcodec.common.io.IOUtils;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Logger;
 
 /**
@@ -76,6 +87,16 @@ public class AudioFile
      * The tag
      */
     protected String extension;
+
+    /**
+     * The part of the tag that was read, the tag can only be written if all of it was read
+     */
+    protected ReadProjection readProjection = ReadProjection.ALL;
+
+    /**
+     * The options this file was read with, if they were given
+     */
+    protected TagOptions tagOptions;
     public final boolean isAudio;
 
     public AudioFile()
@@ -168,6 +189,50 @@ public class AudioFile
         return extension;
     }
 
+    /**
+     * Set the part of the tag that was read
+     *
+     * @param readProjection
+     */
+    public void setReadProjection(ReadProjection readProjection)
+    {
+        this.readProjection = readProjection;
+    }
+
+    /**
+     * @return the part of the tag that was read, {@link ReadProjection#ALL} unless a projection was
+     * passed to {@link AudioFileIO#read(FileSystemProvider, ReadProjection)}
+     */
+    public ReadProjection getReadProjection()
+    {
+        return readProjection;
+    }
+
+    /**
+     * @param tagOptions
+     */
+    public void setTagOptions(TagOptions tagOptions)
+    {
+        this.tagOptions = tagOptions;
+    }
+
+    /**
+     * @return the options passed to {@link AudioFileIO#read(FileSystemProvider, TagOptions)}, also used when the
+     * file is written, or null if none were given
+     */
+    public TagOptions getTagOptions()
+    {
+        return tagOptions;
+    }
+
+    /**
+     * @return the options this file was read with if given, otherwise the current options
+     */
+    protected TagOptions options()
+    {
+        return tagOptions != null ? tagOptions : TagOptions.current();
+    }
+
     /**
      *  Assign a tag to this audio file
      *  
@@ -200,6 +265,92 @@ public class AudioFile
         return tag;
     }
 
+    /**
+     * The parts of the file holding the audio data, by default the region between the audio data start and end
+     * positions of the audio header, for MP4 the top level mdat atoms and for Ogg the packet data of the audio pages.
+     *
+     * @return regions holding the audio data in file order
+     * @throws CannotReadException if the position of the audio data is not known for this format
+     * @throws IOException
+     */
+    protected List<AudioPayloadHasher.Region> getAudioPayloadRegions() throws CannotReadException, IOException
+    {
+        if (audioHeader instanceof Mp4AudioHeader)
+        {
+            return Mp4InfoReader.getMediaDataRegions(provider);
+        }
+        else if (SupportedFileFormat.OGG.getFilesuffix().equals(getFileSuffix()))
+        {
+            RandomAccessFileProvider raf = provider.getRandomAccessFile("r");
+            try
+            {
+                return new OggVorbisTagReader().readAudioPayloadRegions(raf);
+            }
+            finally
+            {
+                raf.close();
+            }
+        }
+
+        Long start = audioHeader.getAudioDataStartPosition();
+        Long end = audioHeader.getAudioDataEndPosition();
+        if (start == null || end == null)
+        {
+            throw new CannotReadException(ErrorMessage.GENERAL_HASH_FAILED_AUDIO_DATA_POSITION_UNKNOWN.getMsg(provider));
+        }
+        return Collections.singletonList(new AudioPayloadHasher.Region(start, end));
+    }
+
+    /**
+     * Hash the audio data excluding any metadata, so files with the same audio have the same hash however they
+     * are tagged. All the algorithms are computed in a single pass over the audio.
+     *
+     * @param algorithms names of the digest algorithms, e.g MD5, SHA-1, SHA-256
+     * @return digest for each algorithm
+     * @throws CannotReadException if the position of the audio data is not known for this format
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public Map<String, byte[]> getAudioPayloadHash(Set<String> algorithms) throws CannotReadException, IOException, NoSuchAlgorithmException
+    {
+        return new AudioPayloadHasher(provider, getAudioPayloadRegions()).hash(algorithms);
+    }
+
+    /**
+     * Hash the audio data as a tree of chunks hashed in parallel, see {@link AudioPayloadHasher#treeHash(Set, int, int)}.
+     * The result differs from {@link #getAudioPayloadHash(Set)} and depends on chunkSize.
+     *
+     * @param algorithms names of the digest algorithms, e.g MD5, SHA-1, SHA-256
+     * @param chunkSize  size of each chunk in bytes
+     * @param threads    number of threads to use
+     * @return root digest for each algorithm
+     * @throws CannotReadException if the position of the audio data is not known for this format
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public Map<String, byte[]> getAudioPayloadTreeHash(Set<String> algorithms, int chunkSize, int threads) throws CannotReadException, IOException, NoSuchAlgorithmException
+    {
+        return new AudioPayloadHasher(provider, getAudioPayloadRegions()).treeHash(algorithms, chunkSize, threads);
+    }
+
+    /**
+     * Hash the audio data as a tree of chunks hashed on executor, see
+     * {@link AudioPayloadHasher#treeHash(Set, int, int, ExecutorService)}.
+     *
+     * @param algorithms names of the digest algorithms, e.g MD5, SHA-1, SHA-256
+     * @param chunkSize  size of each chunk in bytes
+     * @param threads    number of chunks to hash at once
+     * @param executor   runs the hashing, it is not shut down
+     * @return root digest for each algorithm
+     * @throws CannotReadException if the position of the audio data is not known for this format
+     * @throws IOException
+     * @throws NoSuchAlgorithmException
+     */
+    public Map<String, byte[]> getAudioPayloadTreeHash(Set<String> algorithms, int chunkSize, int threads, ExecutorService executor) throws CannotReadException, IOException, NoSuchAlgorithmException
+    {
+        return new AudioPayloadHasher(provider, getAudioPayloadRegions()).treeHash(algorithms, chunkSize, threads, executor);
+    }
+
     /**
      * <p>Returns a multi-line string with the file path, the encoding audioHeader, and the tag contents.
      *
@@ -239,7 +390,21 @@ public class AudioFile
      */
     protected RandomAccessFileProvider checkFilePermissions(FileSystemProvider provider, boolean readOnly) throws ReadOnlyFileException, FileNotFoundException, CannotReadException
     {
-        RandomAccessFileProvider newFile;
+        checkFileAccess(provider, readOnly);
+        return provider.getRandomAccessFile(getOpenMode(readOnly));
+    }
+
+    /**
+     * Checks the file is accessible with the correct permissions without opening it, otherwise exception occurs
+     *
+     * @param provider
+     * @param readOnly
+     * @throws ReadOnlyFileException
+     * @throws FileNotFoundException
+     * @throws CannotReadException
+     */
+    protected void checkFileAccess(FileSystemProvider provider, boolean readOnly) throws ReadOnlyFileException, FileNotFoundException, CannotReadException
+    {
         checkFileExists(provider);
 
         // Unless opened as readonly the file must be writable
@@ -252,18 +417,24 @@ public class AudioFile
                 logger.severe(Permissions.displayPermissions(provider));
                 throw new NoReadPermissionsException(ErrorMessage.GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE.getMsg(provider.getPath()));
             }
-            newFile = provider.getRandomAccessFile("r");
         }
         else
         {
-            if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+            if (options().isCheckIsWritable() && !provider.canWrite())
             {
                 logger.severe(Permissions.displayPermissions(provider));
                 throw new ReadOnlyFileException(ErrorMessage.NO_PERMISSIONS_TO_WRITE_TO_FILE.getMsg(provider.getPath()));
             }
-            newFile = provider.getRandomAccessFile("rw");
         }
-        return newFile;
+    }
+
+    /**
+     * @param readOnly
+     * @return the mode the file should be opened with once {@link #checkFileAccess} has passed
+     */
+    protected String getOpenMode(boolean readOnly)
+    {
+        return readOnly ? "r" : "rw";
     }
 
     /**
@@ -287,11 +458,12 @@ public class AudioFile
     }
 
 
-    /** Create Default Tag
+    /**
+     * The file extension, taken from the file name if it has not been set
      *
      * @return
      */
-    public Tag createDefaultTag()
+    private String getFileSuffix()
     {
         String extension = getExt();
         if(extension == null)
@@ -300,63 +472,81 @@ public class AudioFile
             extension = fileName.substring(fileName.lastIndexOf('.') + 1);
             setExt(extension);
         }
-        if(SupportedFileFormat.FLAC.getFilesuffix().equals(extension))
-        {
-            return new FlacTag(VorbisCommentTag.createNewTag(), new ArrayList< MetadataBlockDataPicture >());
-        }
-        else if(SupportedFileFormat.OGG.getFilesuffix().equals(extension))
-        {
-            return VorbisCommentTag.createNewTag();
-        }
-        else if(SupportedFileFormat.MP4.getFilesuffix().equals(extension))
-        {
-            return new Mp4Tag();
-        }
-        else if(SupportedFileFormat.M4A.getFilesuffix().equals(extension))
-        {
-            return new Mp4Tag();
-        }
-        else if(SupportedFileFormat.M4P.getFilesuffix().equals(extension))
-        {
-            return new Mp4Tag();
-        }
-        else if(SupportedFileFormat.WMA.getFilesuffix().equals(extension))
-        {
-            return new AsfTag();
-        }
-        else if(SupportedFileFormat.WAV.getFilesuffix().equals(extension))
-        {
-            return new WavTag(TagOptionSingleton.getInstance().getWavOptions());
-        }
-        else if(SupportedFileFormat.RA.getFilesuffix().equals(extension))
-        {
-            return new RealTag();
-        }
-        else if(SupportedFileFormat.RM.getFilesuffix().equals(extension))
-        {
-            return new RealTag();
-        }
-        else if(SupportedFileFormat.AIF.getFilesuffix().equals(extension))
-        {
-            return new AiffTag();
-        }
-        else if(SupportedFileFormat.AIFC.getFilesuffix().equals(extension))
-        {
-            return new AiffTag();
-        }
-        else if(SupportedFileFormat.AIFF.getFilesuffix().equals(extension))
-        {
-            return new AiffTag();
-        }
-        else if(SupportedFileFormat.DSF.getFilesuffix().equals(extension))
+        return extension;
+    }
+
+    /** Create Default Tag
+     *
+     * @return
+     */
+    public Tag createDefaultTag()
+    {
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            return Dsf.createDefaultTag();
+            String extension = getFileSuffix();
+            if(SupportedFileFormat.FLAC.getFilesuffix().equals(extension))
+            {
+                return new FlacTag(VorbisCommentTag.createNewTag(), new ArrayList< MetadataBlockDataPicture >());
+            }
+            else if(SupportedFileFormat.OGG.getFilesuffix().equals(extension))
+            {
+                return VorbisCommentTag.createNewTag();
+            }
+            else if(SupportedFileFormat.MP4.getFilesuffix().equals(extension))
+            {
+                return new Mp4Tag();
+            }
+            else if(SupportedFileFormat.M4A.getFilesuffix().equals(extension))
+            {
+                return new Mp4Tag();
+            }
+            else if(SupportedFileFormat.M4P.getFilesuffix().equals(extension))
+            {
+                return new Mp4Tag();
+            }
+            else if(SupportedFileFormat.WMA.getFilesuffix().equals(extension))
+            {
+                return new AsfTag();
+            }
+            else if(SupportedFileFormat.WAV.getFilesuffix().equals(extension))
+            {
+                return new WavTag(options().getWavOptions());
+            }
+            else if(SupportedFileFormat.RA.getFilesuffix().equals(extension))
+            {
+                return new RealTag();
+            }
+            else if(SupportedFileFormat.RM.getFilesuffix().equals(extension))
+            {
+                return new RealTag();
+            }
+            else if(SupportedFileFormat.AIF.getFilesuffix().equals(extension))
+            {
+                return new AiffTag();
+            }
+            else if(SupportedFileFormat.AIFC.getFilesuffix().equals(extension))
+            {
+                return new AiffTag();
+            }
+            else if(SupportedFileFormat.AIFF.getFilesuffix().equals(extension))
+            {
+                return new AiffTag();
+            }
+            else if(SupportedFileFormat.DSF.getFilesuffix().equals(extension))
+            {
+                return Dsf.createDefaultTag();
+            }
+            else
+            {
+                throw new RuntimeException("Unable to create default tag for this file format");
+            }
+
         }
-        else
+        finally
         {
-            throw new RuntimeException("Unable to create default tag for this file format");
+            TagOptions.exit(previous);
         }
-
     }
 
     /**
@@ -404,7 +594,7 @@ public class AudioFile
          */
         if(tag instanceof AbstractID3v2Tag)
         {
-            Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptionSingleton.getInstance().getID3V2Version());
+            Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, options().getID3V2Version());
             if(convertedTag!=null)
             {
                 setTag(convertedTag);
@@ -443,43 +633,51 @@ public class AudioFile
      */
     public AbstractID3v2Tag convertID3Tag(AbstractID3v2Tag tag, ID3V2Version id3V2Version)
     {
-        if(tag instanceof ID3v24Tag)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            switch(id3V2Version)
+            if(tag instanceof ID3v24Tag)
             {
-                case ID3_V22:
-                    return new ID3v22Tag((ID3v24Tag)tag);
-                case ID3_V23:
-                    return new ID3v23Tag((ID3v24Tag)tag);
-                case ID3_V24:
-                    return null;
+                switch(id3V2Version)
+                {
+                    case ID3_V22:
+                        return new ID3v22Tag((ID3v24Tag)tag);
+                    case ID3_V23:
+                        return new ID3v23Tag((ID3v24Tag)tag);
+                    case ID3_V24:
+                        return null;
+                }
             }
-        }
-        else if(tag instanceof ID3v23Tag)
-        {
-            switch(id3V2Version)
+            else if(tag instanceof ID3v23Tag)
             {
-                case ID3_V22:
-                    return new ID3v22Tag((ID3v23Tag)tag);
-                case ID3_V23:
-                    return null;
-                case ID3_V24:
-                    return new ID3v24Tag((ID3v23Tag)tag);
+                switch(id3V2Version)
+                {
+                    case ID3_V22:
+                        return new ID3v22Tag((ID3v23Tag)tag);
+                    case ID3_V23:
+                        return null;
+                    case ID3_V24:
+                        return new ID3v24Tag((ID3v23Tag)tag);
+                }
             }
-        }
-        else if(tag instanceof ID3v22Tag)
-        {
-            switch(id3V2Version)
+            else if(tag instanceof ID3v22Tag)
             {
-                case ID3_V22:
-                    return null;
-                case ID3_V23:
-                    return new ID3v23Tag((ID3v22Tag)tag);
-                case ID3_V24:
-                    return new ID3v24Tag((ID3v22Tag)tag);
+                switch(id3V2Version)
+                {
+                    case ID3_V22:
+                        return null;
+                    case ID3_V23:
+                        return new ID3v23Tag((ID3v22Tag)tag);
+                    case ID3_V24:
+                        return new ID3v24Tag((ID3v22Tag)tag);
+                }
             }
+            return null;
+        }
+        finally
+        {
+            TagOptions.exit(previous);
         }
-        return null;
     }
 
     //Modifiedd
@@ -37,6 +37,7 @@ import org.jaudiotagger.audio.flac.FlacFileWriter;
 import org.jaudiotagger.audio.generic.AudioFileModificationListener;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.AudioFileWriter;
+import org.jaudiotagger.audio.generic.CachedTag;
 import org.jaudiotagger.audio.generic.ModificationHandler;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3FileReader;
@@ -50,12 +51,14 @@ import org.jaudiotagger.audio.wav.WavFileReader;
 import org.jaudiotagger.audio.wav.WavFileWriter;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -92,6 +95,16 @@ import java.util.logging.Logger;
  * </code>
  * 
  *
+ * <b>Threads</b>
+ *
+ * An AudioFileIO, including the default instance, may be used to read and write files from multiple threads at once,
+ * the readers and writers it selects keep no state between calls. Each {@link AudioFile} read, and its header and tag,
+ * belongs to the caller and must not be modified by one thread while another is using it. The same file on disk must
+ * not be written by more than one thread at a time, nor read while it is being written. Options in
+ * {@link org.jaudiotagger.tag.TagOptionSingleton} are shared by all threads and should be set before reading starts,
+ * jobs needing different options should pass their own {@link TagOptions} to {@link #read(FileSystemProvider, TagOptions)}.
+ * 
+ *
  * @author Raphael Slinckx
  * @version $Id$
  * @see AudioFile
@@ -110,7 +123,37 @@ public class AudioFileIO
     /**
      * This field contains the default instance for static use.
      */
-    private static AudioFileIO defaultInstance;
+    private static volatile AudioFileIO defaultInstance;
+
+    /**
+     * Set the cache used by {@link #readFile(FileSystemProvider, ReadProjection)}, the cache is also registered as a
+     * modification listener so files written by this instance are removed from it.
+     *
+     * <p>Only reads whose projection asks for no more than the cached fields, such as {@link TagCache#PROJECTION}, are
+     * served from the cache and the files they return are read only. Reads of the whole tag always read the file.
+     *
+     * @param tagCache the cache to use, or null for none
+     */
+    public void setTagCache(TagCache tagCache)
+    {
+        if (this.tagCache != null)
+        {
+            this.modificationHandler.removeAudioFileModificationListener(this.tagCache);
+        }
+        this.tagCache = tagCache;
+        if (tagCache != null)
+        {
+            this.modificationHandler.addAudioFileModificationListener(tagCache);
+        }
+    }
+
+    /**
+     * @return the cache used when reading files, or null if there is none
+     */
+    public TagCache getTagCache()
+    {
+        return tagCache;
+    }
 
     /**
      *
@@ -134,11 +177,20 @@ public class AudioFileIO
      */
     public static AudioFileIO getDefaultAudioFileIO()
     {
-        if (defaultInstance == null)
+        AudioFileIO instance = defaultInstance;
+        if (instance == null)
         {
-            defaultInstance = new AudioFileIO();
+            synchronized (AudioFileIO.class)
+            {
+                instance = defaultInstance;
+                if (instance == null)
+                {
+                    instance = new AudioFileIO();
+                    defaultInstance = instance;
+                }
+            }
         }
-        return defaultInstance;
+        return instance;
     }
 
     /**
@@ -202,6 +254,52 @@ public class AudioFileIO
       return getDefaultAudioFileIO().readFile(provider);
   }
 
+    /**
+     *
+     * Read only the part of the tag contained in the given file wanted by projection.
+     *
+     * MP3 (ID3v2), Flac, Ogg Vorbis, MP4, WMA and Wav files skip over the fields not wanted without
+     * decoding them, other formats read the whole tag. The tag of the returned file is incomplete
+     * so it cannot be written back to the file.
+     *
+     * @param provider The file to read.
+     * @param projection The fields to read.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public static AudioFile read(FileSystemProvider provider, ReadProjection projection)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFile(provider, projection);
+    }
+
+    /**
+     *
+     * Read the tag contained in the given file using options rather than those of the default
+     * {@link org.jaudiotagger.tag.TagOptionSingleton}, the options are kept with the file and also used when it is
+     * written.
+     *
+     * @param provider The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public static AudioFile read(FileSystemProvider provider, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFile(provider, ReadProjection.ALL, options);
+    }
+
     /**
      *
      * Write the tag contained in the audioFile in the actual file on the disk.
@@ -217,6 +315,22 @@ public class AudioFileIO
         getDefaultAudioFileIO().writeFile(f,null);
     }
 
+    /**
+     *
+     * Write the tag contained in the audioFile in the actual file on the disk using options rather than those the
+     * file was read with.
+     *
+     * @param f The AudioFile to be written
+     * @param options The options to write with.
+     * @throws NoWritePermissionsException if the file could not be written to due to file permissions
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public static void write(AudioFile f, TagOptions options) throws CannotWriteException
+    {
+        getDefaultAudioFileIO().writeFile(f, null, options);
+    }
+
     /**
     *
     * Write the tag contained in the audioFile in the actual file on the disk.
@@ -241,6 +355,11 @@ public class AudioFileIO
      */
     private final ModificationHandler modificationHandler;
 
+    /**
+     * Cache of files already read, if any
+     */
+    private volatile TagCache tagCache;
+
     // These tables contains all the readers/writers associated with extension
     // as a key
     private Map<String, AudioFileReader> readers = new HashMap<String, AudioFileReader>();
@@ -279,6 +398,11 @@ public class AudioFileIO
      */
     public void deleteTag(AudioFile f) throws CannotReadException, CannotWriteException
     {
+        if (f.getTag() instanceof CachedTag)
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_READ_FROM_CACHE.getMsg(f.getProvider()));
+        }
+
         String ext = f.getProvider().extension().toLowerCase();
 
         Object afw = writers.get(ext);
@@ -358,18 +482,111 @@ public class AudioFileIO
     public AudioFile readFile(FileSystemProvider provider)
             throws CannotReadException, IOException, TagException,
             ReadOnlyFileException, InvalidAudioFrameException {
+        return readFile(provider, ReadProjection.ALL);
+    }
+
+    /**
+     *
+     * Read only the part of the tag contained in the given file wanted by projection.
+     *
+     *
+     * @param provider The file to read.
+     * @param projection The fields to read.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public AudioFile readFile(FileSystemProvider provider, ReadProjection projection)
+            throws CannotReadException, IOException, TagException,
+            ReadOnlyFileException, InvalidAudioFrameException {
+        return readFile(provider, projection, null);
+    }
+
+    /**
+     *
+     * Read only the part of the tag contained in the given file wanted by projection, using options rather than
+     * those of the default {@link org.jaudiotagger.tag.TagOptionSingleton}. The options are used by the readers and
+     * tags for the duration of the read, and kept with the file so they are also used when it is written.
+     *
+     * Files served from the {@link TagCache} were read with whatever options were in use when they were cached.
+     *
+     * @param provider The file to read.
+     * @param projection The fields to read.
+     * @param options The options to read with, or null to use the current options.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public AudioFile readFile(FileSystemProvider provider, ReadProjection projection, TagOptions options)
+            throws CannotReadException, IOException, TagException,
+            ReadOnlyFileException, InvalidAudioFrameException {
         //really?!
         //checkFileExists(f);
 
         //Modifiedd toLowerCase
-        String ext = provider.extension().toLowerCase();
+        return readFile(provider, provider.extension().toLowerCase(), projection, options);
+    }
 
+    /**
+     * Read the file with the reader for ext, which need not be the extension of the file
+     *
+     * @param provider The file to read.
+     * @param ext The format to read the file as.
+     * @param projection The fields to read.
+     * @param options The options to read with, or null to use the current options.
+     * @return The AudioFile with the file tag and the file encoding info.
+     */
+    private AudioFile readFile(FileSystemProvider provider, String ext, ReadProjection projection, TagOptions options)
+            throws CannotReadException, IOException, TagException,
+            ReadOnlyFileException, InvalidAudioFrameException {
         AudioFileReader afr = readers.get(ext);
         if (afr == null) {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
-        AudioFile tempFile = afr.read(provider);
+        //Unchanged files can be served from the cache without being opened
+        TagCache cache = tagCache;
+        if (cache != null && cache.covers(projection))
+        {
+            AudioFile cachedFile = cache.get(provider);
+            if (cachedFile != null)
+            {
+                return cachedFile;
+            }
+        }
+
+        AudioFile tempFile;
+        TagOptions previous = TagOptions.enter(options);
+        try
+        {
+            tempFile = afr.read(provider, projection);
+        }
+        finally
+        {
+            TagOptions.exit(previous);
+        }
         tempFile.setExt(ext);
+        tempFile.setReadProjection(projection);
+        tempFile.setTagOptions(options);
+        if (cache != null && projection.getFieldKeys().containsAll(TagCache.PROJECTION.getFieldKeys()))
+        {
+            try
+            {
+                cache.put(tempFile);
+            }
+            catch (IOException ioe)
+            {
+                //The file has been read so just warn
+                logger.log(Level.WARNING, "Unable to add " + provider.getPath() + " to tag cache", ioe);
+            }
+        }
         return tempFile;
     }
 
@@ -423,19 +640,31 @@ public class AudioFileIO
   public AudioFile readFileAs(FileSystemProvider f, String ext)
           throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
   {
-      checkFileExists(f);
-//      String ext = Utils.getExtension(f);
-
-      AudioFileReader afr = readers.get(ext);
-      if (afr == null)
-      {
-          throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
-      }
-
-      AudioFile tempFile = afr.read(f);
-      tempFile.setExt(ext);
-      return tempFile;
+      return readFileAs(f, ext, ReadProjection.ALL);
+  }
 
+  /**
+   *
+   * Read only the part of the tag contained in the given file wanted by projection, as the format given by ext
+   * rather than by the extension of the file. Like {@link #readFile(FileSystemProvider, ReadProjection)} the file
+   * may be served from the {@link TagCache}.
+   *
+   * @param f The file to read.
+   * @param ext The extension to be used.
+   * @param projection The fields to read.
+   * @return The AudioFile with the file tag and the file encoding info.
+   * @throws CannotReadException If the file could not be read, the extension wasn't
+   *                             recognized, or an IO error occurred during the read.
+   * @throws TagException
+   * @throws ReadOnlyFileException
+   * @throws IOException
+   * @throws InvalidAudioFrameException
+   */
+  public AudioFile readFileAs(FileSystemProvider f, String ext, ReadProjection projection)
+          throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+  {
+      checkFileExists(f);
+      return readFile(f, ext, projection, null);
   }
 
     /**
@@ -477,6 +706,34 @@ public class AudioFileIO
      */
     public void writeFile(AudioFile f, String targetPath) throws CannotWriteException
     {
+        writeFile(f, targetPath, f.getTagOptions());
+    }
+
+    /**
+     *
+     * Write the tag contained in the audioFile in the actual file on the disk using options rather than those of the
+     * default {@link org.jaudiotagger.tag.TagOptionSingleton}, the options are used by the writers and tags for the
+     * duration of the write.
+     *
+     * @param f The AudioFile to be written
+     * @param targetPath a file path, without an extension, which provides a "save as". If null, then normal "save" function
+     * @param options The options to write with, or null to use the current options.
+     * @throws NoWritePermissionsException if the file could not be written to due to file permissions
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public void writeFile(AudioFile f, String targetPath, TagOptions options) throws CannotWriteException
+    {
+        if (f.getTag() instanceof CachedTag)
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_READ_FROM_CACHE.getMsg(f.getProvider()));
+        }
+
+        if (!f.getReadProjection().isAll())
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_READ_WITH_PROJECTION.getMsg(f.getProvider(), f.getReadProjection()));
+        }
+
     	String ext = f.getExt();
 
         if (!TextUtils.isEmpty(targetPath))
@@ -497,7 +754,15 @@ public class AudioFileIO
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        afw.write(f);
+        TagOptions previous = TagOptions.enter(options);
+        try
+        {
+            afw.write(f);
+        }
+        finally
+        {
+            TagOptions.exit(previous);
+        }
     }
 
 }
@@ -0,0 +1,108 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.tag.FieldKey;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The part of a tag that the caller of {@link AudioFileIO#read(org.extra.FileSystemProvider, ReadProjection)} is
+ * interested in.
+ *
+ * <p>A projection is a set of {@link FieldKey}s plus whether artwork is wanted. Readers that support projections
+ * skip over the frames, comments, atoms and descriptors that do not map to one of the requested keys using their
+ * length without decoding them, which makes scanning a large library for a handful of fields much cheaper. Formats
+ * that do not support projections read the whole tag as normal, so the tag returned may contain more fields than
+ * requested but never less.
+ *
+ * <p>The tag of a file read with anything other than {@link #ALL} is incomplete, so it cannot be written back to
+ * the file, doing so would lose the fields that were skipped.
+ *
+ * Projections are immutable.
+ */
+public final class ReadProjection
+{
+    /**
+     * Read everything, the same as a normal read
+     */
+    public static final ReadProjection ALL = new ReadProjection(EnumSet.allOf(FieldKey.class), true, true);
+
+    private final Set<FieldKey> fieldKeys;
+    private final boolean artwork;
+    private final boolean all;
+
+    private ReadProjection(EnumSet<FieldKey> fieldKeys, boolean artwork, boolean all)
+    {
+        this.fieldKeys = Collections.unmodifiableSet(fieldKeys);
+        this.artwork   = artwork;
+        this.all       = all;
+    }
+
+    /**
+     * @param artwork true if artwork should be read
+     * @param keys    the fields to read
+     * @return projection reading only the given fields, and the artwork if requested
+     */
+    public static ReadProjection of(boolean artwork, FieldKey... keys)
+    {
+        EnumSet<FieldKey> fieldKeys = EnumSet.noneOf(FieldKey.class);
+        Collections.addAll(fieldKeys, keys);
+        return new ReadProjection(fieldKeys, artwork, false);
+    }
+
+    /**
+     * @param artwork true if artwork should be read
+     * @param keys    the fields to read
+     * @return projection reading only the given fields, and the artwork if requested
+     */
+    public static ReadProjection of(boolean artwork, Collection<FieldKey> keys)
+    {
+        EnumSet<FieldKey> fieldKeys = EnumSet.noneOf(FieldKey.class);
+        fieldKeys.addAll(keys);
+        return new ReadProjection(fieldKeys, artwork, false);
+    }
+
+    /**
+     * @return true if this projection reads the whole tag
+     */
+    public boolean isAll()
+    {
+        return all;
+    }
+
+    /**
+     * @return true if artwork should be read
+     */
+    public boolean isArtwork()
+    {
+        return artwork;
+    }
+
+    /**
+     * @return the fields to read, unmodifiable
+     */
+    public Set<FieldKey> getFieldKeys()
+    {
+        return fieldKeys;
+    }
+
+    /**
+     * @param fieldKey
+     * @return true if the field should be read
+     */
+    public boolean includes(FieldKey fieldKey)
+    {
+        return all || fieldKeys.contains(fieldKey) || (artwork && fieldKey == FieldKey.COVER_ART);
+    }
+
+    public String toString()
+    {
+        if (all)
+        {
+            return "ReadProjection:all";
+        }
+        return "ReadProjection:" + fieldKeys + ":artwork:" + artwork;
+    }
+}
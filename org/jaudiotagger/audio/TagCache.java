@@ -0,0 +1,578 @@
+package org.jaudiotagger.audio;
+
+import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.exceptions.ModifyVetoException;
+import org.jaudiotagger.audio.generic.AudioFileModificationAdapter;
+import org.jaudiotagger.audio.generic.CachedAudioHeader;
+import org.jaudiotagger.audio.generic.CachedTag;
+import org.jaudiotagger.tag.Tag;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A persistent cache of the audio header and common tag fields of files that have been read, so that unchanged files
+ * do not have to be read again, even after a restart.
+ *
+ * <p>Each file is identified by the path of its provider together with its length and last modified time, if either
+ * has changed since the file was cached the cached copy is ignored. The header and the fields in
+ * {@link CachedTag#CACHED_KEYS} are stored as a compact binary snapshot, which is appended to the cache file so the
+ * file is never rewritten in normal use. The latest snapshot of recently used files is also held in memory, limited
+ * to a maximum number of bytes, older ones are read back from the cache file when needed.
+ *
+ * <p>Set a cache with {@link AudioFileIO#setTagCache(TagCache)}. Reads whose {@link ReadProjection} asks for no more
+ * than the cached fields, such as {@link #PROJECTION}, then return an {@link AudioFile} built from the snapshot without
+ * opening the audio file at all. Such files are read only, they hold a {@link CachedAudioHeader} and a
+ * {@link CachedTag} rather than the format specific classes and cannot be written. Reads of the whole tag are never
+ * served from the cache, they read the file and add it to the cache. The cache is registered as an
+ * {@link org.jaudiotagger.audio.generic.AudioFileModificationListener} so files written through the same
+ * {@link AudioFileIO} are removed from it as they are modified.
+ *
+ * <p>Writes only ever append, superseded and removed entries are left in the file until {@link #compact()} is
+ * called, which is also done when the cache is opened if most of the file is no longer needed. A partly written
+ * entry at the end of the file, left by a crash, is discarded when the cache is opened.
+ *
+ * <p>All methods are synchronized so a cache can be shared by multiple threads.
+ */
+public class TagCache extends AudioFileModificationAdapter
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio");
+
+    private static final int MAGIC = 0x4a415443;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_LENGTH = 8;
+
+    /**
+     * Projection of the fields held by the cache, reads using it are served from the cache when possible
+     */
+    public static final ReadProjection PROJECTION = ReadProjection.of(false, CachedTag.CACHED_KEYS);
+
+    private static final byte RECORD_ENTRY = 1;
+    private static final byte RECORD_REMOVE = 2;
+
+    /**
+     * Approximate memory used by each entry held in memory in addition to its snapshot and path
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    /**
+     * Compact when opened if the unused part of the file is larger than this and larger than the part in use
+     */
+    private static final long COMPACT_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Where the latest snapshot of a file is held within the cache file
+     */
+    private static class Entry
+    {
+        private final long length;
+        private final long lastModified;
+        private final long snapshotOffset;
+        private final int snapshotLength;
+        private final int recordLength;
+
+        private Entry(long length, long lastModified, long snapshotOffset, int snapshotLength, int recordLength)
+        {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.snapshotOffset = snapshotOffset;
+            this.snapshotLength = snapshotLength;
+            this.recordLength = recordLength;
+        }
+    }
+
+    private final File file;
+    private final long maxMemoryBytes;
+    private RandomAccessFile raf;
+
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+    private final LinkedHashMap<String, byte[]> snapshots = new LinkedHashMap<String, byte[]>(16, 0.75f, true);
+    private long memoryBytes;
+    private long liveBytes;
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Open the cache held in file, creating it if it does not exist
+     *
+     * @param file           the cache file
+     * @param maxMemoryBytes the approximate maximum amount of memory used to hold snapshots in memory
+     * @throws IOException if the cache file cannot be opened or is not a cache file
+     */
+    public TagCache(File file, long maxMemoryBytes) throws IOException
+    {
+        this.file = file;
+        this.maxMemoryBytes = maxMemoryBytes;
+        load();
+        if (raf.length() - FILE_HEADER_LENGTH - liveBytes > Math.max(COMPACT_THRESHOLD, liveBytes))
+        {
+            compact();
+        }
+    }
+
+    /**
+     * @param projection
+     * @return true if a file read from the cache holds everything projection asks for, never for a read of the
+     * whole tag because a cached file is read only and holds only some of its fields
+     */
+    public boolean covers(ReadProjection projection)
+    {
+        return !projection.isAll() && !projection.isArtwork() && CachedTag.CACHED_KEYS.containsAll(projection.getFieldKeys());
+    }
+
+    /**
+     * Get the cached copy of provider
+     *
+     * @param provider
+     * @return a read only AudioFile built from the cached snapshot, or null if the file is not cached or has changed
+     * since it was cached
+     */
+    public synchronized AudioFile get(FileSystemProvider provider)
+    {
+        String path = provider.getPath();
+        Entry entry = entries.get(path);
+        if (entry == null || entry.length != provider.length() || entry.lastModified != provider.lastModified())
+        {
+            missCount++;
+            return null;
+        }
+
+        try
+        {
+            byte[] snapshot = snapshots.get(path);
+            if (snapshot == null)
+            {
+                snapshot = new byte[entry.snapshotLength];
+                raf.seek(entry.snapshotOffset);
+                raf.readFully(snapshot);
+                hold(path, snapshot);
+            }
+            AudioFile audioFile = fromSnapshot(provider, snapshot);
+            hitCount++;
+            return audioFile;
+        }
+        catch (IOException ioe)
+        {
+            logger.log(Level.WARNING, "Unable to read cached tag for:" + path, ioe);
+            entries.remove(path);
+            liveBytes -= entry.recordLength;
+            release(path);
+            missCount++;
+            return null;
+        }
+    }
+
+    /**
+     * Add a snapshot of audioFile to the cache, replacing any existing one
+     *
+     * @param audioFile a file read with a projection that includes every field in {@link #PROJECTION}
+     * @throws IOException if the cache file cannot be written
+     */
+    public synchronized void put(AudioFile audioFile) throws IOException
+    {
+        if (audioFile.getAudioHeader() == null || audioFile.getTag() instanceof CachedTag)
+        {
+            return;
+        }
+
+        byte[] snapshot;
+        try
+        {
+            snapshot = toSnapshot(audioFile);
+        }
+        catch (RuntimeException re)
+        {
+            //Not every header can give every value
+            logger.log(Level.FINE, "Unable to cache:" + audioFile.getProvider().getPath(), re);
+            return;
+        }
+
+        FileSystemProvider provider = audioFile.getProvider();
+        String path = provider.getPath();
+        long length = provider.length();
+        long lastModified = provider.lastModified();
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(snapshot.length + path.length() + 32);
+        DataOutputStream out = new DataOutputStream(record);
+        out.writeByte(RECORD_ENTRY);
+        out.writeUTF(path);
+        out.writeLong(length);
+        out.writeLong(lastModified);
+        out.writeInt(snapshot.length);
+        int headerLength = out.size();
+        out.write(snapshot);
+        out.flush();
+
+        long recordOffset = raf.length();
+        raf.seek(recordOffset);
+        raf.write(record.toByteArray());
+
+        Entry previous = entries.put(path, new Entry(length, lastModified, recordOffset + headerLength, snapshot.length, record.size()));
+        if (previous != null)
+        {
+            liveBytes -= previous.recordLength;
+        }
+        liveBytes += record.size();
+        release(path);
+        hold(path, snapshot);
+    }
+
+    /**
+     * Remove the file with the given path from the cache
+     *
+     * @param path
+     */
+    public synchronized void remove(String path)
+    {
+        Entry previous = entries.remove(path);
+        release(path);
+        if (previous == null)
+        {
+            return;
+        }
+
+        liveBytes -= previous.recordLength;
+        try
+        {
+            ByteArrayOutputStream record = new ByteArrayOutputStream(path.length() + 8);
+            DataOutputStream out = new DataOutputStream(record);
+            out.writeByte(RECORD_REMOVE);
+            out.writeUTF(path);
+            out.flush();
+            raf.seek(raf.length());
+            raf.write(record.toByteArray());
+        }
+        catch (IOException ioe)
+        {
+            //The file will still be ignored if it has changed since it was cached
+            logger.log(Level.WARNING, "Unable to record removal of:" + path + " from tag cache", ioe);
+        }
+    }
+
+    /**
+     * Remove everything from the cache
+     *
+     * @throws IOException
+     */
+    public synchronized void clear() throws IOException
+    {
+        entries.clear();
+        snapshots.clear();
+        memoryBytes = 0;
+        liveBytes = 0;
+        raf.setLength(0);
+        writeFileHeader(raf);
+    }
+
+    /**
+     * Rewrite the cache file holding only the latest snapshot of each file
+     *
+     * @throws IOException
+     */
+    public synchronized void compact() throws IOException
+    {
+        File compacted = new File(file.getPath() + ".tmp");
+        RandomAccessFile out = new RandomAccessFile(compacted, "rw");
+        Map<String, Entry> moved = new HashMap<String, Entry>();
+        try
+        {
+            out.setLength(0);
+            writeFileHeader(out);
+            for (Map.Entry<String, Entry> next : entries.entrySet())
+            {
+                Entry entry = next.getValue();
+                long recordOffset = entry.snapshotOffset + entry.snapshotLength - entry.recordLength;
+                byte[] record = new byte[entry.recordLength];
+                raf.seek(recordOffset);
+                raf.readFully(record);
+
+                long newOffset = out.getFilePointer();
+                out.write(record);
+                moved.put(next.getKey(), new Entry(entry.length, entry.lastModified, entry.snapshotOffset - recordOffset + newOffset, entry.snapshotLength, entry.recordLength));
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+
+        raf.close();
+        if (!file.delete() || !compacted.renameTo(file))
+        {
+            //Carry on with the old file if it still exists, otherwise start again
+            logger.warning("Unable to replace tag cache:" + file + " with compacted copy");
+            compacted.delete();
+            load();
+            return;
+        }
+        raf = new RandomAccessFile(file, "rw");
+        entries.clear();
+        entries.putAll(moved);
+    }
+
+    /**
+     * Close the cache file, the cache cannot be used after it has been closed
+     *
+     * @throws IOException
+     */
+    public synchronized void close() throws IOException
+    {
+        raf.close();
+        entries.clear();
+        snapshots.clear();
+        memoryBytes = 0;
+    }
+
+    /**
+     * @return number of files in the cache
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * @return approximate number of bytes used by the snapshots held in memory
+     */
+    public synchronized long getMemoryBytes()
+    {
+        return memoryBytes;
+    }
+
+    /**
+     * @return number of times {@link #get(FileSystemProvider)} found the file
+     */
+    public synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+     * @return number of times {@link #get(FileSystemProvider)} did not find the file
+     */
+    public synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+    @Override
+    public void fileWillBeModified(AudioFile file, boolean delete) throws ModifyVetoException
+    {
+        remove(file.getProvider().getPath());
+    }
+
+    @Override
+    public void fileModified(AudioFile original, FileSystemProvider temporary) throws ModifyVetoException
+    {
+        remove(original.getProvider().getPath());
+    }
+
+    @Override
+    public void fileOperationFinished(FileSystemProvider result)
+    {
+        remove(result.getPath());
+    }
+
+    public String toString()
+    {
+        return "TagCache:" + file + ":files:" + size() + ":memoryBytes:" + getMemoryBytes() + ":hits:" + getHitCount() + ":misses:" + getMissCount();
+    }
+
+    /**
+     * Keep snapshot in memory, discarding the least recently used snapshots if over the limit
+     */
+    private void hold(String path, byte[] snapshot)
+    {
+        snapshots.put(path, snapshot);
+        memoryBytes += weigh(path, snapshot);
+        Iterator<Map.Entry<String, byte[]>> i = snapshots.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && i.hasNext())
+        {
+            Map.Entry<String, byte[]> eldest = i.next();
+            memoryBytes -= weigh(eldest.getKey(), eldest.getValue());
+            i.remove();
+        }
+    }
+
+    private void release(String path)
+    {
+        byte[] snapshot = snapshots.remove(path);
+        if (snapshot != null)
+        {
+            memoryBytes -= weigh(path, snapshot);
+        }
+    }
+
+    private static long weigh(String path, byte[] snapshot)
+    {
+        return snapshot.length + path.length() * 2 + ENTRY_OVERHEAD;
+    }
+
+    private static byte[] toSnapshot(AudioFile audioFile) throws IOException
+    {
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(snapshot);
+        out.writeUTF(audioFile.getExt() != null ? audioFile.getExt() : "");
+        CachedAudioHeader.write(audioFile.getAudioHeader(), out);
+        Tag tag = audioFile.getTag();
+        out.writeBoolean(tag != null);
+        if (tag != null)
+        {
+            CachedTag.write(tag, out);
+        }
+        out.flush();
+        return snapshot.toByteArray();
+    }
+
+    private static AudioFile fromSnapshot(FileSystemProvider provider, byte[] snapshot) throws IOException
+    {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+        String ext = in.readUTF();
+        CachedAudioHeader header = CachedAudioHeader.read(in);
+        CachedTag tag = in.readBoolean() ? CachedTag.read(in) : null;
+
+        AudioFile audioFile = new AudioFile(provider, header, tag);
+        audioFile.setExt(ext);
+        audioFile.setReadProjection(ReadProjection.of(false, CachedTag.CACHED_KEYS));
+        return audioFile;
+    }
+
+    private static void writeFileHeader(RandomAccessFile out) throws IOException
+    {
+        out.seek(0);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    /**
+     * Open the cache file and build the index of the latest snapshot of each file from its records
+     */
+    private void load() throws IOException
+    {
+        entries.clear();
+        snapshots.clear();
+        memoryBytes = 0;
+        liveBytes = 0;
+
+        raf = new RandomAccessFile(file, "rw");
+        if (raf.length() < FILE_HEADER_LENGTH)
+        {
+            raf.setLength(0);
+            writeFileHeader(raf);
+            return;
+        }
+
+        long fileLength = raf.length();
+        long position = FILE_HEADER_LENGTH;
+        long validLength = FILE_HEADER_LENGTH;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+            {
+                raf.close();
+                throw new IOException("Not a tag cache or unsupported version:" + file);
+            }
+
+            while (true)
+            {
+                byte type = in.readByte();
+                String path = in.readUTF();
+                //Length of the modified UTF-8 path as written by writeUTF
+                int pathLength = 2 + utfLength(path);
+                if (type == RECORD_ENTRY)
+                {
+                    long length = in.readLong();
+                    long lastModified = in.readLong();
+                    int snapshotLength = in.readInt();
+                    int headerLength = 1 + pathLength + 8 + 8 + 4;
+                    if (snapshotLength < 0 || snapshotLength > fileLength - position - headerLength)
+                    {
+                        logger.warning("Invalid snapshot length:" + snapshotLength + " in tag cache:" + file + " at:" + position);
+                        break;
+                    }
+                    if (in.skipBytes(snapshotLength) != snapshotLength)
+                    {
+                        throw new EOFException();
+                    }
+
+                    int recordLength = headerLength + snapshotLength;
+                    Entry previous = entries.put(path, new Entry(length, lastModified, position + headerLength, snapshotLength, recordLength));
+                    if (previous != null)
+                    {
+                        liveBytes -= previous.recordLength;
+                    }
+                    liveBytes += recordLength;
+                    position += recordLength;
+                }
+                else if (type == RECORD_REMOVE)
+                {
+                    Entry previous = entries.remove(path);
+                    if (previous != null)
+                    {
+                        liveBytes -= previous.recordLength;
+                    }
+                    position += 1 + pathLength;
+                }
+                else
+                {
+                    logger.warning("Unknown record type:" + type + " in tag cache:" + file + " at:" + position);
+                    break;
+                }
+                validLength = position;
+            }
+        }
+        catch (EOFException eofe)
+        {
+            //End of file, or a record only partly written
+        }
+        finally
+        {
+            in.close();
+        }
+
+        if (validLength < fileLength)
+        {
+            logger.warning("Discarding incomplete record at end of tag cache:" + file + " at:" + validLength);
+            raf.setLength(validLength);
+        }
+    }
+
+    private static int utfLength(String value)
+    {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007f)
+            {
+                length++;
+            }
+            else if (c > 0x07ff)
+            {
+                length += 3;
+            }
+            else
+            {
+                length += 2;
+            }
+        }
+        return length;
+    }
+}
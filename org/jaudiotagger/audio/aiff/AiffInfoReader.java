@@ -14,6 +14,7 @@ import org.jaudiotagger.audio.aiff.chunk.CopyrightChunk;
 import org.jaudiotagger.audio.aiff.chunk.FormatVersionChunk;
 import org.jaudiotagger.audio.aiff.chunk.NameChunk;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
@@ -41,8 +42,9 @@ public class AiffInfoReader extends AiffChunkReader
             AiffAudioHeader aiffAudioHeader = new AiffAudioHeader();
             final AiffFileHeader fileHeader = new AiffFileHeader();
             long noOfBytes = fileHeader.readHeader(fc, aiffAudioHeader, provider.toString());
+            BlockCache cache = BlockCache.wrap(fc);
             while (fc.position() < fc.size()) {
-                if (!readChunk(fc, aiffAudioHeader, provider.toString())) {
+                if (!readChunk(fc, cache, aiffAudioHeader, provider.toString())) {
                     logger.severe(provider + " UnableToReadProcessChunk");
                     break;
                 }
@@ -75,12 +77,12 @@ public class AiffInfoReader extends AiffChunkReader
      *
      * @return {@code false}, if we were not able to read a valid chunk id
      */
-    private boolean readChunk(FileChannelProvider fc, AiffAudioHeader aiffAudioHeader, String fileName) throws IOException, CannotReadException
+    private boolean readChunk(FileChannelProvider fc, BlockCache cache, AiffAudioHeader aiffAudioHeader, String fileName) throws IOException, CannotReadException
     {
         logger.config(fileName + " Reading Info Chunk");
         final Chunk chunk;
         final ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
-        if (!chunkHeader.readHeader(fc))
+        if (!chunkHeader.readHeader(cache))
         {
             return false;
         }
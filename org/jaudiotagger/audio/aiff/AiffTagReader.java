@@ -7,6 +7,7 @@ import org.jaudiotagger.audio.aiff.chunk.AiffChunkReader;
 import org.jaudiotagger.audio.aiff.chunk.AiffChunkType;
 import org.jaudiotagger.audio.aiff.chunk.ID3Chunk;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
@@ -45,8 +46,9 @@ public class AiffTagReader extends AiffChunkReader
 
             final AiffFileHeader fileHeader = new AiffFileHeader();
             fileHeader.readHeader(fc, aiffAudioHeader, provider.toString());
+            BlockCache cache = BlockCache.wrap(fc);
             while (fc.position() < fc.size()) {
-                if (!readChunk(fc, aiffTag, provider.toString())) {
+                if (!readChunk(fc, cache, aiffTag, provider.toString())) {
                     logger.severe(provider + " UnableToReadProcessChunk");
                     break;
                 }
@@ -66,12 +68,12 @@ public class AiffTagReader extends AiffChunkReader
      *
      * @return {@code false}, if we were not able to read a valid chunk id
      */
-    private boolean readChunk(FileChannelProvider fc, AiffTag aiffTag, String fileName) throws IOException
+    private boolean readChunk(FileChannelProvider fc, BlockCache cache, AiffTag aiffTag, String fileName) throws IOException
     {
         logger.config(fileName + " Reading Tag Chunk");
 
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
-        if (!chunkHeader.readHeader(fc))
+        if (!chunkHeader.readHeader(cache))
         {
             return false;
         }
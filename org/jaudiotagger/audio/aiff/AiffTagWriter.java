@@ -31,7 +31,7 @@ import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.aiff.AiffTag;
 
 import java.io.ByteArrayOutputStream;
@@ -247,7 +247,7 @@ public class AiffTagWriter
     private void deleteTagChunkUsingSmallByteBufferSegments(final AiffTag existingTag, final FileChannelProvider channel, final long newLength, final long lengthTagChunk)
             throws IOException
     {
-        final ByteBuffer buffer = ByteBuffer.allocateDirect((int)TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int)TagOptions.current().getWriteChunkSize());
         while (channel.read(buffer) >= 0 || buffer.position() != 0) {
             buffer.flip();
             final long readPosition = channel.position();
@@ -13,7 +13,17 @@ import java.util.Locale;
 public class AiffUtil
 {
 
-    private final static SimpleDateFormat dateFmt = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ", Locale.US);
+    /**
+     * SimpleDateFormat is not thread safe so each thread has its own
+     */
+    private final static ThreadLocal<SimpleDateFormat> dateFmt = new ThreadLocal<SimpleDateFormat>()
+    {
+        @Override
+        protected SimpleDateFormat initialValue()
+        {
+            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ", Locale.US);
+        }
+    };
 
 
     public static double read80BitDouble(ByteBuffer chunkData) throws IOException
@@ -53,7 +63,7 @@ public class AiffUtil
      */
     public static String formatDate(Date dat)
     {
-        return dateFmt.format(dat);
+        return dateFmt.get().format(dat);
     }
 
 
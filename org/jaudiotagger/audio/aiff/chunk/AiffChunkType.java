@@ -1,5 +1,6 @@
 package org.jaudiotagger.audio.aiff.chunk;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,7 +24,20 @@ public enum AiffChunkType
     CORRUPT_TAG_LATE("D3 \u0000"),
     CORRUPT_TAG_EARLY("\u0000ID3");
 
-    private static final Map<String, AiffChunkType> CODE_TYPE_MAP = new HashMap<String, AiffChunkType>();
+    /**
+     * Built once when the class is loaded and never modified, so it can be read by any thread without locking
+     */
+    private static final Map<String, AiffChunkType> CODE_TYPE_MAP;
+
+    static
+    {
+        Map<String, AiffChunkType> codeTypeMap = new HashMap<String, AiffChunkType>();
+        for (final AiffChunkType type : values())
+        {
+            codeTypeMap.put(type.getCode(), type);
+        }
+        CODE_TYPE_MAP = Collections.unmodifiableMap(codeTypeMap);
+    }
     private String code;
 
     /**
@@ -40,12 +54,7 @@ public enum AiffChunkType
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static AiffChunkType get(final String code) {
-        if (CODE_TYPE_MAP.isEmpty()) {
-            for (final AiffChunkType type : values()) {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
+    public static AiffChunkType get(final String code) {
         return CODE_TYPE_MAP.get(code);
     }
 
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.asf;
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.asf.data.AsfHeader;
 import org.jaudiotagger.audio.asf.data.AudioStreamChunk;
 import org.jaudiotagger.audio.asf.data.Chunk;
@@ -47,6 +48,7 @@ import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.asf.AsfTag;
 
 import java.io.BufferedInputStream;
@@ -73,9 +75,18 @@ public class AsfFileReader extends AudioFileReader
     /**
      * This reader will be configured to read tag and audio header information.<br>
      */
-    private final static AsfHeaderReader HEADER_READER;
+    private final static AsfHeaderReader HEADER_READER = createHeaderReader(ReadProjection.ALL, null);
 
-    static
+    /**
+     * Creates a reader for tag and audio header information, only reading the
+     * metadata descriptors wanted by the projection.<br>
+     *
+     * @param projection fields to read.
+     * @param provider the file to be read if the image data of pictures should
+     *            be left in it, otherwise <code>null</code>.
+     * @return header reader.
+     */
+    private static AsfHeaderReader createHeaderReader(final ReadProjection projection, final FileSystemProvider provider)
     {
         final List<Class<? extends ChunkReader>> readers = new ArrayList<Class<? extends ChunkReader>>();
         readers.add(ContentDescriptionReader.class);
@@ -89,8 +100,15 @@ public class AsfFileReader extends AudioFileReader
         final AsfExtHeaderReader extReader = new AsfExtHeaderReader(readers, true);
         readers.add(FileHeaderReader.class);
         readers.add(StreamChunkReader.class);
-        HEADER_READER = new AsfHeaderReader(readers, true);
-        HEADER_READER.setExtendedHeaderReader(extReader);
+        final AsfHeaderReader headerReader = new AsfHeaderReader(readers, true);
+        if (!projection.isAll() || provider != null)
+        {
+            final MetadataReader metadataReader = new MetadataReader(projection.isAll() ? null : AsfTag.getFieldNames(projection), provider);
+            extReader.register(metadataReader);
+            headerReader.register(metadataReader);
+        }
+        headerReader.setExtendedHeaderReader(extReader);
+        return headerReader;
     }
 
     /**
@@ -256,7 +274,7 @@ public class AsfFileReader extends AudioFileReader
      * {@inheritDoc}
      */
     @Override
-    public AudioFile read(final FileSystemProvider f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    public AudioFile read(final FileSystemProvider f, final ReadProjection projection) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         if (!f.canRead())
         {
@@ -266,7 +284,9 @@ public class AsfFileReader extends AudioFileReader
         try
         {
             stream = new FullRequestInputStream(new BufferedInputStream(f.getInputStream(0)));
-            final AsfHeader header = HEADER_READER.read(Utils.readGUID(stream), stream, 0);
+            final FileSystemProvider lazyArtworkProvider = TagOptions.current().isLazyArtwork() ? f : null;
+            final AsfHeaderReader headerReader = projection.isAll() && lazyArtworkProvider == null ? HEADER_READER : createHeaderReader(projection, lazyArtworkProvider);
+            final AsfHeader header = headerReader.read(Utils.readGUID(stream), stream, 0);
             if (header == null)
             {
                 throw new CannotReadException(ErrorMessage.ASF_HEADER_MISSING.getMsg(f.getAbsolutePath()));
@@ -93,6 +93,11 @@ public class AsfFileWriter extends AudioFileWriter
          * for each descriptor type, if an object is found, an updater will be
          * configured.
          */
+        // Image data left in the file must be read before the file is replaced
+        if (tag instanceof AsfTag)
+        {
+            ((AsfTag) tag).loadArtwork();
+        }
         final AsfHeader sourceHeader = AsfHeaderReader.readTagHeader(raf);
         raf.seek(0); // Reset for the streamer
         /*
@@ -21,7 +21,8 @@ package org.jaudiotagger.audio.asf.data;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.images.FileImageData;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -129,6 +130,12 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
      */
     private byte[] content = new byte[0];
 
+    /**
+     * The end of a binary value that has been left in the file rather than read into memory, the value is then
+     * {@link #content} followed by this. <code>null</code> if the whole value is in memory.
+     */
+    private FileImageData contentEndInFile;
+
     /**
      * This field shows the type of the metadata descriptor. <br>
      *
@@ -294,7 +301,8 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
     public MetadataDescriptor createCopy()
     {
         final MetadataDescriptor result = new MetadataDescriptor(this.containerType, this.name, this.descriptorType, this.streamNumber, this.languageIndex);
-        result.content = getRawData();
+        result.content = this.content.clone();
+        result.contentEndInFile = this.contentEndInFile;
         return result;
     }
 
@@ -316,7 +324,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             else
             {
                 final MetadataDescriptor other = (MetadataDescriptor) obj;
-                result = other.getName().equals(getName()) && other.descriptorType == this.descriptorType && other.languageIndex == this.languageIndex && other.streamNumber == this.streamNumber && Arrays.equals(this.content, other.content);
+                result = other.getName().equals(getName()) && other.descriptorType == this.descriptorType && other.languageIndex == this.languageIndex && other.streamNumber == this.streamNumber && Arrays.equals(this.content, other.content) && (this.contentEndInFile == null ? other.contentEndInFile == null : this.contentEndInFile.equals(other.contentEndInFile));
             }
         }
         return result;
@@ -402,7 +410,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
         else
         {
 
-            result += this.content.length;
+            result += getRawDataSize();
             if (TYPE_STRING == this.getType())
             {
                 result += 2; // zero term of content string.
@@ -498,11 +506,74 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
      */
     public byte[] getRawData()
     {
+        if (this.contentEndInFile != null)
+        {
+            try
+            {
+                return readRawData();
+            }
+            catch (final IOException ioe)
+            {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
         final byte[] copy = new byte[this.content.length];
         System.arraycopy(this.content, 0, copy, 0, this.content.length);
         return copy;
     }
 
+    /**
+     * Reads the content, including any part of it left in the file.<br>
+     *
+     * @return the content.
+     * @throws IOException on I/O Errors reading the part left in the file.
+     */
+    private byte[] readRawData() throws IOException
+    {
+        final byte[] end = this.contentEndInFile.read();
+        final byte[] result = new byte[this.content.length + end.length];
+        System.arraycopy(this.content, 0, result, 0, this.content.length);
+        System.arraycopy(end, 0, result, this.content.length, end.length);
+        return result;
+    }
+
+    /**
+     * Returns the start of the content held in memory, which is all of it unless
+     * the {@linkplain #getRawDataInFile() end has been left in the file}.<br>
+     *
+     * @return the content held in memory, not a copy so must not be modified.
+     */
+    public byte[] getRawDataInMemory()
+    {
+        return this.content;
+    }
+
+    /**
+     * Returns where the end of a binary value is held in the file, if it has
+     * not been read into memory.<br>
+     *
+     * @return the end of the value in the file, or <code>null</code>.
+     */
+    public FileImageData getRawDataInFile()
+    {
+        return this.contentEndInFile;
+    }
+
+    /**
+     * Reads any part of the value left in the file into memory, this must be done
+     * before the file is modified.<br>
+     *
+     * @throws IOException on I/O Errors.
+     */
+    public void loadRawData() throws IOException
+    {
+        if (this.contentEndInFile != null)
+        {
+            this.content = readRawData();
+            this.contentEndInFile = null;
+        }
+    }
+
     /**
      * Returns the size (in bytes) the binary representation of the content
      * uses. (length of {@link #getRawData()})<br>
@@ -511,7 +582,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
      */
     public int getRawDataSize()
     {
-        return this.content.length;
+        return this.content.length + (this.contentEndInFile != null ? this.contentEndInFile.getLength() : 0);
     }
 
     /**
@@ -599,7 +670,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
      */
     public boolean isEmpty()
     {
-        return this.content.length == 0;
+        return this.content.length == 0 && this.contentEndInFile == null;
     }
 
     /**
@@ -615,6 +686,23 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
     {
         this.containerType.assertConstraints(this.name, data, this.descriptorType, this.streamNumber, this.languageIndex);
         this.content = data.clone();
+        this.contentEndInFile = null;
+        this.descriptorType = TYPE_BINARY;
+    }
+
+    /**
+     * Sets a binary value whose end is left in the file rather than read into
+     * memory, it is read from the file when the whole value is requested.<br>
+     * Using this method will change {@link #descriptorType}to
+     * {@link #TYPE_BINARY}.<br>
+     *
+     * @param start the start of the value.
+     * @param endInFile where the rest of the value is held in the file.
+     */
+    public void setBinaryValue(final byte[] start, final FileImageData endInFile)
+    {
+        this.content = start.clone();
+        this.contentEndInFile = endInFile;
         this.descriptorType = TYPE_BINARY;
     }
 
@@ -628,6 +716,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
     public void setBooleanValue(final boolean value)
     {
         this.content = new byte[]{value ? (byte) 1 : 0};
+        this.contentEndInFile = null;
         this.descriptorType = TYPE_BOOLEAN;
     }
 
@@ -645,6 +734,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             throw new IllegalArgumentException("value out of range (0-" + DWORD_MAXVALUE + ")");
         }
         this.content = org.jaudiotagger.audio.asf.util.Utils.getBytes(value, 4);
+        this.contentEndInFile = null;
         this.descriptorType = TYPE_DWORD;
     }
 
@@ -659,6 +749,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
     {
         this.containerType.assertConstraints(this.name, value.getBytes(), TYPE_GUID, this.streamNumber, this.languageIndex);
         this.content = value.getBytes();
+        this.contentEndInFile = null;
         this.descriptorType = TYPE_GUID;
     }
 
@@ -699,6 +790,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             throw new IllegalArgumentException("Value exceeds QWORD (64 bit unsigned)");
         }
         this.content = new byte[8];
+        this.contentEndInFile = null;
         final byte[] valuesBytes = value.toByteArray();
         if (valuesBytes.length <= 8)
         {
@@ -731,6 +823,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             throw new IllegalArgumentException("value out of range (0-" + MetadataDescriptor.QWORD_MAXVALUE.toString() + ")");
         }
         this.content = org.jaudiotagger.audio.asf.util.Utils.getBytes(value, 8);
+        this.contentEndInFile = null;
         this.descriptorType = TYPE_QWORD;
     }
 
@@ -805,6 +898,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
         if (value == null)
         {
             this.content = new byte[0];
+            this.contentEndInFile = null;
         }
         else
         {
@@ -813,16 +907,18 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             {
                 // Everything is fine here, data can be stored.
                 this.content = tmp;
+                this.contentEndInFile = null;
             }
             else
             {
                 // Normally a size violation, check if JAudiotagger my truncate
                 // the string
-                if (TagOptionSingleton.getInstance().isTruncateTextWithoutErrors())
+                if (TagOptions.current().isTruncateTextWithoutErrors())
                 {
                     // truncate the string
                     final int copyBytes = (int) getContainerType().getMaximumDataLength().longValue();
                     this.content = new byte[copyBytes % 2 == 0 ? copyBytes : copyBytes - 1];
+                    this.contentEndInFile = null;
                     System.arraycopy(tmp, 0, this.content, 0, this.content.length);
                 }
                 else
@@ -851,6 +947,7 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             throw new IllegalArgumentException("value out of range (0-" + WORD_MAXVALUE + ")");
         }
         this.content = org.jaudiotagger.audio.asf.util.Utils.getBytes(value, 2);
+        this.contentEndInFile = null;
         this.descriptorType = TYPE_WORD;
     }
 
@@ -886,6 +983,10 @@ public class MetadataDescriptor implements Comparable<MetadataDescriptor>, Clone
             binaryData = new byte[contType == ContainerType.EXTENDED_CONTENT ? 4 : 2];
             binaryData[0] = (byte) (getBoolean() ? 1 : 0);
         }
+        else if (this.contentEndInFile != null)
+        {
+            binaryData = readRawData();
+        }
         else
         {
             binaryData = this.content;
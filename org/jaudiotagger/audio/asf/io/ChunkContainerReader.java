@@ -206,6 +206,20 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
         return result;
     }
 
+    /**
+     * Registers the given reader instance, replacing any reader previously
+     * registered for the same GUIDs.<br>
+     *
+     * @param toRegister chunk reader which is to be registered.
+     */
+    public void register(final ChunkReader toRegister)
+    {
+        for (final GUID curr : toRegister.getApplyingIds())
+        {
+            this.readerMap.put(curr, toRegister);
+        }
+    }
+
     /**
      * Registers the given reader.<br>
      *
@@ -1,15 +1,20 @@
 package org.jaudiotagger.audio.asf.io;
 
+import org.extra.FileSystemProvider;
 import org.extra.Utils;
 import org.jaudiotagger.audio.asf.data.Chunk;
 import org.jaudiotagger.audio.asf.data.ContainerType;
 import org.jaudiotagger.audio.asf.data.GUID;
 import org.jaudiotagger.audio.asf.data.MetadataContainer;
 import org.jaudiotagger.audio.asf.data.MetadataDescriptor;
+import org.jaudiotagger.tag.asf.AsfFieldKey;
+import org.jaudiotagger.tag.images.FileImageData;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.util.Set;
 
 /**
  * Reads an interprets &quot;Metadata Object&quot;, &quot;Metadata Library
@@ -25,6 +30,49 @@ public class MetadataReader implements ChunkReader
      */
     private final static GUID[] APPLYING = {ContainerType.EXTENDED_CONTENT.getContainerGUID(), ContainerType.METADATA_OBJECT.getContainerGUID(), ContainerType.METADATA_LIBRARY_OBJECT.getContainerGUID()};
 
+    /**
+     * Names of the descriptors whose values are read, the values of other descriptors are skipped. If
+     * <code>null</code> all descriptors are read.
+     */
+    private final Set<String> descriptorNames;
+
+    /**
+     * The file being read, if not <code>null</code> the image data of pictures
+     * is left in the file rather than read.
+     */
+    private final FileSystemProvider provider;
+
+    /**
+     * Creates a reader that reads all descriptors.
+     */
+    public MetadataReader()
+    {
+        this(null);
+    }
+
+    /**
+     * Creates a reader that only reads the descriptors with the given names.<br>
+     *
+     * @param descriptorNames names of the descriptors to read, <code>null</code> to read all.
+     */
+    public MetadataReader(final Set<String> descriptorNames)
+    {
+        this(descriptorNames, null);
+    }
+
+    /**
+     * Creates a reader that only reads the descriptors with the given names,
+     * leaving the image data of pictures in the file.<br>
+     *
+     * @param descriptorNames names of the descriptors to read, <code>null</code> to read all.
+     * @param provider the file being read, <code>null</code> to read the image data as well.
+     */
+    public MetadataReader(final Set<String> descriptorNames, final FileSystemProvider provider)
+    {
+        this.descriptorNames = descriptorNames;
+        this.provider = provider;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -44,8 +92,11 @@ public class MetadataReader implements ChunkReader
     /**
      * {@inheritDoc}
      */
-    public Chunk read(final GUID guid, final InputStream stream, final long streamPosition) throws IOException
+    public Chunk read(final GUID guid, final InputStream source, final long streamPosition) throws IOException
     {
+        // Counts the bytes read so the position of picture data within the file is known,
+        // the GUID has already been read
+        final CountingInputStream stream = new CountingInputStream(source);
         final BigInteger chunkLen = org.jaudiotagger.audio.asf.util.Utils.readBig64(stream);
 
         final MetadataContainer result = new MetadataContainer(guid, streamPosition, chunkLen);
@@ -84,6 +135,11 @@ public class MetadataReader implements ChunkReader
             {
                 recordName = org.jaudiotagger.audio.asf.util.Utils.readFixedSizeUTF16Str(stream, nameLen);
             }
+            if (this.descriptorNames != null && !this.descriptorNames.contains(recordName))
+            {
+                stream.skip(dataLen);
+                continue;
+            }
             final MetadataDescriptor descriptor = new MetadataDescriptor(result.getContainerType(), recordName, dataType, streamNumber, languageIndex
             );
             switch (dataType)
@@ -92,7 +148,14 @@ public class MetadataReader implements ChunkReader
                     descriptor.setStringValue(org.jaudiotagger.audio.asf.util.Utils.readFixedSizeUTF16Str(stream, (int) dataLen));
                     break;
                 case MetadataDescriptor.TYPE_BINARY:
-                    descriptor.setBinaryValue(org.jaudiotagger.audio.asf.util.Utils.readBinary(stream, dataLen));
+                    if (this.provider != null && AsfFieldKey.COVER_ART.getFieldName().equals(recordName))
+                    {
+                        readPicture(descriptor, stream, streamPosition + GUID.GUID_LENGTH, dataLen);
+                    }
+                    else
+                    {
+                        descriptor.setBinaryValue(org.jaudiotagger.audio.asf.util.Utils.readBinary(stream, dataLen));
+                    }
                     break;
                 case MetadataDescriptor.TYPE_BOOLEAN:
                     assert isExtDesc && dataLen == 4 || !isExtDesc && dataLen == 2;
@@ -125,6 +188,46 @@ public class MetadataReader implements ChunkReader
         return result;
     }
 
+    /**
+     * Reads the header of a picture, which is the picture type, image data size,
+     * mime type and description, leaving the image data that follows in the
+     * file.<br>
+     * If the header cannot be found the whole value is read.
+     *
+     * @param descriptor     descriptor to set the value of.
+     * @param stream         stream positioned at the value.
+     * @param streamStart    position within the file of the start of the stream.
+     * @param dataLen        length of the value.
+     * @throws IOException on I/O Errors
+     */
+    private void readPicture(final MetadataDescriptor descriptor, final CountingInputStream stream, final long streamStart, final long dataLen) throws IOException
+    {
+        final ByteArrayOutputStream header = new ByteArrayOutputStream();
+        // Picture type and image data size
+        header.write(org.jaudiotagger.audio.asf.util.Utils.readBinary(stream, Math.min(5, dataLen)));
+        // Mime type and description are zero terminated UTF-16 strings
+        int terminators = 0;
+        while (terminators < 2 && header.size() + 2 <= dataLen)
+        {
+            final byte[] next = org.jaudiotagger.audio.asf.util.Utils.readBinary(stream, 2);
+            header.write(next);
+            if (next[0] == 0 && next[1] == 0)
+            {
+                terminators++;
+            }
+        }
+        final int imageDataLen = (int) (dataLen - header.size());
+        if (terminators < 2 || imageDataLen == 0)
+        {
+            header.write(org.jaudiotagger.audio.asf.util.Utils.readBinary(stream, imageDataLen));
+            descriptor.setBinaryValue(header.toByteArray());
+            return;
+        }
+        final long imageDataStart = streamStart + stream.getReadCount();
+        stream.skip(imageDataLen);
+        descriptor.setBinaryValue(header.toByteArray(), new FileImageData(this.provider, imageDataStart, imageDataLen));
+    }
+
     /**
      * Reads the given amount of bytes and checks the last byte, if its equal to
      * one or zero (true / false).<br>
@@ -14,9 +14,7 @@ import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
-import org.jaudiotagger.tag.id3.ID3v22Tag;
-import org.jaudiotagger.tag.id3.ID3v23Tag;
-import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.id3.ID3v2TagFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -93,18 +91,14 @@ public class DsfFileReader extends AudioFileReader2
                 int version = id3Chunk.getDataBuffer().get(AbstractID3v2Tag.FIELD_TAG_MAJOR_VERSION_POS);
                 try
                 {
-                    switch (version)
+                    AbstractID3v2Tag id3Tag = ID3v2TagFactory.createTag(id3Chunk.getDataBuffer());
+                    if (id3Tag == null)
                     {
-                        case ID3v22Tag.MAJOR_VERSION:
-                            return new ID3v22Tag(id3Chunk.getDataBuffer(), "");
-                        case ID3v23Tag.MAJOR_VERSION:
-                            return new ID3v23Tag(id3Chunk.getDataBuffer(), "");
-                        case ID3v24Tag.MAJOR_VERSION:
-                            return new ID3v24Tag(id3Chunk.getDataBuffer(), "");
-                        default:
-                            logger.log(Level.WARNING,   fileName + " Unknown ID3v2 version " + version + ". Returning an empty ID3v2 Tag.");
-                            return null;
+                        logger.log(Level.WARNING,   fileName + " Unknown ID3v2 version " + version + ". Returning an empty ID3v2 Tag.");
+                        return null;
                     }
+                    id3Tag.read(id3Chunk.getDataBuffer());
+                    return id3Tag;
                 }
                 catch (TagException e)
                 {
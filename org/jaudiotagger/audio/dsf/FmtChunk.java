@@ -43,7 +43,47 @@ public class FmtChunk
     {
         long sizeExcludingChunkHeader = chunkSizeLength - (IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
         ByteBuffer audioData = Utils.readFileDataIntoBufferLE(fc, (int)sizeExcludingChunkHeader);
-        return readAudioInfo(dsd, audioData);
+        GenericAudioHeader audioHeader = readAudioInfo(dsd, audioData);
+        readDataChunkPosition(audioHeader, fc);
+        return audioHeader;
+    }
+
+    /**
+     * The data chunk holding the samples follows the fmt chunk, record where its samples start and end
+     *
+     * @param audioHeader
+     * @param fc positioned at the end of the fmt chunk
+     * @throws IOException
+     */
+    private void readDataChunkPosition(GenericAudioHeader audioHeader, FileChannelProvider fc) throws IOException
+    {
+        int dataHeaderLength = IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH;
+        if (fc.size() - fc.position() < dataHeaderLength)
+        {
+            logger.log(Level.WARNING, "No data chunk after fmt chunk");
+            return;
+        }
+
+        ByteBuffer dataHeader = Utils.readFileDataIntoBufferLE(fc, dataHeaderLength);
+        String type = Utils.readFourBytesAsChars(dataHeader);
+        if (!DsfChunkType.DATA.getCode().equals(type))
+        {
+            logger.log(Level.WARNING, "Invalid type:" + type + " where expected data chunk");
+            return;
+        }
+
+        //Chunk size includes the chunk header
+        long dataSize = dataHeader.getLong() - dataHeaderLength;
+        if (dataSize < 0)
+        {
+            logger.log(Level.WARNING, "Invalid data chunk size:" + dataSize);
+            return;
+        }
+        long dataStart = fc.position();
+        long dataEnd = Math.min(dataStart + dataSize, fc.size());
+        audioHeader.setAudioDataStartPosition(dataStart);
+        audioHeader.setAudioDataEndPosition(dataEnd);
+        audioHeader.setAudioDataLength(dataEnd - dataStart);
     }
 
     /**
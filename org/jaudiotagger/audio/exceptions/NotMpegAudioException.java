@@ -0,0 +1,13 @@
+package org.jaudiotagger.audio.exceptions;
+
+/**
+ * Thrown when the search for the first audio frame of an MP3 is abandoned early because the file does not appear
+ * to contain MPEG audio, so that misnamed files are rejected without reading the whole file.
+ */
+public class NotMpegAudioException extends InvalidAudioFrameException
+{
+    public NotMpegAudioException(String message)
+    {
+        super(message);
+    }
+}
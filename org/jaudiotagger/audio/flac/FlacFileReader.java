@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio.flac;
 
 import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
@@ -44,4 +45,10 @@ public class FlacFileReader extends AudioFileReader2
     {
         return tr.read(provider);
     }
+
+    @Override
+    protected Tag getTag(FileSystemProvider provider, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return tr.read(provider, projection);
+    }
 }
@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.flac.metadatablock.BlockType;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.Utils;
 
 import java.io.IOException;
@@ -46,6 +47,7 @@ public class FlacInfoReader
         try {
             FlacStreamReader flacStream = new FlacStreamReader(fc, provider.toString() + " ");
             flacStream.findStream();
+            BlockCache cache = BlockCache.wrap(fc);
 
             MetadataBlockDataStreamInfo mbdsi = null;
             boolean isLastBlock = false;
@@ -54,7 +56,7 @@ public class FlacInfoReader
             //the metadata blocks so that we can find the start of the audio frames which we need to calculate
             //the bitrate
             while (isLastBlock == false) {
-                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
+                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(cache);
                 logger.info(provider.toString() + " " + mbh.toString());
                 if (mbh.getBlockType() == BlockType.STREAMINFO) {
                     mbdsi = new MetadataBlockDataStreamInfo(mbh, fc);
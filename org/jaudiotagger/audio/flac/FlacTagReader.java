@@ -20,12 +20,16 @@ package org.jaudiotagger.audio.flac;
 
 import org.extra.FileChannelProvider;
 import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.InvalidFrameException;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
@@ -48,11 +52,26 @@ public class FlacTagReader
 
 
     public FlacTag read(FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        return read(provider, ReadProjection.ALL);
+    }
+
+    /**
+     * Read the tag, only reading the comments and pictures wanted by projection
+     *
+     * @param provider
+     * @param projection
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public FlacTag read(FileSystemProvider provider, ReadProjection projection) throws CannotReadException, IOException
     {
         FileChannelProvider fc = FileChannelProvider.open(provider);
         try {
             FlacStreamReader flacStream = new FlacStreamReader(fc, provider.toString() + " ");
             flacStream.findStream();
+            BlockCache cache = BlockCache.wrap(fc);
 
             //Hold the metadata
             VorbisCommentTag tag = null;
@@ -66,7 +85,7 @@ public class FlacTagReader
                 }
 
                 //Read the header
-                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
+                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(cache);
                 if (mbh == null) {
                     break;
                 }
@@ -82,14 +101,27 @@ public class FlacTagReader
                     switch (mbh.getBlockType()) {
                         //We got a vorbiscomment comment block, parse it
                         case VORBIS_COMMENT:
+                            FileImageData commentInFile = null;
+                            if (TagOptions.current().isLazyArtwork()) {
+                                commentInFile = new FileImageData(provider, fc.position(), mbh.getDataLength());
+                            }
                             ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
                             fc.read(commentHeaderRawPacket);
-                            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false);
+                            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false, projection, commentInFile);
                             break;
 
                         case PICTURE:
+                            if (!projection.isArtwork()) {
+                                fc.position(fc.position() + mbh.getDataLength());
+                                break;
+                            }
                             try {
-                                MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
+                                MetadataBlockDataPicture mbdp;
+                                if (TagOptions.current().isLazyArtwork()) {
+                                    mbdp = new MetadataBlockDataPicture(mbh, fc, provider);
+                                } else {
+                                    mbdp = new MetadataBlockDataPicture(mbh, fc);
+                                }
                                 images.add(mbdp);
                             } catch (IOException ioe) {
                                 logger.warning(provider + "Unable to read picture metablock, ignoring:" + ioe.getMessage());
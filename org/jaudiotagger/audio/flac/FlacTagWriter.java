@@ -33,7 +33,7 @@ import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataSeekTable;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.utils.DirectByteBufferUtils;
 
@@ -93,6 +93,14 @@ public class FlacTagWriter
     {
         logger.config(provider + " Writing tag");
         try {
+            //Image data not yet read from the file must be read before the file is modified
+            for (MetadataBlockDataPicture image : ((FlacTag) tag).getImages()) {
+                image.loadImageData();
+            }
+            if (((FlacTag) tag).getVorbisCommentTag() != null) {
+                ((FlacTag) tag).getVorbisCommentTag().loadArtwork();
+            }
+
             FileChannelProvider fc = FileChannelProvider.open(provider, StandardOpenOption.WRITE, StandardOpenOption.READ);
             try {
                 MetadataBlockInfo blockInfo = new MetadataBlockInfo();
@@ -253,7 +261,7 @@ public class FlacTagWriter
      *
      * We do this by reading/writing chunks of data allowing it to work on low memory systems
      *
-     * Chunk size defined by TagOptionSingleton.getInstance().getWriteChunkSize()
+     * Chunk size defined by TagOptions.current().getWriteChunkSize()
      *
      * @param tag
      * @param fc
@@ -281,7 +289,7 @@ public class FlacTagWriter
         logger.config(provider + " Audio needs shifting:"+extraSpaceRequired);
 
         //ChunkSize must be at least as large as the extra space required to write the metadata
-        int chunkSize = (int)TagOptionSingleton.getInstance().getWriteChunkSize();
+        int chunkSize = (int)TagOptions.current().getWriteChunkSize();
         if(chunkSize < extraSpaceRequired)
         {
             chunkSize = extraSpaceRequired;
@@ -398,7 +406,7 @@ public class FlacTagWriter
          */
         int currentEndOfTagsPosition = safeLongToInt((targetSizeBeforeAudioData - FlacTagCreator.DEFAULT_PADDING) - neededRoom + availableRoom);
         int lengthDiff = safeLongToInt(totalTargetSize - currentEndOfFilePosition);
-        final int BLOCK_SIZE = safeLongToInt(TagOptionSingleton.getInstance().getWriteChunkSize());
+        final int BLOCK_SIZE = safeLongToInt(TagOptions.current().getWriteChunkSize());
         int currentPos = currentEndOfFilePosition - BLOCK_SIZE;
         byte[] buffer = new byte[BLOCK_SIZE];
         for (; currentPos >= currentEndOfTagsPosition; currentPos -= BLOCK_SIZE)
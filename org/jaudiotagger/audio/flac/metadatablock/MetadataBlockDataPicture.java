@@ -1,14 +1,17 @@
 package org.jaudiotagger.audio.flac.metadatablock;
 
 import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
@@ -54,6 +57,11 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
     private int lengthOfPictureInBytes;
     private byte[] imageData;
 
+    /**
+     * Where the image data is held in the file when it has not been read into memory
+     */
+    private FileImageData imageDataInFile;
+
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.flac.MetadataBlockDataPicture");
 
@@ -129,6 +137,162 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
 
     }
 
+    /**
+     * Construct picture block by reading from file without reading the image data, only its position within
+     * provider is recorded and it is read when required. The channel is left positioned at the end of the block.
+     *
+     * <p>Linked images are read in full because the image data is their url.
+     *
+     * @param header
+     * @param fc
+     * @param provider the file fc was opened on
+     * @throws IOException
+     * @throws InvalidFrameException
+     */
+    public MetadataBlockDataPicture(MetadataBlockHeader header, FileChannelProvider fc, FileSystemProvider provider) throws IOException, InvalidFrameException
+    {
+        long blockStart = fc.position();
+        long blockEnd   = blockStart + header.getDataLength();
+
+        //Picture Type and MimeType length
+        ByteBuffer rawdata = readHeaderBytes(fc, 8, blockEnd);
+        pictureType = rawdata.getInt();
+        if (pictureType >= PictureTypes.getInstanceOf().getSize())
+        {
+            throw new InvalidFrameException("PictureType was:" + pictureType + "but the maximum allowed is " + (PictureTypes.getInstanceOf().getSize() - 1));
+        }
+        int mimeTypeSize = rawdata.getInt();
+
+        //MimeType and Description length
+        rawdata = readHeaderBytes(fc, mimeTypeSize + 4, blockEnd);
+        mimeType = getString(rawdata, mimeTypeSize, StandardCharsets.ISO_8859_1.name());
+        int descriptionSize = rawdata.getInt();
+
+        //Description followed by width, height, colour depth, indexed colour count and image length
+        rawdata = readHeaderBytes(fc, descriptionSize + 20, blockEnd);
+        description = getString(rawdata, descriptionSize, StandardCharsets.UTF_8.name());
+        width = rawdata.getInt();
+        height = rawdata.getInt();
+        colourDepth = rawdata.getInt();
+        indexedColouredCount = rawdata.getInt();
+        lengthOfPictureInBytes = rawdata.getInt();
+
+        long imageDataOffset = fc.position();
+        if (lengthOfPictureInBytes < 0 || imageDataOffset + lengthOfPictureInBytes > blockEnd)
+        {
+            throw new InvalidFrameException("Image size was:" + lengthOfPictureInBytes + " but only " + (blockEnd - imageDataOffset) + " bytes remain in block");
+        }
+
+        if (isImageUrl())
+        {
+            imageData = readHeaderBytes(fc, lengthOfPictureInBytes, blockEnd).array();
+        }
+        else
+        {
+            imageDataInFile = new FileImageData(provider, imageDataOffset, lengthOfPictureInBytes);
+        }
+        fc.position(blockEnd);
+        logger.config("Read image header:" + this.toString());
+    }
+
+    /**
+     * Construct picture block from a block held base64 encoded in the file, as in a METADATA_BLOCK_PICTURE vorbis
+     * comment, without reading the image data. Only the picture header is decoded and the image data is read when
+     * required.
+     *
+     * <p>Linked images are read in full because the image data is their url, as are blocks whose base64 text does not
+     * map directly onto the block (such as text broken into lines).
+     *
+     * @param block the base64 encoded block
+     * @throws IOException
+     * @throws InvalidFrameException
+     */
+    public MetadataBlockDataPicture(FileImageData block) throws IOException, InvalidFrameException
+    {
+        DataInputStream dis = new DataInputStream(block.openStream());
+        try
+        {
+            //Picture Type
+            pictureType = dis.readInt();
+            if (pictureType >= PictureTypes.getInstanceOf().getSize())
+            {
+                throw new InvalidFrameException("PictureType was:" + pictureType + "but the maximum allowed is " + (PictureTypes.getInstanceOf().getSize() - 1));
+            }
+
+            //MimeType
+            int mimeTypeSize = dis.readInt();
+            mimeType = Utils.getString(readHeaderBytes(dis, mimeTypeSize, block.getLength()), StandardCharsets.ISO_8859_1.name());
+
+            //Description
+            int descriptionSize = dis.readInt();
+            description = Utils.getString(readHeaderBytes(dis, descriptionSize, block.getLength()), StandardCharsets.UTF_8.name());
+
+            width = dis.readInt();
+            height = dis.readInt();
+            colourDepth = dis.readInt();
+            indexedColouredCount = dis.readInt();
+            lengthOfPictureInBytes = dis.readInt();
+
+            int headerLength = 32 + mimeTypeSize + descriptionSize;
+            if (lengthOfPictureInBytes < 0 || lengthOfPictureInBytes > block.getLength() - headerLength)
+            {
+                throw new InvalidFrameException("Image size was:" + lengthOfPictureInBytes + " but only " + (block.getLength() - headerLength) + " bytes remain in block");
+            }
+
+            //Only when the text is exactly the encoding of the block can the image data be found by position
+            int blockLength = headerLength + lengthOfPictureInBytes;
+            if (isImageUrl() || block.getStoredLength() != (blockLength + 2) / 3 * 4)
+            {
+                imageData = new byte[lengthOfPictureInBytes];
+                dis.readFully(imageData);
+            }
+            else
+            {
+                imageDataInFile = block.slice(headerLength, lengthOfPictureInBytes);
+            }
+        }
+        finally
+        {
+            dis.close();
+        }
+        logger.config("Read image header:" + this.toString());
+    }
+
+    /**
+     * Read the next length bytes of the decoded block checking they could fit within the block
+     */
+    private static byte[] readHeaderBytes(DataInputStream dis, int length, int blockLength) throws IOException, InvalidFrameException
+    {
+        if (length < 0 || length > blockLength)
+        {
+            throw new InvalidFrameException("Picture header field of size:" + length + " extends beyond end of block");
+        }
+        byte[] data = new byte[length];
+        dis.readFully(data);
+        return data;
+    }
+
+    /**
+     * Read the next length bytes of the block from fc checking they do not extend beyond the end of the block
+     */
+    private static ByteBuffer readHeaderBytes(FileChannelProvider fc, int length, long blockEnd) throws IOException, InvalidFrameException
+    {
+        if (length < 0 || fc.position() + length > blockEnd)
+        {
+            throw new InvalidFrameException("Picture header field of size:" + length + " extends beyond end of block");
+        }
+        ByteBuffer rawdata = ByteBuffer.allocate(length);
+        while (rawdata.hasRemaining())
+        {
+            if (fc.read(rawdata) <= 0)
+            {
+                throw new IOException("Unable to read required number of databytes read:" + rawdata.position() + ":required:" + length);
+            }
+        }
+        rawdata.flip();
+        return rawdata;
+    }
+
     /**
      * Construct new MetadataPicture block
      * @param imageData
@@ -186,6 +350,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
             baos.write(org.jaudiotagger.audio.generic.Utils.getSizeBEInt32(height));
             baos.write(org.jaudiotagger.audio.generic.Utils.getSizeBEInt32(colourDepth));
             baos.write(org.jaudiotagger.audio.generic.Utils.getSizeBEInt32(indexedColouredCount));
+            byte[] imageData = getImageData();
             baos.write(org.jaudiotagger.audio.generic.Utils.getSizeBEInt32(imageData.length));
             baos.write(imageData);
             return ByteBuffer.wrap(baos.toByteArray());
@@ -237,11 +402,67 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
         return indexedColouredCount;
     }
 
+    /**
+     * If the image data has not been loaded it is read from the file each time this is called without being kept,
+     * use {@link #loadImageData()} to keep it.
+     *
+     * @return the image data
+     */
     public byte[] getImageData()
     {
+        if (imageData == null && imageDataInFile != null)
+        {
+            try
+            {
+                return imageDataInFile.read();
+            }
+            catch (IOException ioe)
+            {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
         return imageData;
     }
 
+    /**
+     * @return true if the image data is held in memory, false if it is still only held in the file
+     */
+    public boolean isImageDataLoaded()
+    {
+        return imageData != null;
+    }
+
+    /**
+     * Read the image data from the file and keep it, this must be done before the file the data is held in is
+     * modified
+     *
+     * @throws IOException
+     */
+    public void loadImageData() throws IOException
+    {
+        if (imageData == null && imageDataInFile != null)
+        {
+            imageData = imageDataInFile.read();
+            imageDataInFile = null;
+        }
+    }
+
+    /**
+     * @return where the image data is held in the file if it has not been loaded, otherwise null
+     */
+    public FileImageData getImageDataInFile()
+    {
+        return imageDataInFile;
+    }
+
+    /**
+     * @return length of the image data in bytes
+     */
+    public int getImageDataLength()
+    {
+        return imageData != null ? imageData.length : lengthOfPictureInBytes;
+    }
+
     /**
      * @return true if imagedata  is held as a url rather than actually being imagedata
      */
@@ -268,7 +489,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
     public String toString()
     {
         return PictureTypes.getInstanceOf().getValueForId(pictureType) + ":" + mimeType + ":" + description + ":" + "width:" + width + ":height:" + height + ":colourdepth:" + colourDepth + ":indexedColourCount:" + indexedColouredCount
-                + ":image size in bytes:" + lengthOfPictureInBytes + "/" + imageData.length;
+                + ":image size in bytes:" + lengthOfPictureInBytes + "/" + getImageDataLength();
     }
 
     /**
@@ -20,6 +20,7 @@ package org.jaudiotagger.audio.flac.metadatablock;
 
 import org.extra.FileChannelProvider;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
@@ -60,6 +61,25 @@ public class MetadataBlockHeader
         return new MetadataBlockHeader(rawdata);
     }
 
+    /**
+     * Create header by reading from file through the read cache
+     *
+     * @param cache
+     * @return
+     * @throws IOException
+     */
+    public static MetadataBlockHeader readHeader(BlockCache cache) throws CannotReadException, IOException
+    {
+        ByteBuffer rawdata = ByteBuffer.allocate(HEADER_LENGTH);
+        int bytesRead = cache.read(rawdata);
+        if (bytesRead < HEADER_LENGTH)
+        {
+            throw new IOException("Unable to read required number of databytes read:" + bytesRead + ":required:" + HEADER_LENGTH);
+        }
+        rawdata.rewind();
+        return new MetadataBlockHeader(rawdata);
+    }
+
     public String toString()
     {
         return "BlockType:"+blockType + " DataLength:"+dataLength + " isLastBlock:"+isLastBlock;
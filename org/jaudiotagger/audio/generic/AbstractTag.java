@@ -22,6 +22,7 @@ import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.images.Artwork;
 
@@ -55,6 +56,28 @@ public abstract class AbstractTag implements Tag
      */
     protected Map<String, List<TagField>> fields = new LinkedHashMap<String, List<TagField>>();
 
+    /**
+     * Options given when this tag was read or created, used whenever it is read or changed, or null if none were
+     * given and the current options are used
+     */
+    protected final TagOptions tagOptions = TagOptions.given();
+
+    /**
+     * @return the options given when this tag was read or created, or null if none were given
+     */
+    public TagOptions getTagOptions()
+    {
+        return tagOptions;
+    }
+
+    /**
+     * @return the options given when this tag was read or created if any, otherwise the current options
+     */
+    protected TagOptions options()
+    {
+        return tagOptions != null ? tagOptions : TagOptions.current();
+    }
+
     /**
      * Add field
      *
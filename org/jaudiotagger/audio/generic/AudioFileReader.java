@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.generic;
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
@@ -72,6 +73,38 @@ public abstract class AudioFileReader
       */
     protected abstract Tag getTag(RandomAccessFileProvider raf) throws CannotReadException, IOException;
 
+    /**
+     * Returns the Tag contained in the file reading only the part of it wanted by projection, readers that can
+     * skip fields override this, by default the whole tag is read.
+     *
+     * @param raf
+     * @param projection
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return getTag(raf);
+    }
+
+    /**
+     * Returns the Tag contained in the file reading only the part of it wanted by projection, readers that can leave
+     * artwork in the file rather than reading it need to know the file raf was opened on and override this, by
+     * default the tag is read from raf alone.
+     *
+     * @param raf
+     * @param projection
+     * @param provider the file raf was opened on
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection, FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        return getTag(raf, projection);
+    }
+
     /*
       * Reads the given file, and return an AudioFile object containing the Tag
       * and the encoding infos present in the file. If the file has no tag, an
@@ -81,6 +114,18 @@ public abstract class AudioFileReader
       * @exception CannotReadException If anything went bad during the read of this file
       */
     public AudioFile read(FileSystemProvider provider) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return read(provider, ReadProjection.ALL);
+    }
+
+    /*
+      * Reads the given file as above, but only reads the part of the tag wanted by projection
+      *
+      * @param provider The file to read
+      * @param projection The fields to read
+      * @exception CannotReadException If anything went bad during the read of this file
+      */
+    public AudioFile read(FileSystemProvider provider, ReadProjection projection) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         if(logger.isLoggable(Level.CONFIG))
         {
@@ -107,7 +152,7 @@ public abstract class AudioFileReader
 
             GenericAudioHeader info = getEncodingInfo(raf);
             raf.seek(0);
-            Tag tag = getTag(raf);
+            Tag tag = getTag(raf, projection, provider);
 
             return new AudioFile(provider, info, tag);
 
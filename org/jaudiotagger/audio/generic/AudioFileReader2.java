@@ -3,6 +3,7 @@ package org.jaudiotagger.audio.generic;
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
@@ -25,10 +26,11 @@ public abstract class AudioFileReader2 extends AudioFileReader
    * empty one is returned. If the encodinginfo is not valid , an exception is thrown.
    *
    * @param f The file to read
+   * @param projection The fields to read
    * @exception NoReadPermissionsException if permissions prevent reading of file
    * @exception CannotReadException If anything went bad during the read of this file
    */
-    public AudioFile read(FileSystemProvider provider) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    public AudioFile read(FileSystemProvider provider, ReadProjection projection) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         if(logger.isLoggable(Level.CONFIG))
         {
@@ -47,7 +49,7 @@ public abstract class AudioFileReader2 extends AudioFileReader
         }
 
         GenericAudioHeader info = getEncodingInfo(provider);
-        Tag tag = getTag(provider);
+        Tag tag = getTag(provider, projection);
         return new AudioFile(provider, info, tag);
     }
 
@@ -77,6 +79,21 @@ public abstract class AudioFileReader2 extends AudioFileReader
      */
     protected abstract Tag getTag(FileSystemProvider provider) throws CannotReadException, IOException;
 
+    /**
+     * Read tag Information, only reading the part of the tag wanted by projection. By default the whole tag is
+     * read, readers that can skip fields override this.
+     *
+     * @param provider
+     * @param projection
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected Tag getTag(FileSystemProvider provider, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return getTag(provider);
+    }
+
     protected Tag getTag(RandomAccessFileProvider file) throws CannotReadException, IOException
     {
         throw new UnsupportedOperationException("Old method not used in version 2");
@@ -28,7 +28,7 @@ import org.jaudiotagger.audio.exceptions.ModifyVetoException;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -80,7 +80,7 @@ public abstract class AudioFileWriter
     public void delete(AudioFile af) throws CannotReadException, CannotWriteException
     {
         FileSystemProvider provider = af.getProvider();
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+        if (TagOptions.current().isCheckIsWritable() && !provider.canWrite())
         {
             logger.severe(Permissions.displayPermissions(provider));
             throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED.getMsg(provider));
@@ -236,6 +236,44 @@ public abstract class AudioFileWriter
         this.modificationListener = listener;
     }
 
+    /**
+     * Notify the listener, if any, that af is about to be modified.
+     *
+     * <p>For writers that modify the file in place rather than through a temporary file, they have no temporary
+     * file to report so only this and {@link #notifyFileOperationFinished(FileSystemProvider)} are called.
+     *
+     * @param af     the file to be modified
+     * @param delete true if the tag is being deleted
+     * @throws CannotWriteException if the listener vetoes the modification
+     */
+    protected void notifyFileWillBeModified(AudioFile af, boolean delete) throws CannotWriteException
+    {
+        if (this.modificationListener != null)
+        {
+            try
+            {
+                this.modificationListener.fileWillBeModified(af, delete);
+            }
+            catch (ModifyVetoException veto)
+            {
+                throw new CannotWriteException(veto);
+            }
+        }
+    }
+
+    /**
+     * Notify the listener, if any, that the modification has finished
+     *
+     * @param result the file holding the result
+     */
+    protected void notifyFileOperationFinished(FileSystemProvider result)
+    {
+        if (this.modificationListener != null)
+        {
+            this.modificationListener.fileOperationFinished(result);
+        }
+    }
+
     /**
      * Prechecks before normal write
      * <p/>
@@ -267,7 +305,7 @@ public abstract class AudioFileWriter
         }
 
         FileSystemProvider provider = af.getProvider();
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+        if (TagOptions.current().isCheckIsWritable() && !provider.canWrite())
         {
             logger.severe(Permissions.displayPermissions(provider));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(af.getProvider().getPath()));
@@ -300,7 +338,9 @@ public abstract class AudioFileWriter
         //mp3's use a different mechanism to the other formats
         if (af instanceof MP3File)
         {
+            notifyFileWillBeModified(af, false);
             af.commit();
+            notifyFileOperationFinished(af.getProvider());
             return;
         }
 
@@ -462,7 +502,7 @@ public abstract class AudioFileWriter
         // If the temporary file was used
         if (newProvider.length() > 0)
         {
-             transferNewFileToOriginalFile(newProvider, af.getProvider(), TagOptionSingleton.getInstance().isPreserveFileIdentity());
+             transferNewFileToOriginalFile(newProvider, af.getProvider(), TagOptions.current().isPreserveFileIdentity());
         }
         else
         {
@@ -7,7 +7,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.IOException;
 
@@ -29,7 +29,7 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
     {
         FileSystemProvider provider = af.getProvider();
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+        if (TagOptions.current().isCheckIsWritable() && !provider.canWrite())
         {
             logger.severe(Permissions.displayPermissions(provider));
             throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED
@@ -41,7 +41,9 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
             throw new CannotWriteException(ErrorMessage.GENERAL_DELETE_FAILED_BECAUSE_FILE_IS_TOO_SMALL
                     .getMsg(provider));
         }
+        notifyFileWillBeModified(af, true);
         deleteTag(af.getTag(), provider);
+        notifyFileOperationFinished(provider);
     }
 
     /**
@@ -55,7 +57,7 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
     {
         FileSystemProvider provider = af.getProvider();
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+        if (TagOptions.current().isCheckIsWritable() && !provider.canWrite())
         {
             logger.severe(Permissions.displayPermissions(provider));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(af.getProvider()
@@ -69,7 +71,9 @@ public abstract class AudioFileWriter2 extends AudioFileWriter
             throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_IS_TOO_SMALL
                     .getMsg(provider));
         }
+        notifyFileWillBeModified(af, false);
         writeTag(af.getTag(), provider);
+        notifyFileOperationFinished(provider);
     }
 
     /**
@@ -0,0 +1,333 @@
+package org.jaudiotagger.audio.generic;
+
+import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes digests of the audio data of a file, excluding any metadata, so that files holding the same audio can be
+ * recognised regardless of how they are tagged.
+ *
+ * <p>The audio is described as a list of {@link Region}s of the file, which are hashed in order as if they were
+ * one continuous stream. Every requested algorithm is updated from the same buffer so the file is only read once
+ * however many digests are wanted. The buffer is a direct buffer kept per thread and reused for every file hashed on
+ * that thread.
+ *
+ * <p>{@link #treeHash(Set, int, int)} instead splits the regions into fixed size chunks that are hashed in parallel,
+ * the result is the digest of the concatenated chunk digests. The chunks are hashed on a pool shared by all tree
+ * hashes, or on an executor supplied by the caller. This gives a different value to {@link #hash(Set)} so
+ * the two must not be compared, and the chunk size must be the same for tree hashes to be comparable.
+ */
+public class AudioPayloadHasher
+{
+    /**
+     * Size of the buffer used to read the audio
+     */
+    public static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * Default chunk size for tree hashes
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> buffers = new ThreadLocal<ByteBuffer>()
+    {
+        @Override
+        protected ByteBuffer initialValue()
+        {
+            return ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+    };
+
+    /**
+     * Pool used by tree hashes that are not given an executor, created when first needed. Its threads are daemons
+     * that are discarded once idle, so no threads are kept between hashes.
+     */
+    private static class SharedExecutorHolder
+    {
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(new ThreadFactory()
+        {
+            private final AtomicInteger count = new AtomicInteger();
+
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "AudioPayloadHasher-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * A contiguous part of the file holding audio, from start up to but not including end
+     */
+    public static final class Region
+    {
+        private final long start;
+        private final long end;
+
+        public Region(long start, long end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        public long getStart()
+        {
+            return start;
+        }
+
+        public long getEnd()
+        {
+            return end;
+        }
+
+        public long getLength()
+        {
+            return end - start;
+        }
+
+        public String toString()
+        {
+            return "Region:" + start + "-" + end;
+        }
+    }
+
+    private final FileSystemProvider provider;
+    private final List<Region> regions;
+
+    /**
+     * @param provider file to hash
+     * @param regions  the parts of the file holding audio, in order
+     */
+    public AudioPayloadHasher(FileSystemProvider provider, List<Region> regions)
+    {
+        this.provider = provider;
+        this.regions = Collections.unmodifiableList(new ArrayList<Region>(regions));
+    }
+
+    /**
+     * @return the parts of the file that are hashed
+     */
+    public List<Region> getRegions()
+    {
+        return regions;
+    }
+
+    /**
+     * Hash the audio with every algorithm in a single pass over the file
+     *
+     * @param algorithms names of the digest algorithms as used by {@link MessageDigest#getInstance(String)}
+     * @return digest for each algorithm, in the iteration order of algorithms
+     * @throws NoSuchAlgorithmException if any of the algorithms is not available
+     * @throws IOException
+     */
+    public Map<String, byte[]> hash(Set<String> algorithms) throws NoSuchAlgorithmException, IOException
+    {
+        List<MessageDigest> digests = createDigests(algorithms);
+        FileChannelProvider fc = FileChannelProvider.open(provider);
+        try
+        {
+            for (Region region : regions)
+            {
+                update(fc, region.getStart(), region.getEnd(), digests);
+            }
+        }
+        finally
+        {
+            fc.close();
+        }
+        return toMap(algorithms, digests);
+    }
+
+    /**
+     * Hash the audio as a tree, the audio is split into chunks of chunkSize (a chunk never spans two regions) which
+     * are hashed using up to threads threads of the shared pool, then the digests of the chunks are hashed in order to
+     * give the result.
+     *
+     * @param algorithms names of the digest algorithms as used by {@link MessageDigest#getInstance(String)}
+     * @param chunkSize  size of each chunk in bytes
+     * @param threads    number of threads to hash chunks with
+     * @return root digest for each algorithm, in the iteration order of algorithms
+     * @throws NoSuchAlgorithmException if any of the algorithms is not available
+     * @throws IOException
+     */
+    public Map<String, byte[]> treeHash(Set<String> algorithms, int chunkSize, int threads) throws NoSuchAlgorithmException, IOException
+    {
+        return treeHash(algorithms, chunkSize, threads, SharedExecutorHolder.INSTANCE);
+    }
+
+    /**
+     * Hash the audio as a tree as {@link #treeHash(Set, int, int)} but hash the chunks on executor, which is not shut
+     * down afterwards.
+     *
+     * @param algorithms names of the digest algorithms as used by {@link MessageDigest#getInstance(String)}
+     * @param chunkSize  size of each chunk in bytes
+     * @param threads    number of tasks to hash chunks with, at most this many chunks are hashed at once
+     * @param executor   runs the tasks
+     * @return root digest for each algorithm, in the iteration order of algorithms
+     * @throws NoSuchAlgorithmException if any of the algorithms is not available
+     * @throws IOException
+     */
+    public Map<String, byte[]> treeHash(final Set<String> algorithms, int chunkSize, int threads, ExecutorService executor) throws NoSuchAlgorithmException, IOException
+    {
+        if (chunkSize <= 0 || threads <= 0)
+        {
+            throw new IllegalArgumentException("Chunk size and threads must be positive:" + chunkSize + ":" + threads);
+        }
+
+        //Check all algorithms are available before starting any threads
+        createDigests(algorithms);
+
+        final List<Region> chunks = new ArrayList<Region>();
+        for (Region region : regions)
+        {
+            for (long start = region.getStart(); start < region.getEnd(); start += chunkSize)
+            {
+                chunks.add(new Region(start, Math.min(start + chunkSize, region.getEnd())));
+            }
+        }
+
+        //Digests of each chunk for each algorithm, each worker fills in the chunks it is given
+        final byte[][][] chunkDigests = new byte[chunks.size()][][];
+        final int workers = Math.max(1, Math.min(threads, chunks.size()));
+        List<Future<Void>> results = new ArrayList<Future<Void>>(workers);
+        try
+        {
+            for (int i = 0; i < workers; i++)
+            {
+                final int worker = i;
+                results.add(executor.submit(new Callable<Void>()
+                {
+                    public Void call() throws Exception
+                    {
+                        List<MessageDigest> digests = createDigests(algorithms);
+                        FileChannelProvider fc = FileChannelProvider.open(provider);
+                        try
+                        {
+                            for (int chunkNo = worker; chunkNo < chunks.size(); chunkNo += workers)
+                            {
+                                Region chunk = chunks.get(chunkNo);
+                                update(fc, chunk.getStart(), chunk.getEnd(), digests);
+                                byte[][] digested = new byte[digests.size()][];
+                                for (int j = 0; j < digests.size(); j++)
+                                {
+                                    digested[j] = digests.get(j).digest();
+                                }
+                                chunkDigests[chunkNo] = digested;
+                            }
+                        }
+                        finally
+                        {
+                            fc.close();
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for (Future<Void> result : results)
+            {
+                result.get();
+            }
+        }
+        catch (InterruptedException ie)
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted hashing " + provider.getName(), ie);
+        }
+        catch (ExecutionException ee)
+        {
+            if (ee.getCause() instanceof IOException)
+            {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException("Unable to hash " + provider.getName(), ee.getCause());
+        }
+        finally
+        {
+            //Stop the remaining tasks if any task failed, finished tasks are unaffected
+            for (Future<Void> result : results)
+            {
+                result.cancel(true);
+            }
+        }
+
+        List<MessageDigest> roots = createDigests(algorithms);
+        for (byte[][] chunkDigest : chunkDigests)
+        {
+            for (int j = 0; j < roots.size(); j++)
+            {
+                roots.get(j).update(chunkDigest[j]);
+            }
+        }
+        return toMap(algorithms, roots);
+    }
+
+    /**
+     * Update every digest with the file data from start to end
+     */
+    private static void update(FileChannelProvider fc, long start, long end, List<MessageDigest> digests) throws IOException
+    {
+        ByteBuffer buffer = buffers.get();
+        long position = start;
+        while (position < end)
+        {
+            buffer.clear();
+            if (end - position < buffer.capacity())
+            {
+                buffer.limit((int) (end - position));
+            }
+            int read = fc.read(buffer, position);
+            if (read <= 0)
+            {
+                throw new IOException("Unable to read audio data at:" + position + ":expected to end at:" + end);
+            }
+            buffer.flip();
+            for (MessageDigest digest : digests)
+            {
+                buffer.rewind();
+                digest.update(buffer);
+            }
+            position += read;
+        }
+    }
+
+    private static List<MessageDigest> createDigests(Set<String> algorithms) throws NoSuchAlgorithmException
+    {
+        List<MessageDigest> digests = new ArrayList<MessageDigest>(algorithms.size());
+        for (String algorithm : algorithms)
+        {
+            digests.add(MessageDigest.getInstance(algorithm));
+        }
+        return digests;
+    }
+
+    private static Map<String, byte[]> toMap(Set<String> algorithms, List<MessageDigest> digests)
+    {
+        Map<String, byte[]> hashes = new LinkedHashMap<String, byte[]>();
+        int i = 0;
+        for (String algorithm : algorithms)
+        {
+            hashes.put(algorithm, digests.get(i++).digest());
+        }
+        return hashes;
+    }
+}
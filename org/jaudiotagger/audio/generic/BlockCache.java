@@ -0,0 +1,305 @@
+package org.jaudiotagger.audio.generic;
+
+import org.extra.FileChannelProvider;
+import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.tag.TagOptions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read only block cache placed in front of an open file.
+ *
+ * <p>Readers typically walk a file by reading many small headers (chunk headers, box headers, page headers) and
+ * skipping over the data in between. On providers where each read is expensive this is slow, so instead the file is
+ * read in fixed size blocks aligned to the block size, together with a number of read ahead blocks, and the
+ * most recently used blocks are kept so that subsequent small reads can be served from memory.
+ *
+ * <p>Reads that are at least as large as a block bypass the cache and go straight to the channel. The cache must
+ * only be used whilst the file is not being modified.
+ *
+ * <p>The position methods delegate to the underlying file so code can mix reads through the cache with
+ * direct reads and seeks on the file.
+ */
+public class BlockCache
+{
+    /**
+     * Hit and miss counts over all caches since the counters were last reset
+     */
+    private static final AtomicLong totalHits   = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    private final FileChannelProvider       fc;
+    private final RandomAccessFileProvider  raf;
+    private final long                      size;
+    private final int                       blockSize;
+    private final int                       readAheadBlocks;
+    private final boolean                   enabled;
+    private final LinkedHashMap<Long, byte[]> blocks;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Cache reads from an open channel using the sizes configured in {@link TagOptions}
+     *
+     * @param fc
+     * @return
+     * @throws IOException
+     */
+    public static BlockCache wrap(FileChannelProvider fc) throws IOException
+    {
+        TagOptions options = TagOptions.current();
+        return new BlockCache(fc, null, fc.size(), options.getReadCacheBlockSize(), options.getReadCacheReadAheadBlocks(), options.getReadCacheMaxBlocks());
+    }
+
+    /**
+     * Cache reads from an open file using the sizes configured in {@link TagOptions}
+     *
+     * @param raf
+     * @return
+     * @throws IOException
+     */
+    public static BlockCache wrap(RandomAccessFileProvider raf) throws IOException
+    {
+        TagOptions options = TagOptions.current();
+        return new BlockCache(raf.getChannelProvider(), raf, raf.length(), options.getReadCacheBlockSize(), options.getReadCacheReadAheadBlocks(), options.getReadCacheMaxBlocks());
+    }
+
+    /**
+     * @param fc              channel used to read blocks
+     * @param raf             if not null the file pointer of this file is used as the current position
+     * @param size            size of the file
+     * @param blockSize       size of each block, blocks start at multiples of this value
+     * @param readAheadBlocks number of additional blocks read on each miss
+     * @param maxBlocks       maximum number of blocks held, zero disables the cache
+     */
+    protected BlockCache(FileChannelProvider fc, RandomAccessFileProvider raf, long size, int blockSize, int readAheadBlocks, final int maxBlocks)
+    {
+        this.fc              = fc;
+        this.raf             = raf;
+        this.size            = size;
+        this.blockSize       = blockSize;
+        this.readAheadBlocks = Math.max(0, Math.min(readAheadBlocks, maxBlocks - 1));
+        this.enabled         = maxBlocks > 0 && blockSize > 0;
+        this.blocks          = new LinkedHashMap<Long, byte[]>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest)
+            {
+                return size() > maxBlocks;
+            }
+        };
+    }
+
+    /**
+     * @return current position in the file
+     * @throws IOException
+     */
+    public long position() throws IOException
+    {
+        if (raf != null)
+        {
+            return raf.getFilePointer();
+        }
+        return fc.position();
+    }
+
+    /**
+     * Set current position in the file
+     *
+     * @param position
+     * @throws IOException
+     */
+    public void position(long position) throws IOException
+    {
+        if (raf != null)
+        {
+            raf.seek(position);
+        }
+        else
+        {
+            fc.position(position);
+        }
+    }
+
+    /**
+     * @return size of the file
+     */
+    public long size()
+    {
+        return size;
+    }
+
+    /**
+     * Read into dst from the current position, moving the position on by the number of bytes read
+     *
+     * @param dst
+     * @return number of bytes read, or -1 if at end of file
+     * @throws IOException
+     */
+    public int read(ByteBuffer dst) throws IOException
+    {
+        long position = position();
+        int read = read(dst, position);
+        if (read > 0)
+        {
+            position(position + read);
+        }
+        return read;
+    }
+
+    /**
+     * Read into dst from position without modifying the current position
+     *
+     * @param dst
+     * @param position
+     * @return number of bytes read, or -1 if position is at or beyond the end of file
+     * @throws IOException
+     */
+    public int read(ByteBuffer dst, long position) throws IOException
+    {
+        if (position >= size)
+        {
+            return -1;
+        }
+
+        if (!enabled || dst.remaining() >= blockSize)
+        {
+            misses++;
+            totalMisses.incrementAndGet();
+            return fc.read(dst, position);
+        }
+
+        int read = 0;
+        while (dst.hasRemaining() && position < size)
+        {
+            long   blockNo     = position / blockSize;
+            int    blockOffset = (int) (position - (blockNo * blockSize));
+            byte[] block       = getBlock(blockNo);
+            if (block == null || blockOffset >= block.length)
+            {
+                break;
+            }
+            int count = Math.min(dst.remaining(), block.length - blockOffset);
+            dst.put(block, blockOffset, count);
+            read     += count;
+            position += count;
+        }
+        return read == 0 ? -1 : read;
+    }
+
+    /**
+     * Get block from cache, reading it and the read ahead blocks following it from file if not cached
+     *
+     * @param blockNo
+     * @return the block, only the final block of the file may be shorter than the block size
+     * @throws IOException
+     */
+    private byte[] getBlock(long blockNo) throws IOException
+    {
+        byte[] block = blocks.get(blockNo);
+        if (block != null)
+        {
+            hits++;
+            totalHits.incrementAndGet();
+            return block;
+        }
+
+        misses++;
+        totalMisses.incrementAndGet();
+        long       start  = blockNo * blockSize;
+        int        length = (int) Math.min((long) blockSize * (readAheadBlocks + 1), size - start);
+        ByteBuffer data   = ByteBuffer.allocate(length);
+        while (data.hasRemaining())
+        {
+            if (fc.read(data, start + data.position()) <= 0)
+            {
+                break;
+            }
+        }
+
+        byte[] raw = data.array();
+        int    end = data.position();
+        for (int offset = 0, i = 0; offset < end; offset += blockSize, i++)
+        {
+            byte[] next = new byte[Math.min(blockSize, end - offset)];
+            System.arraycopy(raw, offset, next, 0, next.length);
+            if (i == 0)
+            {
+                block = next;
+            }
+            //Dont let read ahead push out blocks that are already cached
+            if (i == 0 || !blocks.containsKey(blockNo + i))
+            {
+                blocks.put(blockNo + i, next);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * @return the channel this cache reads from
+     */
+    public FileChannelProvider getChannel()
+    {
+        return fc;
+    }
+
+    /**
+     * @return the file whose file pointer is used as the current position, or null if the channel position is used
+     */
+    public RandomAccessFileProvider getRandomAccessFile()
+    {
+        return raf;
+    }
+
+    /**
+     * @return number of reads served from the cache
+     */
+    public long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return number of reads that had to go to the file
+     */
+    public long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return number of reads served from the cache by all caches since last reset
+     */
+    public static long getTotalHits()
+    {
+        return totalHits.get();
+    }
+
+    /**
+     * @return number of reads that had to go to the file by all caches since last reset
+     */
+    public static long getTotalMisses()
+    {
+        return totalMisses.get();
+    }
+
+    /**
+     * Reset the totals
+     */
+    public static void resetTotals()
+    {
+        totalHits.set(0);
+        totalMisses.set(0);
+    }
+
+    public String toString()
+    {
+        return "BlockCache blockSize:" + blockSize + ":readAhead:" + readAheadBlocks + ":hits:" + hits + ":misses:" + misses;
+    }
+}
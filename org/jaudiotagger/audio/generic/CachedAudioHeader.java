@@ -0,0 +1,287 @@
+package org.jaudiotagger.audio.generic;
+
+import org.extra.StandardCharsets;
+import org.jaudiotagger.audio.AudioHeader;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * An immutable copy of the values of an {@link AudioHeader}, as held by {@link org.jaudiotagger.audio.TagCache}.
+ *
+ * <p>Every value is captured as the original header returned it, so the strings returned by
+ * {@link #getBitRate()}, {@link #getFormat()} and so on are the same as for the header of a file read normally even
+ * when the original format had its own way of presenting them.
+ */
+public class CachedAudioHeader implements AudioHeader
+{
+    private String encodingType;
+    private String format;
+    private String bitRate;
+    private double bitRateAsNumber;
+    private String bitRatesStr;
+    private Integer byteRate;
+    private String sampleRate;
+    private int sampleRateAsNumber;
+    private String channels;
+    private int channelMode;
+    private boolean isVbr;
+    private boolean isLossless;
+    private int trackLength;
+    private double preciseTrackLength;
+    private int bitsPerSample;
+    private Long audioDataLength;
+    private Long audioDataStartPosition;
+    private Long audioDataEndPosition;
+    private Long noOfSamples;
+    private String videoCodecIdAsString;
+    private int pictureWidth;
+    private int pictureHeight;
+    private int frameRate;
+
+    private CachedAudioHeader()
+    {
+
+    }
+
+    /**
+     * Write the values of header to out
+     *
+     * @param header
+     * @param out
+     * @throws IOException
+     */
+    public static void write(AudioHeader header, DataOutput out) throws IOException
+    {
+        writeString(out, header.getEncodingType());
+        writeString(out, header.getFormat());
+        writeString(out, header.getBitRate());
+        out.writeDouble(header.getBitRateAsNumber());
+        writeString(out, header.getBitRatesStr());
+        writeLong(out, header.getByteRate() != null ? Long.valueOf(header.getByteRate()) : null);
+        writeString(out, header.getSampleRate());
+        out.writeInt(header.getSampleRateAsNumber());
+        writeString(out, header.getChannels());
+        out.writeInt(header.getChannelMode());
+        out.writeBoolean(header.isVariableBitRate());
+        out.writeBoolean(header.isLossless());
+        out.writeInt(header.getTrackLength());
+        out.writeDouble(header.getPreciseTrackLength());
+        out.writeInt(header.getBitsPerSample());
+        writeLong(out, header.getAudioDataLength());
+        writeLong(out, header.getAudioDataStartPosition());
+        writeLong(out, header.getAudioDataEndPosition());
+        writeLong(out, header.getNoOfSamples());
+        writeString(out, header.getVideoCodecIdAsString());
+        out.writeInt(header.getPictureWidth());
+        out.writeInt(header.getPictureHeight());
+        out.writeInt(header.getFrameRate());
+    }
+
+    /**
+     * Read a header written by {@link #write(AudioHeader, DataOutput)}
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static CachedAudioHeader read(DataInput in) throws IOException
+    {
+        CachedAudioHeader header = new CachedAudioHeader();
+        header.encodingType = readString(in);
+        header.format = readString(in);
+        header.bitRate = readString(in);
+        header.bitRateAsNumber = in.readDouble();
+        header.bitRatesStr = readString(in);
+        Long byteRate = readLong(in);
+        header.byteRate = byteRate != null ? Integer.valueOf(byteRate.intValue()) : null;
+        header.sampleRate = readString(in);
+        header.sampleRateAsNumber = in.readInt();
+        header.channels = readString(in);
+        header.channelMode = in.readInt();
+        header.isVbr = in.readBoolean();
+        header.isLossless = in.readBoolean();
+        header.trackLength = in.readInt();
+        header.preciseTrackLength = in.readDouble();
+        header.bitsPerSample = in.readInt();
+        header.audioDataLength = readLong(in);
+        header.audioDataStartPosition = readLong(in);
+        header.audioDataEndPosition = readLong(in);
+        header.noOfSamples = readLong(in);
+        header.videoCodecIdAsString = readString(in);
+        header.pictureWidth = in.readInt();
+        header.pictureHeight = in.readInt();
+        header.frameRate = in.readInt();
+        return header;
+    }
+
+    /**
+     * Write a string that may be null and may be longer than {@link DataOutput#writeUTF(String)} allows
+     *
+     * @param out
+     * @param value
+     * @throws IOException
+     */
+    static void writeString(DataOutput out, String value) throws IOException
+    {
+        if (value == null)
+        {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    static String readString(DataInput in) throws IOException
+    {
+        int length = in.readInt();
+        if (length < 0)
+        {
+            return null;
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutput out, Long value) throws IOException
+    {
+        out.writeBoolean(value != null);
+        if (value != null)
+        {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(DataInput in) throws IOException
+    {
+        return in.readBoolean() ? Long.valueOf(in.readLong()) : null;
+    }
+
+    public String getEncodingType()
+    {
+        return encodingType;
+    }
+
+    public String getFormat()
+    {
+        return format;
+    }
+
+    public String getBitRate()
+    {
+        return bitRate;
+    }
+
+    public double getBitRateAsNumber()
+    {
+        return bitRateAsNumber;
+    }
+
+    public String getBitRatesStr()
+    {
+        return bitRatesStr;
+    }
+
+    public Integer getByteRate()
+    {
+        return byteRate;
+    }
+
+    public String getSampleRate()
+    {
+        return sampleRate;
+    }
+
+    public int getSampleRateAsNumber()
+    {
+        return sampleRateAsNumber;
+    }
+
+    public String getChannels()
+    {
+        return channels;
+    }
+
+    public int getChannelMode()
+    {
+        return channelMode;
+    }
+
+    public boolean isVariableBitRate()
+    {
+        return isVbr;
+    }
+
+    public boolean isLossless()
+    {
+        return isLossless;
+    }
+
+    public int getTrackLength()
+    {
+        return trackLength;
+    }
+
+    public double getPreciseTrackLength()
+    {
+        return preciseTrackLength;
+    }
+
+    public int getBitsPerSample()
+    {
+        return bitsPerSample;
+    }
+
+    public Long getAudioDataLength()
+    {
+        return audioDataLength;
+    }
+
+    public Long getAudioDataStartPosition()
+    {
+        return audioDataStartPosition;
+    }
+
+    public Long getAudioDataEndPosition()
+    {
+        return audioDataEndPosition;
+    }
+
+    public Long getNoOfSamples()
+    {
+        return noOfSamples;
+    }
+
+    public String getVideoCodecIdAsString()
+    {
+        return videoCodecIdAsString;
+    }
+
+    public int getPictureWidth()
+    {
+        return pictureWidth;
+    }
+
+    public int getPictureHeight()
+    {
+        return pictureHeight;
+    }
+
+    public int getFrameRate()
+    {
+        return frameRate;
+    }
+
+    public String toString()
+    {
+        return "Cached Audio Header:" + encodingType
+                + ":bitrate:" + bitRate
+                + ":sampleRate:" + sampleRate
+                + ":channels:" + channels
+                + ":trackLength:" + preciseTrackLength;
+    }
+}
@@ -0,0 +1,406 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.FieldDataInvalidException;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.KeyNotFoundException;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.images.Artwork;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A read only copy of the common fields of a tag, as held by {@link org.jaudiotagger.audio.TagCache}.
+ *
+ * <p>Only the fields in {@link #CACHED_KEYS} are kept, every value of each is kept so multi value fields are
+ * preserved. Artwork is never cached. Any attempt to modify the tag throws an {@link UnsupportedOperationException}.
+ */
+public class CachedTag extends GenericTag
+{
+    /**
+     * The fields copied into the cache
+     */
+    public static final Set<FieldKey> CACHED_KEYS = Collections.unmodifiableSet(EnumSet.of(
+            FieldKey.TITLE,
+            FieldKey.ARTIST,
+            FieldKey.ALBUM_ARTIST,
+            FieldKey.ALBUM,
+            FieldKey.GENRE,
+            FieldKey.YEAR,
+            FieldKey.TRACK,
+            FieldKey.TRACK_TOTAL,
+            FieldKey.DISC_NO,
+            FieldKey.DISC_TOTAL,
+            FieldKey.COMPOSER,
+            FieldKey.COMMENT,
+            FieldKey.RECORD_LABEL,
+            FieldKey.ENCODER,
+            FieldKey.COPYRIGHT));
+
+    private CachedTag()
+    {
+
+    }
+
+    /**
+     * Write the cached fields of tag to out
+     *
+     * @param tag
+     * @param out
+     * @throws IOException
+     */
+    public static void write(Tag tag, DataOutput out) throws IOException
+    {
+        List<FieldKey> keys = new ArrayList<FieldKey>();
+        List<List<String>> values = new ArrayList<List<String>>();
+        for (FieldKey key : CACHED_KEYS)
+        {
+            List<String> nonEmpty = new ArrayList<String>();
+            try
+            {
+                for (String value : tag.getAll(key))
+                {
+                    if (value != null && value.length() > 0)
+                    {
+                        nonEmpty.add(value);
+                    }
+                }
+            }
+            catch (KeyNotFoundException knfe)
+            {
+                //Not supported by this format
+            }
+            catch (UnsupportedOperationException uoe)
+            {
+                //Not supported by this format
+            }
+            if (nonEmpty.size() > 0)
+            {
+                keys.add(key);
+                values.add(nonEmpty);
+            }
+        }
+
+        out.writeShort(keys.size());
+        for (int i = 0; i < keys.size(); i++)
+        {
+            CachedAudioHeader.writeString(out, keys.get(i).name());
+            out.writeShort(values.get(i).size());
+            for (String value : values.get(i))
+            {
+                CachedAudioHeader.writeString(out, value);
+            }
+        }
+    }
+
+    /**
+     * Read a tag written by {@link #write(Tag, DataOutput)}
+     *
+     * @param in
+     * @return
+     * @throws IOException
+     */
+    public static CachedTag read(DataInput in) throws IOException
+    {
+        CachedTag tag = new CachedTag();
+        int keyCount = in.readShort();
+        for (int i = 0; i < keyCount; i++)
+        {
+            String id = CachedAudioHeader.readString(in);
+            int valueCount = in.readShort();
+            for (int j = 0; j < valueCount; j++)
+            {
+                tag.put(id, CachedAudioHeader.readString(in));
+            }
+        }
+        return tag;
+    }
+
+    private void put(String id, String value)
+    {
+        super.addField(new GenericTagTextField(id, value));
+    }
+
+    public String toString()
+    {
+        return "CACHED " + super.toString();
+    }
+
+    @Override
+    public String getValue(FieldKey genericKey, int index) throws KeyNotFoundException
+    {
+        if (CACHED_KEYS.contains(genericKey))
+        {
+            return getItem(genericKey.name(), index);
+        }
+        throw new UnsupportedOperationException(ErrorMessage.OPERATION_NOT_SUPPORTED_FOR_FIELD.getMsg(genericKey));
+    }
+
+    @Override
+    public TagField getFirstField(FieldKey genericKey) throws KeyNotFoundException
+    {
+        if (CACHED_KEYS.contains(genericKey))
+        {
+            return getFirstField(genericKey.name());
+        }
+        throw new UnsupportedOperationException(ErrorMessage.OPERATION_NOT_SUPPORTED_FOR_FIELD.getMsg(genericKey));
+    }
+
+    @Override
+    public TagField createField(FieldKey genericKey, String... values) throws KeyNotFoundException, FieldDataInvalidException
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public TagField createField(Artwork artwork) throws FieldDataInvalidException
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public TagField createCompilationField(boolean value) throws KeyNotFoundException, FieldDataInvalidException
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void addField(TagField field)
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setField(TagField field)
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteField(FieldKey genericKey) throws KeyNotFoundException
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteField(String key)
+    {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public boolean setEncoding(Charset enc)
+    {
+        return false;
+    }
+
+    /**
+     * Read
+     */
+    @Override
+    public String getTitle2() {
+        return getFirst(FieldKey.TITLE);
+    }
+
+    @Override
+    public String getComment2() {
+        return getFirst(FieldKey.COMMENT);
+    }
+
+    @Override
+    public String getArtist2() {
+        return getFirst(FieldKey.ARTIST);
+    }
+
+    @Override
+    public String getAlbumArtist2() {
+        return getFirst(FieldKey.ALBUM_ARTIST);
+    }
+
+    @Override
+    public String getAlbum2() {
+        return getFirst(FieldKey.ALBUM);
+    }
+
+    @Override
+    public String getGenre2() {
+        return getFirst(FieldKey.GENRE);
+    }
+
+    @Override
+    public String getYear2() {
+        return getFirst(FieldKey.YEAR);
+    }
+
+    @Override
+    public String getComposer2() {
+        return getFirst(FieldKey.COMPOSER);
+    }
+
+    @Override
+    public String getPublisher2() {
+        return getFirst(FieldKey.RECORD_LABEL);
+    }
+
+    @Override
+    public String getEncoder2() {
+        return getFirst(FieldKey.ENCODER);
+    }
+
+    @Override
+    public String getCopyright2() {
+        return getFirst(FieldKey.COPYRIGHT);
+    }
+
+    @Override
+    public String getTrack2() {
+        return getFirst(FieldKey.TRACK);
+    }
+
+    @Override
+    public String getDisc2() {
+        return getFirst(FieldKey.DISC_NO);
+    }
+
+    @Override
+    public String getLyrics2() {
+        return null;
+    }
+
+    @Override
+    public String getItunesNorm() {
+        return null;
+    }
+
+    @Override
+    public String getItunesSMPB() {
+        return null;
+    }
+
+    @Override
+    public String getCustomTag() {
+        return null;
+    }
+
+    @Override
+    public Object[] getArtwork2() {
+        return null;
+    }
+
+    /**
+     * Write
+     */
+    @Override
+    public void setTitle2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setComment2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setArtist2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setAlbumArtist2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setAlbum2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setGenre2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteGenre2() throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteTrack2() throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteDisc2() throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void deleteYear2() throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setYear2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setComposer2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setPublisher2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setEncoder2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setCopyright2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setTrack2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setDisc2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setLyrics2(String data) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setItunesNORM(String comments) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setItunesSMPB(String comments) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+
+    @Override
+    public void setCustomTag(String custom) throws Throwable {
+        throw new UnsupportedOperationException(ErrorMessage.CACHED_TAG_IS_READ_ONLY.getMsg());
+    }
+}
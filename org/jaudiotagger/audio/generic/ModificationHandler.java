@@ -22,7 +22,7 @@ import org.extra.FileSystemProvider;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.ModifyVetoException;
 
-import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This class multicasts the events to multiple listener instances.<br>
@@ -34,9 +34,10 @@ public class ModificationHandler implements AudioFileModificationListener
 {
 
     /**
-     * The listeners to wich events are broadcasted are stored here.
+     * The listeners to wich events are broadcasted are stored here, copy on write so events can be broadcast from
+     * multiple threads while listeners are added or removed.
      */
-    private Vector<AudioFileModificationListener> listeners = new Vector<AudioFileModificationListener>();
+    private final CopyOnWriteArrayList<AudioFileModificationListener> listeners = new CopyOnWriteArrayList<AudioFileModificationListener>();
 
     /**
      * This method adds an {@link AudioFileModificationListener}
@@ -45,10 +46,7 @@ public class ModificationHandler implements AudioFileModificationListener
      */
     public void addAudioFileModificationListener(AudioFileModificationListener l)
     {
-        if (!this.listeners.contains(l))
-        {
-            this.listeners.add(l);
-        }
+        this.listeners.addIfAbsent(l);
     }
 
     /**
@@ -118,10 +116,7 @@ public class ModificationHandler implements AudioFileModificationListener
      */
     public void removeAudioFileModificationListener(AudioFileModificationListener l)
     {
-        if (this.listeners.contains(l))
-        {
-            this.listeners.remove(l);
-        }
+        this.listeners.remove(l);
     }
 
     /**
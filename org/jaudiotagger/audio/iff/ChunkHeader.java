@@ -4,6 +4,7 @@ import org.extra.FileChannelProvider;
 import org.extra.RandomAccessFileProvider;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
+import org.jaudiotagger.audio.generic.BlockCache;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -37,12 +38,20 @@ public class ChunkHeader
         ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
         startLocationInFile = fc.position();
         fc.read(header);
-        header.order(byteOrder);
-        header.position(0);
-        this.chunkId  = org.jaudiotagger.audio.generic.Utils.readFourBytesAsChars(header);
-        this.size = header.getInt();
+        return parseHeader(header);
+    }
 
-        return true;
+    /**
+     * Reads the header of a chunk through the read cache.
+     *
+     * @return {@code true}, if we were able to read a chunk header and believe we found a valid chunk id.
+     */
+    public boolean readHeader(final BlockCache cache) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
+        startLocationInFile = cache.position();
+        cache.read(header);
+        return parseHeader(header);
     }
 
     /**
@@ -55,6 +64,17 @@ public class ChunkHeader
         ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
         startLocationInFile = raf.getFilePointer();
         raf.getChannelProvider().read(header);
+        return parseHeader(header);
+    }
+
+    /**
+     * Parses the chunk id and size from the header bytes, whichever source they were read from.
+     *
+     * @param header the {@link #CHUNK_HEADER_SIZE} bytes of the header
+     * @return {@code true}, if we were able to read a chunk header and believe we found a valid chunk id.
+     */
+    private boolean parseHeader(final ByteBuffer header)
+    {
         header.order(byteOrder);
         header.position(0);
         this.chunkId  = org.jaudiotagger.audio.generic.Utils.readFourBytesAsChars(header);
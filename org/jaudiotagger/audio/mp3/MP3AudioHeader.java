@@ -19,13 +19,13 @@
  */
 package org.jaudiotagger.audio.mp3;
 
-import org.extra.FileChannelProvider;
 import org.extra.FileSystemProvider;
-import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.exceptions.NotMpegAudioException;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -76,9 +76,17 @@ public class MP3AudioHeader implements AudioHeader
     private double bitrate;
     private String encoder = "";
 
-    private static final SimpleDateFormat timeInFormat = new SimpleDateFormat("ss", Locale.UK);
-    private static final SimpleDateFormat timeOutFormat = new SimpleDateFormat("mm:ss",Locale.UK);
-    private static final SimpleDateFormat timeOutOverAnHourFormat = new SimpleDateFormat("kk:mm:ss",Locale.UK);
+    /**
+     * Set if the last search for the first frame was abandoned because the data does not look like MPEG audio
+     */
+    private String notMpegAudioMessage;
+
+    /**
+     * SimpleDateFormat is not thread safe so each thread has its own, rather than all threads queuing for one
+     */
+    private static final ThreadLocal<SimpleDateFormat> timeInFormat = createTimeFormat("ss");
+    private static final ThreadLocal<SimpleDateFormat> timeOutFormat = createTimeFormat("mm:ss");
+    private static final ThreadLocal<SimpleDateFormat> timeOutOverAnHourFormat = createTimeFormat("kk:mm:ss");
     private static final char isVbrIdentifier = '~';
     private static final int CONVERT_TO_KILOBITS = 1000;
     private static final String TYPE_MP3 = "mp3";
@@ -95,6 +103,14 @@ public class MP3AudioHeader implements AudioHeader
     private final static int MIN_BUFFER_REMAINING_REQUIRED = MPEGFrameHeader.HEADER_SIZE + XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
     private static final int NO_SECONDS_IN_HOUR = 3600;
 
+    /**
+     * In arbitrary data roughly one in three possible frame syncs decodes as a valid frame header, in other framed
+     * formats such as AAC ADTS the syncs are frequent but never valid MPEG audio headers. If fewer than one in this
+     * many are valid, and there are at least MIN_SYNC_CANDIDATES_FOR_DENSITY_CHECK of them, the data is not MPEG audio
+     */
+    private static final int MIN_VALID_HEADER_RATIO = 8;
+    private static final int MIN_SYNC_CANDIDATES_FOR_DENSITY_CHECK = 32;
+
     public MP3AudioHeader()
     {
     }
@@ -113,6 +129,10 @@ public class MP3AudioHeader implements AudioHeader
     {
         if (!seek(seekProvider, 0))
         {
+            if (notMpegAudioMessage != null)
+            {
+                throw new NotMpegAudioException(notMpegAudioMessage);
+            }
             throw new InvalidAudioFrameException("No audio header found within" + seekProvider.getName());
         }
     }
@@ -138,10 +158,34 @@ public class MP3AudioHeader implements AudioHeader
     {
         if (!seek(seekProvider, startByte))
         {
+            if (notMpegAudioMessage != null)
+            {
+                throw new NotMpegAudioException(notMpegAudioMessage);
+            }
             throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(seekProvider.getName()));
         }
     }
 
+    /**
+     * Search for the first MP3Header in the file already opened by session, starting from location startByte
+     *
+     * @param session
+     * @param startByte
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    public MP3AudioHeader(final MP3ReadSession session, long startByte) throws IOException, InvalidAudioFrameException
+    {
+        if (!seek(session, startByte))
+        {
+            if (notMpegAudioMessage != null)
+            {
+                throw new NotMpegAudioException(notMpegAudioMessage);
+            }
+            throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(session.getProvider().getName()));
+        }
+    }
+
     /**
      * Returns true if the first MP3 frame can be found for the MP3 file
      *
@@ -153,6 +197,28 @@ public class MP3AudioHeader implements AudioHeader
      * @throws IOException on any I/O error
      */
     public boolean seek(final FileSystemProvider seekProvider, long startByte) throws IOException
+    {
+        final MP3ReadSession session = new MP3ReadSession(seekProvider, "r");
+        try
+        {
+            return seek(session, startByte);
+        }
+        finally
+        {
+            session.close();
+        }
+    }
+
+    /**
+     * Returns true if the first MP3 frame can be found for the MP3 file opened by session, the session is
+     * left open.
+     *
+     * @param session   open MP3 file to seek
+     * @param startByte if there is an ID3v2tag we dont want to start reading from the start of the tag
+     * @return true if the first MP3 frame can be found
+     * @throws IOException on any I/O error
+     */
+    public boolean seek(final MP3ReadSession session, long startByte) throws IOException
     {
         //References to Xing/VRbi Header
         ByteBuffer header;
@@ -160,45 +226,57 @@ public class MP3AudioHeader implements AudioHeader
         //This is substantially faster than updating the filechannels position
         long filePointerCount;
 
-        final RandomAccessFileProvider fis = seekProvider.getRandomAccessFile("r");
-        final FileChannelProvider fc = fis.getChannelProvider();
-
-        //Read into Byte Buffer in Chunks
-        ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
-
-        //Move FileChannel to the starting position (skipping over tag if any)
-        fc.position(startByte);
-
         //Update filePointerCount
         filePointerCount = startByte;
 
-        //Read from here into the byte buffer , doesn't move location of filepointer
-        fc.read(bb, startByte);
-        bb.flip();
+        //Read into Byte Buffer in Chunks, the buffer is shared with other searches made through the same session
+        //so data already read is not read again
+        ByteBuffer bb = session.getScanBuffer(startByte, MIN_BUFFER_REMAINING_REQUIRED, FILE_BUFFER_SIZE);
+
+        //Counts used to decide whether the data is MPEG audio at all
+        long syncCandidates = 0;
+        long validHeaders   = 0;
+        notMpegAudioMessage = null;
 
         boolean syncFound = false;
         try
         {
             do
             {
-                //TODO remaining() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer. Also this is rarely going to be true, and could be made less true
-                //by increasing FILE_BUFFER_SIZE
                 if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED)
                 {
-                    bb.clear();
-                    fc.position(filePointerCount);
-                    fc.read(bb, fc.position());
-                    bb.flip();
-                    if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED)
+                    if (isSyncSearchAbandoned(session, filePointerCount - startByte, syncCandidates, validHeaders))
+                    {
+                        return false;
+                    }
+                    bb = session.getScanBuffer(filePointerCount, MIN_BUFFER_REMAINING_REQUIRED, FILE_BUFFER_SIZE);
+                    if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED)
                     {
                         //No mp3 exists
                         return false;
                     }
                 }
-                //MP3File.logger.finest("fc:"+fc.position() + "bb"+bb.position());
-                if (MPEGFrameHeader.isMPEGFrame(bb))
+
+                //Skip straight to the next possible sync, if there are none in the rest of the buffer move to the
+                //end of it so that it is reloaded
+                int position     = bb.position();
+                int end          = bb.limit() - MIN_BUFFER_REMAINING_REQUIRED;
+                int syncPosition = findSyncCandidate(bb, position, end);
+                if (syncPosition == -1)
+                {
+                    filePointerCount += end - position;
+                    bb.position(end);
+                    continue;
+                }
+                filePointerCount += syncPosition - position;
+                bb.position(syncPosition);
+                syncCandidates++;
+
+                //Validate the packed header first so nothing is created for positions that are not frame headers
+                int frameHeader = MPEGFrameHeader.getHeader(bb);
+                if (MPEGFrameHeader.isValidHeader(frameHeader))
                 {
+                    validHeaders++;
                     try
                     {
                         if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
@@ -206,7 +284,7 @@ public class MP3AudioHeader implements AudioHeader
                             MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
                         }
 
-                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
+                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(frameHeader);
                         syncFound = true;
                         //if(2==1) use this line when you want to test getting the next frame without using xing
 
@@ -256,7 +334,7 @@ public class MP3AudioHeader implements AudioHeader
                         // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
                         else
                         {
-                            syncFound = isNextFrameValid(seekProvider, filePointerCount, bb, fc);
+                            syncFound = isNextFrameValid(session, filePointerCount, bb);
                             if (syncFound)
                             {
                                 break;
@@ -271,12 +349,8 @@ public class MP3AudioHeader implements AudioHeader
                     }
                 }
 
-                //TODO position() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer
                 bb.position(bb.position() + 1);
                 filePointerCount++;
-
-
             }
             while (!syncFound);
         }
@@ -291,25 +365,13 @@ public class MP3AudioHeader implements AudioHeader
             syncFound = false;
             throw iox;
         }
-        finally
-        {
-            if (fc != null)
-            {
-                fc.close();
-            }
-
-            if (fis != null)
-            {
-                fis.close();
-            }
-        }
 
         //Return to start of audio header
         if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
         {
             MP3AudioHeader.logger.finer("Return found matching mp3 header starting at" + filePointerCount);
         }
-        setFileSize(seekProvider.length());
+        setFileSize(session.length());
         setMp3StartByte(filePointerCount);
         setTimePerFrame();
         setNumberOfFrames();
@@ -324,21 +386,83 @@ public class MP3AudioHeader implements AudioHeader
         return syncFound;
     }
 
+    /**
+     * Decide whether to give up searching for the first frame, either because the maximum search distance has been
+     * reached or because the data searched so far does not look like MPEG audio, see {@link TagOptions}
+     *
+     * @param session
+     * @param distance        number of bytes searched so far
+     * @param syncCandidates  number of possible frame syncs seen so far
+     * @param validHeaders    number of those that were valid frame headers
+     * @return true if the search should be abandoned, in which case the reason has been recorded
+     */
+    private boolean isSyncSearchAbandoned(MP3ReadSession session, long distance, long syncCandidates, long validHeaders)
+    {
+        TagOptions options = TagOptions.current();
+        long maxDistance = options.getMp3MaxSyncScanDistance();
+        if (maxDistance > 0 && distance >= maxDistance)
+        {
+            notMpegAudioMessage = ErrorMessage.MP3_SYNC_SEARCH_LIMIT_REACHED.getMsg(session.getProvider().getName(), distance);
+        }
+        else
+        {
+            int densityCheckDistance = options.getMp3SyncScanDensityCheckDistance();
+            if (densityCheckDistance > 0
+                    && distance >= densityCheckDistance
+                    && syncCandidates >= MIN_SYNC_CANDIDATES_FOR_DENSITY_CHECK
+                    && validHeaders * MIN_VALID_HEADER_RATIO < syncCandidates)
+            {
+                notMpegAudioMessage = ErrorMessage.MP3_SYNC_SEARCH_NOT_MPEG_AUDIO.getMsg(session.getProvider().getName(), validHeaders, syncCandidates, distance);
+            }
+        }
+
+        if (notMpegAudioMessage != null)
+        {
+            MP3AudioHeader.logger.warning(notMpegAudioMessage);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Find the next position in the buffer that could be the start of a frame header, that is a byte with all bits
+     * set followed by a byte with the top three bits set. The backing array is searched directly so the buffer is
+     * not touched for positions that cannot be a frame header.
+     *
+     * @param bb   buffer with a backing array
+     * @param from position to start searching from
+     * @param to   position to search up to, exclusive, must be before the last byte of the buffer
+     * @return position of next candidate, or -1 if none found
+     */
+    private static int findSyncCandidate(ByteBuffer bb, int from, int to)
+    {
+        byte[] data   = bb.array();
+        int    offset = bb.arrayOffset();
+        for (int i = offset + from, end = offset + to; i < end; i++)
+        {
+            if (data[i] == (byte) MPEGFrameHeader.SYNC_BYTE1
+                    && (data[i + 1] & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2)
+            {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Called in some circumstances to check the next frame to ensure we have the correct audio header
      *
-     * @param seekProvider
+     * @param session
      * @param filePointerCount
-     * @param bb
-     * @param fc
+     * @param bb the scan buffer of the session
      * @return true if frame is valid
      * @throws IOException
      */
-    private boolean isNextFrameValid(FileSystemProvider seekProvider, long filePointerCount, ByteBuffer bb, FileChannelProvider fc) throws IOException
+    private boolean isNextFrameValid(MP3ReadSession session, long filePointerCount, ByteBuffer bb) throws IOException
     {
         if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
         {
-            MP3AudioHeader.logger.finer("Checking next frame" + seekProvider.getName() + ":fpc:" + filePointerCount + "skipping to:" + (filePointerCount + mp3FrameHeader.getFrameLength()));
+            MP3AudioHeader.logger.finer("Checking next frame" + session.getProvider().getName() + ":fpc:" + filePointerCount + "skipping to:" + (filePointerCount + mp3FrameHeader.getFrameLength()));
         }
         boolean result = false;
 
@@ -357,14 +481,11 @@ public class MP3AudioHeader implements AudioHeader
         if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength())
         {
             MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
-            bb.clear();
-            fc.position(filePointerCount);
-            fc.read(bb, fc.position());
-            bb.flip();
-            //So now original buffer has been replaced, so set current position to start of buffer
-            currentPosition = 0;
+            bb = session.getScanBuffer(filePointerCount, MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength(), FILE_BUFFER_SIZE);
+            //So now original buffer may have been refilled, so get current position again
+            currentPosition = bb.position();
             //Not enough left
-            if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED)
+            if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED)
             {
                 //No mp3 exists
                 MP3AudioHeader.logger.finer("Nearly at end of file, no header found:");
@@ -372,7 +493,7 @@ public class MP3AudioHeader implements AudioHeader
             }
 
             //Still Not enough left for next alleged frame size so giving up
-            if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength())
+            if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength())
             {
                 //No mp3 exists
                 MP3AudioHeader.logger.finer("Nearly at end of file, no room for next frame, no header found:");
@@ -380,25 +501,16 @@ public class MP3AudioHeader implements AudioHeader
             }
         }
 
-        //Position bb to the start of the alleged next frame
-        bb.position(bb.position() + mp3FrameHeader.getFrameLength());
-        if (MPEGFrameHeader.isMPEGFrame(bb))
+        //Check header at the start of the alleged next frame without moving the buffer
+        bb.position(currentPosition + mp3FrameHeader.getFrameLength());
+        if (MPEGFrameHeader.isValidHeader(MPEGFrameHeader.getHeader(bb)))
         {
-            try
-            {
-                MPEGFrameHeader.parseMPEGHeader(bb);
-                MP3AudioHeader.logger.finer("Check next frame confirms is an audio header ");
-                result = true;
-            }
-            catch (InvalidAudioFrameException ex)
-            {
-                MP3AudioHeader.logger.finer("Check next frame has identified this is not an audio header");
-                result = false;
-            }
+            MP3AudioHeader.logger.finer("Check next frame confirms is an audio header ");
+            result = true;
         }
         else
         {
-            MP3AudioHeader.logger.finer("isMPEGFrame has identified this is not an audio header");
+            MP3AudioHeader.logger.finer("Check next frame has identified this is not an audio header");
         }
         //Set back to the start of the previous frame
         bb.position(currentPosition);
@@ -531,6 +643,18 @@ public class MP3AudioHeader implements AudioHeader
         return (int) getPreciseTrackLength();
     }
 
+    private static ThreadLocal<SimpleDateFormat> createTimeFormat(final String pattern)
+    {
+        return new ThreadLocal<SimpleDateFormat>()
+        {
+            @Override
+            protected SimpleDateFormat initialValue()
+            {
+                return new SimpleDateFormat(pattern, Locale.UK);
+            }
+        };
+    }
+
     /**
      * Return the length in user friendly format
      * @return
@@ -541,24 +665,15 @@ public class MP3AudioHeader implements AudioHeader
         try
         {
             final long lengthInSecs = getTrackLength();
-            synchronized(timeInFormat)
-            {
-                timeIn = timeInFormat.parse(String.valueOf(lengthInSecs));
-            }
+            timeIn = timeInFormat.get().parse(String.valueOf(lengthInSecs));
 
             if (lengthInSecs < NO_SECONDS_IN_HOUR)
             {
-                synchronized(timeOutFormat)
-                {
-                    return timeOutFormat.format(timeIn);
-                }
+                return timeOutFormat.get().format(timeIn);
             }
             else
             {
-                synchronized(timeOutOverAnHourFormat)
-                {
-                    return timeOutOverAnHourFormat.format(timeIn);
-                }
+                return timeOutOverAnHourFormat.get().format(timeIn);
             }
         }
         catch (ParseException pe)
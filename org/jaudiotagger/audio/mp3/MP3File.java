@@ -27,12 +27,15 @@ import org.extra.FileProvider;
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.exceptions.NotMpegAudioException;
 import org.jaudiotagger.audio.exceptions.NoWritePermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.exceptions.UnableToModifyFileException;
+import org.jaudiotagger.audio.generic.AudioPayloadHasher;
 import org.jaudiotagger.audio.generic.Permissions;
 import org.jaudiotagger.logging.AbstractTagDisplayFormatter;
 import org.jaudiotagger.logging.ErrorMessage;
@@ -42,11 +45,12 @@ import org.jaudiotagger.logging.XMLTagDisplayFormatter;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 import org.jaudiotagger.tag.id3.AbstractTag;
 import org.jaudiotagger.tag.id3.ID3v11Tag;
 import org.jaudiotagger.tag.id3.ID3v1Tag;
+import org.jaudiotagger.tag.id3.ID3v2TagFactory;
 import org.jaudiotagger.tag.id3.ID3v22Tag;
 import org.jaudiotagger.tag.id3.ID3v23Tag;
 import org.jaudiotagger.tag.id3.ID3v24Tag;
@@ -59,6 +63,8 @@ import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Level;
 
 /**
@@ -68,7 +74,11 @@ public class MP3File extends AudioFile
 {
     private static final int MINIMUM_FILESIZE = 150;
 
-    protected static AbstractTagDisplayFormatter tagFormatter;
+    /**
+     * Formatter used while displaying the structure, per thread as frames find it through
+     * {@link #getStructureFormatter()}
+     */
+    private static final ThreadLocal<AbstractTagDisplayFormatter> tagFormatter = new ThreadLocal<AbstractTagDisplayFormatter>();
 
     /**
      * the ID3v2 tag that this file contains.
@@ -131,19 +141,26 @@ public class MP3File extends AudioFile
     /**
      * Read v1 tag
      *
-     * @param provider
-     * @param newFile
+     * @param session
      * @param loadOptions
      * @throws IOException
      */
-    private void readV1Tag(FileSystemProvider provider, RandomAccessFileProvider newFile, int loadOptions) throws IOException
+    private void readV1Tag(MP3ReadSession session, int loadOptions) throws IOException
     {
+        final FileSystemProvider provider = session.getProvider();
         if ((loadOptions & LOAD_IDV1TAG) != 0)
         {
             logger.finer("Attempting to read id3v1tags");
+            final MP3Trailer trailer = session.getTrailer();
+            if (!trailer.hasID3v1Tag())
+            {
+                logger.config("No id3v1 tag found");
+                return;
+            }
+
             try
             {
-                id3v1tag = new ID3v11Tag(newFile, provider.getName());
+                id3v1tag = new ID3v11Tag(trailer.getID3v1Buffer(), provider.getName());
             }
             catch (TagNotFoundException ex)
             {
@@ -154,7 +171,7 @@ public class MP3File extends AudioFile
             {
                 if (id3v1tag == null)
                 {
-                    id3v1tag = new ID3v1Tag(newFile, provider.getName());
+                    id3v1tag = new ID3v1Tag(trailer.getID3v1Buffer(), provider.getName());
                 }
             }
             catch (TagNotFoundException ex)
@@ -169,50 +186,39 @@ public class MP3File extends AudioFile
      *
      * TODO:shouldn't we be handing TagExceptions:when will they be thrown
      *
-     * @param provider the file to read tags from
+     * @param session the open file to read tags from
      * @param loadOptions load options
+     * @param projection the fields wanted
      * @throws IOException IO issues
      * @throws TagException tag issues
      */
-    private void readV2Tag(FileSystemProvider provider, int loadOptions, int startByte) throws IOException, TagException
+    private void readV2Tag(MP3ReadSession session, int loadOptions, int startByte, ReadProjection projection) throws IOException, TagException
     {
+        final FileSystemProvider provider = session.getProvider();
+
         //We know where the actual Audio starts so load all the file from start to that point into
         //a buffer then we can read the IDv2 information without needing any more File I/O
         if (startByte >= AbstractID3v2Tag.TAG_HEADER_LENGTH)
         {
             logger.finer("Attempting to read id3v2tags");
-            final RandomAccessFileProvider fis = provider.getRandomAccessFile("r");
-            try {
-                final ByteBuffer bb = ByteBuffer.allocateDirect(startByte);
-                fis.getChannelProvider().read(bb, 0);
-                bb.rewind();
-
-                if ((loadOptions & LOAD_IDV2TAG) != 0) {
-                    logger.config("Attempting to read id3v2tags");
-                    try {
-                        this.setID3v2Tag(new ID3v24Tag(bb, provider.getName()));
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v24 tag found");
-                    }
-
-                    try {
-                        if (id3v2tag == null) {
-                            this.setID3v2Tag(new ID3v23Tag(bb, provider.getName()));
-                        }
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v23 tag found");
-                    }
-
-                    try {
-                        if (id3v2tag == null) {
-                            this.setID3v2Tag(new ID3v22Tag(bb, provider.getName()));
-                        }
-                    } catch (TagNotFoundException ex) {
-                        logger.config("No id3v22 tag found");
+            //Artwork can only be left in the file if the frames are read from an array whose position in the file
+            //is known, this buffer holds the file from its start
+            final boolean lazyArtwork = options().isLazyArtwork();
+            final ByteBuffer bb = lazyArtwork ? ByteBuffer.allocate(startByte) : ByteBuffer.allocateDirect(startByte);
+            session.read(bb, 0);
+            bb.rewind();
+
+            if ((loadOptions & LOAD_IDV2TAG) != 0) {
+                logger.config("Attempting to read id3v2tags");
+                try {
+                    final AbstractID3v2Tag id3v2Tag = ID3v2TagFactory.readTag(bb, provider.getName(), projection);
+                    if (lazyArtwork) {
+                        id3v2Tag.leaveArtworkInFile(provider, 0);
                     }
+                    this.setID3v2Tag(id3v2Tag);
+                } catch (TagNotFoundException ex) {
+                    logger.config("No id3v2 tag found");
                 }
-            } finally {
-                fis.close();
             }
         }
         else
@@ -259,6 +265,7 @@ public class MP3File extends AudioFile
 
     /**
      *
+     * @param session
      * @param startByte
      * @param endByte
      * @return
@@ -267,36 +274,17 @@ public class MP3File extends AudioFile
      * @return true if all the bytes between in the file between startByte and endByte are null, false
      * otherwise
      */
-    private boolean isFilePortionNull(int startByte, int endByte) throws IOException
+    private boolean isFilePortionNull(MP3ReadSession session, int startByte, int endByte) throws IOException
     {
         logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
-        RandomAccessFileProvider fis=null;
-        FileChannelProvider fc=null;
-        try
-        {
-            fis = provider.getRandomAccessFile("r");
-            fc = fis.getChannelProvider();
-            fc.position(startByte);
-            ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-            fc.read(bb);
-            while(bb.hasRemaining())
-            {
-                if(bb.get()!=0)
-                {
-                    return false;
-                }
-            }
-        }
-        finally
+        ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
+        session.read(bb, startByte);
+        bb.flip();
+        while(bb.hasRemaining())
         {
-            if (fc != null)
-            {
-                fc.close();
-            }
-
-            if (fis != null)
+            if(bb.get()!=0)
             {
-                fis.close();
+                return false;
             }
         }
         return true;
@@ -305,13 +293,14 @@ public class MP3File extends AudioFile
      * Regets the audio header starting from start of file, and write appropriate logging to indicate
      * potential problem to user.
      *
+     * @param session
      * @param startByte
      * @param firstHeaderAfterTag
      * @return
      * @throws IOException
      * @throws InvalidAudioFrameException
      */
-    private MP3AudioHeader checkAudioStart(long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
+    private MP3AudioHeader checkAudioStart(MP3ReadSession session, long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
     {
         MP3AudioHeader headerOne;
         MP3AudioHeader headerTwo;
@@ -321,7 +310,16 @@ public class MP3File extends AudioFile
         //because we cant agree on start location we reread the audioheader from the start of the file, at least
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
-        headerOne = new MP3AudioHeader(provider, 0);
+        try
+        {
+            headerOne = new MP3AudioHeader(session, 0);
+        }
+        catch (NotMpegAudioException nmae)
+        {
+            //Search from start gave up before reaching the audio already found, so cannot do any better
+            logger.config("Unable to check from start:" + nmae.getMessage());
+            return firstHeaderAfterTag;
+        }
         logger.config("Checking from start:" + headerOne);
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
@@ -351,14 +349,22 @@ public class MP3File extends AudioFile
             //If the size reported by the tag header is a little short and there is only nulls between the recorded value
             //and the start of the first audio found then we stick with the original header as more likely that currentHeader
             //DataInputStream not really a header
-            if(isFilePortionNull((int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
+            if(isFilePortionNull(session, (int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
             {
                 return firstHeaderAfterTag;
             }
 
             //Skip to the next header (header 2, counting from start of file)
-            headerTwo = new MP3AudioHeader(provider, headerOne.getMp3StartByte()
-                    + headerOne.mp3FrameHeader.getFrameLength());
+            try
+            {
+                headerTwo = new MP3AudioHeader(session, headerOne.getMp3StartByte()
+                        + headerOne.mp3FrameHeader.getFrameLength());
+            }
+            catch (NotMpegAudioException nmae)
+            {
+                logger.config("Unable to find next header from start:" + nmae.getMessage());
+                return firstHeaderAfterTag;
+            }
 
             //It matches the header we found when doing the original search from after the ID3Tag therefore it
             //seems that newAudioHeader was a false match and the original header was correct
@@ -401,31 +407,56 @@ public class MP3File extends AudioFile
      */
     public MP3File(FileSystemProvider provider, int loadOptions, boolean readOnly) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException
     {
-        RandomAccessFileProvider newFile = null;
+        this(provider, loadOptions, readOnly, ReadProjection.ALL);
+    }
+
+    /**
+     * Creates a new MP3File dataType and parse the tag from the given file
+     * Object, only reading the ID3v2 frames wanted by projection.
+     *
+     * @param provider    MP3 file
+     * @param loadOptions decide what tags to load
+     * @param readOnly    causes the files to be opened readonly
+     * @param projection  the fields wanted
+     * @throws IOException  on any I/O error
+     * @throws TagException on any exception generated by this library.
+     * @throws ReadOnlyFileException
+     * @throws InvalidAudioFrameException
+     */
+    public MP3File(FileSystemProvider provider, int loadOptions, boolean readOnly, ReadProjection projection) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException
+    {
+        MP3ReadSession session = null;
         try
         {
             this.provider = provider;
+            this.readProjection = projection;
 
-            //Check File accessibility
-            newFile = checkFilePermissions(provider, readOnly);
+            //Check File accessibility, then open it once for all the read phases
+            checkFileAccess(provider, readOnly);
+            session = new MP3ReadSession(provider, getOpenMode(readOnly));
 
             //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
-            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(provider);
+            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(session);
             logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-            audioHeader = new MP3AudioHeader(provider, tagSizeReportedByHeader);
+            audioHeader = new MP3AudioHeader(session, tagSizeReportedByHeader);
 
             //If the audio header is not straight after the end of the tag then search from start of file
             if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte())
             {
                 logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+                audioHeader = checkAudioStart(session, tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
             }
 
+            //Audio ends where the first tag at the end of the file starts
+            MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) audioHeader;
+            mp3AudioHeader.setAudioDataStartPosition(mp3AudioHeader.getMp3StartByte());
+            mp3AudioHeader.setAudioDataEndPosition(session.getTrailer().getAudioEnd());
+
             //Read v1 tags (if any)
-            readV1Tag(provider, newFile, loadOptions);
+            readV1Tag(session, loadOptions);
 
             //Read v2 tags (if any)
-            readV2Tag(provider, loadOptions, (int)((MP3AudioHeader) audioHeader).getMp3StartByte());
+            readV2Tag(session, loadOptions, (int)((MP3AudioHeader) audioHeader).getMp3StartByte(), projection);
 
             //If we have a v2 tag use that, if we do not but have v1 tag use that
             //otherwise use nothing
@@ -442,9 +473,9 @@ public class MP3File extends AudioFile
         }
         finally
         {
-            if (newFile != null)
+            if (session != null)
             {
-                newFile.close();
+                session.close();
             }
         }
     }
@@ -459,26 +490,23 @@ public class MP3File extends AudioFile
      */
     public long getMP3StartByte(FileSystemProvider provider) throws InvalidAudioFrameException, IOException
     {
+        final MP3ReadSession session = new MP3ReadSession(provider, "r");
         try
         {
             //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(provider);
+            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(session);
 
-            MP3AudioHeader audioHeader = new MP3AudioHeader(provider, startByte);
+            MP3AudioHeader audioHeader = new MP3AudioHeader(session, startByte);
             if (startByte != audioHeader.getMp3StartByte())
             {
                 logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(startByte, audioHeader);
+                audioHeader = checkAudioStart(session, startByte, audioHeader);
             }
             return audioHeader.getMp3StartByte();
         }
-        catch (InvalidAudioFrameException iafe)
-        {
-            throw iafe;
-        }
-        catch (IOException ioe)
+        finally
         {
-            throw ioe;
+            session.close();
         }
     }
 
@@ -727,6 +755,27 @@ public class MP3File extends AudioFile
         return hash;
     }
 
+    /**
+     * The audio starts at the first MPEG frame found when the file was read and ends before any APEv2, Lyrics3 or
+     * ID3v1 tag
+     *
+     * @return region holding the audio data
+     */
+    @Override
+    protected List<AudioPayloadHasher.Region> getAudioPayloadRegions()
+    {
+        Long end = audioHeader.getAudioDataEndPosition();
+        if (end == null)
+        {
+            end = getProvider().length();
+            if (hasID3v1Tag())
+            {
+                end -= getID3v1Tag().getSize();
+            }
+        }
+        return Collections.singletonList(new AudioPayloadHasher.Region(((MP3AudioHeader) audioHeader).getMp3StartByte(), end));
+    }
+
     /**
      * Sets the <code>ID3v2</code> tag for this dataType. A new
      * <code>ID3v2_4</code> dataType is created from the argument and then used
@@ -906,7 +955,7 @@ public class MP3File extends AudioFile
             throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND.getMsg(provider.getName()));
         }
 
-        if (TagOptionSingleton.getInstance().isCheckIsWritable() && !provider.canWrite())
+        if (options().isCheckIsWritable() && !provider.canWrite())
         {
             logger.severe(Permissions.displayPermissions(provider));
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED.getMsg(provider.getName()));
@@ -926,10 +975,17 @@ public class MP3File extends AudioFile
      *
      * @param providerToSave file to save the this dataTypes tags to
      * @throws FileNotFoundException if unable to find file
-     * @throws IOException           on any I/O error
+     * @throws IOException           on any I/O error, or if only part of the tag was read
      */
     public void save(FileSystemProvider providerToSave) throws IOException
     {
+        //Writing a partly read tag would lose the frames that were skipped
+        if (!getReadProjection().isAll())
+        {
+            logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_READ_WITH_PROJECTION.getMsg(providerToSave.getName(), getReadProjection()));
+            throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_READ_WITH_PROJECTION.getMsg(providerToSave.getName(), getReadProjection()));
+        }
+
         //Ensure we are dealing with absolute filepaths not relative ones
         FileSystemProvider provider = providerToSave.getAbsoluteFile();
 
@@ -942,7 +998,7 @@ public class MP3File extends AudioFile
         try
         {
             //ID3v2 Tag
-            if (TagOptionSingleton.getInstance().isId3v2Save())
+            if (options().isId3v2Save())
             {
                 if (id3v2tag == null)
                 {
@@ -956,6 +1012,8 @@ public class MP3File extends AudioFile
                 else
                 {
                     logger.config("Writing ID3v2 tag:"+ provider.getName());
+                    //Artwork left in the file must be read before the file is modified
+                    id3v2tag.loadArtwork();
                     final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
                     final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
                     final long newMp3StartByte = id3v2tag.write(provider, mp3StartByte);
@@ -969,7 +1027,7 @@ public class MP3File extends AudioFile
             rfile = provider.getRandomAccessFile("rw");
 
             //Lyrics 3 Tag
-            if (TagOptionSingleton.getInstance().isLyrics3Save())
+            if (options().isLyrics3Save())
             {
                 if (lyrics3tag != null)
                 {
@@ -977,7 +1035,7 @@ public class MP3File extends AudioFile
                 }
             }
             //ID3v1 tag
-            if (TagOptionSingleton.getInstance().isId3v1Save())
+            if (options().isId3v1Save())
             {
                 logger.config("Processing ID3v1");
                 if (id3v1tag == null)
@@ -1022,7 +1080,7 @@ public class MP3File extends AudioFile
     public String displayStructureAsXML()
     {
         createXMLStructureFormatter();
-        tagFormatter.openHeadingElement("file", this.getProvider().getAbsolutePath());
+        getStructureFormatter().openHeadingElement("file", this.getProvider().getAbsolutePath());
         if (this.getID3v1Tag() != null)
         {
             this.getID3v1Tag().createStructure();
@@ -1031,8 +1089,8 @@ public class MP3File extends AudioFile
         {
             this.getID3v2Tag().createStructure();
         }
-        tagFormatter.closeHeadingElement("file");
-        return tagFormatter.toString();
+        getStructureFormatter().closeHeadingElement("file");
+        return getStructureFormatter().toString();
     }
 
     /**
@@ -1041,7 +1099,7 @@ public class MP3File extends AudioFile
     public String displayStructureAsPlainText()
     {
         createPlainTextStructureFormatter();
-        tagFormatter.openHeadingElement("file", this.getProvider().getAbsolutePath());
+        getStructureFormatter().openHeadingElement("file", this.getProvider().getAbsolutePath());
         if (this.getID3v1Tag() != null)
         {
             this.getID3v1Tag().createStructure();
@@ -1050,23 +1108,23 @@ public class MP3File extends AudioFile
         {
             this.getID3v2Tag().createStructure();
         }
-        tagFormatter.closeHeadingElement("file");
-        return tagFormatter.toString();
+        getStructureFormatter().closeHeadingElement("file");
+        return getStructureFormatter().toString();
     }
 
     private static void createXMLStructureFormatter()
     {
-        tagFormatter = new XMLTagDisplayFormatter();
+        tagFormatter.set(new XMLTagDisplayFormatter());
     }
 
     private static void createPlainTextStructureFormatter()
     {
-        tagFormatter = new PlainTextTagDisplayFormatter();
+        tagFormatter.set(new PlainTextTagDisplayFormatter());
     }
 
     public static AbstractTagDisplayFormatter getStructureFormatter()
     {
-        return tagFormatter;
+        return tagFormatter.get();
     }
 
     /**
@@ -1097,20 +1155,28 @@ public class MP3File extends AudioFile
     @Override
     public Tag createDefaultTag()
     {
-        if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V24)
-        {    
-            return new ID3v24Tag();
-        }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V23)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            return new ID3v23Tag();
+            if(options().getID3V2Version()==ID3V2Version.ID3_V24)
+            {    
+                return new ID3v24Tag();
+            }
+            else if(options().getID3V2Version()==ID3V2Version.ID3_V23)
+            {
+                return new ID3v23Tag();
+            }
+            else if(options().getID3V2Version()==ID3V2Version.ID3_V22)
+            {
+                return new ID3v22Tag();
+            }
+            //Default in case not set somehow
+            return new ID3v24Tag();
         }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V22)
+        finally
         {
-            return new ID3v22Tag();
+            TagOptions.exit(previous);
         }
-        //Default in case not set somehow
-        return new ID3v24Tag();
     }
 
 
@@ -1143,7 +1209,7 @@ public class MP3File extends AudioFile
     public Tag getTagAndConvertOrCreateAndSetDefault()
     {
         Tag tag          = getTagOrCreateDefault();
-        Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, TagOptionSingleton.getInstance().getID3V2Version());
+        Tag convertedTag = convertID3Tag((AbstractID3v2Tag)tag, options().getID3V2Version());
         if(convertedTag!=null)
         {
             setTag(convertedTag);
@@ -3,6 +3,7 @@ package org.jaudiotagger.audio.mp3;
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
@@ -40,6 +41,17 @@ public class MP3FileReader extends AudioFileReader
         return mp3File;
     }
 
+    /**
+     * @param f
+     * @param projection
+     * @return
+     */
+    public AudioFile read(FileSystemProvider f, ReadProjection projection) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException
+    {
+        MP3File mp3File = new MP3File(f, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, true, projection);
+        return mp3File;
+    }
+
     /**
      * Read
      *
@@ -38,9 +38,12 @@ public class MP3FileWriter extends AudioFileWriter
     @Override
     public synchronized void delete(AudioFile af) throws CannotReadException, CannotWriteException
     {
+        //Notify first so a veto leaves the tags unchanged
+        notifyFileWillBeModified(af, true);
         ((MP3File)af).setID3v1Tag(null);
-        ((MP3File)af).setID3v2Tag(null);                
+        ((MP3File)af).setID3v2Tag(null);
         af.commit();
+        notifyFileOperationFinished(af.getProvider());
     }
 
     protected void writeTag(AudioFile audioFile, Tag tag, RandomAccessFileProvider raf, RandomAccessFileProvider rafTemp) throws CannotWriteException, IOException
@@ -0,0 +1,206 @@
+package org.jaudiotagger.audio.mp3;
+
+import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
+import org.extra.RandomAccessFileProvider;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A single open handle on an MP3 file shared by every phase of reading it.
+ *
+ * <p>Reading an MP3 requires probing the ID3v2 tag size, searching for the first MPEG frame, reading the ID3v1
+ * and ID3v2 tags and sometimes re-validating the start of audio. Each of these used to open the file itself, which
+ * is costly on providers where opening a file is slow. Instead the file is opened once when the session is created
+ * and the same channel is handed to each phase, it is only closed when the session is closed.
+ *
+ * <p>All reads made through the session are positional so phases do not need to restore the channel position
+ * for one another.
+ */
+public class MP3ReadSession implements Closeable
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp3");
+
+    /**
+     * Count of files opened by sessions since the counter was last reset
+     */
+    private static final AtomicLong openCount = new AtomicLong();
+
+    private final FileSystemProvider provider;
+    private final RandomAccessFileProvider raf;
+    private final FileChannelProvider fc;
+    private final long length;
+
+    /**
+     * Buffer shared by all searches for audio frames made through this session, and the position in the file of its
+     * first byte
+     */
+    private ByteBuffer scanBuffer;
+    private long       scanBufferStart;
+
+    /**
+     * Tags found at the end of the file, read on first use
+     */
+    private MP3Trailer trailer;
+
+    /**
+     * Open the file referred to by provider
+     *
+     * @param provider
+     * @param mode     as used by {@link FileSystemProvider#getRandomAccessFile(String)}, either r or rw
+     * @throws IOException
+     */
+    public MP3ReadSession(FileSystemProvider provider, String mode) throws IOException
+    {
+        this.provider = provider;
+        this.raf      = provider.getRandomAccessFile(mode);
+        openCount.incrementAndGet();
+        this.fc       = raf.getChannelProvider();
+        this.length   = raf.length();
+    }
+
+    /**
+     * @return the file being read
+     */
+    public FileSystemProvider getProvider()
+    {
+        return provider;
+    }
+
+    /**
+     * @return the open file, for readers that work with a random access file such as the ID3v1 readers
+     */
+    public RandomAccessFileProvider getRandomAccessFile()
+    {
+        return raf;
+    }
+
+    /**
+     * @return the open channel
+     */
+    public FileChannelProvider getChannel()
+    {
+        return fc;
+    }
+
+    /**
+     * @return length of the file when the session was opened
+     */
+    public long length()
+    {
+        return length;
+    }
+
+    /**
+     * Read into buffer from position without modifying the position of the channel
+     *
+     * @param bb
+     * @param position
+     * @return number of bytes read
+     * @throws IOException
+     */
+    public int read(ByteBuffer bb, long position) throws IOException
+    {
+        return fc.read(bb, position);
+    }
+
+    /**
+     * Get the buffer used for searching for audio frames positioned at the given file position.
+     *
+     * The same heap buffer is returned on every call, if it already holds the position with more than minRemaining
+     * bytes following it (or all of the rest of the file) it is just repositioned, otherwise it is refilled from
+     * the file starting at position. This lets a search re-check frames or restart from an earlier position without
+     * reading the file again when the data is still held.
+     *
+     * @param position     position in file
+     * @param minRemaining number of bytes wanted after position
+     * @param bufferSize   size of the buffer to create if one has not been created yet
+     * @return the buffer, its position corresponds to position in the file, limit to the end of the data read
+     * @throws IOException
+     */
+    public ByteBuffer getScanBuffer(long position, int minRemaining, int bufferSize) throws IOException
+    {
+        if (scanBuffer == null)
+        {
+            scanBuffer = ByteBuffer.allocate(bufferSize);
+            scanBuffer.limit(0);
+            scanBufferStart = position;
+        }
+
+        long scanBufferEnd = scanBufferStart + scanBuffer.limit();
+        if (position >= scanBufferStart && position <= scanBufferEnd
+                && (scanBufferEnd - position > minRemaining || scanBufferEnd == length))
+        {
+            scanBuffer.position((int) (position - scanBufferStart));
+            return scanBuffer;
+        }
+
+        scanBuffer.clear();
+        while (scanBuffer.hasRemaining() && position + scanBuffer.position() < length)
+        {
+            if (fc.read(scanBuffer, position + scanBuffer.position()) <= 0)
+            {
+                break;
+            }
+        }
+        scanBuffer.flip();
+        scanBufferStart = position;
+        return scanBuffer;
+    }
+
+    /**
+     * Get the tags at the end of the file, the end of the file is only read the first time this is called
+     *
+     * @return the trailer
+     * @throws IOException
+     */
+    public MP3Trailer getTrailer() throws IOException
+    {
+        if (trailer == null)
+        {
+            trailer = new MP3Trailer(this);
+        }
+        return trailer;
+    }
+
+    /**
+     * @return the number of files opened by sessions since the counter was last reset, a normal read of
+     * one MP3File increments this by exactly one
+     */
+    public static long getOpenCount()
+    {
+        return openCount.get();
+    }
+
+    /**
+     * Reset the open counter
+     */
+    public static void resetOpenCount()
+    {
+        openCount.set(0);
+    }
+
+    /**
+     * Close the channel and the file
+     *
+     * @throws IOException
+     */
+    public void close() throws IOException
+    {
+        try
+        {
+            fc.close();
+        }
+        catch (IOException ioe)
+        {
+            logger.log(Level.WARNING, "Unable to close channel:" + provider.getName(), ioe);
+        }
+        raf.close();
+    }
+}
@@ -0,0 +1,333 @@
+package org.jaudiotagger.audio.mp3;
+
+import org.extra.StandardCharsets;
+import org.extra.Utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The tags found after the audio at the end of an MP3 file.
+ *
+ * <p>An MP3 may end with any of an APEv2 tag, a Lyrics3 (v1 or v2) tag and an ID3v1 or ID3v1.1 tag, normally in
+ * that order. Rather than each reader seeking to the end of the file and reading its own few bytes, the end of the
+ * file is read once into a buffer of {@link #TAIL_SIZE} bytes and every footer is identified from it. The exact
+ * position of each tag is recorded, and the audio ends where the first of them starts.
+ *
+ * <p>Only the footers are needed to find the extents so large Lyrics3v2 or APEv2 tags do not need to fit in the
+ * buffer, only if the APEv2 footer itself lies before the buffer is a second (32 byte) read made.
+ */
+public class MP3Trailer
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp3");
+
+    /**
+     * Number of bytes read from the end of the file, enough to hold an ID3v1 tag and the largest Lyrics3v1 tag
+     */
+    public static final int TAIL_SIZE = 10 * 1024;
+
+    private static final int ID3V1_LENGTH = 128;
+
+    private static final String LYRICS3_BEGIN = "LYRICSBEGIN";
+    private static final String LYRICS3V1_END = "LYRICSEND";
+    private static final String LYRICS3V2_END = "LYRICS200";
+    private static final int LYRICS3_END_LENGTH = 9;
+    private static final int LYRICS3V2_SIZE_LENGTH = 6;
+    private static final int LYRICS3V1_MAX_LENGTH = 5100;
+
+    private static final String APE_ID = "APETAGEX";
+    private static final int APE_FOOTER_LENGTH = 32;
+    private static final int APE_HEADER_LENGTH = 32;
+    private static final int APE_FLAG_HAS_HEADER = 0x80000000;
+
+    private final long fileLength;
+
+    private ByteBuffer id3v1;
+    private long id3v1Start = -1;
+
+    private int lyrics3Version;
+    private long lyrics3Start = -1;
+    private long lyrics3End = -1;
+
+    private long apeStart = -1;
+    private long apeEnd = -1;
+
+    private long audioEnd;
+
+    /**
+     * Read the end of the file opened by session and identify the tags found there
+     *
+     * @param session
+     * @throws IOException
+     */
+    public MP3Trailer(MP3ReadSession session) throws IOException
+    {
+        fileLength = session.length();
+        audioEnd = fileLength;
+
+        int tailLength = (int) Math.min(TAIL_SIZE, fileLength);
+        long tailStart = fileLength - tailLength;
+        ByteBuffer tail = ByteBuffer.allocate(tailLength);
+        while (tail.hasRemaining())
+        {
+            if (session.read(tail, tailStart + tail.position()) <= 0)
+            {
+                break;
+            }
+        }
+        tail.flip();
+        if (tail.limit() < tailLength)
+        {
+            logger.warning(session.getProvider().getName() + ":Unable to read end of file");
+            return;
+        }
+
+        //ID3v1 is always the last 128 bytes
+        if (tailLength >= ID3V1_LENGTH && matches(tail, tailLength - ID3V1_LENGTH, "TAG"))
+        {
+            id3v1Start = fileLength - ID3V1_LENGTH;
+            tail.position(tailLength - ID3V1_LENGTH);
+            id3v1 = tail.slice();
+            audioEnd = id3v1Start;
+        }
+
+        //Lyrics3 footer is immediately before the ID3v1 tag
+        int lyricsEnd = (int) (audioEnd - tailStart);
+        int footerPos = lyricsEnd - LYRICS3_END_LENGTH;
+        if (footerPos >= 0 && matches(tail, footerPos, LYRICS3V2_END))
+        {
+            readLyrics3v2(tail, tailStart, footerPos);
+        }
+        else if (footerPos >= 0 && matches(tail, footerPos, LYRICS3V1_END))
+        {
+            readLyrics3v1(tail, tailStart, footerPos);
+        }
+
+        //APEv2 footer is immediately before the Lyrics3 tag or ID3v1 tag
+        readApe(session, tail, tailStart);
+
+        if (logger.isLoggable(Level.CONFIG))
+        {
+            logger.config(session.getProvider().getName() + ":" + this);
+        }
+    }
+
+    private void readLyrics3v2(ByteBuffer tail, long tailStart, int footerPos)
+    {
+        int sizePos = footerPos - LYRICS3V2_SIZE_LENGTH;
+        if (sizePos < 0)
+        {
+            return;
+        }
+        long size;
+        try
+        {
+            size = Long.parseLong(getString(tail, sizePos, LYRICS3V2_SIZE_LENGTH));
+        }
+        catch (NumberFormatException nfe)
+        {
+            logger.warning("Invalid Lyrics3v2 size");
+            return;
+        }
+
+        //Size includes the LYRICSBEGIN marker but not the size and end marker
+        long start = tailStart + sizePos - size;
+        if (size < LYRICS3_BEGIN.length() || start < 0)
+        {
+            return;
+        }
+
+        //Only the footer has to be in the tail, but if the start is in it too check it really is a Lyrics3 tag
+        if (start >= tailStart && !matches(tail, (int) (start - tailStart), LYRICS3_BEGIN))
+        {
+            logger.warning("Lyrics3v2 tag of size:" + size + " does not start with " + LYRICS3_BEGIN);
+            return;
+        }
+        lyrics3Version = 2;
+        lyrics3Start = start;
+        lyrics3End = audioEnd;
+        audioEnd = lyrics3Start;
+    }
+
+    private void readLyrics3v1(ByteBuffer tail, long tailStart, int footerPos)
+    {
+        //No size is stored, search back for the start marker which precedes up to the maximum length of lyrics
+        int searchFrom = Math.max(0, footerPos - LYRICS3V1_MAX_LENGTH - LYRICS3_BEGIN.length());
+        for (int i = footerPos - LYRICS3_BEGIN.length(); i >= searchFrom; i--)
+        {
+            if (matches(tail, i, LYRICS3_BEGIN))
+            {
+                lyrics3Version = 1;
+                lyrics3Start = tailStart + i;
+                lyrics3End = audioEnd;
+                audioEnd = lyrics3Start;
+                return;
+            }
+        }
+    }
+
+    private void readApe(MP3ReadSession session, ByteBuffer tail, long tailStart) throws IOException
+    {
+        long footerStart = audioEnd - APE_FOOTER_LENGTH;
+        if (footerStart < 0)
+        {
+            return;
+        }
+
+        ByteBuffer footer;
+        if (footerStart >= tailStart)
+        {
+            tail.position((int) (footerStart - tailStart));
+            footer = tail.slice();
+        }
+        else
+        {
+            footer = ByteBuffer.allocate(APE_FOOTER_LENGTH);
+            session.read(footer, footerStart);
+            footer.flip();
+        }
+        if (footer.limit() < APE_FOOTER_LENGTH || !matches(footer, 0, APE_ID))
+        {
+            return;
+        }
+
+        footer.order(ByteOrder.LITTLE_ENDIAN);
+        long size = footer.getInt(12) & 0xffffffffL;
+        int flags = footer.getInt(20);
+
+        //Size includes the footer but not the optional header
+        long start = audioEnd - size;
+        if ((flags & APE_FLAG_HAS_HEADER) != 0)
+        {
+            start -= APE_HEADER_LENGTH;
+        }
+        if (size < APE_FOOTER_LENGTH || start < 0)
+        {
+            logger.warning("Invalid APEv2 tag size:" + size);
+            return;
+        }
+        apeStart = start;
+        apeEnd = audioEnd;
+        audioEnd = apeStart;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int pos, String id)
+    {
+        if (pos < 0 || pos + id.length() > buffer.limit())
+        {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++)
+        {
+            if (buffer.get(pos + i) != id.charAt(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String getString(ByteBuffer buffer, int pos, int length)
+    {
+        byte[] b = new byte[length];
+        for (int i = 0; i < length; i++)
+        {
+            b[i] = buffer.get(pos + i);
+        }
+        return Utils.getString(b, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @return true if the file ends with an ID3v1 or ID3v1.1 tag
+     */
+    public boolean hasID3v1Tag()
+    {
+        return id3v1 != null;
+    }
+
+    /**
+     * @return the 128 bytes of the ID3v1 tag positioned at the start, or null if there is none
+     */
+    public ByteBuffer getID3v1Buffer()
+    {
+        return id3v1 == null ? null : id3v1.duplicate();
+    }
+
+    /**
+     * @return position of the ID3v1 tag, or -1 if there is none
+     */
+    public long getID3v1Start()
+    {
+        return id3v1Start;
+    }
+
+    /**
+     * @return 1 or 2 for Lyrics3v1 or Lyrics3v2, or 0 if there is no Lyrics3 tag
+     */
+    public int getLyrics3Version()
+    {
+        return lyrics3Version;
+    }
+
+    /**
+     * @return position of the Lyrics3 tag (its LYRICSBEGIN marker), or -1 if there is none
+     */
+    public long getLyrics3Start()
+    {
+        return lyrics3Start;
+    }
+
+    /**
+     * @return position after the end of the Lyrics3 tag, or -1 if there is none
+     */
+    public long getLyrics3End()
+    {
+        return lyrics3End;
+    }
+
+    /**
+     * @return true if there is an APEv2 tag
+     */
+    public boolean hasApeTag()
+    {
+        return apeStart >= 0;
+    }
+
+    /**
+     * @return position of the APEv2 tag including its header if it has one, or -1 if there is none
+     */
+    public long getApeStart()
+    {
+        return apeStart;
+    }
+
+    /**
+     * @return position after the end of the APEv2 footer, or -1 if there is none
+     */
+    public long getApeEnd()
+    {
+        return apeEnd;
+    }
+
+    /**
+     * @return position after the last byte of audio, the start of the first trailing tag or the file length if
+     * there are none
+     */
+    public long getAudioEnd()
+    {
+        return audioEnd;
+    }
+
+    public String toString()
+    {
+        return "MP3Trailer:fileLength:" + fileLength
+                + ":id3v1:" + id3v1Start
+                + ":lyrics3v" + lyrics3Version + ":" + lyrics3Start + "-" + lyrics3End
+                + ":ape:" + apeStart + "-" + apeEnd
+                + ":audioEnd:" + audioEnd;
+    }
+}
@@ -9,7 +9,6 @@
 package org.jaudiotagger.audio.mp3;
 
 import android.util.SparseArray;
-import android.util.SparseIntArray;
 
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
@@ -44,8 +43,6 @@ public class MPEGFrameHeader
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
 
     /**
      * Constants for MPEG Version
@@ -85,102 +82,103 @@ public class MPEGFrameHeader
     public final static int LAYER_III_SLOT_SIZE = 1;
 
     /**
-     * Bit Rates, the setBitrate varies for different Version and Layer
+     * Bit Rates, the setBitrate varies for different Version and Layer, indexed by the bitrate bits of the third
+     * header byte combined with the id and layer bits of the second header byte, zero if invalid
      */
-    private static final SparseIntArray bitrateMap = new SparseIntArray();
+    private static final int[] bitrateMap = new int[256];
 
     static
     {
         // MPEG-1, Layer I (E)
-        bitrateMap.put(0x1E, 32);
-        bitrateMap.put(0x2E, 64);
-        bitrateMap.put(0x3E, 96);
-        bitrateMap.put(0x4E, 128);
-        bitrateMap.put(0x5E, 160);
-        bitrateMap.put(0x6E, 192);
-        bitrateMap.put(0x7E, 224);
-        bitrateMap.put(0x8E, 256);
-        bitrateMap.put(0x9E, 288);
-        bitrateMap.put(0xAE, 320);
-        bitrateMap.put(0xBE, 352);
-        bitrateMap.put(0xCE, 384);
-        bitrateMap.put(0xDE, 416);
-        bitrateMap.put(0xEE, 448);
+        bitrateMap[0x1E] = 32;
+        bitrateMap[0x2E] = 64;
+        bitrateMap[0x3E] = 96;
+        bitrateMap[0x4E] = 128;
+        bitrateMap[0x5E] = 160;
+        bitrateMap[0x6E] = 192;
+        bitrateMap[0x7E] = 224;
+        bitrateMap[0x8E] = 256;
+        bitrateMap[0x9E] = 288;
+        bitrateMap[0xAE] = 320;
+        bitrateMap[0xBE] = 352;
+        bitrateMap[0xCE] = 384;
+        bitrateMap[0xDE] = 416;
+        bitrateMap[0xEE] = 448;
         // MPEG-1, Layer II (C)
-        bitrateMap.put(0x1C, 32);
-        bitrateMap.put(0x2C, 48);
-        bitrateMap.put(0x3C, 56);
-        bitrateMap.put(0x4C, 64);
-        bitrateMap.put(0x5C, 80);
-        bitrateMap.put(0x6C, 96);
-        bitrateMap.put(0x7C, 112);
-        bitrateMap.put(0x8C, 128);
-        bitrateMap.put(0x9C, 160);
-        bitrateMap.put(0xAC, 192);
-        bitrateMap.put(0xBC, 224);
-        bitrateMap.put(0xCC, 256);
-        bitrateMap.put(0xDC, 320);
-        bitrateMap.put(0xEC, 384);
+        bitrateMap[0x1C] = 32;
+        bitrateMap[0x2C] = 48;
+        bitrateMap[0x3C] = 56;
+        bitrateMap[0x4C] = 64;
+        bitrateMap[0x5C] = 80;
+        bitrateMap[0x6C] = 96;
+        bitrateMap[0x7C] = 112;
+        bitrateMap[0x8C] = 128;
+        bitrateMap[0x9C] = 160;
+        bitrateMap[0xAC] = 192;
+        bitrateMap[0xBC] = 224;
+        bitrateMap[0xCC] = 256;
+        bitrateMap[0xDC] = 320;
+        bitrateMap[0xEC] = 384;
         // MPEG-1, Layer III (A)
-        bitrateMap.put(0x1A, 32);
-        bitrateMap.put(0x2A, 40);
-        bitrateMap.put(0x3A, 48);
-        bitrateMap.put(0x4A, 56);
-        bitrateMap.put(0x5A, 64);
-        bitrateMap.put(0x6A, 80);
-        bitrateMap.put(0x7A, 96);
-        bitrateMap.put(0x8A, 112);
-        bitrateMap.put(0x9A, 128);
-        bitrateMap.put(0xAA, 160);
-        bitrateMap.put(0xBA, 192);
-        bitrateMap.put(0xCA, 224);
-        bitrateMap.put(0xDA, 256);
-        bitrateMap.put(0xEA, 320);
+        bitrateMap[0x1A] = 32;
+        bitrateMap[0x2A] = 40;
+        bitrateMap[0x3A] = 48;
+        bitrateMap[0x4A] = 56;
+        bitrateMap[0x5A] = 64;
+        bitrateMap[0x6A] = 80;
+        bitrateMap[0x7A] = 96;
+        bitrateMap[0x8A] = 112;
+        bitrateMap[0x9A] = 128;
+        bitrateMap[0xAA] = 160;
+        bitrateMap[0xBA] = 192;
+        bitrateMap[0xCA] = 224;
+        bitrateMap[0xDA] = 256;
+        bitrateMap[0xEA] = 320;
         // MPEG-2, Layer I (6)
-        bitrateMap.put(0x16, 32);
-        bitrateMap.put(0x26, 48);
-        bitrateMap.put(0x36, 56);
-        bitrateMap.put(0x46, 64);
-        bitrateMap.put(0x56, 80);
-        bitrateMap.put(0x66, 96);
-        bitrateMap.put(0x76, 112);
-        bitrateMap.put(0x86, 128);
-        bitrateMap.put(0x96, 144);
-        bitrateMap.put(0xA6, 160);
-        bitrateMap.put(0xB6, 176);
-        bitrateMap.put(0xC6, 192);
-        bitrateMap.put(0xD6, 224);
-        bitrateMap.put(0xE6, 256);
+        bitrateMap[0x16] = 32;
+        bitrateMap[0x26] = 48;
+        bitrateMap[0x36] = 56;
+        bitrateMap[0x46] = 64;
+        bitrateMap[0x56] = 80;
+        bitrateMap[0x66] = 96;
+        bitrateMap[0x76] = 112;
+        bitrateMap[0x86] = 128;
+        bitrateMap[0x96] = 144;
+        bitrateMap[0xA6] = 160;
+        bitrateMap[0xB6] = 176;
+        bitrateMap[0xC6] = 192;
+        bitrateMap[0xD6] = 224;
+        bitrateMap[0xE6] = 256;
         // MPEG-2, Layer II (4)
-        bitrateMap.put(0x14, 8);
-        bitrateMap.put(0x24, 16);
-        bitrateMap.put(0x34, 24);
-        bitrateMap.put(0x44, 32);
-        bitrateMap.put(0x54, 40);
-        bitrateMap.put(0x64, 48);
-        bitrateMap.put(0x74, 56);
-        bitrateMap.put(0x84, 64);
-        bitrateMap.put(0x94, 80);
-        bitrateMap.put(0xA4, 96);
-        bitrateMap.put(0xB4, 112);
-        bitrateMap.put(0xC4, 128);
-        bitrateMap.put(0xD4, 144);
-        bitrateMap.put(0xE4, 160);
+        bitrateMap[0x14] = 8;
+        bitrateMap[0x24] = 16;
+        bitrateMap[0x34] = 24;
+        bitrateMap[0x44] = 32;
+        bitrateMap[0x54] = 40;
+        bitrateMap[0x64] = 48;
+        bitrateMap[0x74] = 56;
+        bitrateMap[0x84] = 64;
+        bitrateMap[0x94] = 80;
+        bitrateMap[0xA4] = 96;
+        bitrateMap[0xB4] = 112;
+        bitrateMap[0xC4] = 128;
+        bitrateMap[0xD4] = 144;
+        bitrateMap[0xE4] = 160;
         // MPEG-2, Layer III (2)
-        bitrateMap.put(0x12, 8);
-        bitrateMap.put(0x22, 16);
-        bitrateMap.put(0x32, 24);
-        bitrateMap.put(0x42, 32);
-        bitrateMap.put(0x52, 40);
-        bitrateMap.put(0x62, 48);
-        bitrateMap.put(0x72, 56);
-        bitrateMap.put(0x82, 64);
-        bitrateMap.put(0x92, 80);
-        bitrateMap.put(0xA2, 96);
-        bitrateMap.put(0xB2, 112);
-        bitrateMap.put(0xC2, 128);
-        bitrateMap.put(0xD2, 144);
-        bitrateMap.put(0xE2, 160);
+        bitrateMap[0x12] = 8;
+        bitrateMap[0x22] = 16;
+        bitrateMap[0x32] = 24;
+        bitrateMap[0x42] = 32;
+        bitrateMap[0x52] = 40;
+        bitrateMap[0x62] = 48;
+        bitrateMap[0x72] = 56;
+        bitrateMap[0x82] = 64;
+        bitrateMap[0x92] = 80;
+        bitrateMap[0xA2] = 96;
+        bitrateMap[0xB2] = 112;
+        bitrateMap[0xC2] = 128;
+        bitrateMap[0xD2] = 144;
+        bitrateMap[0xE2] = 160;
     }
 
     /**
@@ -203,98 +201,42 @@ public class MPEGFrameHeader
     /**
      * Constants for Emphasis
      */
-    private static final SparseArray<String> emphasisMap = new SparseArray<>();
     public final static int EMPHASIS_NONE = 0;
     public final static int EMPHASIS_5015MS = 1;
     public final static int EMPHASIS_RESERVED = 2;
     public final static int EMPHASIS_CCITT = 3;
 
-    static
-    {
-        emphasisMap.put(EMPHASIS_NONE, "None");
-        emphasisMap.put(EMPHASIS_5015MS, "5015MS");
-        emphasisMap.put(EMPHASIS_RESERVED, "Reserved");
-        emphasisMap.put(EMPHASIS_CCITT, "CCITT");
-    }
-
-
-    private static final SparseArray<String> modeExtensionMap = new SparseArray<>();
-    private final static int MODE_EXTENSION_NONE = 0;
-    private final static int MODE_EXTENSION_ONE = 1;
-    private final static int MODE_EXTENSION_TWO = 2;
-    private final static int MODE_EXTENSION_THREE = 3;
-
-    private static final SparseArray<String> modeExtensionLayerIIIMap = new SparseArray<>();
-    private final static int MODE_EXTENSION_OFF_OFF = 0;
-    private final static int MODE_EXTENSION_ON_OFF = 1;
-    private final static int MODE_EXTENSION_OFF_ON = 2;
-    private final static int MODE_EXTENSION_ON_ON = 3;
-
-    static
-    {
-        modeExtensionMap.put(MODE_EXTENSION_NONE, "4-31");
-        modeExtensionMap.put(MODE_EXTENSION_ONE, "8-31");
-        modeExtensionMap.put(MODE_EXTENSION_TWO, "12-31");
-        modeExtensionMap.put(MODE_EXTENSION_THREE, "16-31");
-
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_OFF_OFF, "off-off");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_ON_OFF, "on-off");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_OFF_ON, "off-on");
-        modeExtensionLayerIIIMap.put(MODE_EXTENSION_ON_ON, "on-on");
-    }
-
     /**
-     * Sampling Rate in Hz
+     * Names indexed by the value of the field within the header, null if the value is invalid
      */
-    private static final SparseArray<SparseIntArray> samplingRateMap = new SparseArray<>();
-    private static final SparseIntArray samplingV1Map = new SparseIntArray();
-    private static final SparseIntArray samplingV2Map = new SparseIntArray();
-    private static final SparseIntArray samplingV25Map = new SparseIntArray();
+    private static final String[] versionNames = {"MPEG-2.5", null, "MPEG-2", "MPEG-1"};
+    private static final String[] layerNames = {null, "Layer 3", "Layer 2", "Layer 1"};
+    private static final String[] modeNames = {"Stereo", "Joint Stereo", "Dual", "Mono"};
+    private static final String[] emphasisNames = {"None", "5015MS", "Reserved", "CCITT"};
+    private static final String[] modeExtensionNames = {"4-31", "8-31", "12-31", "16-31"};
+    private static final String[] modeExtensionLayerIIINames = {"off-off", "on-off", "off-on", "on-on"};
 
-    static
+    /**
+     * Sampling Rate in Hz, indexed by version and then the sampling rate bits, zero if invalid
+     */
+    private static final int[] samplingRateMap =
     {
-        samplingV1Map.put(0, 44100);
-        samplingV1Map.put(1, 48000);
-        samplingV1Map.put(2, 32000);
+        11025, 12000, 8000, 0,   //MPEG-2.5
+        0, 0, 0, 0,              //Reserved
+        22050, 24000, 16000, 0,  //MPEG-2
+        44100, 48000, 32000, 0,  //MPEG-1
+    };
 
-        samplingV2Map.put(0, 22050);
-        samplingV2Map.put(1, 24000);
-        samplingV2Map.put(2, 16000);
-
-        samplingV25Map.put(0, 11025);
-        samplingV25Map.put(1, 12000);
-        samplingV25Map.put(2, 8000);
-
-        samplingRateMap.put(VERSION_1, samplingV1Map);
-        samplingRateMap.put(VERSION_2, samplingV2Map);
-        samplingRateMap.put(VERSION_2_5, samplingV25Map);
-    }
-
-    /* Samples Per Frame */
-    private static final SparseArray<SparseIntArray> samplesPerFrameMap = new SparseArray<>();
-    private static final SparseIntArray samplesPerFrameV1Map = new SparseIntArray();
-    private static final SparseIntArray samplesPerFrameV2Map = new SparseIntArray();
-    private static final SparseIntArray samplesPerFrameV25Map = new SparseIntArray();
-
-    static
+    /**
+     * Samples Per Frame, indexed by version and then layer, zero if invalid
+     */
+    private static final int[] samplesPerFrameMap =
     {
-        samplesPerFrameV1Map.put(LAYER_I, 384);
-        samplesPerFrameV1Map.put(LAYER_II, 1152);
-        samplesPerFrameV1Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV2Map.put(LAYER_I, 384);
-        samplesPerFrameV2Map.put(LAYER_II, 1152);
-        samplesPerFrameV2Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV25Map.put(LAYER_I, 384);
-        samplesPerFrameV25Map.put(LAYER_II, 1152);
-        samplesPerFrameV25Map.put(LAYER_III, 1152);
-
-        samplesPerFrameMap.put(VERSION_1, samplesPerFrameV1Map);
-        samplesPerFrameMap.put(VERSION_2, samplesPerFrameV2Map);
-        samplesPerFrameMap.put(VERSION_2_5, samplesPerFrameV25Map);
-
-    }
+        0, 1152, 1152, 384,      //MPEG-2.5
+        0, 0, 0, 0,              //Reserved
+        0, 1152, 1152, 384,      //MPEG-2
+        0, 1152, 1152, 384,      //MPEG-1
+    };
 
 
     private static final int SCALE_BY_THOUSAND = 1000;
@@ -368,46 +310,36 @@ public class MPEGFrameHeader
     private static final int MASK_MP3_EMPHASIS = FileConstants.BIT1 | FileConstants.BIT0;
 
 
-    private byte[] mpegBytes;
+    /**
+     * The four header bytes packed into an int, first byte in the most significant position
+     */
+    private int header;
 
     /**
      * The version of this MPEG frame (see the constants)
      */
     private int version;
 
-    private String versionAsString;
-
     /**
      * Contains the mpeg layer of this frame (see constants)
      */
     private int layer;
 
-    private String layerAsString;
     /**
      * Bitrate of this frame
      */
-    private Integer bitRate;
+    private int bitRate;
 
     /**
      * Channel Mode of this Frame (see constants)
      */
     private int channelMode;
 
-    /**
-     * Channel Mode of this Frame As English String
-     */
-    private String channelModeAsString;
-
     /**
      * Emphasis of this frame
      */
     private int emphasis;
 
-    /**
-     * Emphasis mode string
-     */
-    private String emphasisAsString;
-
     /**
      * Mode Extension
      */
@@ -439,7 +371,7 @@ public class MPEGFrameHeader
      */
     private boolean isPrivate;
 
-    private Integer samplingRate;
+    private int samplingRate;
 
 
     /**
@@ -454,170 +386,7 @@ public class MPEGFrameHeader
 
     public String getLayerAsString()
     {
-        return layerAsString;
-    }
-
-    /**
-     * Gets the copyrighted attribute of the MPEGFrame object
-     */
-    private void setCopyrighted()
-    {
-        isCopyrighted = (mpegBytes[BYTE_4] & MASK_MP3_COPY) != 0;
-    }
-
-
-    /**
-     * Set the version of this frame as an int value (see constants)
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setVersion() throws InvalidAudioFrameException
-    {
-        //MPEG Version
-        version = (byte) ((mpegBytes[BYTE_2] & MASK_MP3_VERSION) >> 3);
-        versionAsString = mpegVersionMap.get(version);
-        if (versionAsString == null)
-        {
-            throw new InvalidAudioFrameException("Invalid mpeg version");
-        }
-    }
-
-    /**
-     * Sets the original attribute of the MPEGFrame object
-     */
-    private void setOriginal()
-    {
-        isOriginal = (mpegBytes[BYTE_4] & MASK_MP3_HOME) != 0;
-    }
-
-    /**
-     * Sets the protected attribute of the MPEGFrame object
-     */
-    private void setProtected()
-    {
-        isProtected = (mpegBytes[BYTE_2] & MASK_MP3_PROTECTION) == 0x00;
-    }
-
-    /**
-     * Sets the private attribute of the MPEGFrame object
-     */
-    private void setPrivate()
-    {
-        isPrivate = (mpegBytes[BYTE_3] & MASK_MP3_PRIVACY) != 0;
-    }
-
-    /**
-     * Get the setBitrate of this frame
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setBitrate() throws InvalidAudioFrameException
-    {
-        /* BitRate, get by checking header setBitrate bits and MPEG Version and Layer */
-        int bitRateIndex = mpegBytes[BYTE_3] & MASK_MP3_BITRATE | mpegBytes[BYTE_2] & MASK_MP3_ID | mpegBytes[BYTE_2] & MASK_MP3_LAYER;
-
-        bitRate = bitrateMap.get(bitRateIndex);
-        if (bitRate == null)
-        {
-            throw new InvalidAudioFrameException("Invalid bitrate");
-        }
-    }
-
-
-    /**
-     * Set the Mpeg channel mode of this frame as a constant (see constants)
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setChannelMode() throws InvalidAudioFrameException
-    {
-        channelMode = (mpegBytes[BYTE_4] & MASK_MP3_MODE) >>> 6;
-        channelModeAsString = modeMap.get(channelMode);
-        if (channelModeAsString == null)
-        {
-            throw new InvalidAudioFrameException("Invalid channel mode");
-        }
-    }
-
-    /**
-     * Get the setEmphasis mode of this frame in a string representation
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setEmphasis() throws InvalidAudioFrameException
-    {
-        emphasis = mpegBytes[BYTE_4] & MASK_MP3_EMPHASIS;
-        emphasisAsString = emphasisMap.get(emphasis);
-        if (getEmphasisAsString() == null)
-        {
-            throw new InvalidAudioFrameException("Invalid emphasis");
-        }
-    }
-
-
-    /**
-     * Set whether this frame uses padding bytes
-     */
-    private void setPadding()
-    {
-        isPadding = (mpegBytes[BYTE_3] & MASK_MP3_PADDING) != 0;
-    }
-
-
-    /**
-     * Get the layer version of this frame as a constant int value (see constants)
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setLayer() throws InvalidAudioFrameException
-    {
-        layer = (mpegBytes[BYTE_2] & MASK_MP3_LAYER) >>> 1;
-        layerAsString = mpegLayerMap.get(layer);
-        if (layerAsString == null)
-        {
-            throw new InvalidAudioFrameException("Invalid Layer");
-        }
-    }
-
-
-    /**
-     * Sets the string representation of the mode extension of this frame
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setModeExtension() throws InvalidAudioFrameException
-    {
-        int index = (mpegBytes[BYTE_4] & MASK_MP3_MODE_EXTENSION) >> 4;
-        if (layer == LAYER_III)
-        {
-            modeExtension = modeExtensionLayerIIIMap.get(index);
-            if (getModeExtension() == null)
-            {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        }
-        else
-        {
-            modeExtension = modeExtensionMap.get(index);
-            if (getModeExtension() == null)
-            {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        }
-    }
-
-    /**
-     * set the sampling rate in Hz of this frame
-     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setSamplingRate() throws InvalidAudioFrameException
-    {
-        //Frequency
-        int index = (mpegBytes[BYTE_3] & MASK_MP3_FREQUENCY) >>> 2;
-        SparseIntArray samplingRateMapForVersion = samplingRateMap.get(version);
-        if (samplingRateMapForVersion == null)
-        {
-            throw new InvalidAudioFrameException("Invalid version");
-        }
-        samplingRate = samplingRateMapForVersion.get(index);
-        if (samplingRate == null)
-        {
-            throw new InvalidAudioFrameException("Invalid sampling rate");
-        }
+        return layerNames[layer];
     }
 
     /**
@@ -649,7 +418,7 @@ public class MPEGFrameHeader
 
     public String getChannelModeAsString()
     {
-        return channelModeAsString;
+        return modeNames[channelMode];
     }
 
     /**
@@ -664,7 +433,7 @@ public class MPEGFrameHeader
 
     public String getVersionAsString()
     {
-        return versionAsString;
+        return versionNames[version];
     }
 
     /**
@@ -704,56 +473,7 @@ public class MPEGFrameHeader
      */
     public int getFrameLength()
     {
-        switch (version)
-        {
-            case VERSION_2:
-            case VERSION_2_5:
-                switch (layer)
-                {
-                    case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength()) * LAYER_I_SLOT_SIZE;
-
-                    case LAYER_II:
-                        return (LAYER_II_FRAME_SIZE_COEFFICIENT ) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_II_SLOT_SIZE;
-
-                    case LAYER_III:
-                        if (this.getChannelMode() == MODE_MONO)
-                        {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2 ) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
-                        }
-                        else
-                        {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
-                        }
-
-
-                    default:
-                        throw new RuntimeException("Mp3 Unknown Layer:" + layer);
-
-                }
-
-
-            case VERSION_1:
-                switch (layer)
-                {
-                    case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength()) * LAYER_I_SLOT_SIZE;
-
-                    case LAYER_II:
-                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_II_SLOT_SIZE;
-
-                    case LAYER_III:
-                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
-
-                    default:
-                        throw new RuntimeException("Mp3 Unknown Layer:" + layer);
-
-                }
-
-            default:
-                throw new RuntimeException("Mp3 Unknown Version:" + version);
-
-        }
+        return getFrameLength(header);
     }
 
     /**
@@ -763,8 +483,7 @@ public class MPEGFrameHeader
      */
     public int getNoOfSamples()
     {
-        Integer noOfSamples = samplesPerFrameMap.get(version).get(layer);
-        return noOfSamples;
+        return samplesPerFrameMap[(version << 2) | layer];
     }
 
 
@@ -805,7 +524,7 @@ public class MPEGFrameHeader
 
     public String getEmphasisAsString()
     {
-        return emphasisAsString;
+        return emphasisNames[emphasis];
     }
 
     public String getModeExtension()
@@ -824,27 +543,161 @@ public class MPEGFrameHeader
     }
 
     /**
-     * Try and create a new MPEG frame with the given byte array and decodes its contents
-     * If decoding header causes a problem it is not a valid header
+     * Create a new MPEG frame from a header that has already been validated with {@link #isValidHeader(int)}
+     * and decode its contents
+     *
+     * @param header the four header bytes packed into an int
+     */
+    private MPEGFrameHeader(int header)
+    {
+        this.header = header;
+        int byte2 = (header >>> 16) & 0xFF;
+        int byte3 = (header >>> 8) & 0xFF;
+        int byte4 = header & 0xFF;
+
+        version = (byte2 & MASK_MP3_VERSION) >>> 3;
+        layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        isProtected = (byte2 & MASK_MP3_PROTECTION) == 0x00;
+        bitRate = bitrateMap[(byte3 & MASK_MP3_BITRATE) | (byte2 & MASK_MP3_ID) | (byte2 & MASK_MP3_LAYER)];
+        samplingRate = samplingRateMap[(version << 2) | ((byte3 & MASK_MP3_FREQUENCY) >>> 2)];
+        isPadding = (byte3 & MASK_MP3_PADDING) != 0;
+        isPrivate = (byte3 & MASK_MP3_PRIVACY) != 0;
+        channelMode = (byte4 & MASK_MP3_MODE) >>> 6;
+        if (layer == LAYER_III)
+        {
+            modeExtension = modeExtensionLayerIIINames[(byte4 & MASK_MP3_MODE_EXTENSION) >>> 4];
+        }
+        else
+        {
+            modeExtension = modeExtensionNames[(byte4 & MASK_MP3_MODE_EXTENSION) >>> 4];
+        }
+        isCopyrighted = (byte4 & MASK_MP3_COPY) != 0;
+        isOriginal = (byte4 & MASK_MP3_HOME) != 0;
+        emphasis = byte4 & MASK_MP3_EMPHASIS;
+    }
+
+    /**
+     * Read the four header bytes at the current position of the buffer packed into an int, the position of the
+     * buffer is not modified
+     *
+     * @param bb buffer with at least four bytes remaining
+     * @return the header, first byte in the most significant position
+     */
+    public static int getHeader(ByteBuffer bb)
+    {
+        int position = bb.position();
+        return ((bb.get(position + BYTE_1) & 0xFF) << 24)
+                | ((bb.get(position + BYTE_2) & 0xFF) << 16)
+                | ((bb.get(position + BYTE_3) & 0xFF) << 8)
+                | (bb.get(position + BYTE_4) & 0xFF);
+    }
+
+    /**
+     * Check whether a packed header is a valid MPEG frame header, this only uses lookups on the header value so
+     * can be called for every candidate sync position without creating any objects
+     *
+     * @param header the four header bytes packed into an int
+     * @return true if the sync bits are set and the version, layer, bitrate and sampling rate are all valid
+     */
+    public static boolean isValidHeader(int header)
+    {
+        if ((header >>> 21) != 0x7FF)
+        {
+            return false;
+        }
+        int byte2 = (header >>> 16) & 0xFF;
+        int byte3 = (header >>> 8) & 0xFF;
+        int version = (byte2 & MASK_MP3_VERSION) >>> 3;
+        return versionNames[version] != null
+                && layerNames[(byte2 & MASK_MP3_LAYER) >>> 1] != null
+                && bitrateMap[(byte3 & MASK_MP3_BITRATE) | (byte2 & MASK_MP3_ID) | (byte2 & MASK_MP3_LAYER)] != 0
+                && samplingRateMap[(version << 2) | ((byte3 & MASK_MP3_FREQUENCY) >>> 2)] != 0;
+    }
+
+    /**
+     * Gets the frame length in bytes of a packed header that has already been validated with
+     * {@link #isValidHeader(int)}, without creating a frame header
      *
-     * @param b the array of bytes representing this mpeg frame
-     * @throws InvalidAudioFrameException if does not match expected format
+     * @param header the four header bytes packed into an int
+     * @return frame length
      */
-    private MPEGFrameHeader(byte[] b) throws InvalidAudioFrameException
+    public static int getFrameLength(int header)
     {
-        mpegBytes = b;
-        setBitrate();
-        setVersion();
-        setLayer();
-        setProtected();
-        setSamplingRate();
-        setPadding();
-        setPrivate();
-        setChannelMode();
-        setModeExtension();
-        setCopyrighted();
-        setOriginal();
-        setEmphasis();
+        int byte2 = (header >>> 16) & 0xFF;
+        int byte3 = (header >>> 8) & 0xFF;
+        int byte4 = header & 0xFF;
+        int version = (byte2 & MASK_MP3_VERSION) >>> 3;
+        int layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        int bitRate = bitrateMap[(byte3 & MASK_MP3_BITRATE) | (byte2 & MASK_MP3_ID) | (byte2 & MASK_MP3_LAYER)];
+        int samplingRate = samplingRateMap[(version << 2) | ((byte3 & MASK_MP3_FREQUENCY) >>> 2)];
+        int paddingLength = (byte3 & MASK_MP3_PADDING) != 0 ? 1 : 0;
+
+        switch (version)
+        {
+            case VERSION_2:
+            case VERSION_2_5:
+                switch (layer)
+                {
+                    case LAYER_I:
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength) * LAYER_I_SLOT_SIZE;
+
+                    case LAYER_II:
+                        return (LAYER_II_FRAME_SIZE_COEFFICIENT ) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_II_SLOT_SIZE;
+
+                    case LAYER_III:
+                        if (((byte4 & MASK_MP3_MODE) >>> 6) == MODE_MONO)
+                        {
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2 ) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
+                        }
+                        else
+                        {
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
+                        }
+
+
+                    default:
+                        throw new RuntimeException("Mp3 Unknown Layer:" + layer);
+
+                }
+
+
+            case VERSION_1:
+                switch (layer)
+                {
+                    case LAYER_I:
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength) * LAYER_I_SLOT_SIZE;
+
+                    case LAYER_II:
+                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_II_SLOT_SIZE;
+
+                    case LAYER_III:
+                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
+
+                    default:
+                        throw new RuntimeException("Mp3 Unknown Layer:" + layer);
+
+                }
+
+            default:
+                throw new RuntimeException("Mp3 Unknown Version:" + version);
+
+        }
+    }
+
+    /**
+     * Create the MPEGFrameHeader for a packed header
+     *
+     * @param header the four header bytes packed into an int
+     * @return
+     * @throws InvalidAudioFrameException if the header is not valid
+     */
+    public static MPEGFrameHeader parseMPEGHeader(int header) throws InvalidAudioFrameException
+    {
+        if (!isValidHeader(header))
+        {
+            throw new InvalidAudioFrameException("Invalid mpeg frame header");
+        }
+        return new MPEGFrameHeader(header);
     }
 
     /**
@@ -856,12 +709,7 @@ public class MPEGFrameHeader
      */
     public static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException
     {
-        int position = bb.position();
-        bb.get(header, 0, HEADER_SIZE);
-        bb.position(position);
-        MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
-
-        return frameHeader;
+        return parseMPEGHeader(getHeader(bb));
     }
 
     /**
@@ -883,7 +731,6 @@ public class MPEGFrameHeader
      */
     public String toString()
     {
-        return " mpeg frameheader:" + " frame length:" + getFrameLength() + " version:" + versionAsString + " layer:" + layerAsString + " channelMode:" + channelModeAsString + " noOfSamples:" + getNoOfSamples() + " samplingRate:" + samplingRate + " isPadding:" + isPadding + " isProtected:" + isProtected + " isPrivate:" + isPrivate + " isCopyrighted:" + isCopyrighted + " isOriginal:" + isCopyrighted + " isVariableBitRate" + this.isVariableBitRate() + " header as binary:" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_1]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_2]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_3]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_4]);
+        return " mpeg frameheader:" + " frame length:" + getFrameLength() + " version:" + getVersionAsString() + " layer:" + getLayerAsString() + " channelMode:" + getChannelModeAsString() + " noOfSamples:" + getNoOfSamples() + " samplingRate:" + samplingRate + " isPadding:" + isPadding + " isProtected:" + isProtected + " isPrivate:" + isPrivate + " isCopyrighted:" + isCopyrighted + " isOriginal:" + isCopyrighted + " isVariableBitRate" + this.isVariableBitRate() + " header as binary:" + AbstractTagDisplayFormatter.displayAsBinary((byte) (header >>> 24)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) (header >>> 16)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) (header >>> 8)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) header);
     }
 }
-
@@ -18,7 +18,9 @@
  */
 package org.jaudiotagger.audio.mp4;
 
+import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
@@ -45,4 +47,16 @@ public class Mp4FileReader extends AudioFileReader
     {
         return tr.read(raf);
     }
+
+    @Override
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return tr.read(raf, projection);
+    }
+
+    @Override
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection, FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        return tr.read(raf, projection, provider);
+    }
 }
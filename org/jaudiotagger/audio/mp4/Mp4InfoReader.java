@@ -21,9 +21,12 @@ package org.jaudiotagger.audio.mp4;
 import android.text.TextUtils;
 
 import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
+import org.jaudiotagger.audio.generic.AudioPayloadHasher;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4AlacBox;
@@ -42,6 +45,8 @@ import org.jcodec.common.io.SeekableByteChannel;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 /**
@@ -102,9 +107,10 @@ public class Mp4InfoReader
     public GenericAudioHeader read(RandomAccessFileProvider raf) throws CannotReadException, IOException
     {
         Mp4AudioHeader info = new Mp4AudioHeader();
+        BlockCache cache = BlockCache.wrap(raf);
 
         //File Identification
-        Mp4BoxHeader ftypHeader = Mp4BoxHeader.seekWithinLevel(raf, Mp4AtomIdentifier.FTYP.getFieldName());
+        Mp4BoxHeader ftypHeader = Mp4BoxHeader.seekWithinLevel(cache, Mp4AtomIdentifier.FTYP.getFieldName());
         if (ftypHeader == null)
         {
             throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
@@ -118,7 +124,7 @@ public class Mp4InfoReader
 
         //Get to the facts everything we are interested in is within the moov box, so just load data from file
         //once so no more file I/O needed
-        Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(raf, Mp4AtomIdentifier.MOOV.getFieldName());
+        Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(cache, Mp4AtomIdentifier.MOOV.getFieldName());
         if (moovHeader == null)
         {
             throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
@@ -367,5 +373,71 @@ public class Mp4InfoReader
         return info;
     }
 
+    /**
+     * Find the top level mdat atoms holding the audio data, other top level atoms such as moov and free hold
+     * metadata that changes when the file is retagged.
+     *
+     * @param provider
+     * @return the data of each mdat atom (excluding its header) in file order
+     * @throws IOException
+     */
+    public static List<AudioPayloadHasher.Region> getMediaDataRegions(FileSystemProvider provider) throws IOException
+    {
+        List<AudioPayloadHasher.Region> regions = new ArrayList<AudioPayloadHasher.Region>();
+        FileChannelProvider fc = FileChannelProvider.open(provider);
+        try
+        {
+            long fileLength = fc.size();
+            long position = 0;
+            ByteBuffer header = ByteBuffer.allocate(Mp4BoxHeader.HEADER_LENGTH + 8);
+            while (position + Mp4BoxHeader.HEADER_LENGTH <= fileLength)
+            {
+                header.clear();
+                header.limit(Mp4BoxHeader.HEADER_LENGTH);
+                fc.read(header, position);
+                if (header.hasRemaining())
+                {
+                    break;
+                }
+                long length = header.getInt(0) & 0xffffffffL;
+                header.position(Mp4BoxHeader.IDENTIFIER_POS);
+                String id = Utils.readFourBytesAsChars(header);
+                int headerLength = Mp4BoxHeader.HEADER_LENGTH;
+
+                //Length of 1 means a 64 bit length follows the identifier, 0 means the atom extends to end of file
+                if (length == 1)
+                {
+                    header.limit(Mp4BoxHeader.HEADER_LENGTH + 8);
+                    fc.read(header, position + Mp4BoxHeader.HEADER_LENGTH);
+                    if (header.hasRemaining())
+                    {
+                        break;
+                    }
+                    length = header.getLong(Mp4BoxHeader.HEADER_LENGTH);
+                    headerLength += 8;
+                }
+                else if (length == 0)
+                {
+                    length = fileLength - position;
+                }
+
+                if (length < headerLength)
+                {
+                    logger.warning(provider + ":Invalid atom length:" + length + ":at:" + position);
+                    break;
+                }
 
+                if (id.equals(Mp4AtomIdentifier.MDAT.getFieldName()))
+                {
+                    regions.add(new AudioPayloadHasher.Region(position + headerLength, Math.min(position + length, fileLength)));
+                }
+                position += length;
+            }
+        }
+        finally
+        {
+            fc.close();
+        }
+        return regions;
+    }
 }
@@ -19,14 +19,18 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
 import org.extra.StandardCharsets;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.audio.mp4.atom.Mp4MetaBox;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
 import org.jaudiotagger.tag.mp4.Mp4NonStandardFieldKey;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
@@ -46,6 +50,7 @@ import org.jaudiotagger.tag.mp4.field.Mp4TrackField;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -95,16 +100,53 @@ public class Mp4TagReader
      */
     public Mp4Tag read(RandomAccessFileProvider raf) throws CannotReadException, IOException
     {
+        return read(raf, ReadProjection.ALL);
+    }
+
+    /**
+     * Read the tag only creating fields for the atoms within ilst wanted by projection, other atoms are skipped
+     * over using their length
+     *
+     * @param raf
+     * @param projection
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public Mp4Tag read(RandomAccessFileProvider raf, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return read(raf, projection, null);
+    }
+
+    /**
+     * Read the tag only creating fields for the atoms within ilst wanted by projection, if lazy artwork is enabled
+     * the cover art image data is left in the file
+     *
+     * @param raf
+     * @param projection
+     * @param provider the file raf was opened on, may be null in which case the cover art is always read
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public Mp4Tag read(RandomAccessFileProvider raf, ReadProjection projection, FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        if (!TagOptions.current().isLazyArtwork())
+        {
+            provider = null;
+        }
         Mp4Tag tag = new Mp4Tag();
+        Set<String> fieldIds = Mp4Tag.getFieldIds(projection);
 
         //Get to the facts everything we are interested in is within the moov box, so just load data from file
         //once so no more file I/O needed
-        Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(raf, Mp4AtomIdentifier.MOOV.getFieldName());
+        Mp4BoxHeader moovHeader = Mp4BoxHeader.seekWithinLevel(BlockCache.wrap(raf), Mp4AtomIdentifier.MOOV.getFieldName());
         if (moovHeader == null)
         {
             throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
         }
         ByteBuffer moovBuffer = ByteBuffer.allocate(moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
+        long moovDataStart = raf.getChannelProvider().position();
         raf.getChannelProvider().read(moovBuffer);
         moovBuffer.rewind();
 
@@ -170,7 +212,10 @@ public class Mp4TagReader
             //Create the corresponding datafield from the id, and slice the buffer so position of main buffer
             //wont get affected
             logger.config("Next position is at:" + metadataBuffer.position());
-            createMp4Field(tag, boxHeader, metadataBuffer.slice());
+            if (fieldIds == null || fieldIds.contains(boxHeader.getId()))
+            {
+                createMp4Field(tag, boxHeader, metadataBuffer.slice(), provider, moovDataStart);
+            }
 
             //Move position in buffer to the start of the next parentHeader
             metadataBuffer.position(metadataBuffer.position() + boxHeader.getDataLength());
@@ -188,10 +233,12 @@ public class Mp4TagReader
      * @param tag
      * @param header
      * @param raw
+     * @param provider if not null the cover art image data is left in this file
+     * @param moovDataStart position within the file of the start of the buffer backing raw
      * @return
      * @throws UnsupportedEncodingException
      */
-    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw) throws UnsupportedEncodingException
+    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw, FileSystemProvider provider, long moovDataStart) throws UnsupportedEncodingException
     {
         //Header with no data #JAUDIOTAGGER-463
          if(header.getDataLength()==0)
@@ -258,7 +305,15 @@ public class Mp4TagReader
                                     processedDataSize + Mp4DataBox.TYPE_POS_INCLUDING_HEADER + Mp4DataBox.TYPE_LENGTH - 1);
                             fieldType = Mp4FieldType.getFieldType(type);
                         }
-                        Mp4TagCoverField field = new Mp4TagCoverField(raw,fieldType);
+                        Mp4TagCoverField field;
+                        if (provider != null)
+                        {
+                            field = new Mp4TagCoverField(raw, fieldType, provider, moovDataStart);
+                        }
+                        else
+                        {
+                            field = new Mp4TagCoverField(raw,fieldType);
+                        }
                         tag.addField(field);
                         processedDataSize += field.getDataAndHeaderSize();
                         imageCount++;
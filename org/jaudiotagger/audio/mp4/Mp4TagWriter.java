@@ -31,7 +31,7 @@ import org.jaudiotagger.audio.mp4.atom.Mp4MetaBox;
 import org.jaudiotagger.audio.mp4.atom.Mp4StcoBox;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
 import org.jaudiotagger.tag.mp4.Mp4TagCreator;
 import org.jaudiotagger.utils.tree.DefaultMutableTreeNode;
@@ -354,6 +354,11 @@ public class Mp4TagWriter
     public void write(Tag tag, RandomAccessFileProvider raf, RandomAccessFileProvider rafTemp) throws CannotWriteException, IOException
     {
         logger.config("Started writing tag data");
+        //Artwork left in the file must be read before the file is replaced
+        if (tag instanceof Mp4Tag)
+        {
+            ((Mp4Tag) tag).loadArtwork();
+        }
         FileChannelProvider fileReadChannel = raf.getChannelProvider();
         FileChannelProvider fileWriteChannel = rafTemp.getChannelProvider();
 
@@ -627,7 +632,7 @@ public class Mp4TagWriter
     }
 
     /**
-     * Write the remainder of data in read channel to write channel data in {@link TagOptionSingleton#getWriteChunkSize()}
+     * Write the remainder of data in read channel to write channel data in {@link TagOptions#getWriteChunkSize()}
      * chunks, needed if writing large amounts of data.
      *
      * @param fileReadChannel
@@ -639,7 +644,7 @@ public class Mp4TagWriter
     {
         long amountToBeWritten = fileReadChannel.size() - fileReadChannel.position();
         long written = 0;
-        long chunksize = TagOptionSingleton.getInstance().getWriteChunkSize();
+        long chunksize = TagOptions.current().getWriteChunkSize();
         long count = amountToBeWritten / chunksize;
 
         long mod = amountToBeWritten % chunksize;
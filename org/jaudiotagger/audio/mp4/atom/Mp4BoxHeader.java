@@ -23,6 +23,7 @@ import org.extra.RandomAccessFileProvider;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.audio.exceptions.InvalidBoxHeaderException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.exceptions.NullBoxIdException;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jcodec.common.io.SeekableByteChannel;
@@ -304,6 +305,58 @@ public class Mp4BoxHeader
     }
 
 
+    /**
+     * Seek for box with the specified id starting from the current location of filepointer, reading the
+     * box headers through the read cache
+     *
+     * @param cache
+     * @param id
+     * @throws IOException
+     * @return
+     */
+    public static Mp4BoxHeader seekWithinLevel(BlockCache cache, String id) throws IOException
+    {
+        logger.finer("Started searching for:" + id + " in file at:" + cache.position());
+
+        Mp4BoxHeader boxHeader = new Mp4BoxHeader();
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+        int bytesRead = cache.read(headerBuffer);
+        if (bytesRead != HEADER_LENGTH)
+        {
+            return null;
+        }
+        headerBuffer.rewind();
+        boxHeader.update(headerBuffer);
+        while (!boxHeader.getId().equals(id))
+        {
+            logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in file at:" + cache.position());
+
+            //Something gone wrong probably not at the start of an atom so return null;
+            if (boxHeader.getLength() < Mp4BoxHeader.HEADER_LENGTH)
+            {
+                return null;
+            }
+            cache.position(cache.position() + boxHeader.getDataLength());
+            if (cache.position() > cache.size())
+            {
+                return null;
+            }
+            headerBuffer.rewind();
+            bytesRead = cache.read(headerBuffer);
+            logger.finer("Header Bytes Read:" + bytesRead);
+            headerBuffer.rewind();
+            if (bytesRead == Mp4BoxHeader.HEADER_LENGTH)
+            {
+                boxHeader.update(headerBuffer);
+            }
+            else
+            {
+                return null;
+            }
+        }
+        return boxHeader;
+    }
+
     /**
      * Seek for box with the specified id starting from the current location of filepointer,
      *
@@ -20,8 +20,10 @@ package org.jaudiotagger.audio.ogg;
 
 import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.ogg.util.OggInfoReader;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
@@ -59,6 +61,18 @@ public class OggFileReader extends AudioFileReader
         return vtr.read(raf);
     }
 
+    @Override
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection) throws CannotReadException, IOException
+    {
+        return vtr.read(raf, projection);
+    }
+
+    @Override
+    protected Tag getTag(RandomAccessFileProvider raf, ReadProjection projection, FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        return vtr.read(raf, projection, provider);
+    }
+
     /**
      * Return count Ogg Page header, count starts from zero
      *
@@ -74,11 +88,12 @@ public class OggFileReader extends AudioFileReader
      */
     public OggPageHeader readOggPageHeader(RandomAccessFileProvider raf, int count) throws CannotReadException, IOException
     {
-        OggPageHeader pageHeader = OggPageHeader.read(raf);
+        BlockCache cache = BlockCache.wrap(raf);
+        OggPageHeader pageHeader = OggPageHeader.read(cache);
         while (count > 0)
         {
             raf.seek(raf.getFilePointer() + pageHeader.getPageLength());
-            pageHeader = OggPageHeader.read(raf);
+            pageHeader = OggPageHeader.read(cache);
             count--;
         }
         return pageHeader;
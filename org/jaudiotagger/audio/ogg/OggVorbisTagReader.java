@@ -19,15 +19,21 @@
  */
 package org.jaudiotagger.audio.ogg;
 
+import org.extra.FileSystemProvider;
 import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.AudioPayloadHasher;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisPacketType;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
@@ -67,12 +73,64 @@ public class OggVorbisTagReader
      * @throws IOException
      */
     public Tag read(RandomAccessFileProvider raf) throws CannotReadException, IOException
+    {
+        return read(raf, ReadProjection.ALL);
+    }
+
+    /**
+     * Read the Logical VorbisComment Tag from the file, only reading the comments wanted by projection
+     *
+     * @param raf
+     * @param projection
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public Tag read(RandomAccessFileProvider raf, ReadProjection projection) throws CannotReadException, IOException
     {
         logger.config("Starting to read ogg vorbis tag from file:");
         byte[] rawVorbisCommentData = readRawPacketData(raf);
 
         //Begin tag reading
-        VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true);
+        VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true, projection);
+        logger.fine("CompletedReadCommentTag");
+        return tag;
+    }
+
+    /**
+     * Read the Logical VorbisComment Tag from the file, only reading the comments wanted by projection. If lazy
+     * artwork is enabled the artwork comments are left in the file, recording where each part of the comment packet
+     * is held because the packet may be split over several pages.
+     *
+     * @param raf
+     * @param projection
+     * @param provider the file raf was opened on
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public Tag read(RandomAccessFileProvider raf, ReadProjection projection, FileSystemProvider provider) throws CannotReadException, IOException
+    {
+        if (provider == null || !TagOptions.current().isLazyArtwork())
+        {
+            return read(raf, projection);
+        }
+
+        logger.config("Starting to read ogg vorbis tag from file:");
+        List<Long> regionOffsets = new ArrayList<Long>();
+        List<Integer> regionLengths = new ArrayList<Integer>();
+        byte[] rawVorbisCommentData = readRawPacketData(raf, regionOffsets, regionLengths);
+
+        long[] offsets = new long[regionOffsets.size()];
+        int[] lengths = new int[regionLengths.size()];
+        for (int i = 0; i < offsets.length; i++)
+        {
+            offsets[i] = regionOffsets.get(i);
+            lengths[i] = regionLengths.get(i);
+        }
+
+        //Begin tag reading
+        VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true, projection, new FileImageData(provider, offsets, lengths));
         logger.fine("CompletedReadCommentTag");
         return tag;
     }
@@ -101,15 +159,25 @@ public class OggVorbisTagReader
      */
     public byte[] readRawPacketData(RandomAccessFileProvider raf) throws CannotReadException, IOException
     {
+        return readRawPacketData(raf, null, null);
+    }
+
+    /**
+     * Retrieve the raw VorbisComment packet data, recording the position and length of each part of the packet
+     * within the file if regionOffsets is not null
+     */
+    private byte[] readRawPacketData(RandomAccessFileProvider raf, List<Long> regionOffsets, List<Integer> regionLengths) throws CannotReadException, IOException
+    {
+        BlockCache cache = BlockCache.wrap(raf);
         logger.fine("Read 1st page");
         //1st page = codec infos
-        OggPageHeader pageHeader = OggPageHeader.read(raf);
+        OggPageHeader pageHeader = OggPageHeader.read(cache);
         //Skip over data to end of page header 1
         raf.seek(raf.getFilePointer() + pageHeader.getPageLength());
 
         logger.fine("Read 2nd page");
         //2nd page = comment, may extend to additional pages or not , may also have setup header
-        pageHeader = OggPageHeader.read(raf);
+        pageHeader = OggPageHeader.read(cache);
 
         //Now at start of packets on page 2 , check this is the vorbis comment header 
         byte[] b = new byte[VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH];
@@ -120,7 +188,7 @@ public class OggVorbisTagReader
         }
 
         //Convert the comment raw data which maybe over many pages back into raw packet
-        byte[] rawVorbisCommentData = convertToVorbisCommentPacket(pageHeader, raf);
+        byte[] rawVorbisCommentData = convertToVorbisCommentPacket(pageHeader, raf, regionOffsets, regionLengths);
         return rawVorbisCommentData;
     }
 
@@ -156,14 +224,17 @@ public class OggVorbisTagReader
      * extract the packet data from the pages
      * @param startVorbisCommentPage
      * @param raf
+     * @param regionOffsets if not null the position of each part of the packet within the file is added
+     * @param regionLengths if not null the length of each part of the packet is added
      * @throws org.jaudiotagger.audio.exceptions.CannotReadException
      * @throws IOException
      * @return
      */
-    private byte[] convertToVorbisCommentPacket(OggPageHeader startVorbisCommentPage, RandomAccessFileProvider raf) throws IOException, CannotReadException
+    private byte[] convertToVorbisCommentPacket(OggPageHeader startVorbisCommentPage, RandomAccessFileProvider raf, List<Long> regionOffsets, List<Integer> regionLengths) throws IOException, CannotReadException
     {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         byte[] b = new byte[startVorbisCommentPage.getPacketList().get(0).getLength() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH)];
+        addRegion(raf, b.length, regionOffsets, regionLengths);
         raf.read(b);
         baos.write(b);
 
@@ -189,6 +260,7 @@ public class OggVorbisTagReader
             logger.config("Reading next page");
             OggPageHeader nextPageHeader = OggPageHeader.read(raf);
             b = new byte[nextPageHeader.getPacketList().get(0).getLength()];
+            addRegion(raf, b.length, regionOffsets, regionLengths);
             raf.read(b);
             baos.write(b);
 
@@ -209,6 +281,18 @@ public class OggVorbisTagReader
         }
     }
 
+    /**
+     * Record that the next length bytes of raf are part of the comment packet
+     */
+    private void addRegion(RandomAccessFileProvider raf, int length, List<Long> regionOffsets, List<Integer> regionLengths) throws IOException
+    {
+        if (regionOffsets != null)
+        {
+            regionOffsets.add(raf.getFilePointer());
+            regionLengths.add(length);
+        }
+    }
+
     /**
      * The Vorbis Setup Header may span multiple(2) pages, athough it doesnt normally. We pass the start of the
      * file offset of the OggPage it belongs on, it probably won't be first packet.
@@ -582,6 +666,71 @@ public class OggVorbisTagReader
         return new OggVorbisHeaderSizes(commentHeaderStartPosition, setupHeaderStartPosition, commentHeaderSize, setupHeaderSize, extraPackets);
     }
 
+    /**
+     * Find the audio data, this is the packet data of every page after the identification, comment and setup headers.
+     * The page headers are not included because writing a new comment renumbers the pages that follow it.
+     *
+     * @param raf
+     * @return the audio packet data of each page in file order
+     * @throws CannotReadException if the setup header cannot be found
+     * @throws IOException
+     */
+    public List<AudioPayloadHasher.Region> readAudioPayloadRegions(RandomAccessFileProvider raf) throws CannotReadException, IOException
+    {
+        List<AudioPayloadHasher.Region> regions = new ArrayList<AudioPayloadHasher.Region>();
+        BlockCache cache = BlockCache.wrap(raf);
+        long fileLength = raf.length();
+
+        //Identification, comment and setup header packets come before the audio
+        int headerPacketsRemaining = 3;
+        while (raf.getFilePointer() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH <= fileLength)
+        {
+            OggPageHeader pageHeader;
+            try
+            {
+                pageHeader = OggPageHeader.read(cache);
+            }
+            catch (CannotReadException cre)
+            {
+                if (headerPacketsRemaining > 0)
+                {
+                    throw cre;
+                }
+                logger.warning("Audio data ends at:" + raf.getFilePointer() + ":" + cre.getMessage());
+                break;
+            }
+
+            long dataStart = raf.getFilePointer();
+            long audioStart = dataStart;
+            for (byte segment : pageHeader.getSegmentTable())
+            {
+                if (headerPacketsRemaining == 0)
+                {
+                    break;
+                }
+                audioStart += segment & 0xFF;
+                //A segment shorter than the maximum ends the packet
+                if ((segment & 0xFF) < OggPageHeader.MAXIMUM_SEGMENT_SIZE)
+                {
+                    headerPacketsRemaining--;
+                }
+            }
+
+            long dataEnd = Math.min(dataStart + pageHeader.getPageLength(), fileLength);
+            if (headerPacketsRemaining == 0 && audioStart < dataEnd)
+            {
+                regions.add(new AudioPayloadHasher.Region(audioStart, dataEnd));
+            }
+            raf.seek(dataStart + pageHeader.getPageLength());
+        }
+
+        if (headerPacketsRemaining > 0)
+        {
+            throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_SETUP_BLOCK.getMsg());
+        }
+        return regions;
+    }
+
     /**
      * Find the length of the raw packet data and the start position of the ogg page header they start in
      * for the two OggVorbisHeader we need to know about when writing data (sizes included vorbis header)
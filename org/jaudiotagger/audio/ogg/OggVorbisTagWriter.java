@@ -19,6 +19,7 @@
  */
 package org.jaudiotagger.audio.ogg;
 
+import org.extra.FileChannelProvider;
 import org.extra.RandomAccessFileProvider;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
@@ -46,6 +47,9 @@ public class OggVorbisTagWriter
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
+    //Size of the read and write buffers used when copying the audio pages, must hold at least one complete page
+    private static final int WRITE_REMAINING_PAGES_BUFFER_SIZE = Math.max(1024 * 1024, OggPageHeader.MAXIMUM_PAGE_SIZE);
+
     private OggVorbisCommentTagCreator tc = new OggVorbisCommentTagCreator();
     private OggVorbisTagReader reader = new OggVorbisTagReader();
 
@@ -72,6 +76,12 @@ public class OggVorbisTagWriter
     {
         logger.config("Starting to write file:");
 
+        //Artwork left in the file must be read before the file is replaced
+        if (tag instanceof VorbisCommentTag)
+        {
+            ((VorbisCommentTag) tag).loadArtwork();
+        }
+
         //1st Page:Identification Header
         logger.fine("Read 1st Page:identificationHeader:");
         OggPageHeader pageHeader = OggPageHeader.read(raf);
@@ -148,19 +158,34 @@ public class OggVorbisTagWriter
      * @param page
      */
     private void calculateChecksumOverPage(ByteBuffer page)
-    {           
-        //CRC should be zero before calculating it
-        page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+    {
+        calculateChecksumOverPage(page, 0, page.capacity());
 
-        //Compute CRC over the  page  //TODO shouldnt really use array();
-        byte[] crc = OggCRCFactory.computeCRC(page.array());
-        for (int i = 0; i < crc.length; i++)
+        //Rewind to start of Page
+        page.rewind();
+    }
+
+    /**
+     * Calculate checksum for the page held within the buffer and store it in the page header, the position of the
+     * buffer is not modified
+     *
+     * @param buffer
+     * @param pageStart  index of the start of the page within buffer
+     * @param pageLength length of page including header
+     */
+    private void calculateChecksumOverPage(ByteBuffer buffer, int pageStart, int pageLength)
+    {
+        //CRC should be zero before calculating it
+        for (int i = 0; i < OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH; i++)
         {
-            page.put(OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, crc[i]);
+            buffer.put(pageStart + OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, (byte) 0);
         }
 
-        //Rewind to start of Page
-        page.rewind();
+        int crc = OggCRCFactory.computeCRC(buffer, pageStart, pageLength);
+        for (int i = 0; i < OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH; i++)
+        {
+            buffer.put(pageStart + OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, (byte) (crc >>> (8 * i)));
+        }
     }
 
     /**
@@ -436,6 +461,10 @@ public class OggVorbisTagWriter
     /**
      * Write all the remaining pages as they are except that the page sequence needs to be modified.
      *
+     * Pages are streamed through fixed size buffers so the memory used does not depend on the size of the file, the
+     * read buffer is refilled whenever it may no longer hold a complete page and the renumbered pages are written to
+     * the temp file each time the write buffer is full.
+     *
      * @param pageSequence
      * @param raf
      * @param rafTemp
@@ -447,17 +476,42 @@ public class OggVorbisTagWriter
     {
         long startAudio = raf.getFilePointer();
         long startAudioWritten = rafTemp.getFilePointer();
+        long fileLength = raf.length();
+        long readPosition = startAudio;
 
-        //TODO there is a risk we wont have enough memory to create these buffers
-        ByteBuffer bb       = ByteBuffer.allocate((int) (raf.length() - raf.getFilePointer()));
-        ByteBuffer bbTemp   = ByteBuffer.allocate((int)(raf.length() - raf.getFilePointer()));
+        FileChannelProvider fc     = raf.getChannelProvider();
+        FileChannelProvider fcTemp = rafTemp.getChannelProvider();
+
+        //Empty read buffer ready to be filled
+        ByteBuffer bb       = ByteBuffer.allocate(WRITE_REMAINING_PAGES_BUFFER_SIZE);
+        ByteBuffer bbTemp   = ByteBuffer.allocate(WRITE_REMAINING_PAGES_BUFFER_SIZE);
+        bbTemp.order(ByteOrder.LITTLE_ENDIAN);
+        bb.limit(0);
 
-        //Read in the rest of the data into bytebuffer and rewind it to start
-        raf.getChannelProvider().read(bb);
-        bb.rewind();
         long bytesToDiscard = 0;
-        while(bb.hasRemaining())
+        while(true)
         {
+            //Refill unless buffer certainly holds the next complete page or there is no more to read
+            if(bb.remaining() < OggPageHeader.MAXIMUM_PAGE_SIZE && readPosition < fileLength)
+            {
+                bb.compact();
+                while(bb.hasRemaining() && readPosition < fileLength)
+                {
+                    int read = fc.read(bb, readPosition);
+                    if(read <= 0)
+                    {
+                        break;
+                    }
+                    readPosition += read;
+                }
+                bb.flip();
+            }
+
+            if(!bb.hasRemaining())
+            {
+                break;
+            }
+
             OggPageHeader nextPage=null;
             try
             {
@@ -470,7 +524,7 @@ public class OggVorbisTagWriter
                 //#117:Ogg file with invalid ID3v1 tag at end remove and save
                 if(Utils.readThreeBytesAsChars(bb).equals(AbstractID3v1Tag.TAG))
                 {
-                    bytesToDiscard = bb.remaining() + AbstractID3v1Tag.TAG.length();
+                    bytesToDiscard = bb.remaining() + (fileLength - readPosition) + AbstractID3v1Tag.TAG.length();
                     break;
                 }
                 else
@@ -478,34 +532,50 @@ public class OggVorbisTagWriter
                     throw cre;
                 }
             }
-            //Create buffer large enough for next page (header and data) and set byte order to LE so we can use
-            //putInt method
-            ByteBuffer nextPageHeaderBuffer = ByteBuffer.allocate(nextPage.getRawHeaderData().length + nextPage.getPageLength());
-            nextPageHeaderBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            nextPageHeaderBuffer.put(nextPage.getRawHeaderData());
+            //Copy page directly into the write buffer, then renumber and checksum it in place
+            int nextPageLength = nextPage.getRawHeaderData().length + nextPage.getPageLength();
+            if(bbTemp.remaining() < nextPageLength)
+            {
+                writeBuffer(bbTemp, fcTemp);
+            }
+            int nextPageStart = bbTemp.position();
+            bbTemp.put(nextPage.getRawHeaderData());
             ByteBuffer data = bb.slice();
             data.limit(nextPage.getPageLength());
-            nextPageHeaderBuffer.put(data);
-            nextPageHeaderBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
-            calculateChecksumOverPage(nextPageHeaderBuffer);
+            bbTemp.put(data);
+            bbTemp.putInt(nextPageStart + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
+            calculateChecksumOverPage(bbTemp, nextPageStart, nextPageLength);
             bb.position(bb.position() + nextPage.getPageLength());
-
-            nextPageHeaderBuffer.rewind();
-            bbTemp.put(nextPageHeaderBuffer);
         }
-        //Now just write as a single IO operation
-        bbTemp.flip();
-        rafTemp.getChannelProvider().write(bbTemp);
+        writeBuffer(bbTemp, fcTemp);
+
         //Check we have written all the data (minus any invalid Tag at end)
-        if ((raf.length() - startAudio) != ((rafTemp.length() + bytesToDiscard) - startAudioWritten))
+        if ((fileLength - startAudio) != ((rafTemp.length() + bytesToDiscard) - startAudioWritten))
         {
             throw new CannotWriteException("File written counts don't match, file not written:"
-                    +"origAudioLength:"+(raf.length() - startAudio)
+                    +"origAudioLength:"+(fileLength - startAudio)
                     +":newAudioLength:"+((rafTemp.length() + bytesToDiscard) - startAudioWritten)
                     +":bytesDiscarded:"+bytesToDiscard);
         }
     }
 
+    /**
+     * Write contents of buffer to channel and clear it ready for reuse
+     *
+     * @param bb
+     * @param fc
+     * @throws IOException
+     */
+    private void writeBuffer(ByteBuffer bb, FileChannelProvider fc) throws IOException
+    {
+        bb.flip();
+        while(bb.hasRemaining())
+        {
+            fc.write(bb);
+        }
+        bb.clear();
+    }
+
     /**
      * This method creates a new segment table for the second page (header).
      *
@@ -18,14 +18,17 @@
  */
 package org.jaudiotagger.audio.ogg.util;
 
-import org.extra.Utils;
-
+import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 
 
 /**
  * OffCRC Calculations
  *
+ * The Ogg CRC is a CRC-32 with polynomial 0x04c11db7, zero initial value, no reflection and no final xor. It is
+ * calculated eight bytes at a time (slice-by-8) using eight lookup tables, the first being the usual byte at a time
+ * table and each subsequent table giving the effect of a byte followed by one more zero byte.
+ *
  * $Id$
  *
  * @author Raphael Slinckx (KiKiDonK)
@@ -36,21 +39,26 @@ public class OggCRCFactory
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private static long[] crc_lookup = new long[256];
-    private static boolean init = false;
+    private static final int POLYNOMIAL = 0x04c11db7;
+
+    private static final int[][] crc_lookup = new int[8][256];
 
+    static
+    {
+        init();
+    }
 
     public static void init()
     {
         for (int i = 0; i < 256; i++)
         {
-            long r = i << 24;
+            int r = i << 24;
 
             for (int j = 0; j < 8; j++)
             {
-                if ((r & 0x80000000L) != 0)
+                if ((r & 0x80000000) != 0)
                 {
-                    r = (r << 1) ^ 0x04c11db7L;
+                    r = (r << 1) ^ POLYNOMIAL;
                 }
                 else
                 {
@@ -58,43 +66,127 @@ public class OggCRCFactory
                 }
             }
 
-            crc_lookup[i] = (r);
+            crc_lookup[0][i] = r;
+        }
+
+        for (int i = 0; i < 256; i++)
+        {
+            for (int k = 1; k < 8; k++)
+            {
+                int prev = crc_lookup[k - 1][i];
+                crc_lookup[k][i] = (prev << 8) ^ crc_lookup[0][prev >>> 24];
+            }
         }
-        init = true;
     }
 
 
     public boolean checkCRC(byte[] data, byte[] crc)
     {
-        return Utils.getString(crc).equals(Utils.getString(computeCRC(data)));
+        int sum = computeCRC(data, 0, data.length);
+        return crc.length == 4
+                && crc[0] == (byte) sum
+                && crc[1] == (byte) (sum >>> 8)
+                && crc[2] == (byte) (sum >>> 16)
+                && crc[3] == (byte) (sum >>> 24);
     }
 
+    /**
+     * @param data
+     * @return crc of data as four bytes, least significant byte first as stored in the page header
+     */
     public static byte[] computeCRC(byte[] data)
     {
+        int crc_reg = computeCRC(data, 0, data.length);
 
-        if (!init)
-        {
-            init();
-        }
+        byte[] sum = new byte[4];
 
-        long crc_reg = 0;
+        sum[0] = (byte) crc_reg;
+        sum[1] = (byte) (crc_reg >>> 8);
+        sum[2] = (byte) (crc_reg >>> 16);
+        sum[3] = (byte) (crc_reg >>> 24);
 
-        for (byte aData : data)
-        {
-            int tmp = (int) (((crc_reg >>> 24) & 0xff) ^ u(aData));
+        return sum;
+    }
 
-            crc_reg = (crc_reg << 8) ^ crc_lookup[tmp];
-            crc_reg &= 0xffffffff;
-        }
+    /**
+     * Compute crc over the buffer from its position to its limit, the position is not modified
+     *
+     * @param buffer
+     * @return crc
+     */
+    public static int computeCRC(ByteBuffer buffer)
+    {
+        return computeCRC(buffer, buffer.position(), buffer.remaining());
+    }
 
-        byte[] sum = new byte[4];
+    /**
+     * Compute crc over a range of the buffer without copying it, works with both heap and direct buffers and
+     * does not modify the position of the buffer
+     *
+     * @param buffer
+     * @param offset absolute index of the first byte
+     * @param length number of bytes
+     * @return crc
+     */
+    public static int computeCRC(ByteBuffer buffer, int offset, int length)
+    {
+        if (buffer.hasArray())
+        {
+            return computeCRC(buffer.array(), buffer.arrayOffset() + offset, length);
+        }
 
-        sum[0] = (byte) (crc_reg & 0xffL);
-        sum[1] = (byte) ((crc_reg >>> 8) & 0xffL);
-        sum[2] = (byte) ((crc_reg >>> 16) & 0xffL);
-        sum[3] = (byte) ((crc_reg >>> 24) & 0xffL);
+        int crc_reg = 0;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8)
+        {
+            crc_reg ^= (u(buffer.get(i)) << 24) | (u(buffer.get(i + 1)) << 16) | (u(buffer.get(i + 2)) << 8) | u(buffer.get(i + 3));
+            crc_reg = crc_lookup[7][crc_reg >>> 24]
+                    ^ crc_lookup[6][(crc_reg >>> 16) & 0xff]
+                    ^ crc_lookup[5][(crc_reg >>> 8) & 0xff]
+                    ^ crc_lookup[4][crc_reg & 0xff]
+                    ^ crc_lookup[3][u(buffer.get(i + 4))]
+                    ^ crc_lookup[2][u(buffer.get(i + 5))]
+                    ^ crc_lookup[1][u(buffer.get(i + 6))]
+                    ^ crc_lookup[0][u(buffer.get(i + 7))];
+        }
+        for (; i < end; i++)
+        {
+            crc_reg = (crc_reg << 8) ^ crc_lookup[0][(crc_reg >>> 24) ^ u(buffer.get(i))];
+        }
+        return crc_reg;
+    }
 
-        return sum;
+    /**
+     * Compute crc over a range of the array
+     *
+     * @param data
+     * @param offset
+     * @param length
+     * @return crc
+     */
+    public static int computeCRC(byte[] data, int offset, int length)
+    {
+        int crc_reg = 0;
+        int end = offset + length;
+        int i = offset;
+        for (; i + 8 <= end; i += 8)
+        {
+            crc_reg ^= (u(data[i]) << 24) | (u(data[i + 1]) << 16) | (u(data[i + 2]) << 8) | u(data[i + 3]);
+            crc_reg = crc_lookup[7][crc_reg >>> 24]
+                    ^ crc_lookup[6][(crc_reg >>> 16) & 0xff]
+                    ^ crc_lookup[5][(crc_reg >>> 8) & 0xff]
+                    ^ crc_lookup[4][crc_reg & 0xff]
+                    ^ crc_lookup[3][u(data[i + 4])]
+                    ^ crc_lookup[2][u(data[i + 5])]
+                    ^ crc_lookup[1][u(data[i + 6])]
+                    ^ crc_lookup[0][u(data[i + 7])];
+        }
+        for (; i < end; i++)
+        {
+            crc_reg = (crc_reg << 8) ^ crc_lookup[0][(crc_reg >>> 24) ^ u(data[i])];
+        }
+        return crc_reg;
     }
 
 
@@ -103,4 +195,3 @@ public class OggCRCFactory
         return n & 0xff;
     }
 }
-
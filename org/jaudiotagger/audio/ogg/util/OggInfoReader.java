@@ -38,12 +38,14 @@ public class OggInfoReader
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg.atom");
 
+    //Size of each window read when searching backwards from the end of file for the last page
+    private static final int LAST_PAGE_SEARCH_WINDOW_SIZE = 64 * 1024;
+
     public GenericAudioHeader read(RandomAccessFileProvider raf) throws CannotReadException, IOException
     {
         long start = raf.getFilePointer();
         GenericAudioHeader info = new GenericAudioHeader();
         logger.fine("Started");
-        long oldPos;
 
         //Check start of file does it have Ogg pattern
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
@@ -67,37 +69,13 @@ public class OggInfoReader
 
         //Now work backwards from file looking for the last ogg page, it reads the granule position for this last page
         //which must be set.
-        //TODO should do buffering to cut down the number of file reads
-        raf.seek(start);
         double pcmSamplesNumber = -1;
-        raf.seek(raf.length() - 2);
-        while (raf.getFilePointer() >= 4)
+        OggPageHeader lastPageHeader = findLastPageHeader(raf, start);
+        if (lastPageHeader != null)
         {
-            if (raf.read() == OggPageHeader.CAPTURE_PATTERN[3])
-            {
-                raf.seek(raf.getFilePointer() - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH);
-                byte[] ogg = new byte[3];
-                raf.readFully(ogg);
-                if (ogg[0] == OggPageHeader.CAPTURE_PATTERN[0] && ogg[1] == OggPageHeader.CAPTURE_PATTERN[1] && ogg[2] == OggPageHeader.CAPTURE_PATTERN[2])
-                {
-                    raf.seek(raf.getFilePointer() - 3);
-
-                    oldPos = raf.getFilePointer();
-                    raf.seek(raf.getFilePointer() + OggPageHeader.FIELD_PAGE_SEGMENTS_POS);
-                    int pageSegments = raf.readByte() & 0xFF; //Unsigned
-                    raf.seek(oldPos);
-
-                    b = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
-                    raf.readFully(b);
-
-                    OggPageHeader pageHeader = new OggPageHeader(b);
-                    raf.seek(0);
-                    pcmSamplesNumber = pageHeader.getAbsoluteGranulePosition();
-                    break;
-                }
-            }
-            raf.seek(raf.getFilePointer() - 2);
+            pcmSamplesNumber = lastPageHeader.getAbsoluteGranulePosition();
         }
+        raf.seek(0);
 
         if (pcmSamplesNumber == -1)
         {
@@ -147,6 +125,62 @@ public class OggInfoReader
         return info;
     }
 
+    /**
+     * Search backwards from the end of the file for the start of the last Ogg page.
+     *
+     * The file is read in windows working back from the end of file, each window is searched in memory for the
+     * capture pattern, and a candidate is only accepted if the page header following it is complete and has a
+     * supported stream structure version, otherwise the search continues. Each window is extended by the maximum page
+     * header size so that a page header starting near the end of a window can be verified without another read.
+     *
+     * @param raf
+     * @param start the start of the first ogg page, the search does not go before this
+     * @return header of the last page, or null if no page could be found
+     * @throws IOException
+     */
+    private OggPageHeader findLastPageHeader(RandomAccessFileProvider raf, long start) throws IOException
+    {
+        long fileLength = raf.length();
+        long windowEnd  = fileLength;
+        byte[] buffer   = null;
+        while (windowEnd > start)
+        {
+            long windowStart = Math.max(start, windowEnd - LAST_PAGE_SEARCH_WINDOW_SIZE);
+            long readEnd     = Math.min(fileLength, windowEnd + OggPageHeader.MAXIMUM_PAGE_HEADER_SIZE);
+            int  readLength  = (int) (readEnd - windowStart);
+            if (buffer == null || buffer.length < readLength)
+            {
+                buffer = new byte[readLength];
+            }
+            raf.seek(windowStart);
+            raf.readFully(buffer, 0, readLength);
+
+            for (int i = (int) (windowEnd - windowStart) - 1; i >= 0; i--)
+            {
+                if (buffer[i] == OggPageHeader.CAPTURE_PATTERN[0]
+                        && i + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH <= readLength
+                        && buffer[i + 1] == OggPageHeader.CAPTURE_PATTERN[1]
+                        && buffer[i + 2] == OggPageHeader.CAPTURE_PATTERN[2]
+                        && buffer[i + 3] == OggPageHeader.CAPTURE_PATTERN[3]
+                        && buffer[i + OggPageHeader.FIELD_STREAM_STRUCTURE_VERSION_POS] == 0)
+                {
+                    int pageSegments = buffer[i + OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xFF; //Unsigned
+                    int headerLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments;
+                    if (i + headerLength <= readLength)
+                    {
+                        byte[] b = new byte[headerLength];
+                        System.arraycopy(buffer, i, b, 0, headerLength);
+                        OggPageHeader pageHeader = new OggPageHeader(b);
+                        pageHeader.setStartByte(windowStart + i);
+                        return pageHeader;
+                    }
+                }
+            }
+            windowEnd = windowStart;
+        }
+        return null;
+    }
+
     private int computeBitrate(int length, long size)
     {
         //Protect against audio less than 0.5 seconds that can be rounded to zero causing Arithmetic Exception
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.ogg.util;
 import org.extra.RandomAccessFileProvider;
 import org.extra.Utils;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
@@ -183,6 +184,46 @@ public class OggPageHeader
         return pageHeader;
     }
 
+    /**
+     * Read next PageHeader from file through the read cache
+     *
+     * @param cache
+     * @return
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public static OggPageHeader read(BlockCache cache) throws IOException, CannotReadException
+    {
+        long start = cache.position();
+        logger.fine("Trying to read OggPage at:" + start);
+
+        ByteBuffer fixed = ByteBuffer.allocate(OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH);
+        int fixedRead = cache.read(fixed, start);
+        byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
+        fixed.rewind();
+        fixed.get(b);
+        if (!(Arrays.equals(b, OggPageHeader.CAPTURE_PATTERN)) || fixedRead < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH)
+        {
+            //Unusual so let file based method deal with leading ID3 tags and errors
+            if (cache.getRandomAccessFile() != null)
+            {
+                cache.position(start);
+                return read(cache.getRandomAccessFile());
+            }
+            throw new CannotReadException(ErrorMessage.OGG_HEADER_CANNOT_BE_FOUND.getMsg(Utils.getString(b)));
+        }
+
+        int pageSegments = fixed.get(OggPageHeader.FIELD_PAGE_SEGMENTS_POS) & 0xFF; //unsigned
+        b = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
+        cache.read(ByteBuffer.wrap(b), start);
+        cache.position(start + b.length);
+
+        OggPageHeader pageHeader = new OggPageHeader(b);
+        pageHeader.setStartByte(start);
+        //Now just after PageHeader, ready for Packet Data
+        return pageHeader;
+    }
+
     public OggPageHeader(byte[] b)
     {
         this.rawHeaderData = b;
@@ -19,11 +19,12 @@
 package org.jaudiotagger.audio.wav;
 
 import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader2;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.wav.WavTag;
 
 import java.io.IOException;
@@ -46,8 +47,14 @@ public class WavFileReader extends AudioFileReader2
     @Override
     protected Tag getTag(FileSystemProvider provider) throws IOException, CannotReadException
     {           
-        WavTag tag =  new WavTagReader(provider.toString()).read(provider);
-        switch (TagOptionSingleton.getInstance().getWavOptions())
+        return getTag(provider, ReadProjection.ALL);
+    }
+
+    @Override
+    protected Tag getTag(FileSystemProvider provider, ReadProjection projection) throws IOException, CannotReadException
+    {
+        WavTag tag =  new WavTagReader(provider.toString(), projection).read(provider);
+        switch (TagOptions.current().getWavOptions())
         {
             case READ_ID3_ONLY_AND_SYNC:
             case READ_ID3_UNLESS_ONLY_INFO_AND_SYNC:
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.wav;
 import org.extra.FileChannelProvider;
 import org.extra.FileSystemProvider;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
@@ -55,8 +56,9 @@ public class WavInfoReader
         FileChannelProvider fc = FileChannelProvider.open(provider);
         try {
             if (WavRIFFHeader.isValidHeader(fc)) {
+                BlockCache cache = BlockCache.wrap(fc);
                 while (fc.position() < fc.size()) {
-                    if (!readChunk(fc, info)) {
+                    if (!readChunk(fc, cache, info)) {
                         break;
                     }
                 }
@@ -101,11 +103,11 @@ public class WavInfoReader
     /**
      * Reads a Wav Chunk.
      */
-    protected boolean readChunk(FileChannelProvider fc, GenericAudioHeader info) throws IOException, CannotReadException
+    protected boolean readChunk(FileChannelProvider fc, BlockCache cache, GenericAudioHeader info) throws IOException, CannotReadException
     {
         Chunk chunk;
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
-        if (!chunkHeader.readHeader(fc))
+        if (!chunkHeader.readHeader(cache))
         {
             return false;
         }
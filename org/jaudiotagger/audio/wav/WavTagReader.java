@@ -20,7 +20,9 @@ package org.jaudiotagger.audio.wav;
 
 import org.extra.FileChannelProvider;
 import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.BlockCache;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
@@ -29,7 +31,7 @@ import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.wav.chunk.WavId3Chunk;
 import org.jaudiotagger.audio.wav.chunk.WavListChunk;
 import org.jaudiotagger.logging.Hex;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
 
@@ -45,9 +47,20 @@ public class WavTagReader
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
 
     private String loggingName;
+    private ReadProjection projection;
     public WavTagReader(String loggingName)
+    {
+        this(loggingName, ReadProjection.ALL);
+    }
+
+    /**
+     * @param loggingName
+     * @param projection the fields wanted, the LIST INFO values and ID3 frames for other fields are skipped
+     */
+    public WavTagReader(String loggingName, ReadProjection projection)
     {
         this.loggingName = loggingName;
+        this.projection  = projection;
     }
 
 
@@ -62,12 +75,13 @@ public class WavTagReader
     public WavTag read(FileSystemProvider provider) throws CannotReadException, IOException
     {
         logger.config(loggingName + " Read Tag:start");
-        WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
+        WavTag tag = new WavTag(TagOptions.current().getWavOptions());
         FileChannelProvider fc = FileChannelProvider.open(provider);
         try {
             if (WavRIFFHeader.isValidHeader(fc)) {
+                BlockCache cache = BlockCache.wrap(fc);
                 while (fc.position() < fc.size()) {
-                    if (!readChunk(fc, tag)) {
+                    if (!readChunk(fc, cache, tag)) {
                         break;
                     }
                 }
@@ -109,11 +123,11 @@ public class WavTagReader
      * @return
      * @throws IOException
      */
-    protected boolean readChunk(FileChannelProvider fc, WavTag tag)throws IOException, CannotReadException
+    protected boolean readChunk(FileChannelProvider fc, BlockCache cache, WavTag tag)throws IOException, CannotReadException
     {
         Chunk chunk;
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.LITTLE_ENDIAN);
-        if (!chunkHeader.readHeader(fc))
+        if (!chunkHeader.readHeader(cache))
         {
             return false;
         }
@@ -127,7 +141,7 @@ public class WavTagReader
                 case LIST:
                     tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(), chunkHeader.getStartLocationInFile(), chunkHeader.getSize()));
                     if (tag.getInfoTag() == null) {
-                        chunk = new WavListChunk(loggingName, Utils.readFileDataIntoBufferLE(fc, (int) chunkHeader.getSize()), chunkHeader, tag);
+                        chunk = new WavListChunk(loggingName, Utils.readFileDataIntoBufferLE(fc, (int) chunkHeader.getSize()), chunkHeader, tag, projection);
                         if (!chunk.readChunk()) {
                             return false;
                         }
@@ -150,7 +164,7 @@ public class WavTagReader
                 case ID3_NEW:
                     tag.addChunkSummary(new ChunkSummary(chunkHeader.getID(), chunkHeader.getStartLocationInFile(), chunkHeader.getSize()));
                     if (tag.getID3Tag() == null) {
-                        chunk = new WavId3Chunk(Utils.readFileDataIntoBufferLE(fc, (int) chunkHeader.getSize()), chunkHeader, tag);
+                        chunk = new WavId3Chunk(Utils.readFileDataIntoBufferLE(fc, (int) chunkHeader.getSize()), chunkHeader, tag, projection);
                         if (!chunk.readChunk()) {
                             return false;
                         }
@@ -33,7 +33,7 @@ import org.jaudiotagger.audio.wav.chunk.WavInfoIdentifier;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
@@ -278,7 +278,7 @@ public class WavTagWriter
         //Position for reading after the tag
         fc.position(endOfExistingChunk);
 
-        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptionSingleton.getInstance().getWriteChunkSize());
+        final ByteBuffer buffer = ByteBuffer.allocate((int) TagOptions.current().getWriteChunkSize());
         while (fc.read(buffer) >= 0 || buffer.position() != 0)
         {
             buffer.flip();
@@ -304,7 +304,7 @@ public class WavTagWriter
     {
         logger.config(loggingName + " Writing tag to file:start");
 
-        WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
+        WavSaveOptions wso = TagOptions.current().getWavSaveOptions();
         WavTag existingTag = null;
         try
         {
@@ -508,7 +508,7 @@ public class WavTagWriter
                 //Add a duplicated record for Twonky
                 if(wii==WavInfoIdentifier.TRACKNO)
                 {
-                    if(TagOptionSingleton.getInstance().isWriteWavForTwonky())
+                    if(TagOptions.current().isWriteWavForTwonky())
                     {
                         baos.write(Utils.toBytes(WavInfoIdentifier.TWONKY_TRACKNO.getCode(), StandardCharsets.US_ASCII));
                         logger.config(loggingName + " Writing:" + WavInfoIdentifier.TWONKY_TRACKNO.getCode() + ":" + next.getContent());
@@ -884,7 +884,7 @@ public class WavTagWriter
     private void writeBothTags(FileChannelProvider fc, ByteBuffer infoTagBuffer, ByteBuffer id3TagBuffer)
             throws IOException
     {
-        if(TagOptionSingleton.getInstance().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
+        if(TagOptions.current().getWavSaveOrder()==WavSaveOrder.INFO_THEN_ID3)
         {
             writeInfoDataToFile(fc, infoTagBuffer);
             writeID3DataToFile(fc, id3TagBuffer);
@@ -1,13 +1,12 @@
 package org.jaudiotagger.audio.wav.chunk;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
-import org.jaudiotagger.tag.id3.ID3v22Tag;
-import org.jaudiotagger.tag.id3.ID3v23Tag;
-import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.id3.ID3v2TagFactory;
 import org.jaudiotagger.tag.wav.WavTag;
 
 import java.io.IOException;
@@ -21,6 +20,7 @@ public class WavId3Chunk extends Chunk
 {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav.chunk");
     private WavTag wavTag;
+    private ReadProjection projection;
 
     /**
      * Constructor.
@@ -29,38 +29,32 @@ public class WavId3Chunk extends Chunk
      * @param tag        The WavTag into which information is stored
      */
     public WavId3Chunk(final ByteBuffer chunkData, final ChunkHeader chunkHeader, final WavTag tag)
+    {
+        this(chunkData, chunkHeader, tag, ReadProjection.ALL);
+    }
+
+    /**
+     * Constructor.
+     *  @param chunkData  The content of this chunk
+     * @param chunkHeader        The header for this chunk
+     * @param tag        The WavTag into which information is stored
+     * @param projection The fields wanted, frames for other fields are skipped
+     */
+    public WavId3Chunk(final ByteBuffer chunkData, final ChunkHeader chunkHeader, final WavTag tag, final ReadProjection projection)
     {
         super(chunkData, chunkHeader);
         wavTag = tag;
+        this.projection = projection;
     }
 
     @Override
     public boolean readChunk() throws IOException
     {
-        if (!isId3v2Tag(chunkData))
+        final AbstractID3v2Tag id3Tag = ID3v2TagFactory.createTag(chunkData);
+        if (id3Tag == null)
         {
             logger.severe("Invalid ID3 header for ID3 chunk");
-            return false;
-        }
-
-        final int version = chunkData.get();
-        final AbstractID3v2Tag id3Tag;
-        switch (version)
-        {
-            case ID3v22Tag.MAJOR_VERSION:
-                id3Tag = new ID3v22Tag();
-                AudioFile.logger.finest("Reading ID3V2.2 tag");
-                break;
-            case ID3v23Tag.MAJOR_VERSION:
-                id3Tag = new ID3v23Tag();
-                AudioFile.logger.finest("Reading ID3V2.3 tag");
-                break;
-            case ID3v24Tag.MAJOR_VERSION:
-                id3Tag = new ID3v24Tag();
-                AudioFile.logger.finest("Reading ID3V2.4 tag");
-                break;
-            default:
-                return false;     // bad or unknown version
+            return false;     // bad or unknown version
         }
 
         id3Tag.setStartLocationInFile(chunkHeader.getStartLocationInFile() + ChunkHeader.CHUNK_HEADER_SIZE);
@@ -71,6 +65,7 @@ public class WavId3Chunk extends Chunk
         chunkData.position(0);
         try
         {
+            id3Tag.setReadProjection(projection);
             id3Tag.read(chunkData);
         }
         catch (TagException e)
@@ -81,19 +76,4 @@ public class WavId3Chunk extends Chunk
         return true;
     }
 
-    /**
-     * Reads 3 bytes to determine if the tag really looks like ID3 data.
-     */
-    private boolean isId3v2Tag(final ByteBuffer headerData) throws IOException
-    {
-        for (int i = 0; i < AbstractID3v2Tag.FIELD_TAGID_LENGTH; i++)
-        {
-            if (headerData.get() != AbstractID3v2Tag.TAG_ID[i])
-            {
-                return false;
-            }
-        }
-        return true;
-    }
-
 }
@@ -4,6 +4,7 @@ import android.text.TextUtils;
 
 import org.extra.StandardCharsets;
 import org.extra.Utils;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.wav.WavInfoTag;
@@ -24,10 +25,22 @@ public class WavInfoChunk
 
     private WavInfoTag wavInfoTag;
     private String    loggingName;
+    private ReadProjection projection;
 
     public WavInfoChunk(WavTag tag, String loggingName)
+    {
+        this(tag, loggingName, ReadProjection.ALL);
+    }
+
+    /**
+     * @param tag
+     * @param loggingName
+     * @param projection only the fields wanted are read, other values are skipped over without being decoded
+     */
+    public WavInfoChunk(WavTag tag, String loggingName, ReadProjection projection)
     {
         this.loggingName = loggingName;
+        this.projection  = projection;
         wavInfoTag = new WavInfoTag();
         tag.setInfoTag(wavInfoTag);
     }
@@ -59,34 +72,32 @@ public class WavInfoChunk
                 return false;
             }
 
-            String value =null;
-            try
-            {
-                value = org.jaudiotagger.audio.generic.Utils.getString(chunkData, 0, size, StandardCharsets.UTF_8);
-            }
-            catch(BufferUnderflowException bue)
+            WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
+            if(!projection.isAll() && (wii==null || wii.getFieldKey()==null || !projection.includes(wii.getFieldKey())))
             {
-                logger.log(Level.SEVERE, loggingName + "LISTINFO appears corrupt, ignoring:"+bue.getMessage(), bue);
-                return false;
+                if(size < 0 || size > chunkData.remaining())
+                {
+                    logger.severe(loggingName + "LISTINFO appears corrupt, ignoring:"+id+":"+size);
+                    return false;
+                }
+                logger.config(loggingName + "Skipping:" + id + ":" + size);
+                chunkData.position(chunkData.position() + size);
             }
-
-            logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
-            WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
-            if(wii!=null && wii.getFieldKey()!=null)
+            else
             {
+                String value =null;
                 try
                 {
-                    wavInfoTag.setField(wii.getFieldKey(), value);
+                    value = org.jaudiotagger.audio.generic.Utils.getString(chunkData, 0, size, StandardCharsets.UTF_8);
                 }
-                catch(FieldDataInvalidException fdie)
+                catch(BufferUnderflowException bue)
                 {
-                    logger.log(Level.SEVERE, loggingName + fdie.getMessage(), fdie);
+                    logger.log(Level.SEVERE, loggingName + "LISTINFO appears corrupt, ignoring:"+bue.getMessage(), bue);
+                    return false;
                 }
-            }
-            //Add unless just padding
-            else if(id!=null && !id.trim().equals(""))
-            {
-                wavInfoTag.addUnRecognizedField(id, value);
+
+                logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+                addField(id, wii, value);
             }
 
             //Each tuple aligned on even byte boundary
@@ -97,4 +108,31 @@ public class WavInfoChunk
         }
         return true;
     }
+
+    /**
+     * Add value read for id to the tag
+     *
+     * @param id
+     * @param wii identifier for id, null if not recognised
+     * @param value
+     */
+    private void addField(String id, WavInfoIdentifier wii, String value)
+    {
+        if(wii!=null && wii.getFieldKey()!=null)
+        {
+            try
+            {
+                wavInfoTag.setField(wii.getFieldKey(), value);
+            }
+            catch(FieldDataInvalidException fdie)
+            {
+                logger.log(Level.SEVERE, loggingName + fdie.getMessage(), fdie);
+            }
+        }
+        //Add unless just padding
+        else if(id!=null && !id.trim().equals(""))
+        {
+            wavInfoTag.addUnRecognizedField(id, value);
+        }
+    }
 }
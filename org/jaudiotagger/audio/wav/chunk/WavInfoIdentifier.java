@@ -2,6 +2,8 @@ package org.jaudiotagger.audio.wav.chunk;
 
 import org.jaudiotagger.tag.FieldKey;
 
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -31,8 +33,27 @@ public enum WavInfoIdentifier
     COPYRIGHT("ICOP", null, 18),
     TWONKY_TRACKNO("itrk", null, 1), //Uses nonstandard field
     ;
-    private static final Map<String, WavInfoIdentifier> CODE_TYPE_MAP = new HashMap<String, WavInfoIdentifier>();
-    private static final Map<FieldKey, WavInfoIdentifier> FIELDKEY_TYPE_MAP = new HashMap<FieldKey, WavInfoIdentifier>();
+    /**
+     * Built once when the class is loaded and never modified, so they can be read by any thread without locking
+     */
+    private static final Map<String, WavInfoIdentifier> CODE_TYPE_MAP;
+    private static final Map<FieldKey, WavInfoIdentifier> FIELDKEY_TYPE_MAP;
+
+    static
+    {
+        Map<String, WavInfoIdentifier> codeTypeMap = new HashMap<String, WavInfoIdentifier>();
+        Map<FieldKey, WavInfoIdentifier> fieldKeyTypeMap = new EnumMap<FieldKey, WavInfoIdentifier>(FieldKey.class);
+        for (final WavInfoIdentifier type : values())
+        {
+            codeTypeMap.put(type.getCode(), type);
+            if (type.getFieldKey() != null)
+            {
+                fieldKeyTypeMap.put(type.getFieldKey(), type);
+            }
+        }
+        CODE_TYPE_MAP = Collections.unmodifiableMap(codeTypeMap);
+        FIELDKEY_TYPE_MAP = Collections.unmodifiableMap(fieldKeyTypeMap);
+    }
     private String code;
     private FieldKey fieldKey;
     private int      preferredWriteOrder;
@@ -65,15 +86,8 @@ public enum WavInfoIdentifier
      * @param code chunk id
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavInfoIdentifier getByCode(final String code)
+    public static WavInfoIdentifier getByCode(final String code)
     {
-        if (CODE_TYPE_MAP.isEmpty())
-        {
-            for (final WavInfoIdentifier type : values())
-            {
-                CODE_TYPE_MAP.put(type.getCode(), type);
-            }
-        }
         return CODE_TYPE_MAP.get(code);
     }
 
@@ -83,18 +97,8 @@ public enum WavInfoIdentifier
      * @param fieldKey
      * @return chunk type or {@code null} if not registered
      */
-    public synchronized static WavInfoIdentifier getByByFieldKey(final FieldKey fieldKey)
+    public static WavInfoIdentifier getByByFieldKey(final FieldKey fieldKey)
     {
-        if (FIELDKEY_TYPE_MAP.isEmpty())
-        {
-            for (final WavInfoIdentifier type : values())
-            {
-                if (type.getFieldKey() != null)
-                {
-                    FIELDKEY_TYPE_MAP.put(type.getFieldKey(), type);
-                }
-            }
-        }
         return FIELDKEY_TYPE_MAP.get(fieldKey);
     }
 }
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.audio.wav.chunk;
 
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
@@ -37,12 +38,19 @@ public class WavListChunk extends Chunk
 
     private WavTag tag;
     private String loggingName;
+    private ReadProjection projection;
 
     public WavListChunk(String loggingName, ByteBuffer chunkData, ChunkHeader chunkHeader, WavTag tag) throws IOException
+    {
+        this(loggingName, chunkData, chunkHeader, tag, ReadProjection.ALL);
+    }
+
+    public WavListChunk(String loggingName, ByteBuffer chunkData, ChunkHeader chunkHeader, WavTag tag, ReadProjection projection) throws IOException
     {
         super(chunkData, chunkHeader);
         this.tag=tag;
         this.loggingName = loggingName;
+        this.projection = projection;
     }
 
     /**
@@ -57,7 +65,7 @@ public class WavListChunk extends Chunk
         String subIdentifier = Utils.readFourBytesAsChars(chunkData);
         if(subIdentifier.equals(WavChunkType.INFO.getCode()))
         {
-            WavInfoChunk chunk = new WavInfoChunk(tag, loggingName);
+            WavInfoChunk chunk = new WavInfoChunk(tag, loggingName, projection);
             result = chunk.readChunks(chunkData);
             //This is the start of the enclosing LIST element
             tag.getInfoTag().setStartLocationInFile(chunkHeader.getStartLocationInFile());
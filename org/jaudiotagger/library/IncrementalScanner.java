@@ -0,0 +1,333 @@
+package org.jaudiotagger.library;
+
+import org.extra.FileFilter;
+import org.extra.FileProvider;
+import org.extra.FileSystemProvider;
+import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileFilter;
+import org.jaudiotagger.audio.AudioFileIO;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Rescans a library, reading only the files that are new or have changed since the last scan.
+ *
+ * <p>The files found by the previous scan are held in a {@link ScanManifest}. A file whose length and last modified
+ * time match its manifest entry is taken to be unchanged and is not opened, nor is it passed to the filter, so
+ * rescanning an unchanged library costs one directory listing per directory and a stat of each file. Files that are
+ * new or have changed are read with {@link AudioFileIO} and reported to the {@link DeltaListener} as they are found,
+ * files in the manifest that no longer exist are reported once the walk is complete. The manifest is updated as the
+ * scan proceeds so it describes the library when the scan returns.
+ *
+ * <p>If checksums are enabled a CRC32 of the start and end of each file read is kept in the manifest, then a file
+ * whose last modified time has changed but whose length and checksum have not, such as one touched or copied back from
+ * a backup, is not read again. Files whose length is unchanged are only checksummed when their time has changed.
+ */
+public class IncrementalScanner
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.library");
+
+    /**
+     * Number of bytes checksummed at each end of a file
+     */
+    private static final int CHECKSUM_LENGTH = 64 * 1024;
+
+    /**
+     * Receives the differences found by a scan
+     */
+    public interface DeltaListener
+    {
+        /**
+         * Called for each file added, changed or removed, from the thread calling {@link #scan(File, DeltaListener)}
+         *
+         * @param delta
+         */
+        void delta(ScanDelta delta);
+    }
+
+    /**
+     * Counts of what a scan found
+     */
+    public static class Result
+    {
+        private int unchanged;
+        private int added;
+        private int changed;
+        private int removed;
+        private int failed;
+
+        public int getUnchanged()
+        {
+            return unchanged;
+        }
+
+        public int getAdded()
+        {
+            return added;
+        }
+
+        public int getChanged()
+        {
+            return changed;
+        }
+
+        public int getRemoved()
+        {
+            return removed;
+        }
+
+        /**
+         * @return number of added or changed files that could not be read
+         */
+        public int getFailed()
+        {
+            return failed;
+        }
+
+        public String toString()
+        {
+            return "unchanged:" + unchanged + ":added:" + added + ":changed:" + changed + ":removed:" + removed + ":failed:" + failed;
+        }
+    }
+
+    private final AudioFileIO audioFileIO;
+    private final ScanManifest manifest;
+    private FileFilter filter = new AudioFileFilter(true);
+    private boolean checksum;
+
+    /**
+     * @param manifest the result of the last scan, updated by each scan
+     */
+    public IncrementalScanner(ScanManifest manifest)
+    {
+        this(AudioFileIO.getDefaultAudioFileIO(), manifest);
+    }
+
+    /**
+     * @param audioFileIO used to read new and changed files
+     * @param manifest    the result of the last scan, updated by each scan
+     */
+    public IncrementalScanner(AudioFileIO audioFileIO, ScanManifest manifest)
+    {
+        this.audioFileIO = audioFileIO;
+        this.manifest = manifest;
+    }
+
+    /**
+     * @param filter decides which directories are entered and which new or changed files are read, an
+     *               {@link AudioFileFilter} by default
+     */
+    public void setFilter(FileFilter filter)
+    {
+        this.filter = filter;
+    }
+
+    /**
+     * @param checksum true to checksum the start and end of each file read, so files that are touched without being
+     *                 modified are not read again
+     */
+    public void setChecksum(boolean checksum)
+    {
+        this.checksum = checksum;
+    }
+
+    /**
+     * Walk the directory tree below root, reporting each file added, changed or removed since the last scan
+     *
+     * @param root
+     * @param listener
+     * @return counts of what was found
+     * @throws IOException if the manifest cannot be updated
+     */
+    public Result scan(File root, DeltaListener listener) throws IOException
+    {
+        Result result = new Result();
+        Set<String> seen = new HashSet<String>();
+        Deque<File> directories = new ArrayDeque<File>();
+        directories.push(root);
+
+        while (!directories.isEmpty())
+        {
+            File directory = directories.pop();
+            File[] children = directory.listFiles();
+            if (children == null)
+            {
+                logger.warning("Unable to list directory:" + directory);
+                keepEntriesBelow(directory, seen);
+                continue;
+            }
+
+            //Sorted so paths are appended to the manifest in order, which it stores more compactly
+            Arrays.sort(children);
+            for (File child : children)
+            {
+                String path = child.getPath();
+                ScanManifest.Entry previous = manifest.get(path);
+                if (previous != null)
+                {
+                    //Only files are held in the manifest so no need to check for a directory
+                    long length = child.length();
+                    long lastModified = child.lastModified();
+                    if (length == previous.getLength() && lastModified == previous.getLastModified())
+                    {
+                        seen.add(path);
+                        result.unchanged++;
+                        continue;
+                    }
+                    if (length == 0 && lastModified == 0)
+                    {
+                        //No longer exists, reported as removed below
+                        continue;
+                    }
+                }
+
+                FileSystemProvider provider = new FileProvider(child);
+                if (!filter.accept(provider))
+                {
+                    continue;
+                }
+                if (provider.isDirectory())
+                {
+                    directories.push(child);
+                    continue;
+                }
+                seen.add(path);
+                scanFile(provider, previous, listener, result);
+            }
+        }
+
+        String rootPath = root.getPath();
+        for (ScanManifest.Entry entry : manifest.getEntries())
+        {
+            String path = entry.getPath();
+            if (!seen.contains(path) && isBelow(path, rootPath))
+            {
+                manifest.remove(path);
+                result.removed++;
+                listener.delta(new ScanDelta(ScanDelta.Type.REMOVED, path, entry, null, null));
+            }
+        }
+        manifest.flush();
+        logger.config("Scanned:" + root + ":" + result);
+        return result;
+    }
+
+    /**
+     * Read a file that is new or whose length or last modified time has changed
+     */
+    private void scanFile(FileSystemProvider provider, ScanManifest.Entry previous, DeltaListener listener, Result result) throws IOException
+    {
+        String path = provider.getPath();
+        long length = provider.length();
+        long lastModified = provider.lastModified();
+        long crc = ScanManifest.NO_CHECKSUM;
+        if (checksum)
+        {
+            try
+            {
+                crc = checksum(provider, length);
+            }
+            catch (IOException ioe)
+            {
+                logger.log(Level.WARNING, "Unable to checksum:" + path, ioe);
+            }
+        }
+
+        ScanManifest.Entry entry = new ScanManifest.Entry(path, length, lastModified, crc);
+        if (previous != null && crc != ScanManifest.NO_CHECKSUM && previous.getChecksum() == crc && previous.getLength() == length)
+        {
+            //Only the time has changed, record it so the file is not checksummed next time
+            manifest.put(entry);
+            result.unchanged++;
+            return;
+        }
+
+        AudioFile audioFile = null;
+        Exception error = null;
+        try
+        {
+            audioFile = audioFileIO.readFile(provider);
+        }
+        catch (Exception e)
+        {
+            logger.log(Level.WARNING, "Unable to read:" + path, e);
+            error = e;
+            result.failed++;
+        }
+
+        //Recorded even if unreadable so it is not read again until it changes
+        manifest.put(entry);
+        ScanDelta.Type type;
+        if (previous == null)
+        {
+            type = ScanDelta.Type.ADDED;
+            result.added++;
+        }
+        else
+        {
+            type = ScanDelta.Type.CHANGED;
+            result.changed++;
+        }
+        listener.delta(new ScanDelta(type, path, entry, audioFile, error));
+    }
+
+    /**
+     * When a directory cannot be listed keep its files rather than reporting them all as removed
+     */
+    private void keepEntriesBelow(File directory, Set<String> seen)
+    {
+        String directoryPath = directory.getPath();
+        for (ScanManifest.Entry entry : manifest.getEntries())
+        {
+            if (isBelow(entry.getPath(), directoryPath))
+            {
+                seen.add(entry.getPath());
+            }
+        }
+    }
+
+    private static boolean isBelow(String path, String directoryPath)
+    {
+        return path.startsWith(directoryPath)
+                && (directoryPath.endsWith(File.separator) || (path.length() > directoryPath.length() && path.charAt(directoryPath.length()) == File.separatorChar));
+    }
+
+    /**
+     * @return CRC32 of the first and last {@link #CHECKSUM_LENGTH} bytes of the file
+     */
+    private static long checksum(FileSystemProvider provider, long length) throws IOException
+    {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[(int) Math.min(CHECKSUM_LENGTH, length)];
+        RandomAccessFileProvider raf = provider.getRandomAccessFile("r");
+        try
+        {
+            raf.readFully(buffer);
+            crc.update(buffer);
+            if (length > CHECKSUM_LENGTH)
+            {
+                long tailStart = Math.max(CHECKSUM_LENGTH, length - CHECKSUM_LENGTH);
+                byte[] tail = new byte[(int) (length - tailStart)];
+                raf.seek(tailStart);
+                raf.readFully(tail);
+                crc.update(tail);
+            }
+        }
+        finally
+        {
+            raf.close();
+        }
+        return crc.getValue();
+    }
+}
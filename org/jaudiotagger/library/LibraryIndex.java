@@ -0,0 +1,563 @@
+package org.jaudiotagger.library;
+
+import org.extra.StandardCharsets;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read only index of a library of audio files, written by {@link LibraryIndexWriter} and queried directly from the
+ * memory mapped file without loading it onto the heap.
+ *
+ * <p>The index is stored by column. Each track (file) has a path, a duration in milliseconds, a bitrate, a track
+ * number and a disc number held in fixed width columns, so they can be read for any track without reading anything
+ * else. Each indexed {@link FieldKey} has
+ * <ul>
+ * <li>a dictionary of its distinct values sorted by their UTF-8 bytes</li>
+ * <li>a posting list for each value, the sorted track numbers of the tracks having that value</li>
+ * <li>a column holding the position in the dictionary of the (first) value of each track, or -1</li>
+ * </ul>
+ * so finding the tracks with a given value is a binary search of the dictionary followed by reading the posting
+ * list, and finding those with values starting with a prefix is the same over the range of matching values.
+ * Comparisons are exact, the index does not ignore case or accents.
+ *
+ * <p>The file is mapped as a single buffer so must be smaller than 2GB. Instances are immutable once opened so may
+ * be shared between threads.
+ */
+public class LibraryIndex
+{
+    static final int MAGIC = 0x4a415449;
+    static final int VERSION = 1;
+
+    /**
+     * The tracks having one value, read from the mapped file as needed
+     */
+    public static final class Postings
+    {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int size;
+
+        private Postings(ByteBuffer buffer, int start, int size)
+        {
+            this.buffer = buffer;
+            this.start = start;
+            this.size = size;
+        }
+
+        /**
+         * @return number of tracks
+         */
+        public int size()
+        {
+            return size;
+        }
+
+        /**
+         * @param index
+         * @return the track number at index, track numbers are in ascending order
+         */
+        public int get(int index)
+        {
+            if (index < 0 || index >= size)
+            {
+                throw new IndexOutOfBoundsException("Index:" + index + ":size:" + size);
+            }
+            return buffer.getInt(start + index * 4);
+        }
+
+        /**
+         * @return the track numbers copied onto the heap
+         */
+        public int[] toArray()
+        {
+            int[] tracks = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                tracks[i] = buffer.getInt(start + i * 4);
+            }
+            return tracks;
+        }
+    }
+
+    /**
+     * A count followed by count + 1 offsets into the UTF-8 bytes of the strings that follow
+     */
+    private static class StringTable
+    {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int offsets;
+        private final int data;
+
+        private StringTable(ByteBuffer buffer, int position)
+        {
+            this.buffer = buffer;
+            this.count = buffer.getInt(position);
+            this.offsets = position + 4;
+            this.data = offsets + (count + 1) * 4;
+        }
+
+        private int start(int index)
+        {
+            return data + buffer.getInt(offsets + index * 4);
+        }
+
+        private int end(int index)
+        {
+            return data + buffer.getInt(offsets + (index + 1) * 4);
+        }
+
+        private String get(int index)
+        {
+            int start = start(index);
+            byte[] bytes = new byte[end(index) - start];
+            for (int i = 0; i < bytes.length; i++)
+            {
+                bytes[i] = buffer.get(start + i);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int compare(int index, byte[] key)
+        {
+            int start = start(index);
+            return compareBuffer(buffer, start, end(index) - start, key);
+        }
+
+        private boolean startsWith(int index, byte[] prefix)
+        {
+            int start = start(index);
+            int length = end(index) - start;
+            if (length < prefix.length)
+            {
+                return false;
+            }
+            return compareBuffer(buffer, start, prefix.length, prefix) == 0;
+        }
+
+        /**
+         * @return position of the first value not less than key
+         */
+        private int lowerBound(byte[] key)
+        {
+            int low = 0;
+            int high = count;
+            while (low < high)
+            {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, key) < 0)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * The dictionary, posting lists and track values of one field
+     */
+    private static class KeyIndex
+    {
+        private final StringTable dictionary;
+        private final int postings;
+        private final int values;
+
+        private KeyIndex(StringTable dictionary, int postings, int values)
+        {
+            this.dictionary = dictionary;
+            this.postings = postings;
+            this.values = values;
+        }
+    }
+
+    private final File file;
+    private final ByteBuffer buffer;
+    private final int trackCount;
+    private final StringTable paths;
+    private final int durations;
+    private final int bitRates;
+    private final int trackNos;
+    private final int discNos;
+    private final Map<FieldKey, KeyIndex> keys = new EnumMap<FieldKey, KeyIndex>(FieldKey.class);
+
+    private LibraryIndex(File file, ByteBuffer buffer) throws IOException
+    {
+        this.file = file;
+        this.buffer = buffer;
+
+        int limit = buffer.limit();
+        if (limit < 20 || buffer.getInt(0) != MAGIC || buffer.getInt(limit - 4) != MAGIC)
+        {
+            throw new IOException("Not a library index:" + file);
+        }
+        if (buffer.getInt(4) != VERSION)
+        {
+            throw new IOException("Unsupported library index version:" + buffer.getInt(4) + ":" + file);
+        }
+
+        ByteBuffer footer = buffer.duplicate();
+        footer.position((int) buffer.getLong(limit - 12));
+        trackCount = footer.getInt();
+        paths = new StringTable(buffer, (int) footer.getLong());
+        durations = (int) footer.getLong();
+        bitRates = (int) footer.getLong();
+        trackNos = (int) footer.getLong();
+        discNos = (int) footer.getLong();
+        int keyCount = footer.getInt();
+        for (int i = 0; i < keyCount; i++)
+        {
+            byte[] name = new byte[footer.getInt()];
+            footer.get(name);
+            FieldKey key = FieldKey.valueOf(new String(name, StandardCharsets.UTF_8));
+            StringTable dictionary = new StringTable(buffer, (int) footer.getLong());
+            int postings = (int) footer.getLong();
+            int values = (int) footer.getLong();
+            keys.put(key, new KeyIndex(dictionary, postings, values));
+        }
+    }
+
+    /**
+     * Open an index written by {@link LibraryIndexWriter#write(File)}
+     *
+     * @param file
+     * @return
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static LibraryIndex open(File file) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            FileChannel fc = raf.getChannel();
+            if (fc.size() > Integer.MAX_VALUE)
+            {
+                throw new IOException("Library index too large to map:" + file + ":" + fc.size());
+            }
+            //The mapping remains valid after the channel is closed
+            return new LibraryIndex(file, fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size()));
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * @return number of tracks in the index
+     */
+    public int getTrackCount()
+    {
+        return trackCount;
+    }
+
+    /**
+     * @return the fields that are indexed
+     */
+    public Set<FieldKey> getKeys()
+    {
+        return Collections.unmodifiableSet(keys.keySet());
+    }
+
+    /**
+     * @param track
+     * @return path of the file
+     */
+    public String getPath(int track)
+    {
+        checkTrack(track);
+        return paths.get(track);
+    }
+
+    /**
+     * @param track
+     * @return duration in milliseconds
+     */
+    public long getDuration(int track)
+    {
+        checkTrack(track);
+        return buffer.getLong(durations + track * 8);
+    }
+
+    /**
+     * @param track
+     * @return bitrate in kbps, or -1 if not known
+     */
+    public int getBitRate(int track)
+    {
+        checkTrack(track);
+        return buffer.getInt(bitRates + track * 4);
+    }
+
+    /**
+     * @param track
+     * @return track number, or 0 if there is none
+     */
+    public int getTrackNo(int track)
+    {
+        checkTrack(track);
+        return buffer.getInt(trackNos + track * 4);
+    }
+
+    /**
+     * @param track
+     * @return disc number, or 0 if there is none
+     */
+    public int getDiscNo(int track)
+    {
+        checkTrack(track);
+        return buffer.getInt(discNos + track * 4);
+    }
+
+    /**
+     * @param key
+     * @param track
+     * @return the (first) value of key for track, or null if it has none
+     */
+    public String getValue(FieldKey key, int track)
+    {
+        checkTrack(track);
+        KeyIndex keyIndex = getKeyIndex(key);
+        int id = buffer.getInt(keyIndex.values + track * 4);
+        return id >= 0 ? keyIndex.dictionary.get(id) : null;
+    }
+
+    /**
+     * @param key
+     * @return number of distinct values of key
+     */
+    public int getValueCount(FieldKey key)
+    {
+        return getKeyIndex(key).dictionary.count;
+    }
+
+    /**
+     * @param key
+     * @param prefix
+     * @return the distinct values of key starting with prefix in sorted order, an empty prefix returns every value
+     */
+    public List<String> getValues(FieldKey key, String prefix)
+    {
+        KeyIndex keyIndex = getKeyIndex(key);
+        byte[] bytes = encode(prefix);
+        int end = prefixEnd(keyIndex.dictionary, bytes);
+        List<String> values = new ArrayList<String>();
+        for (int i = keyIndex.dictionary.lowerBound(bytes); i < end; i++)
+        {
+            values.add(keyIndex.dictionary.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * Find the tracks where key has exactly value
+     *
+     * @param key
+     * @param value
+     * @return the tracks, empty if there are none
+     */
+    public Postings find(FieldKey key, String value)
+    {
+        KeyIndex keyIndex = getKeyIndex(key);
+        byte[] bytes = encode(value);
+        int id = keyIndex.dictionary.lowerBound(bytes);
+        if (id == keyIndex.dictionary.count || keyIndex.dictionary.compare(id, bytes) != 0)
+        {
+            return new Postings(buffer, 0, 0);
+        }
+        return getPostings(keyIndex, id);
+    }
+
+    /**
+     * Find the tracks where a value of key starts with prefix
+     *
+     * @param key
+     * @param prefix
+     * @return the track numbers in ascending order
+     */
+    public int[] findPrefix(FieldKey key, String prefix)
+    {
+        KeyIndex keyIndex = getKeyIndex(key);
+        byte[] bytes = encode(prefix);
+        int start = keyIndex.dictionary.lowerBound(bytes);
+        int end = prefixEnd(keyIndex.dictionary, bytes);
+        if (end - start == 1)
+        {
+            return getPostings(keyIndex, start).toArray();
+        }
+
+        //Tracks with multiple values may be in more than one list
+        BitSet tracks = new BitSet(trackCount);
+        for (int id = start; id < end; id++)
+        {
+            Postings postings = getPostings(keyIndex, id);
+            for (int i = 0; i < postings.size(); i++)
+            {
+                tracks.set(postings.get(i));
+            }
+        }
+        int[] result = new int[tracks.cardinality()];
+        int i = 0;
+        for (int track = tracks.nextSetBit(0); track >= 0; track = tracks.nextSetBit(track + 1))
+        {
+            result[i++] = track;
+        }
+        return result;
+    }
+
+    public String toString()
+    {
+        return "LibraryIndex:" + file + ":tracks:" + trackCount + ":keys:" + keys.keySet();
+    }
+
+    private Postings getPostings(KeyIndex keyIndex, int id)
+    {
+        int from = buffer.getInt(keyIndex.postings + id * 4);
+        int to = buffer.getInt(keyIndex.postings + (id + 1) * 4);
+        int lists = keyIndex.postings + (keyIndex.dictionary.count + 1) * 4;
+        return new Postings(buffer, lists + from * 4, to - from);
+    }
+
+    /**
+     * @return position after the last value starting with prefix
+     */
+    private static int prefixEnd(StringTable dictionary, byte[] prefix)
+    {
+        //Values starting with prefix are contiguous from the lower bound
+        int low = dictionary.lowerBound(prefix);
+        int high = dictionary.count;
+        while (low < high)
+        {
+            int mid = (low + high) >>> 1;
+            if (dictionary.startsWith(mid, prefix))
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private KeyIndex getKeyIndex(FieldKey key)
+    {
+        KeyIndex keyIndex = keys.get(key);
+        if (keyIndex == null)
+        {
+            throw new IllegalArgumentException("Field is not indexed:" + key);
+        }
+        return keyIndex;
+    }
+
+    private void checkTrack(int track)
+    {
+        if (track < 0 || track >= trackCount)
+        {
+            throw new IndexOutOfBoundsException("Track:" + track + ":trackCount:" + trackCount);
+        }
+    }
+
+    static byte[] encode(String value)
+    {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compare bytes as unsigned values, a shorter array that is a prefix of the other sorts first
+     */
+    static int compare(byte[] bytes, int start, int length, byte[] key)
+    {
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++)
+        {
+            int difference = (bytes[start + i] & 0xff) - (key[i] & 0xff);
+            if (difference != 0)
+            {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    private static int compareBuffer(ByteBuffer buffer, int start, int length, byte[] key)
+    {
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++)
+        {
+            int difference = (buffer.get(start + i) & 0xff) - (key[i] & 0xff);
+            if (difference != 0)
+            {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    /**
+     * Writes the index keeping track of the position, which may pass the int limit of DataOutputStream.size()
+     */
+    static class Output
+    {
+        private final DataOutputStream out;
+        private long position;
+
+        Output(DataOutputStream out)
+        {
+            this.out = out;
+        }
+
+        long position()
+        {
+            return position;
+        }
+
+        void writeInt(int value) throws IOException
+        {
+            out.writeInt(value);
+            position += 4;
+        }
+
+        void writeLong(long value) throws IOException
+        {
+            out.writeLong(value);
+            position += 8;
+        }
+
+        void write(byte[] bytes) throws IOException
+        {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        void writeString(String value) throws IOException
+        {
+            byte[] bytes = encode(value);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        void close() throws IOException
+        {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package org.jaudiotagger.library;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioHeader;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.KeyNotFoundException;
+import org.jaudiotagger.tag.Tag;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Builds a {@link LibraryIndex} file from the results of reading a library of audio files.
+ *
+ * <p>Each file added becomes a track, numbered in the order added. Only the path, the values needed for the primitive
+ * columns and the values of the indexed fields are kept, so the AudioFile itself is not retained. The index is built
+ * in memory and written in one go by {@link #write(File)}, the values of each indexed field are sorted into a
+ * dictionary, and each track is stored as the position of its value within the dictionary.
+ *
+ * <p>Methods are synchronized so files may be added from multiple threads.
+ */
+public class LibraryIndexWriter
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.library");
+
+    /**
+     * Fields indexed if no others are given
+     */
+    public static final Set<FieldKey> DEFAULT_KEYS = Collections.unmodifiableSet(EnumSet.of(
+            FieldKey.ARTIST,
+            FieldKey.ALBUM_ARTIST,
+            FieldKey.ALBUM,
+            FieldKey.GENRE,
+            FieldKey.COMPOSER,
+            FieldKey.YEAR,
+            FieldKey.TITLE));
+
+    /**
+     * Values of one indexed field, the value of each track and the tracks having each value
+     */
+    private static class KeyValues
+    {
+        private final Map<String, IntList> postings = new HashMap<String, IntList>();
+        private final List<String> firstValues = new ArrayList<String>();
+
+        private void add(int track, List<String> values)
+        {
+            String first = null;
+            for (String value : values)
+            {
+                if (value == null || value.length() == 0)
+                {
+                    continue;
+                }
+                IntList tracks = postings.get(value);
+                if (tracks == null)
+                {
+                    tracks = new IntList();
+                    postings.put(value, tracks);
+                }
+                else
+                {
+                    //Share one copy of each string
+                    value = tracks.value;
+                }
+                tracks.value = value;
+
+                //A track may repeat a value, only list it once
+                if (tracks.size == 0 || tracks.get(tracks.size - 1) != track)
+                {
+                    tracks.add(track);
+                }
+                if (first == null)
+                {
+                    first = value;
+                }
+            }
+            firstValues.add(first);
+        }
+    }
+
+    /**
+     * Growable list of ints, avoiding a boxed Integer per track
+     */
+    private static class IntList
+    {
+        private String value;
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value)
+        {
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int get(int index)
+        {
+            return values[index];
+        }
+    }
+
+    private final Map<FieldKey, KeyValues> keyValues = new LinkedHashMap<FieldKey, KeyValues>();
+    private final List<String> paths = new ArrayList<String>();
+    private long[] durations = new long[1024];
+    private int[] bitRates = new int[1024];
+    private int[] trackNos = new int[1024];
+    private int[] discNos = new int[1024];
+
+    /**
+     * Create a writer indexing {@link #DEFAULT_KEYS}
+     */
+    public LibraryIndexWriter()
+    {
+        this(DEFAULT_KEYS);
+    }
+
+    /**
+     * @param keys the fields to index, {@link FieldKey#ARTIST}, {@link FieldKey#ALBUM} and {@link FieldKey#GENRE} are
+     *             always indexed
+     */
+    public LibraryIndexWriter(Set<FieldKey> keys)
+    {
+        EnumSet<FieldKey> indexed = EnumSet.of(FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.GENRE);
+        indexed.addAll(keys);
+        for (FieldKey key : indexed)
+        {
+            keyValues.put(key, new KeyValues());
+        }
+    }
+
+    /**
+     * Add a file to the index
+     *
+     * @param audioFile
+     * @return the track number of the file within the index
+     */
+    public synchronized int add(AudioFile audioFile)
+    {
+        int track = paths.size();
+        if (track == durations.length)
+        {
+            durations = Arrays.copyOf(durations, track * 2);
+            bitRates = Arrays.copyOf(bitRates, track * 2);
+            trackNos = Arrays.copyOf(trackNos, track * 2);
+            discNos = Arrays.copyOf(discNos, track * 2);
+        }
+        paths.add(audioFile.getProvider().getPath());
+
+        AudioHeader header = audioFile.getAudioHeader();
+        if (header != null)
+        {
+            durations[track] = Math.round(header.getPreciseTrackLength() * 1000);
+            bitRates[track] = (int) Math.round(header.getBitRateAsNumber());
+        }
+        else
+        {
+            bitRates[track] = -1;
+        }
+
+        Tag tag = audioFile.getTag();
+        trackNos[track] = parseNumber(getFirst(tag, FieldKey.TRACK));
+        discNos[track] = parseNumber(getFirst(tag, FieldKey.DISC_NO));
+        for (Map.Entry<FieldKey, KeyValues> next : keyValues.entrySet())
+        {
+            next.getValue().add(track, getAll(tag, next.getKey()));
+        }
+        return track;
+    }
+
+    /**
+     * @return number of files added
+     */
+    public synchronized int getTrackCount()
+    {
+        return paths.size();
+    }
+
+    /**
+     * Write the index to file, replacing anything already there
+     *
+     * @param file
+     * @throws IOException
+     */
+    public synchronized void write(File file) throws IOException
+    {
+        int trackCount = paths.size();
+        LibraryIndex.Output out = new LibraryIndex.Output(new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024)));
+        try
+        {
+            out.writeInt(LibraryIndex.MAGIC);
+            out.writeInt(LibraryIndex.VERSION);
+
+            long pathsOffset = out.position();
+            writeStrings(out, paths);
+
+            long durationOffset = out.position();
+            for (int i = 0; i < trackCount; i++)
+            {
+                out.writeLong(durations[i]);
+            }
+            long bitRateOffset = writeInts(out, bitRates, trackCount);
+            long trackOffset = writeInts(out, trackNos, trackCount);
+            long discOffset = writeInts(out, discNos, trackCount);
+
+            Map<FieldKey, long[]> keyOffsets = new LinkedHashMap<FieldKey, long[]>();
+            for (Map.Entry<FieldKey, KeyValues> next : keyValues.entrySet())
+            {
+                keyOffsets.put(next.getKey(), writeKey(out, next.getValue(), trackCount));
+            }
+
+            //Footer
+            long footerOffset = out.position();
+            out.writeInt(trackCount);
+            out.writeLong(pathsOffset);
+            out.writeLong(durationOffset);
+            out.writeLong(bitRateOffset);
+            out.writeLong(trackOffset);
+            out.writeLong(discOffset);
+            out.writeInt(keyOffsets.size());
+            for (Map.Entry<FieldKey, long[]> next : keyOffsets.entrySet())
+            {
+                out.writeString(next.getKey().name());
+                out.writeLong(next.getValue()[0]);
+                out.writeLong(next.getValue()[1]);
+                out.writeLong(next.getValue()[2]);
+            }
+            out.writeLong(footerOffset);
+            out.writeInt(LibraryIndex.MAGIC);
+        }
+        finally
+        {
+            out.close();
+        }
+        logger.config("Written library index:" + file + ":tracks:" + trackCount + ":bytes:" + file.length());
+    }
+
+    /**
+     * Write the dictionary, posting lists and value of each track for one field
+     *
+     * @return offsets of the dictionary, posting lists and track values
+     */
+    private static long[] writeKey(LibraryIndex.Output out, KeyValues values, int trackCount) throws IOException
+    {
+        //Sort by the UTF-8 bytes, the same order the reader searches in
+        List<byte[]> encoded = new ArrayList<byte[]>(values.postings.size());
+        final Map<byte[], IntList> byBytes = new HashMap<byte[], IntList>();
+        for (Map.Entry<String, IntList> next : values.postings.entrySet())
+        {
+            byte[] bytes = LibraryIndex.encode(next.getKey());
+            encoded.add(bytes);
+            byBytes.put(bytes, next.getValue());
+        }
+        Collections.sort(encoded, new Comparator<byte[]>()
+        {
+            public int compare(byte[] o1, byte[] o2)
+            {
+                return LibraryIndex.compare(o1, 0, o1.length, o2);
+            }
+        });
+
+        long dictionaryOffset = out.position();
+        out.writeInt(encoded.size());
+        int blobOffset = 0;
+        out.writeInt(blobOffset);
+        for (byte[] bytes : encoded)
+        {
+            blobOffset += bytes.length;
+            out.writeInt(blobOffset);
+        }
+        for (byte[] bytes : encoded)
+        {
+            out.write(bytes);
+        }
+
+        //Posting lists are written in dictionary order, track numbers are added in order so are already sorted
+        Map<String, Integer> ids = new HashMap<String, Integer>();
+        long postingsOffset = out.position();
+        int postingOffset = 0;
+        out.writeInt(postingOffset);
+        for (byte[] bytes : encoded)
+        {
+            IntList tracks = byBytes.get(bytes);
+            ids.put(tracks.value, ids.size());
+            postingOffset += tracks.size;
+            out.writeInt(postingOffset);
+        }
+        for (byte[] bytes : encoded)
+        {
+            IntList tracks = byBytes.get(bytes);
+            for (int i = 0; i < tracks.size; i++)
+            {
+                out.writeInt(tracks.get(i));
+            }
+        }
+
+        long valuesOffset = out.position();
+        for (int i = 0; i < trackCount; i++)
+        {
+            String first = values.firstValues.get(i);
+            out.writeInt(first != null ? ids.get(first) : -1);
+        }
+        return new long[]{dictionaryOffset, postingsOffset, valuesOffset};
+    }
+
+    private static void writeStrings(LibraryIndex.Output out, List<String> strings) throws IOException
+    {
+        List<byte[]> encoded = new ArrayList<byte[]>(strings.size());
+        for (String next : strings)
+        {
+            encoded.add(LibraryIndex.encode(next));
+        }
+        out.writeInt(encoded.size());
+        int blobOffset = 0;
+        out.writeInt(blobOffset);
+        for (byte[] bytes : encoded)
+        {
+            blobOffset += bytes.length;
+            out.writeInt(blobOffset);
+        }
+        for (byte[] bytes : encoded)
+        {
+            out.write(bytes);
+        }
+    }
+
+    private static long writeInts(LibraryIndex.Output out, int[] values, int count) throws IOException
+    {
+        long offset = out.position();
+        for (int i = 0; i < count; i++)
+        {
+            out.writeInt(values[i]);
+        }
+        return offset;
+    }
+
+    private static String getFirst(Tag tag, FieldKey key)
+    {
+        List<String> values = getAll(tag, key);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    private static List<String> getAll(Tag tag, FieldKey key)
+    {
+        if (tag == null)
+        {
+            return Collections.emptyList();
+        }
+        try
+        {
+            return tag.getAll(key);
+        }
+        catch (KeyNotFoundException knfe)
+        {
+            //Not supported by this format
+        }
+        catch (UnsupportedOperationException uoe)
+        {
+            //Not supported by this format
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return the number at the start of value, such as 3 from 3/12, or 0 if there is none
+     */
+    private static int parseNumber(String value)
+    {
+        if (value == null)
+        {
+            return 0;
+        }
+        int number = 0;
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9' || number > (Integer.MAX_VALUE - 9) / 10)
+            {
+                break;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
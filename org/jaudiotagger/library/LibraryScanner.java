@@ -0,0 +1,645 @@
+package org.jaudiotagger.library;
+
+import org.extra.FileFilter;
+import org.extra.FileProvider;
+import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileFilter;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.ReadProjection;
+import org.jaudiotagger.audio.generic.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Reads every audio file below a set of directories using a pipeline of stages running in parallel.
+ *
+ * <p>The stages are:
+ * <ol>
+ * <li>walk, one thread lists the directories and passes on each file accepted by the filter</li>
+ * <li>sniff, the I/O pool reads the start of each file to identify its format from its content, which also brings it
+ * into the operating system's cache ready to be parsed</li>
+ * <li>parse, the CPU pool reads the audio header and tag with {@link AudioFileIO}</li>
+ * <li>sink, the thread calling {@link #scan(Sink, File...)} passes each result to the {@link Sink}</li>
+ * </ol>
+ *
+ * <p>Stages are joined by bounded queues, and the number of files between the walk and the sink is limited, so a slow
+ * stage holds back the stages before it rather than letting files pile up in memory. With ordered output files are
+ * passed to the sink in the order they were walked, otherwise in the order they finish.
+ *
+ * <p>The I/O and CPU pools are sized separately, on a JVM that supports virtual threads the I/O pool can be given a
+ * virtual thread factory with {@link #setIoThreadFactory(ThreadFactory)}.
+ *
+ * <p>A scanner should be configured before scanning and only run one scan at a time.
+ */
+public class LibraryScanner
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.library");
+
+    /**
+     * Receives the result of reading each file
+     */
+    public interface Sink
+    {
+        /**
+         * Called for each file, always from the thread calling {@link #scan(Sink, File...)}
+         *
+         * @param result
+         */
+        void result(Result result);
+    }
+
+    /**
+     * The outcome of reading one file
+     */
+    public static class Result
+    {
+        private final long sequenceNo;
+        private final FileSystemProvider provider;
+        private String format;
+        private AudioFile audioFile;
+        private Exception error;
+
+        private Result(long sequenceNo, FileSystemProvider provider)
+        {
+            this.sequenceNo = sequenceNo;
+            this.provider = provider;
+        }
+
+        /**
+         * @return position of the file in the order walked, starting at 0
+         */
+        public long getSequenceNo()
+        {
+            return sequenceNo;
+        }
+
+        public FileSystemProvider getProvider()
+        {
+            return provider;
+        }
+
+        /**
+         * @return the format the file was read as, identified from its content if possible otherwise from its extension
+         */
+        public String getFormat()
+        {
+            return format;
+        }
+
+        /**
+         * @return the file, or null if it could not be read
+         */
+        public AudioFile getAudioFile()
+        {
+            return audioFile;
+        }
+
+        /**
+         * @return why the file could not be read, or null
+         */
+        public Exception getError()
+        {
+            return error;
+        }
+
+        public String toString()
+        {
+            return "Result:" + sequenceNo + ":" + provider.getPath() + ":" + format + (error != null ? ":error:" + error.getMessage() : "");
+        }
+    }
+
+    /**
+     * Counters for one stage of the last or current scan
+     */
+    public static class StageStatistics
+    {
+        private final String name;
+        private final int threads;
+        private final AtomicLong items = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong busyNanos = new AtomicLong();
+
+        private StageStatistics(String name, int threads)
+        {
+            this.name = name;
+            this.threads = threads;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public int getThreads()
+        {
+            return threads;
+        }
+
+        /**
+         * @return number of files passed through the stage
+         */
+        public long getItems()
+        {
+            return items.get();
+        }
+
+        /**
+         * @return number of files the stage failed on, or for the walk the directories that could not be listed
+         */
+        public long getFailures()
+        {
+            return failures.get();
+        }
+
+        /**
+         * @return time spent working by all the stage's threads, excluding time waiting on queues
+         */
+        public long getBusyNanos()
+        {
+            return busyNanos.get();
+        }
+
+        /**
+         * @return files per second of busy time per thread, so an idle stage shows how fast it could go
+         */
+        public double getItemsPerSecond()
+        {
+            long busy = busyNanos.get();
+            return busy == 0 ? 0 : items.get() * threads * 1e9 / busy;
+        }
+
+        private void record(long startNanos, boolean failed)
+        {
+            busyNanos.addAndGet(System.nanoTime() - startNanos);
+            items.incrementAndGet();
+            if (failed)
+            {
+                failures.incrementAndGet();
+            }
+        }
+
+        public String toString()
+        {
+            return name + ":threads:" + threads + ":items:" + items.get() + ":failures:" + failures.get() + ":busyMs:" + busyNanos.get() / 1000000;
+        }
+    }
+
+    /**
+     * Placed on a queue to tell the next stage there are no more files
+     */
+    private static final Result END = new Result(-1, null);
+
+    private final AudioFileIO audioFileIO;
+    private FileFilter filter = new AudioFileFilter(true);
+    private ReadProjection projection = ReadProjection.ALL;
+    private int ioThreads = 4;
+    private int cpuThreads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 256;
+    private boolean ordered;
+    private boolean sniff = true;
+    private ThreadFactory ioThreadFactory = new NamedThreadFactory("jaudiotagger-scan-io");
+    private ThreadFactory cpuThreadFactory = new NamedThreadFactory("jaudiotagger-scan-cpu");
+    private volatile List<StageStatistics> statistics = Collections.emptyList();
+
+    public LibraryScanner()
+    {
+        this(AudioFileIO.getDefaultAudioFileIO());
+    }
+
+    /**
+     * @param audioFileIO used to read each file
+     */
+    public LibraryScanner(AudioFileIO audioFileIO)
+    {
+        this.audioFileIO = audioFileIO;
+    }
+
+    /**
+     * @param filter decides which directories are entered and which files are read, an {@link AudioFileFilter} by
+     *               default
+     */
+    public void setFilter(FileFilter filter)
+    {
+        this.filter = filter;
+    }
+
+    /**
+     * @param projection the fields to read from each file, all of them by default
+     */
+    public void setReadProjection(ReadProjection projection)
+    {
+        this.projection = projection;
+    }
+
+    /**
+     * @param ioThreads number of threads sniffing files, 4 by default
+     */
+    public void setIoThreads(int ioThreads)
+    {
+        checkPositive(ioThreads);
+        this.ioThreads = ioThreads;
+    }
+
+    /**
+     * @param cpuThreads number of threads parsing files, the number of processors by default
+     */
+    public void setCpuThreads(int cpuThreads)
+    {
+        checkPositive(cpuThreads);
+        this.cpuThreads = cpuThreads;
+    }
+
+    /**
+     * @param queueCapacity number of files each queue between stages can hold, 256 by default
+     */
+    public void setQueueCapacity(int queueCapacity)
+    {
+        checkPositive(queueCapacity);
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * @param ordered true to pass results to the sink in the order the files were walked, false by default
+     */
+    public void setOrdered(boolean ordered)
+    {
+        this.ordered = ordered;
+    }
+
+    /**
+     * @param sniff true to identify the format of each file from its content, false to rely on the extension and skip
+     *              the sniff stage's read, true by default
+     */
+    public void setSniff(boolean sniff)
+    {
+        this.sniff = sniff;
+    }
+
+    /**
+     * @param ioThreadFactory creates the threads for the walk and sniff stages
+     */
+    public void setIoThreadFactory(ThreadFactory ioThreadFactory)
+    {
+        this.ioThreadFactory = ioThreadFactory;
+    }
+
+    /**
+     * @param cpuThreadFactory creates the threads for the parse stage
+     */
+    public void setCpuThreadFactory(ThreadFactory cpuThreadFactory)
+    {
+        this.cpuThreadFactory = cpuThreadFactory;
+    }
+
+    /**
+     * @return counters for the walk, sniff, parse and sink stages of the current or last scan
+     */
+    public List<StageStatistics> getStatistics()
+    {
+        return statistics;
+    }
+
+    /**
+     * Read every file below roots, passing each result to sink
+     *
+     * @param sink
+     * @param roots directories to scan
+     * @return number of files passed to sink
+     * @throws InterruptedException if the calling thread is interrupted, the scan is stopped
+     * @throws IOException          if a stage fails unexpectedly
+     */
+    public long scan(final Sink sink, final File... roots) throws InterruptedException, IOException
+    {
+        final StageStatistics walkStatistics = new StageStatistics("walk", 1);
+        final StageStatistics sniffStatistics = new StageStatistics("sniff", ioThreads);
+        final StageStatistics parseStatistics = new StageStatistics("parse", cpuThreads);
+        final StageStatistics sinkStatistics = new StageStatistics("sink", 1);
+        statistics = Collections.unmodifiableList(Arrays.asList(walkStatistics, sniffStatistics, parseStatistics, sinkStatistics));
+
+        final BlockingQueue<Result> sniffQueue = new ArrayBlockingQueue<Result>(queueCapacity);
+        final BlockingQueue<Result> parseQueue = new ArrayBlockingQueue<Result>(queueCapacity);
+        final BlockingQueue<Result> sinkQueue = new ArrayBlockingQueue<Result>(queueCapacity);
+
+        //Limits the files between walk and sink, including those held back waiting for their turn when ordered
+        final Semaphore inFlight = new Semaphore(queueCapacity * 3 + ioThreads + cpuThreads);
+        final AtomicInteger sniffersRunning = new AtomicInteger(ioThreads);
+        final AtomicInteger parsersRunning = new AtomicInteger(cpuThreads);
+
+        ExecutorService ioExecutor = Executors.newFixedThreadPool(ioThreads + 1, ioThreadFactory);
+        ExecutorService cpuExecutor = Executors.newFixedThreadPool(cpuThreads, cpuThreadFactory);
+        List<Future<Void>> stages = new ArrayList<Future<Void>>();
+        try
+        {
+            stages.add(ioExecutor.submit(new Callable<Void>()
+            {
+                public Void call() throws Exception
+                {
+                    walk(roots, sniffQueue, inFlight, walkStatistics);
+                    for (int i = 0; i < ioThreads; i++)
+                    {
+                        sniffQueue.put(END);
+                    }
+                    return null;
+                }
+            }));
+
+            for (int i = 0; i < ioThreads; i++)
+            {
+                stages.add(ioExecutor.submit(new Callable<Void>()
+                {
+                    public Void call() throws Exception
+                    {
+                        Result result;
+                        while ((result = sniffQueue.take()) != END)
+                        {
+                            long start = System.nanoTime();
+                            sniff(result);
+                            sniffStatistics.record(start, result.error != null);
+                            parseQueue.put(result);
+                        }
+                        if (sniffersRunning.decrementAndGet() == 0)
+                        {
+                            for (int j = 0; j < cpuThreads; j++)
+                            {
+                                parseQueue.put(END);
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            for (int i = 0; i < cpuThreads; i++)
+            {
+                stages.add(cpuExecutor.submit(new Callable<Void>()
+                {
+                    public Void call() throws Exception
+                    {
+                        Result result;
+                        while ((result = parseQueue.take()) != END)
+                        {
+                            if (result.error == null)
+                            {
+                                long start = System.nanoTime();
+                                parse(result);
+                                parseStatistics.record(start, result.error != null);
+                            }
+                            sinkQueue.put(result);
+                        }
+                        if (parsersRunning.decrementAndGet() == 0)
+                        {
+                            sinkQueue.put(END);
+                        }
+                        return null;
+                    }
+                }));
+            }
+
+            long delivered = drain(sink, sinkQueue, inFlight, stages, sinkStatistics);
+            for (Future<Void> stage : stages)
+            {
+                checkStage(stage);
+            }
+            logger.config("Scanned:" + Arrays.toString(roots) + ":" + statistics);
+            return delivered;
+        }
+        finally
+        {
+            ioExecutor.shutdownNow();
+            cpuExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Pass results to the sink as they arrive, or in walk order if ordered, until every stage has finished
+     */
+    private long drain(Sink sink, BlockingQueue<Result> sinkQueue, Semaphore inFlight, List<Future<Void>> stages, StageStatistics sinkStatistics) throws InterruptedException, IOException
+    {
+        Map<Long, Result> waiting = new HashMap<Long, Result>();
+        long next = 0;
+        while (true)
+        {
+            Result result = sinkQueue.poll(100, TimeUnit.MILLISECONDS);
+            if (result == null)
+            {
+                //Nothing arriving, make sure no stage has failed leaving the pipeline stuck
+                for (Future<Void> stage : stages)
+                {
+                    if (stage.isDone())
+                    {
+                        checkStage(stage);
+                    }
+                }
+                continue;
+            }
+            if (result == END)
+            {
+                return next;
+            }
+
+            if (!ordered)
+            {
+                deliver(sink, result, inFlight, sinkStatistics);
+                next++;
+                continue;
+            }
+            waiting.put(result.sequenceNo, result);
+            while ((result = waiting.remove(next)) != null)
+            {
+                deliver(sink, result, inFlight, sinkStatistics);
+                next++;
+            }
+        }
+    }
+
+    private static void deliver(Sink sink, Result result, Semaphore inFlight, StageStatistics sinkStatistics)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            sink.result(result);
+        }
+        finally
+        {
+            sinkStatistics.record(start, false);
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Rethrow the failure of a stage that has finished
+     */
+    private static void checkStage(Future<Void> stage) throws InterruptedException, IOException
+    {
+        try
+        {
+            stage.get();
+        }
+        catch (ExecutionException ee)
+        {
+            if (ee.getCause() instanceof IOException)
+            {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException("Library scan failed", ee.getCause());
+        }
+    }
+
+    /**
+     * List the directories below roots depth first, in name order, passing on each file accepted by the filter
+     */
+    private void walk(File[] roots, BlockingQueue<Result> sniffQueue, Semaphore inFlight, StageStatistics walkStatistics) throws InterruptedException
+    {
+        long sequenceNo = 0;
+        Deque<File> directories = new ArrayDeque<File>();
+        for (int i = roots.length - 1; i >= 0; i--)
+        {
+            directories.push(roots[i]);
+        }
+
+        while (!directories.isEmpty())
+        {
+            long start = System.nanoTime();
+            File directory = directories.pop();
+            File[] children = directory.listFiles();
+            if (children == null)
+            {
+                logger.warning("Unable to list directory:" + directory);
+                walkStatistics.failures.incrementAndGet();
+                walkStatistics.busyNanos.addAndGet(System.nanoTime() - start);
+                continue;
+            }
+            Arrays.sort(children);
+
+            List<File> subDirectories = new ArrayList<File>();
+            for (File child : children)
+            {
+                FileSystemProvider provider = new FileProvider(child);
+                if (!filter.accept(provider))
+                {
+                    continue;
+                }
+                if (provider.isDirectory())
+                {
+                    subDirectories.add(child);
+                    continue;
+                }
+                //Time spent blocked by later stages is not counted as busy
+                walkStatistics.busyNanos.addAndGet(System.nanoTime() - start);
+                walkStatistics.items.incrementAndGet();
+                inFlight.acquire();
+                sniffQueue.put(new Result(sequenceNo++, provider));
+                start = System.nanoTime();
+            }
+            for (int i = subDirectories.size() - 1; i >= 0; i--)
+            {
+                directories.push(subDirectories.get(i));
+            }
+            walkStatistics.busyNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Decide what format to read the file as
+     */
+    private void sniff(Result result)
+    {
+        String ext = result.provider.extension().toLowerCase();
+        result.format = ext;
+        if (!sniff)
+        {
+            return;
+        }
+        try
+        {
+            String magic = Utils.getMagicExtension(result.provider);
+            //Only mp3 and mp4 can be identified, any extension used for mp4 is read by the same reader
+            if (magic != null && magic.length() > 0 && !(magic.equals("m4a") && isMp4(ext)))
+            {
+                result.format = magic;
+            }
+        }
+        catch (IOException ioe)
+        {
+            result.error = ioe;
+        }
+    }
+
+    private void parse(Result result)
+    {
+        try
+        {
+            if (result.format.equals(result.provider.extension().toLowerCase()))
+            {
+                result.audioFile = audioFileIO.readFile(result.provider, projection);
+            }
+            else
+            {
+                //Content does not match the extension
+                result.audioFile = audioFileIO.readFileAs(result.provider, result.format, projection);
+            }
+        }
+        catch (Exception e)
+        {
+            result.error = e;
+        }
+    }
+
+    private static boolean isMp4(String ext)
+    {
+        return ext.equals("m4a") || ext.equals("m4b") || ext.equals("m4p") || ext.equals("mp4");
+    }
+
+    private static void checkPositive(int value)
+    {
+        if (value <= 0)
+        {
+            throw new IllegalArgumentException("Must be positive:" + value);
+        }
+    }
+
+    /**
+     * Creates daemon threads so an abandoned scan does not keep the JVM alive
+     */
+    private static class NamedThreadFactory implements ThreadFactory
+    {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private NamedThreadFactory(String prefix)
+        {
+            this.prefix = prefix;
+        }
+
+        public Thread newThread(Runnable r)
+        {
+            Thread thread = new Thread(r, prefix + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.jaudiotagger.library;
+
+import org.jaudiotagger.audio.AudioFile;
+
+/**
+ * One difference between a library and the {@link ScanManifest} of its last scan, as reported by
+ * {@link IncrementalScanner}.
+ */
+public class ScanDelta
+{
+    public enum Type
+    {
+        /**
+         * The file was not in the manifest
+         */
+        ADDED,
+        /**
+         * The file is in the manifest but its length, last modified time or checksum has changed
+         */
+        CHANGED,
+        /**
+         * The file is in the manifest but no longer exists
+         */
+        REMOVED
+    }
+
+    private final Type type;
+    private final String path;
+    private final ScanManifest.Entry entry;
+    private final AudioFile audioFile;
+    private final Exception error;
+
+    ScanDelta(Type type, String path, ScanManifest.Entry entry, AudioFile audioFile, Exception error)
+    {
+        this.type = type;
+        this.path = path;
+        this.entry = entry;
+        this.audioFile = audioFile;
+        this.error = error;
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    public String getPath()
+    {
+        return path;
+    }
+
+    /**
+     * @return the new manifest entry of an added or changed file, or the entry removed for a removed file
+     */
+    public ScanManifest.Entry getEntry()
+    {
+        return entry;
+    }
+
+    /**
+     * @return the file as read for an added or changed file, null if it was removed or could not be read
+     */
+    public AudioFile getAudioFile()
+    {
+        return audioFile;
+    }
+
+    /**
+     * @return why an added or changed file could not be read, or null
+     */
+    public Exception getError()
+    {
+        return error;
+    }
+
+    public String toString()
+    {
+        return "ScanDelta:" + type + ":" + path + (error != null ? ":error:" + error.getMessage() : "");
+    }
+}
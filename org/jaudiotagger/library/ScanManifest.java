@@ -0,0 +1,519 @@
+package org.jaudiotagger.library;
+
+import org.extra.StandardCharsets;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * The files found by the last scan of a library, with the length, last modified time and optionally a checksum of
+ * each, used by {@link IncrementalScanner} to find the files that have changed since.
+ *
+ * <p>The manifest is held in memory and changes are appended to the manifest file as records, a record for a file
+ * replaces any earlier one and a removal record (tombstone) removes it. Each path is stored as the number of leading
+ * characters it shares with the previous record followed by the rest, and lengths use a variable number of bytes, so
+ * files scanned in directory order take little more space than their file names. Superseded records are removed by
+ * {@link #compact()}. A partly written record at the end of the file, left by a crash, is discarded when the manifest
+ * is opened.
+ *
+ * <p>Appended records are buffered, call {@link #flush()} or {@link #close()} to write them out. Methods are
+ * synchronized so a manifest may be shared by multiple threads.
+ */
+public class ScanManifest
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.library");
+
+    private static final int MAGIC = 0x4a41534d;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_LENGTH = 8;
+
+    private static final int RECORD_ENTRY = 1;
+    private static final int RECORD_ENTRY_WITH_CHECKSUM = 2;
+    private static final int RECORD_REMOVE = 3;
+
+    /**
+     * Value of {@link Entry#getChecksum()} when no checksum was taken
+     */
+    public static final long NO_CHECKSUM = -1;
+
+    /**
+     * What was known about one file when it was last scanned
+     */
+    public static final class Entry
+    {
+        private final String path;
+        private final long length;
+        private final long lastModified;
+        private final long checksum;
+
+        /**
+         * @param path
+         * @param length
+         * @param lastModified
+         * @param checksum     checksum of the start and end of the file, or {@link #NO_CHECKSUM}
+         */
+        public Entry(String path, long length, long lastModified, long checksum)
+        {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        public String getPath()
+        {
+            return path;
+        }
+
+        public long getLength()
+        {
+            return length;
+        }
+
+        public long getLastModified()
+        {
+            return lastModified;
+        }
+
+        public long getChecksum()
+        {
+            return checksum;
+        }
+
+        public boolean hasChecksum()
+        {
+            return checksum != NO_CHECKSUM;
+        }
+
+        public String toString()
+        {
+            return "Entry:" + path + ":length:" + length + ":lastModified:" + lastModified + ":checksum:" + checksum;
+        }
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries = new HashMap<String, Entry>();
+    private DataOutputStream out;
+    private String lastPath = "";
+    private int recordCount;
+
+    /**
+     * Open the manifest held in file, creating it if it does not exist
+     *
+     * @param file
+     * @throws IOException if the file cannot be opened or is not a manifest
+     */
+    public ScanManifest(File file) throws IOException
+    {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * @param path
+     * @return the entry for path, or null if there is none
+     */
+    public synchronized Entry get(String path)
+    {
+        return entries.get(path);
+    }
+
+    /**
+     * @return every entry, in no particular order
+     */
+    public synchronized List<Entry> getEntries()
+    {
+        return new ArrayList<Entry>(entries.values());
+    }
+
+    /**
+     * @return number of files in the manifest
+     */
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Add or replace the entry for a file
+     *
+     * @param entry
+     * @throws IOException
+     */
+    public synchronized void put(Entry entry) throws IOException
+    {
+        entries.put(entry.getPath(), entry);
+        writeEntry(out, entry);
+        recordCount++;
+    }
+
+    /**
+     * Remove the entry for a file, appending a tombstone
+     *
+     * @param path
+     * @return the entry removed, or null if there was none
+     * @throws IOException
+     */
+    public synchronized Entry remove(String path) throws IOException
+    {
+        Entry entry = entries.remove(path);
+        if (entry != null)
+        {
+            out.writeByte(RECORD_REMOVE);
+            writePath(out, path);
+            recordCount++;
+        }
+        return entry;
+    }
+
+    /**
+     * Write out any buffered records
+     *
+     * @throws IOException
+     */
+    public synchronized void flush() throws IOException
+    {
+        out.flush();
+    }
+
+    /**
+     * Rewrite the manifest file holding one record for each file, in path order
+     *
+     * @throws IOException
+     */
+    public synchronized void compact() throws IOException
+    {
+        out.close();
+        File compacted = new File(file.getPath() + ".tmp");
+        File backup = backupFile();
+        List<String> paths = new ArrayList<String>(entries.keySet());
+        Collections.sort(paths);
+
+        String appendLastPath = lastPath;
+        lastPath = "";
+        DataOutputStream compactedOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(compacted), 64 * 1024));
+        try
+        {
+            compactedOut.writeInt(MAGIC);
+            compactedOut.writeInt(VERSION);
+            for (String path : paths)
+            {
+                writeEntry(compactedOut, entries.get(path));
+            }
+        }
+        finally
+        {
+            compactedOut.close();
+        }
+
+        //Move the old file aside rather than deleting it so it can be restored if the compacted copy cannot be renamed
+        backup.delete();
+        if (!file.renameTo(backup))
+        {
+            logger.warning("Unable to replace manifest:" + file + " with compacted copy");
+            compacted.delete();
+            lastPath = appendLastPath;
+            out = openForAppend();
+            return;
+        }
+        if (!compacted.renameTo(file))
+        {
+            logger.warning("Unable to replace manifest:" + file + " with compacted copy");
+            if (!backup.renameTo(file))
+            {
+                throw new IOException("Unable to restore manifest:" + file + " from:" + backup);
+            }
+            compacted.delete();
+            lastPath = appendLastPath;
+            out = openForAppend();
+            return;
+        }
+        backup.delete();
+        recordCount = entries.size();
+        out = openForAppend();
+    }
+
+    /**
+     * Write out any buffered records and close the file, the manifest cannot be modified after it has been closed
+     *
+     * @throws IOException
+     */
+    public synchronized void close() throws IOException
+    {
+        out.close();
+    }
+
+    /**
+     * @return true if the file holds many more records than files so would benefit from {@link #compact()}
+     */
+    public synchronized boolean isCompactionWorthwhile()
+    {
+        return recordCount > 1024 && recordCount > entries.size() * 2;
+    }
+
+    public String toString()
+    {
+        return "ScanManifest:" + file + ":files:" + size();
+    }
+
+    private void writeEntry(DataOutputStream out, Entry entry) throws IOException
+    {
+        out.writeByte(entry.hasChecksum() ? RECORD_ENTRY_WITH_CHECKSUM : RECORD_ENTRY);
+        writePath(out, entry.getPath());
+        writeVarLong(out, entry.getLength());
+        writeVarLong(out, entry.getLastModified());
+        if (entry.hasChecksum())
+        {
+            out.writeLong(entry.getChecksum());
+        }
+    }
+
+    /**
+     * Write path as the length of the prefix it shares with the previous path followed by the rest of it
+     */
+    private void writePath(DataOutputStream out, String path) throws IOException
+    {
+        int shared = 0;
+        int max = Math.min(path.length(), lastPath.length());
+        while (shared < max && path.charAt(shared) == lastPath.charAt(shared))
+        {
+            shared++;
+        }
+        byte[] rest = path.substring(shared).getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, shared);
+        writeVarLong(out, rest.length);
+        out.write(rest);
+        lastPath = path;
+    }
+
+    /**
+     * @param remaining number of bytes left in the file
+     * @return the path, or null if the record is corrupt
+     */
+    private String readPath(DataInputStream in, long remaining) throws IOException
+    {
+        long shared = readVarLong(in);
+        long restLength = readVarLong(in);
+        if (shared < 0 || shared > lastPath.length() || restLength < 0 || restLength > remaining)
+        {
+            return null;
+        }
+        byte[] rest = new byte[(int) restLength];
+        in.readFully(rest);
+        lastPath = lastPath.substring(0, (int) shared) + new String(rest, StandardCharsets.UTF_8);
+        return lastPath;
+    }
+
+    /**
+     * Write a non negative value seven bits at a time, least significant first
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException
+    {
+        while ((value & ~0x7fL) != 0)
+        {
+            out.writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * @return the value, or -1 if it is too long to be valid
+     */
+    private static long readVarLong(DataInputStream in) throws IOException
+    {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7)
+        {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0)
+            {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Read every record, discarding any incomplete record at the end, and open the file for appending
+     */
+    private void load() throws IOException
+    {
+        entries.clear();
+        lastPath = "";
+        recordCount = 0;
+
+        File backup = backupFile();
+        if (!file.exists() && backup.exists())
+        {
+            //Stopped while compacting, after the old file was moved aside
+            logger.warning("Restoring manifest:" + file + " from:" + backup);
+            if (!backup.renameTo(file))
+            {
+                throw new IOException("Unable to restore manifest:" + file + " from:" + backup);
+            }
+        }
+
+        if (!file.exists() || file.length() < FILE_HEADER_LENGTH)
+        {
+            DataOutputStream header = new DataOutputStream(new FileOutputStream(file));
+            try
+            {
+                header.writeInt(MAGIC);
+                header.writeInt(VERSION);
+            }
+            finally
+            {
+                header.close();
+            }
+            out = openForAppend();
+            return;
+        }
+
+        long fileLength = file.length();
+        long validLength = FILE_HEADER_LENGTH;
+        String validPath = "";
+        CountingInputStream counter = new CountingInputStream(new FileInputStream(file));
+        DataInputStream in = new DataInputStream(counter);
+        try
+        {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+            {
+                throw new IOException("Not a scan manifest or unsupported version:" + file);
+            }
+
+            while (true)
+            {
+                int type = in.readUnsignedByte();
+                if (type != RECORD_ENTRY && type != RECORD_ENTRY_WITH_CHECKSUM && type != RECORD_REMOVE)
+                {
+                    logger.warning("Unknown record type:" + type + " in manifest:" + file + " at:" + validLength);
+                    break;
+                }
+                String path = readPath(in, fileLength - counter.getCount());
+                if (path == null)
+                {
+                    logger.warning("Invalid path in manifest:" + file + " at:" + validLength);
+                    break;
+                }
+                if (type == RECORD_ENTRY || type == RECORD_ENTRY_WITH_CHECKSUM)
+                {
+                    long length = readVarLong(in);
+                    long lastModified = readVarLong(in);
+                    if (length < 0 || lastModified < 0)
+                    {
+                        logger.warning("Invalid length in manifest:" + file + " at:" + validLength);
+                        break;
+                    }
+                    long checksum = type == RECORD_ENTRY_WITH_CHECKSUM ? in.readLong() : NO_CHECKSUM;
+                    entries.put(path, new Entry(path, length, lastModified, checksum));
+                }
+                else
+                {
+                    entries.remove(path);
+                }
+                recordCount++;
+                validLength = counter.getCount();
+                validPath = lastPath;
+            }
+        }
+        catch (EOFException eofe)
+        {
+            //End of file, or a record only partly written
+        }
+        finally
+        {
+            in.close();
+        }
+
+        if (validLength < fileLength)
+        {
+            logger.warning("Discarding incomplete record at end of manifest:" + file + " at:" + validLength);
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try
+            {
+                raf.setLength(validLength);
+            }
+            finally
+            {
+                raf.close();
+            }
+        }
+        lastPath = validPath;
+        out = openForAppend();
+    }
+
+    /**
+     * @return where the old file is moved while it is replaced by a compacted copy
+     */
+    private File backupFile()
+    {
+        return new File(file.getPath() + ".bak");
+    }
+
+    private DataOutputStream openForAppend() throws IOException
+    {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true), 64 * 1024));
+    }
+
+    /**
+     * Counts the bytes consumed so the end of the last complete record is known
+     */
+    private static class CountingInputStream extends BufferedInputStream
+    {
+        private long count;
+
+        private CountingInputStream(FileInputStream in)
+        {
+            super(in, 64 * 1024);
+        }
+
+        public synchronized int read() throws IOException
+        {
+            int b = super.read();
+            if (b >= 0)
+            {
+                count++;
+            }
+            return b;
+        }
+
+        public synchronized int read(byte[] b, int off, int len) throws IOException
+        {
+            int read = super.read(b, off, len);
+            if (read > 0)
+            {
+                count += read;
+            }
+            return read;
+        }
+
+        public synchronized long skip(long n) throws IOException
+        {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        private long getCount()
+        {
+            return count;
+        }
+    }
+}
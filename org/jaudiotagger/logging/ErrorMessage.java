@@ -37,6 +37,8 @@ public enum ErrorMessage
     GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST("New file {0} does not appear to exist"),
     GENERAL_WRITE_FAILED_BECAUSE("Cannot make changes to file {0} because {1}"),
     GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND("Cannot make changes to file {0} because the file cannot be found"),
+    GENERAL_WRITE_FAILED_BECAUSE_READ_WITH_PROJECTION("Cannot make changes to file {0} because only part of the tag was read using {1}"),
+    GENERAL_WRITE_FAILED_BECAUSE_READ_FROM_CACHE("Cannot make changes to file {0} because it was read from the tag cache"),
     GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE("Unable to delete the backup file {0}"),
     GENERAL_WRITE_PROBLEM_CLOSING_FILE_HANDLE("Problem closing file handles for file {0} because {1}"),
     GENERAL_DELETE_FAILED("Cannot delete file {0} because not writable"),
@@ -66,6 +68,7 @@ public enum ErrorMessage
     GENERAL_READ_FAILED_UNABLE_TO_CLOSE_RANDOM_ACCESS_FILE("Unable to close random access file: {0}"),
     GENERAL_READ_FAILED_FILE_TOO_SMALL("Unable to read file because it is too small to be valid audio file: {0}"),
     GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE("Unable to read file do not have permission to read: {0}"),
+    GENERAL_HASH_FAILED_AUDIO_DATA_POSITION_UNKNOWN("Unable to hash the audio of file {0} because the position of the audio data is not known"),
     ASF_FILE_HEADER_SIZE_DOES_NOT_MATCH_FILE_SIZE("For file {0} the File header size is {1} but different to actual file size of {2}"),
     ASF_FILE_HEADER_MISSING("For file {0} the File Header missing. Invalid ASF/WMA file."),
     ASF_HEADER_MISSING("For file {0} the Asf Header missing. Invalid ASF/WMA file."),
@@ -106,6 +109,7 @@ public enum ErrorMessage
     ARTWORK_CANNOT_BE_RETRIEVED_WITH_THIS_METHOD("Cover Art cannot be retrieved using this method"),
     GENERIC_NOT_SUPPORTED("Not implemented for this format"),
     OPERATION_NOT_SUPPORTED_FOR_FIELD("Not available for this field {0}"),
+    CACHED_TAG_IS_READ_ONLY("Tags read from the tag cache cannot be modified"),
     ID3_UNABLE_TO_DECOMPRESS_FRAME("Unable to decompress frame {0} in file {1} because {2}"),
     NO_WRITER_FOR_THIS_FORMAT("No Writer associated with this extension:{0}"),
     NO_READER_FOR_THIS_FORMAT("No Reader associated with this extension:{0}"),
@@ -119,6 +123,8 @@ public enum ErrorMessage
     ATOM_LENGTH_LARGER_THAN_DATA("The atom {0} states its data length to be {1} but there are only {2} bytes remaining in the file"),
     INVALID_FIELD_FOR_ID3V1TAG("Invalid field {0} for ID3v1 tag"),
     NO_AUDIO_HEADER_FOUND("No audio header found within {0}"),
+    MP3_SYNC_SEARCH_LIMIT_REACHED("No audio header found within the first {1} bytes searched of {0}"),
+    MP3_SYNC_SEARCH_NOT_MPEG_AUDIO("{0} does not appear to be MPEG audio, only {1} of {2} possible frame syncs within the first {3} bytes searched were valid frame headers"),
     NOT_STANDARD_MP$_GENRE("This is not a standard genre value, use custom genre field instead"),
     FLAC_NO_BLOCKTYPE("Flac file has invalid block type {0}"),
     ;
@@ -25,7 +25,14 @@ package org.jaudiotagger.logging;
 */
 public class PlainTextTagDisplayFormatter extends AbstractTagDisplayFormatter
 {
-    private static PlainTextTagDisplayFormatter formatter;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final PlainTextTagDisplayFormatter INSTANCE = new PlainTextTagDisplayFormatter();
+    }
 
     StringBuffer sb = new StringBuffer();
     StringBuffer indent = new StringBuffer();
@@ -90,10 +97,6 @@ public class PlainTextTagDisplayFormatter extends AbstractTagDisplayFormatter
 
     public static AbstractTagDisplayFormatter getInstanceOf()
     {
-        if (formatter == null)
-        {
-            formatter = new PlainTextTagDisplayFormatter();
-        }
-        return formatter;
+        return InstanceHolder.INSTANCE;
     }
 }
@@ -43,6 +43,8 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class TagOptionSingleton
 {
@@ -53,6 +55,7 @@ public class TagOptionSingleton
     public void setWavOptions(WavOptions wavOptions)
     {
         this.wavOptions = wavOptions;
+        changed();
     }
 
     public WavOptions getWavOptions()
@@ -65,6 +68,7 @@ public class TagOptionSingleton
     public void setWavSaveOptions(WavSaveOptions wavSaveOptions)
     {
         this.wavSaveOptions = wavSaveOptions;
+        changed();
     }
 
     public WavSaveOptions getWavSaveOptions()
@@ -77,6 +81,7 @@ public class TagOptionSingleton
     public void setWavSaveOrder(WavSaveOrder wavSaveOrder)
     {
         this.wavSaveOrder = wavSaveOrder;
+        changed();
     }
 
     public WavSaveOrder getWavSaveOrder()
@@ -89,6 +94,7 @@ public class TagOptionSingleton
     public void setVorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions)
     {
         this.vorbisAlbumArtistSaveOptions = vorbisAlbumArtistSaveOptions;
+        changed();
     }
 
     public VorbisAlbumArtistSaveOptions getVorbisAlbumArtistSaveOptions()
@@ -101,6 +107,7 @@ public class TagOptionSingleton
     public void setVorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions)
     {
         this.vorbisAlbumArtistReadOptions = vorbisAlbumArtistReadOptions;
+        changed();
     }
 
     public VorbisAlbumArtistReadOptions getVorbisAlbumArtisReadOptions()
@@ -109,9 +116,9 @@ public class TagOptionSingleton
     }
 
     /**
-     *
+     * Concurrent so instances can be looked up from multiple threads without locking
      */
-    private static HashMap<String, TagOptionSingleton> tagOptionTable = new HashMap<String, TagOptionSingleton>();
+    private static final ConcurrentMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<String, TagOptionSingleton>();
 
     /**
      *
@@ -121,7 +128,7 @@ public class TagOptionSingleton
     /**
      *
      */
-    private static String defaultOptions = DEFAULT;
+    private static volatile String defaultOptions = DEFAULT;
 
     /**
      *
@@ -346,6 +353,43 @@ public class TagOptionSingleton
      */
     private long writeChunkSize= (4 * 1024 * 1024);
 
+    /**
+     * Size in bytes of each block held by the read cache
+     */
+    private int readCacheBlockSize = 8 * 1024;
+
+    /**
+     * Number of additional blocks read whenever the read cache has to go to the file
+     */
+    private int readCacheReadAheadBlocks = 3;
+
+    /**
+     * Maximum number of blocks held by the read cache for one file, zero disables the cache
+     */
+    private int readCacheMaxBlocks = 8;
+
+    /**
+     * Maximum number of bytes searched for the first MPEG audio frame of an MP3 before giving up, zero or less
+     * searches the whole file
+     */
+    private long mp3MaxSyncScanDistance = 4 * 1024 * 1024;
+
+    /**
+     * Number of bytes searched for the first MPEG audio frame of an MP3 after which the search is abandoned if
+     * the data does not look like MPEG audio, zero or less disables the check
+     */
+    private int mp3SyncScanDensityCheckDistance = 256 * 1024;
+
+    /**
+     * Whether the bodies of ID3v2 frames are only decoded when first accessed
+     */
+    private boolean lazyId3v2FrameBodyDecoding = false;
+
+    /**
+     * Whether image data is left in the file when reading a tag and only read when required
+     */
+    private boolean lazyArtwork = false;
+
     private boolean isWriteMp4GenresAsText=false;
 
     private boolean isWriteMp3GenresAsText=false;
@@ -367,6 +411,11 @@ public class TagOptionSingleton
      * 
      */
     
+    /**
+     * Immutable copy of these options, discarded whenever they are changed
+     */
+    private volatile TagOptions tagOptions;
+
     /**
      * Creates a new TagOptions datatype. All Options are set to their default
      * values
@@ -385,6 +434,36 @@ public class TagOptionSingleton
         return getInstance(defaultOptions);
     }
 
+    /**
+     * @return an immutable copy of these options, used by reads and writes that are not given their own
+     * {@link TagOptions}
+     */
+    public TagOptions getTagOptions()
+    {
+        TagOptions options = tagOptions;
+        if (options == null)
+        {
+            synchronized (this)
+            {
+                options = tagOptions;
+                if (options == null)
+                {
+                    options = new TagOptions.Builder(this).build();
+                    tagOptions = options;
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Discard the copy returned by {@link #getTagOptions()}, called after any option is changed
+     */
+    private synchronized void changed()
+    {
+        tagOptions = null;
+    }
+
     /**
      * @param instanceKey
      * @return
@@ -395,8 +474,13 @@ public class TagOptionSingleton
 
         if (tagOptions == null)
         {
-            tagOptions = new TagOptionSingleton();
-            tagOptionTable.put(instanceKey, tagOptions);
+            //If another thread created it first use theirs so every caller sees the same instance
+            TagOptionSingleton created = new TagOptionSingleton();
+            tagOptions = tagOptionTable.putIfAbsent(instanceKey, created);
+            if (tagOptions == null)
+            {
+                tagOptions = created;
+            }
         }
 
         return tagOptions;
@@ -408,6 +492,7 @@ public class TagOptionSingleton
     public void setFilenameTagSave(boolean filenameTagSave)
     {
         this.filenameTagSave = filenameTagSave;
+        changed();
     }
 
     /**
@@ -424,6 +509,7 @@ public class TagOptionSingleton
     public void setID3V2Version(ID3V2Version  id3v2Version)
     {
         this.id3v2Version = id3v2Version;
+        changed();
     }
 
     /**
@@ -458,6 +544,7 @@ public class TagOptionSingleton
     public void setId3v1Save(boolean id3v1Save)
     {
         this.id3v1Save = id3v1Save;
+        changed();
     }
 
     /**
@@ -474,6 +561,7 @@ public class TagOptionSingleton
     public void setId3v1SaveAlbum(boolean id3v1SaveAlbum)
     {
         this.id3v1SaveAlbum = id3v1SaveAlbum;
+        changed();
     }
 
     /**
@@ -490,6 +578,7 @@ public class TagOptionSingleton
     public void setId3v1SaveArtist(boolean id3v1SaveArtist)
     {
         this.id3v1SaveArtist = id3v1SaveArtist;
+        changed();
     }
 
     /**
@@ -506,6 +595,7 @@ public class TagOptionSingleton
     public void setId3v1SaveComment(boolean id3v1SaveComment)
     {
         this.id3v1SaveComment = id3v1SaveComment;
+        changed();
     }
 
     /**
@@ -522,6 +612,7 @@ public class TagOptionSingleton
     public void setId3v1SaveGenre(boolean id3v1SaveGenre)
     {
         this.id3v1SaveGenre = id3v1SaveGenre;
+        changed();
     }
 
     /**
@@ -538,6 +629,7 @@ public class TagOptionSingleton
     public void setId3v1SaveTitle(boolean id3v1SaveTitle)
     {
         this.id3v1SaveTitle = id3v1SaveTitle;
+        changed();
     }
 
     /**
@@ -554,6 +646,7 @@ public class TagOptionSingleton
     public void setId3v1SaveTrack(boolean id3v1SaveTrack)
     {
         this.id3v1SaveTrack = id3v1SaveTrack;
+        changed();
     }
 
     /**
@@ -570,6 +663,7 @@ public class TagOptionSingleton
     public void setId3v1SaveYear(boolean id3v1SaveYear)
     {
         this.id3v1SaveYear = id3v1SaveYear;
+        changed();
     }
 
     /**
@@ -587,6 +681,7 @@ public class TagOptionSingleton
     public void setId3v2PaddingCopyTag(boolean id3v2PaddingCopyTag)
     {
         this.id3v2PaddingCopyTag = id3v2PaddingCopyTag;
+        changed();
     }
 
     /**
@@ -604,6 +699,7 @@ public class TagOptionSingleton
     public void setId3v2PaddingWillShorten(boolean id3v2PaddingWillShorten)
     {
         this.id3v2PaddingWillShorten = id3v2PaddingWillShorten;
+        changed();
     }
 
     /**
@@ -620,6 +716,7 @@ public class TagOptionSingleton
     public void setId3v2Save(boolean id3v2Save)
     {
         this.id3v2Save = id3v2Save;
+        changed();
     }
 
     /**
@@ -661,6 +758,7 @@ public class TagOptionSingleton
         {
             language = lang;
         }
+        changed();
     }
 
     /**
@@ -679,6 +777,7 @@ public class TagOptionSingleton
     public void setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead)
     {
         this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
+        changed();
     }
 
     /**
@@ -695,6 +794,7 @@ public class TagOptionSingleton
     public void setLyrics3Save(boolean lyrics3Save)
     {
         this.lyrics3Save = lyrics3Save;
+        changed();
     }
 
     /**
@@ -711,6 +811,7 @@ public class TagOptionSingleton
     public void setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField)
     {
         this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
+        changed();
     }
 
     /**
@@ -730,6 +831,7 @@ public class TagOptionSingleton
     public void setLyrics3SaveField(String id, boolean save)
     {
         this.lyrics3SaveFieldMap.put(id, save);
+        changed();
     }
 
     /**
@@ -749,6 +851,8 @@ public class TagOptionSingleton
      */
     public HashMap<String, Boolean> getLyrics3SaveFieldMap()
     {
+        //May be modified by the caller
+        changed();
         return lyrics3SaveFieldMap;
     }
 
@@ -772,6 +876,7 @@ public class TagOptionSingleton
     public void setNumberMP3SyncFrame(int numberMP3SyncFrame)
     {
         this.numberMP3SyncFrame = numberMP3SyncFrame;
+        changed();
     }
 
     /**
@@ -819,6 +924,7 @@ public class TagOptionSingleton
     public void setOriginalSavedAfterAdjustingID3v2Padding(boolean originalSavedAfterAdjustingID3v2Padding)
     {
         this.originalSavedAfterAdjustingID3v2Padding = originalSavedAfterAdjustingID3v2Padding;
+        changed();
     }
 
     /**
@@ -848,6 +954,7 @@ public class TagOptionSingleton
         {
             timeStampFormat = tsf;
         }
+        changed();
     }
 
     /**
@@ -907,6 +1014,13 @@ public class TagOptionSingleton
         isAndroid = false;
         isEncodeUTF16BomAsLittleEndian = true;
         writeChunkSize=5000000;
+        readCacheBlockSize = 8 * 1024;
+        readCacheReadAheadBlocks = 3;
+        readCacheMaxBlocks = 8;
+        mp3MaxSyncScanDistance = 4 * 1024 * 1024;
+        mp3SyncScanDensityCheckDistance = 256 * 1024;
+        lazyId3v2FrameBodyDecoding = false;
+        lazyArtwork = false;
         isWriteMp4GenresAsText=false;
         padNumberTotalLength = PadNumberOption.PAD_ONE_ZERO;
         id3v2Version = ID3V2Version.ID3_V23;
@@ -996,6 +1110,7 @@ public class TagOptionSingleton
         addParenthesis("[", "]");
         addParenthesis("{", "}");
         addParenthesis("<", ">");
+        changed();
     }
 
 
@@ -1027,6 +1142,7 @@ public class TagOptionSingleton
 
             keywordList.add(keyword);
         }
+        changed();
     }
 
     /**
@@ -1036,6 +1152,7 @@ public class TagOptionSingleton
     public void addParenthesis(String open, String close)
     {
         parenthesisMap.put(open, close);
+        changed();
     }
 
     /**
@@ -1045,6 +1162,7 @@ public class TagOptionSingleton
     public void addReplaceWord(String oldWord, String newWord)
     {
         replaceWordMap.put(oldWord, newWord);
+        changed();
     }
 
     /**
@@ -1064,6 +1182,7 @@ public class TagOptionSingleton
     public void setUnsyncTags(boolean unsyncTags)
     {
         this.unsyncTags = unsyncTags;
+        changed();
     }
 
     /**
@@ -1085,6 +1204,7 @@ public class TagOptionSingleton
     public void setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite)
     {
         this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
+        changed();
     }
 
     /**
@@ -1110,6 +1230,7 @@ public class TagOptionSingleton
         {
             this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
         }
+        changed();
     }
 
     /**
@@ -1136,6 +1257,7 @@ public class TagOptionSingleton
             this.id3v24DefaultTextEncoding = id3v24DefaultTextEncoding;
         }
 
+        changed();
     }
 
     /**
@@ -1161,6 +1283,7 @@ public class TagOptionSingleton
         {
             this.id3v24UnicodeTextEncoding = id3v24UnicodeTextEncoding;
         }
+        changed();
     }
 
     /**
@@ -1186,6 +1309,7 @@ public class TagOptionSingleton
     public void setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames)
     {
         this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
+        changed();
     }
 
     /**
@@ -1205,6 +1329,7 @@ public class TagOptionSingleton
     public void setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors)
     {
         this.truncateTextWithoutErrors = truncateTextWithoutErrors;
+        changed();
     }
 
     public boolean isPadNumbers()
@@ -1215,6 +1340,7 @@ public class TagOptionSingleton
     public void setPadNumbers(boolean padNumbers)
     {
         this.padNumbers = padNumbers;
+        changed();
     }
 
     public boolean isAndroid()
@@ -1225,6 +1351,7 @@ public class TagOptionSingleton
     public void setAndroid(boolean android)
     {
         isAndroid = android;
+        changed();
     }
 
     /**
@@ -1240,6 +1367,7 @@ public class TagOptionSingleton
     public void setPlayerCompatability(int playerCompatability)
     {
         this.playerCompatability = playerCompatability;
+        changed();
     }
 
     /**
@@ -1254,6 +1382,7 @@ public class TagOptionSingleton
     public void setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian)
     {
         isEncodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
+        changed();
     }
 
     /**
@@ -1269,6 +1398,124 @@ public class TagOptionSingleton
     public void setWriteChunkSize(long writeChunkSize)
     {
         this.writeChunkSize = writeChunkSize;
+        changed();
+    }
+
+    /**
+     * Size of the blocks held by the read cache used when reading headers, see
+     * {@link org.jaudiotagger.audio.generic.BlockCache}
+     */
+    public int getReadCacheBlockSize()
+    {
+        return readCacheBlockSize;
+    }
+
+    public void setReadCacheBlockSize(int readCacheBlockSize)
+    {
+        this.readCacheBlockSize = readCacheBlockSize;
+        changed();
+    }
+
+    /**
+     * Number of additional blocks read ahead whenever the read cache misses
+     */
+    public int getReadCacheReadAheadBlocks()
+    {
+        return readCacheReadAheadBlocks;
+    }
+
+    public void setReadCacheReadAheadBlocks(int readCacheReadAheadBlocks)
+    {
+        this.readCacheReadAheadBlocks = readCacheReadAheadBlocks;
+        changed();
+    }
+
+    /**
+     * Maximum number of blocks held by the read cache for each file, set to zero to disable the cache
+     */
+    public int getReadCacheMaxBlocks()
+    {
+        return readCacheMaxBlocks;
+    }
+
+    public void setReadCacheMaxBlocks(int readCacheMaxBlocks)
+    {
+        this.readCacheMaxBlocks = readCacheMaxBlocks;
+        changed();
+    }
+
+    /**
+     * Maximum number of bytes after the ID3v2 tag that are searched for the first MPEG audio frame, if no frame is
+     * found within this distance the file is rejected with a
+     * {@link org.jaudiotagger.audio.exceptions.NotMpegAudioException}, zero or less searches the whole file
+     */
+    public long getMp3MaxSyncScanDistance()
+    {
+        return mp3MaxSyncScanDistance;
+    }
+
+    public void setMp3MaxSyncScanDistance(long mp3MaxSyncScanDistance)
+    {
+        this.mp3MaxSyncScanDistance = mp3MaxSyncScanDistance;
+        changed();
+    }
+
+    /**
+     * Once this many bytes have been searched for the first MPEG audio frame without finding one, the search is
+     * abandoned with a {@link org.jaudiotagger.audio.exceptions.NotMpegAudioException} if few of the possible frame
+     * syncs seen so far were valid frame headers, as happens with other formats such as AAC, zero or less disables
+     * this check
+     */
+    public int getMp3SyncScanDensityCheckDistance()
+    {
+        return mp3SyncScanDensityCheckDistance;
+    }
+
+    public void setMp3SyncScanDensityCheckDistance(int mp3SyncScanDensityCheckDistance)
+    {
+        this.mp3SyncScanDensityCheckDistance = mp3SyncScanDensityCheckDistance;
+        changed();
+    }
+
+    /**
+     * If enabled the bodies of ID3v2 frames are not decoded when the tag is read, each frame just keeps a reference
+     * to its body data and decodes it the first time the body is accessed (for example by getFirst() or
+     * getFields()), frames whose body has never been accessed are written back with their original body data
+     * without any text encoding conversion.
+     *
+     * A frame body that cannot be decoded is kept as a FrameBodyUnsupported rather than the frame being discarded
+     * as happens when bodies are decoded on read. Compressed and encrypted frames are always decoded on read.
+     */
+    public boolean isLazyId3v2FrameBodyDecoding()
+    {
+        return lazyId3v2FrameBodyDecoding;
+    }
+
+    public void setLazyId3v2FrameBodyDecoding(boolean lazyId3v2FrameBodyDecoding)
+    {
+        this.lazyId3v2FrameBodyDecoding = lazyId3v2FrameBodyDecoding;
+        changed();
+    }
+
+    /**
+     * If enabled the image data of artwork is not read with the rest of the tag, only its position in the file is
+     * recorded and the artwork returned is a {@link org.jaudiotagger.tag.images.LazyArtwork} that reads the data when
+     * it is requested or streams it directly from the file.
+     *
+     * This applies to Flac picture blocks, METADATA_BLOCK_PICTURE vorbis comments, ID3v2 APIC/PIC frames read from
+     * MP3 files, Mp4 covr fields and the Asf WM/Picture attribute. Artwork that is compressed, encrypted or
+     * unsynchronised within the tag is still read as part of the tag. The image data is read into memory before the
+     * tag is written back to the file.
+     */
+    public boolean isLazyArtwork()
+    {
+        return lazyArtwork;
+    }
+
+    public void setLazyArtwork(boolean lazyArtwork)
+    {
+        this.lazyArtwork = lazyArtwork;
+        changed();
     }
 
     /**
@@ -1283,6 +1530,7 @@ public class TagOptionSingleton
     public void setWriteMp4GenresAsText(boolean writeMp4GenresAsText)
     {
         isWriteMp4GenresAsText = writeMp4GenresAsText;
+        changed();
     }
 
     /**
@@ -1297,6 +1545,7 @@ public class TagOptionSingleton
     public void setWriteMp3GenresAsText(boolean writeMp3GenresAsText)
     {
         isWriteMp3GenresAsText = writeMp3GenresAsText;
+        changed();
     }
 
     /**
@@ -1310,6 +1559,7 @@ public class TagOptionSingleton
     public void setPadNumberTotalLength(PadNumberOption padNumberTotalLength)
     {
         this.padNumberTotalLength = padNumberTotalLength;
+        changed();
     }
 
     /**
@@ -1323,6 +1573,7 @@ public class TagOptionSingleton
     public void setAPICDescriptionITunesCompatible(boolean APICDescriptionITunesCompatible)
     {
         isAPICDescriptionITunesCompatible = APICDescriptionITunesCompatible;
+        changed();
     }
 
     /**
@@ -1335,6 +1586,7 @@ public class TagOptionSingleton
 
 	public void setCheckIsWritable(boolean checkIsWritable) {
 		this.checkIsWritable = checkIsWritable;
+		changed();
 	}
 
     /**
@@ -1362,6 +1614,7 @@ public class TagOptionSingleton
      */
     public void setPreserveFileIdentity(final boolean preserveFileIdentity) {
         this.preserveFileIdentity = preserveFileIdentity;
+        changed();
     }
 
     public boolean isWriteWavForTwonky()
@@ -1372,5 +1625,6 @@ public class TagOptionSingleton
     public void setWriteWavForTwonky(boolean isWriteWavForTwonky)
     {
         this.isWriteWavForTwonky = isWriteWavForTwonky;
+        changed();
     }
 }
@@ -0,0 +1,1169 @@
+package org.jaudiotagger.tag;
+
+import org.jaudiotagger.audio.wav.WavOptions;
+import org.jaudiotagger.audio.wav.WavSaveOptions;
+import org.jaudiotagger.audio.wav.WavSaveOrder;
+import org.jaudiotagger.tag.options.PadNumberOption;
+import org.jaudiotagger.tag.reference.ID3V2Version;
+import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
+import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable set of the options used while reading and writing files.
+ *
+ * <p>Options are created with a {@link Builder}, starting either from a {@link TagOptionSingleton} or from another
+ * TagOptions, and passed to {@link org.jaudiotagger.audio.AudioFileIO} when reading or writing so different jobs
+ * running at the same time can use different options. While a file is being read or written its options are the
+ * {@link #current()} options of the thread doing the work, which is where the readers, writers and tags look them up.
+ * When no options have been given the current options are a copy of the default {@link TagOptionSingleton}, taken
+ * again whenever it is changed, so code that only configures the singleton continues to work as before.
+ *
+ * <p>Work done after a read returns also uses the options the file was read with. Frame bodies decoded lazily keep
+ * the options in use when they were read, and the file and its tag keep any options given so they are used when the
+ * tag is changed, converted or written.
+ */
+public final class TagOptions
+{
+    /**
+     * The options given for the work being done by each thread, if any
+     */
+    private static final ThreadLocal<TagOptions> current = new ThreadLocal<TagOptions>();
+
+    private final WavOptions wavOptions;
+    private final WavSaveOptions wavSaveOptions;
+    private final WavSaveOrder wavSaveOrder;
+    private final boolean writeWavForTwonky;
+    private final VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions;
+    private final VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions;
+    private final ID3V2Version id3v2Version;
+    private final boolean id3v1Save;
+    private final boolean id3v1SaveAlbum;
+    private final boolean id3v1SaveArtist;
+    private final boolean id3v1SaveComment;
+    private final boolean id3v1SaveGenre;
+    private final boolean id3v1SaveTitle;
+    private final boolean id3v1SaveTrack;
+    private final boolean id3v1SaveYear;
+    private final boolean id3v2Save;
+    private final boolean lyrics3KeepEmptyFieldIfRead;
+    private final boolean lyrics3Save;
+    private final boolean lyrics3SaveEmptyField;
+    private final boolean unsyncTags;
+    private final boolean removeTrailingTerminatorOnWrite;
+    private final byte id3v23DefaultTextEncoding;
+    private final byte id3v24DefaultTextEncoding;
+    private final byte id3v24UnicodeTextEncoding;
+    private final boolean resetTextEncodingForExistingFrames;
+    private final boolean truncateTextWithoutErrors;
+    private final boolean padNumbers;
+    private final PadNumberOption padNumberTotalLength;
+    private final boolean android;
+    private final boolean encodeUTF16BomAsLittleEndian;
+    private final boolean apicDescriptionITunesCompatible;
+    private final long writeChunkSize;
+    private final int readCacheBlockSize;
+    private final int readCacheReadAheadBlocks;
+    private final int readCacheMaxBlocks;
+    private final long mp3MaxSyncScanDistance;
+    private final int mp3SyncScanDensityCheckDistance;
+    private final boolean lazyId3v2FrameBodyDecoding;
+    private final boolean lazyArtwork;
+    private final boolean writeMp4GenresAsText;
+    private final boolean writeMp3GenresAsText;
+    private final boolean checkIsWritable;
+    private final boolean preserveFileIdentity;
+    private final Map<String, Boolean> lyrics3SaveFieldMap;
+
+    private TagOptions(Builder builder)
+    {
+        this.wavOptions = builder.wavOptions;
+        this.wavSaveOptions = builder.wavSaveOptions;
+        this.wavSaveOrder = builder.wavSaveOrder;
+        this.writeWavForTwonky = builder.writeWavForTwonky;
+        this.vorbisAlbumArtistSaveOptions = builder.vorbisAlbumArtistSaveOptions;
+        this.vorbisAlbumArtistReadOptions = builder.vorbisAlbumArtistReadOptions;
+        this.id3v2Version = builder.id3v2Version;
+        this.id3v1Save = builder.id3v1Save;
+        this.id3v1SaveAlbum = builder.id3v1SaveAlbum;
+        this.id3v1SaveArtist = builder.id3v1SaveArtist;
+        this.id3v1SaveComment = builder.id3v1SaveComment;
+        this.id3v1SaveGenre = builder.id3v1SaveGenre;
+        this.id3v1SaveTitle = builder.id3v1SaveTitle;
+        this.id3v1SaveTrack = builder.id3v1SaveTrack;
+        this.id3v1SaveYear = builder.id3v1SaveYear;
+        this.id3v2Save = builder.id3v2Save;
+        this.lyrics3KeepEmptyFieldIfRead = builder.lyrics3KeepEmptyFieldIfRead;
+        this.lyrics3Save = builder.lyrics3Save;
+        this.lyrics3SaveEmptyField = builder.lyrics3SaveEmptyField;
+        this.unsyncTags = builder.unsyncTags;
+        this.removeTrailingTerminatorOnWrite = builder.removeTrailingTerminatorOnWrite;
+        this.id3v23DefaultTextEncoding = builder.id3v23DefaultTextEncoding;
+        this.id3v24DefaultTextEncoding = builder.id3v24DefaultTextEncoding;
+        this.id3v24UnicodeTextEncoding = builder.id3v24UnicodeTextEncoding;
+        this.resetTextEncodingForExistingFrames = builder.resetTextEncodingForExistingFrames;
+        this.truncateTextWithoutErrors = builder.truncateTextWithoutErrors;
+        this.padNumbers = builder.padNumbers;
+        this.padNumberTotalLength = builder.padNumberTotalLength;
+        this.android = builder.android;
+        this.encodeUTF16BomAsLittleEndian = builder.encodeUTF16BomAsLittleEndian;
+        this.apicDescriptionITunesCompatible = builder.apicDescriptionITunesCompatible;
+        this.writeChunkSize = builder.writeChunkSize;
+        this.readCacheBlockSize = builder.readCacheBlockSize;
+        this.readCacheReadAheadBlocks = builder.readCacheReadAheadBlocks;
+        this.readCacheMaxBlocks = builder.readCacheMaxBlocks;
+        this.mp3MaxSyncScanDistance = builder.mp3MaxSyncScanDistance;
+        this.mp3SyncScanDensityCheckDistance = builder.mp3SyncScanDensityCheckDistance;
+        this.lazyId3v2FrameBodyDecoding = builder.lazyId3v2FrameBodyDecoding;
+        this.lazyArtwork = builder.lazyArtwork;
+        this.writeMp4GenresAsText = builder.writeMp4GenresAsText;
+        this.writeMp3GenresAsText = builder.writeMp3GenresAsText;
+        this.checkIsWritable = builder.checkIsWritable;
+        this.preserveFileIdentity = builder.preserveFileIdentity;
+        this.lyrics3SaveFieldMap = Collections.unmodifiableMap(new HashMap<String, Boolean>(builder.lyrics3SaveFieldMap));
+    }
+
+    /**
+     * @return the options for the work being done by the calling thread, those given to
+     * {@link org.jaudiotagger.audio.AudioFileIO} if any otherwise those of the default {@link TagOptionSingleton}
+     */
+    public static TagOptions current()
+    {
+        TagOptions options = current.get();
+        return options != null ? options : TagOptionSingleton.getInstance().getTagOptions();
+    }
+
+    /**
+     * @return the options given for the work being done by the calling thread, or null if none were given and the
+     * options of the default {@link TagOptionSingleton} are in use
+     */
+    public static TagOptions given()
+    {
+        return current.get();
+    }
+
+    /**
+     * Use options for the work done by the calling thread until {@link #exit(TagOptions)}, used by
+     * {@link org.jaudiotagger.audio.AudioFileIO} around each read and write and by tags around each change so they
+     * use the options they were read with, for example:
+     *
+     * <pre>
+     * TagOptions previous = TagOptions.enter(options);
+     * try
+     * {
+     *     ...
+     * }
+     * finally
+     * {
+     *     TagOptions.exit(previous);
+     * }
+     * </pre>
+     *
+     * @param options the options to use, or null to keep those currently in use
+     * @return the options to pass to {@link #exit(TagOptions)}
+     */
+    public static TagOptions enter(TagOptions options)
+    {
+        TagOptions previous = current.get();
+        if (options != null)
+        {
+            current.set(options);
+        }
+        return previous;
+    }
+
+    /**
+     * Go back to the options in use before {@link #enter(TagOptions)}
+     *
+     * @param previous the value returned by {@link #enter(TagOptions)}
+     */
+    public static void exit(TagOptions previous)
+    {
+        if (previous != null)
+        {
+            current.set(previous);
+        }
+        else
+        {
+            current.remove();
+        }
+    }
+
+    /**
+     * @return a builder starting from the default options
+     */
+    public static Builder builder()
+    {
+        return new Builder(TagOptionSingleton.getInstance().getTagOptions());
+    }
+
+    /**
+     * @return a builder starting from these options
+     */
+    public Builder toBuilder()
+    {
+        return new Builder(this);
+    }
+
+    /**
+     * @return which metadata is read from WAV files
+     */
+    public WavOptions getWavOptions()
+    {
+        return wavOptions;
+    }
+
+    /**
+     * @return which metadata is written to WAV files
+     */
+    public WavSaveOptions getWavSaveOptions()
+    {
+        return wavSaveOptions;
+    }
+
+    /**
+     * @return the order metadata chunks are written to WAV files
+     */
+    public WavSaveOrder getWavSaveOrder()
+    {
+        return wavSaveOrder;
+    }
+
+    /**
+     * @return true to write WAV files in a form Twonky can read
+     */
+    public boolean isWriteWavForTwonky()
+    {
+        return writeWavForTwonky;
+    }
+
+    /**
+     * @return which fields album artist is written to in Vorbis comments
+     */
+    public VorbisAlbumArtistSaveOptions getVorbisAlbumArtistSaveOptions()
+    {
+        return vorbisAlbumArtistSaveOptions;
+    }
+
+    /**
+     * @return which fields album artist is read from in Vorbis comments
+     */
+    public VorbisAlbumArtistReadOptions getVorbisAlbumArtisReadOptions()
+    {
+        return vorbisAlbumArtistReadOptions;
+    }
+
+    /**
+     * @return the ID3v2 version used for new tags
+     */
+    public ID3V2Version getID3V2Version()
+    {
+        return id3v2Version;
+    }
+
+    /**
+     * @return true to save ID3v1 tags
+     */
+    public boolean isId3v1Save()
+    {
+        return id3v1Save;
+    }
+
+    /**
+     * @return true to save the album to ID3v1 tags
+     */
+    public boolean isId3v1SaveAlbum()
+    {
+        return id3v1SaveAlbum;
+    }
+
+    /**
+     * @return true to save the artist to ID3v1 tags
+     */
+    public boolean isId3v1SaveArtist()
+    {
+        return id3v1SaveArtist;
+    }
+
+    /**
+     * @return true to save the comment to ID3v1 tags
+     */
+    public boolean isId3v1SaveComment()
+    {
+        return id3v1SaveComment;
+    }
+
+    /**
+     * @return true to save the genre to ID3v1 tags
+     */
+    public boolean isId3v1SaveGenre()
+    {
+        return id3v1SaveGenre;
+    }
+
+    /**
+     * @return true to save the title to ID3v1 tags
+     */
+    public boolean isId3v1SaveTitle()
+    {
+        return id3v1SaveTitle;
+    }
+
+    /**
+     * @return true to save the track to ID3v1 tags
+     */
+    public boolean isId3v1SaveTrack()
+    {
+        return id3v1SaveTrack;
+    }
+
+    /**
+     * @return true to save the year to ID3v1 tags
+     */
+    public boolean isId3v1SaveYear()
+    {
+        return id3v1SaveYear;
+    }
+
+    /**
+     * @return true to save ID3v2 tags
+     */
+    public boolean isId3v2Save()
+    {
+        return id3v2Save;
+    }
+
+    /**
+     * @return true to keep empty Lyrics3 fields that were read
+     */
+    public boolean isLyrics3KeepEmptyFieldIfRead()
+    {
+        return lyrics3KeepEmptyFieldIfRead;
+    }
+
+    /**
+     * @return true to save Lyrics3 tags
+     */
+    public boolean isLyrics3Save()
+    {
+        return lyrics3Save;
+    }
+
+    /**
+     * @return true to save empty Lyrics3 fields
+     */
+    public boolean isLyrics3SaveEmptyField()
+    {
+        return lyrics3SaveEmptyField;
+    }
+
+    /**
+     * @return true to unsynchronize ID3v2 tags when writing
+     */
+    public boolean isUnsyncTags()
+    {
+        return unsyncTags;
+    }
+
+    /**
+     * @return true to remove the null terminator from the end of text when writing
+     */
+    public boolean isRemoveTrailingTerminatorOnWrite()
+    {
+        return removeTrailingTerminatorOnWrite;
+    }
+
+    /**
+     * @return the text encoding used for ID3v2.3 frames
+     */
+    public byte getId3v23DefaultTextEncoding()
+    {
+        return id3v23DefaultTextEncoding;
+    }
+
+    /**
+     * @return the text encoding used for ID3v2.4 frames
+     */
+    public byte getId3v24DefaultTextEncoding()
+    {
+        return id3v24DefaultTextEncoding;
+    }
+
+    /**
+     * @return the text encoding used for ID3v2.4 frames that need unicode
+     */
+    public byte getId3v24UnicodeTextEncoding()
+    {
+        return id3v24UnicodeTextEncoding;
+    }
+
+    /**
+     * @return true to apply the default text encoding to existing frames when writing
+     */
+    public boolean isResetTextEncodingForExistingFrames()
+    {
+        return resetTextEncodingForExistingFrames;
+    }
+
+    /**
+     * @return true to truncate text that is too long rather than fail
+     */
+    public boolean isTruncateTextWithoutErrors()
+    {
+        return truncateTextWithoutErrors;
+    }
+
+    /**
+     * @return true to pad track and disc numbers with leading zeros
+     */
+    public boolean isPadNumbers()
+    {
+        return padNumbers;
+    }
+
+    /**
+     * @return the length numbers are padded to
+     */
+    public PadNumberOption getPadNumberTotalLength()
+    {
+        return padNumberTotalLength;
+    }
+
+    /**
+     * @return true if running on Android
+     */
+    public boolean isAndroid()
+    {
+        return android;
+    }
+
+    /**
+     * @return true to write UTF-16 text little endian
+     */
+    public boolean isEncodeUTF16BomAsLittleEndian()
+    {
+        return encodeUTF16BomAsLittleEndian;
+    }
+
+    /**
+     * @return true to write artwork descriptions iTunes can read
+     */
+    public boolean isAPICDescriptionITunesCompatible()
+    {
+        return apicDescriptionITunesCompatible;
+    }
+
+    /**
+     * @return the number of bytes copied at a time when writing
+     */
+    public long getWriteChunkSize()
+    {
+        return writeChunkSize;
+    }
+
+    /**
+     * @return the size of each block held by the read cache
+     */
+    public int getReadCacheBlockSize()
+    {
+        return readCacheBlockSize;
+    }
+
+    /**
+     * @return the number of blocks read ahead by the read cache
+     */
+    public int getReadCacheReadAheadBlocks()
+    {
+        return readCacheReadAheadBlocks;
+    }
+
+    /**
+     * @return the maximum number of blocks held by the read cache
+     */
+    public int getReadCacheMaxBlocks()
+    {
+        return readCacheMaxBlocks;
+    }
+
+    /**
+     * @return how far to search for the first MP3 frame
+     */
+    public long getMp3MaxSyncScanDistance()
+    {
+        return mp3MaxSyncScanDistance;
+    }
+
+    /**
+     * @return how far to search before checking the data looks like MP3 audio
+     */
+    public int getMp3SyncScanDensityCheckDistance()
+    {
+        return mp3SyncScanDensityCheckDistance;
+    }
+
+    /**
+     * @return true to decode ID3v2 frame bodies when first used
+     */
+    public boolean isLazyId3v2FrameBodyDecoding()
+    {
+        return lazyId3v2FrameBodyDecoding;
+    }
+
+    /**
+     * @return true to read artwork when first used
+     */
+    public boolean isLazyArtwork()
+    {
+        return lazyArtwork;
+    }
+
+    /**
+     * @return true to write MP4 genres as text
+     */
+    public boolean isWriteMp4GenresAsText()
+    {
+        return writeMp4GenresAsText;
+    }
+
+    /**
+     * @return true to write MP3 genres as text
+     */
+    public boolean isWriteMp3GenresAsText()
+    {
+        return writeMp3GenresAsText;
+    }
+
+    /**
+     * @return true to check a file can be written before writing
+     */
+    public boolean isCheckIsWritable()
+    {
+        return checkIsWritable;
+    }
+
+    /**
+     * @return true to write files in place so they keep their identity
+     */
+    public boolean isPreserveFileIdentity()
+    {
+        return preserveFileIdentity;
+    }
+
+    /**
+     * @param id Lyrics3 field id
+     * @return true if the field should be saved
+     */
+    public boolean getLyrics3SaveField(String id)
+    {
+        return lyrics3SaveFieldMap.get(id);
+    }
+
+    /**
+     * Builds {@link TagOptions}, each setter returns the builder so calls can be chained
+     */
+    public static final class Builder
+    {
+        private WavOptions wavOptions;
+        private WavSaveOptions wavSaveOptions;
+        private WavSaveOrder wavSaveOrder;
+        private boolean writeWavForTwonky;
+        private VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions;
+        private VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions;
+        private ID3V2Version id3v2Version;
+        private boolean id3v1Save;
+        private boolean id3v1SaveAlbum;
+        private boolean id3v1SaveArtist;
+        private boolean id3v1SaveComment;
+        private boolean id3v1SaveGenre;
+        private boolean id3v1SaveTitle;
+        private boolean id3v1SaveTrack;
+        private boolean id3v1SaveYear;
+        private boolean id3v2Save;
+        private boolean lyrics3KeepEmptyFieldIfRead;
+        private boolean lyrics3Save;
+        private boolean lyrics3SaveEmptyField;
+        private boolean unsyncTags;
+        private boolean removeTrailingTerminatorOnWrite;
+        private byte id3v23DefaultTextEncoding;
+        private byte id3v24DefaultTextEncoding;
+        private byte id3v24UnicodeTextEncoding;
+        private boolean resetTextEncodingForExistingFrames;
+        private boolean truncateTextWithoutErrors;
+        private boolean padNumbers;
+        private PadNumberOption padNumberTotalLength;
+        private boolean android;
+        private boolean encodeUTF16BomAsLittleEndian;
+        private boolean apicDescriptionITunesCompatible;
+        private long writeChunkSize;
+        private int readCacheBlockSize;
+        private int readCacheReadAheadBlocks;
+        private int readCacheMaxBlocks;
+        private long mp3MaxSyncScanDistance;
+        private int mp3SyncScanDensityCheckDistance;
+        private boolean lazyId3v2FrameBodyDecoding;
+        private boolean lazyArtwork;
+        private boolean writeMp4GenresAsText;
+        private boolean writeMp3GenresAsText;
+        private boolean checkIsWritable;
+        private boolean preserveFileIdentity;
+        private final Map<String, Boolean> lyrics3SaveFieldMap;
+
+        /**
+         * Start from the values of options
+         *
+         * @param options
+         */
+        public Builder(TagOptions options)
+        {
+            wavOptions = options.wavOptions;
+            wavSaveOptions = options.wavSaveOptions;
+            wavSaveOrder = options.wavSaveOrder;
+            writeWavForTwonky = options.writeWavForTwonky;
+            vorbisAlbumArtistSaveOptions = options.vorbisAlbumArtistSaveOptions;
+            vorbisAlbumArtistReadOptions = options.vorbisAlbumArtistReadOptions;
+            id3v2Version = options.id3v2Version;
+            id3v1Save = options.id3v1Save;
+            id3v1SaveAlbum = options.id3v1SaveAlbum;
+            id3v1SaveArtist = options.id3v1SaveArtist;
+            id3v1SaveComment = options.id3v1SaveComment;
+            id3v1SaveGenre = options.id3v1SaveGenre;
+            id3v1SaveTitle = options.id3v1SaveTitle;
+            id3v1SaveTrack = options.id3v1SaveTrack;
+            id3v1SaveYear = options.id3v1SaveYear;
+            id3v2Save = options.id3v2Save;
+            lyrics3KeepEmptyFieldIfRead = options.lyrics3KeepEmptyFieldIfRead;
+            lyrics3Save = options.lyrics3Save;
+            lyrics3SaveEmptyField = options.lyrics3SaveEmptyField;
+            unsyncTags = options.unsyncTags;
+            removeTrailingTerminatorOnWrite = options.removeTrailingTerminatorOnWrite;
+            id3v23DefaultTextEncoding = options.id3v23DefaultTextEncoding;
+            id3v24DefaultTextEncoding = options.id3v24DefaultTextEncoding;
+            id3v24UnicodeTextEncoding = options.id3v24UnicodeTextEncoding;
+            resetTextEncodingForExistingFrames = options.resetTextEncodingForExistingFrames;
+            truncateTextWithoutErrors = options.truncateTextWithoutErrors;
+            padNumbers = options.padNumbers;
+            padNumberTotalLength = options.padNumberTotalLength;
+            android = options.android;
+            encodeUTF16BomAsLittleEndian = options.encodeUTF16BomAsLittleEndian;
+            apicDescriptionITunesCompatible = options.apicDescriptionITunesCompatible;
+            writeChunkSize = options.writeChunkSize;
+            readCacheBlockSize = options.readCacheBlockSize;
+            readCacheReadAheadBlocks = options.readCacheReadAheadBlocks;
+            readCacheMaxBlocks = options.readCacheMaxBlocks;
+            mp3MaxSyncScanDistance = options.mp3MaxSyncScanDistance;
+            mp3SyncScanDensityCheckDistance = options.mp3SyncScanDensityCheckDistance;
+            lazyId3v2FrameBodyDecoding = options.lazyId3v2FrameBodyDecoding;
+            lazyArtwork = options.lazyArtwork;
+            writeMp4GenresAsText = options.writeMp4GenresAsText;
+            writeMp3GenresAsText = options.writeMp3GenresAsText;
+            checkIsWritable = options.checkIsWritable;
+            preserveFileIdentity = options.preserveFileIdentity;
+            lyrics3SaveFieldMap = new HashMap<String, Boolean>(options.lyrics3SaveFieldMap);
+        }
+
+        /**
+         * Start from the current values of options
+         *
+         * @param options
+         */
+        public Builder(TagOptionSingleton options)
+        {
+            wavOptions = options.getWavOptions();
+            wavSaveOptions = options.getWavSaveOptions();
+            wavSaveOrder = options.getWavSaveOrder();
+            writeWavForTwonky = options.isWriteWavForTwonky();
+            vorbisAlbumArtistSaveOptions = options.getVorbisAlbumArtistSaveOptions();
+            vorbisAlbumArtistReadOptions = options.getVorbisAlbumArtisReadOptions();
+            id3v2Version = options.getID3V2Version();
+            id3v1Save = options.isId3v1Save();
+            id3v1SaveAlbum = options.isId3v1SaveAlbum();
+            id3v1SaveArtist = options.isId3v1SaveArtist();
+            id3v1SaveComment = options.isId3v1SaveComment();
+            id3v1SaveGenre = options.isId3v1SaveGenre();
+            id3v1SaveTitle = options.isId3v1SaveTitle();
+            id3v1SaveTrack = options.isId3v1SaveTrack();
+            id3v1SaveYear = options.isId3v1SaveYear();
+            id3v2Save = options.isId3v2Save();
+            lyrics3KeepEmptyFieldIfRead = options.isLyrics3KeepEmptyFieldIfRead();
+            lyrics3Save = options.isLyrics3Save();
+            lyrics3SaveEmptyField = options.isLyrics3SaveEmptyField();
+            unsyncTags = options.isUnsyncTags();
+            removeTrailingTerminatorOnWrite = options.isRemoveTrailingTerminatorOnWrite();
+            id3v23DefaultTextEncoding = options.getId3v23DefaultTextEncoding();
+            id3v24DefaultTextEncoding = options.getId3v24DefaultTextEncoding();
+            id3v24UnicodeTextEncoding = options.getId3v24UnicodeTextEncoding();
+            resetTextEncodingForExistingFrames = options.isResetTextEncodingForExistingFrames();
+            truncateTextWithoutErrors = options.isTruncateTextWithoutErrors();
+            padNumbers = options.isPadNumbers();
+            padNumberTotalLength = options.getPadNumberTotalLength();
+            android = options.isAndroid();
+            encodeUTF16BomAsLittleEndian = options.isEncodeUTF16BomAsLittleEndian();
+            apicDescriptionITunesCompatible = options.isAPICDescriptionITunesCompatible();
+            writeChunkSize = options.getWriteChunkSize();
+            readCacheBlockSize = options.getReadCacheBlockSize();
+            readCacheReadAheadBlocks = options.getReadCacheReadAheadBlocks();
+            readCacheMaxBlocks = options.getReadCacheMaxBlocks();
+            mp3MaxSyncScanDistance = options.getMp3MaxSyncScanDistance();
+            mp3SyncScanDensityCheckDistance = options.getMp3SyncScanDensityCheckDistance();
+            lazyId3v2FrameBodyDecoding = options.isLazyId3v2FrameBodyDecoding();
+            lazyArtwork = options.isLazyArtwork();
+            writeMp4GenresAsText = options.isWriteMp4GenresAsText();
+            writeMp3GenresAsText = options.isWriteMp3GenresAsText();
+            checkIsWritable = options.isCheckIsWritable();
+            preserveFileIdentity = options.isPreserveFileIdentity();
+            lyrics3SaveFieldMap = new HashMap<String, Boolean>(options.getLyrics3SaveFieldMap());
+        }
+
+        /**
+         * @param wavOptions which metadata is read from WAV files
+         * @return this builder
+         */
+        public Builder setWavOptions(WavOptions wavOptions)
+        {
+            this.wavOptions = wavOptions;
+            return this;
+        }
+
+        /**
+         * @param wavSaveOptions which metadata is written to WAV files
+         * @return this builder
+         */
+        public Builder setWavSaveOptions(WavSaveOptions wavSaveOptions)
+        {
+            this.wavSaveOptions = wavSaveOptions;
+            return this;
+        }
+
+        /**
+         * @param wavSaveOrder the order metadata chunks are written to WAV files
+         * @return this builder
+         */
+        public Builder setWavSaveOrder(WavSaveOrder wavSaveOrder)
+        {
+            this.wavSaveOrder = wavSaveOrder;
+            return this;
+        }
+
+        /**
+         * @param writeWavForTwonky true to write WAV files in a form Twonky can read
+         * @return this builder
+         */
+        public Builder setWriteWavForTwonky(boolean writeWavForTwonky)
+        {
+            this.writeWavForTwonky = writeWavForTwonky;
+            return this;
+        }
+
+        /**
+         * @param vorbisAlbumArtistSaveOptions which fields album artist is written to in Vorbis comments
+         * @return this builder
+         */
+        public Builder setVorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions)
+        {
+            this.vorbisAlbumArtistSaveOptions = vorbisAlbumArtistSaveOptions;
+            return this;
+        }
+
+        /**
+         * @param vorbisAlbumArtistReadOptions which fields album artist is read from in Vorbis comments
+         * @return this builder
+         */
+        public Builder setVorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions)
+        {
+            this.vorbisAlbumArtistReadOptions = vorbisAlbumArtistReadOptions;
+            return this;
+        }
+
+        /**
+         * @param id3v2Version the ID3v2 version used for new tags
+         * @return this builder
+         */
+        public Builder setID3V2Version(ID3V2Version id3v2Version)
+        {
+            this.id3v2Version = id3v2Version;
+            return this;
+        }
+
+        /**
+         * @param id3v1Save true to save ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1Save(boolean id3v1Save)
+        {
+            this.id3v1Save = id3v1Save;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveAlbum true to save the album to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveAlbum(boolean id3v1SaveAlbum)
+        {
+            this.id3v1SaveAlbum = id3v1SaveAlbum;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveArtist true to save the artist to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveArtist(boolean id3v1SaveArtist)
+        {
+            this.id3v1SaveArtist = id3v1SaveArtist;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveComment true to save the comment to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveComment(boolean id3v1SaveComment)
+        {
+            this.id3v1SaveComment = id3v1SaveComment;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveGenre true to save the genre to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveGenre(boolean id3v1SaveGenre)
+        {
+            this.id3v1SaveGenre = id3v1SaveGenre;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveTitle true to save the title to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveTitle(boolean id3v1SaveTitle)
+        {
+            this.id3v1SaveTitle = id3v1SaveTitle;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveTrack true to save the track to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveTrack(boolean id3v1SaveTrack)
+        {
+            this.id3v1SaveTrack = id3v1SaveTrack;
+            return this;
+        }
+
+        /**
+         * @param id3v1SaveYear true to save the year to ID3v1 tags
+         * @return this builder
+         */
+        public Builder setId3v1SaveYear(boolean id3v1SaveYear)
+        {
+            this.id3v1SaveYear = id3v1SaveYear;
+            return this;
+        }
+
+        /**
+         * @param id3v2Save true to save ID3v2 tags
+         * @return this builder
+         */
+        public Builder setId3v2Save(boolean id3v2Save)
+        {
+            this.id3v2Save = id3v2Save;
+            return this;
+        }
+
+        /**
+         * @param lyrics3KeepEmptyFieldIfRead true to keep empty Lyrics3 fields that were read
+         * @return this builder
+         */
+        public Builder setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead)
+        {
+            this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
+            return this;
+        }
+
+        /**
+         * @param lyrics3Save true to save Lyrics3 tags
+         * @return this builder
+         */
+        public Builder setLyrics3Save(boolean lyrics3Save)
+        {
+            this.lyrics3Save = lyrics3Save;
+            return this;
+        }
+
+        /**
+         * @param lyrics3SaveEmptyField true to save empty Lyrics3 fields
+         * @return this builder
+         */
+        public Builder setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField)
+        {
+            this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
+            return this;
+        }
+
+        /**
+         * @param unsyncTags true to unsynchronize ID3v2 tags when writing
+         * @return this builder
+         */
+        public Builder setUnsyncTags(boolean unsyncTags)
+        {
+            this.unsyncTags = unsyncTags;
+            return this;
+        }
+
+        /**
+         * @param removeTrailingTerminatorOnWrite true to remove the null terminator from the end of text when writing
+         * @return this builder
+         */
+        public Builder setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite)
+        {
+            this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
+            return this;
+        }
+
+        /**
+         * @param id3v23DefaultTextEncoding the text encoding used for ID3v2.3 frames
+         * @return this builder
+         */
+        public Builder setId3v23DefaultTextEncoding(byte id3v23DefaultTextEncoding)
+        {
+            this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
+            return this;
+        }
+
+        /**
+         * @param id3v24DefaultTextEncoding the text encoding used for ID3v2.4 frames
+         * @return this builder
+         */
+        public Builder setId3v24DefaultTextEncoding(byte id3v24DefaultTextEncoding)
+        {
+            this.id3v24DefaultTextEncoding = id3v24DefaultTextEncoding;
+            return this;
+        }
+
+        /**
+         * @param id3v24UnicodeTextEncoding the text encoding used for ID3v2.4 frames that need unicode
+         * @return this builder
+         */
+        public Builder setId3v24UnicodeTextEncoding(byte id3v24UnicodeTextEncoding)
+        {
+            this.id3v24UnicodeTextEncoding = id3v24UnicodeTextEncoding;
+            return this;
+        }
+
+        /**
+         * @param resetTextEncodingForExistingFrames true to apply the default text encoding to existing frames when writing
+         * @return this builder
+         */
+        public Builder setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames)
+        {
+            this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
+            return this;
+        }
+
+        /**
+         * @param truncateTextWithoutErrors true to truncate text that is too long rather than fail
+         * @return this builder
+         */
+        public Builder setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors)
+        {
+            this.truncateTextWithoutErrors = truncateTextWithoutErrors;
+            return this;
+        }
+
+        /**
+         * @param padNumbers true to pad track and disc numbers with leading zeros
+         * @return this builder
+         */
+        public Builder setPadNumbers(boolean padNumbers)
+        {
+            this.padNumbers = padNumbers;
+            return this;
+        }
+
+        /**
+         * @param padNumberTotalLength the length numbers are padded to
+         * @return this builder
+         */
+        public Builder setPadNumberTotalLength(PadNumberOption padNumberTotalLength)
+        {
+            this.padNumberTotalLength = padNumberTotalLength;
+            return this;
+        }
+
+        /**
+         * @param android true if running on Android
+         * @return this builder
+         */
+        public Builder setAndroid(boolean android)
+        {
+            this.android = android;
+            return this;
+        }
+
+        /**
+         * @param encodeUTF16BomAsLittleEndian true to write UTF-16 text little endian
+         * @return this builder
+         */
+        public Builder setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian)
+        {
+            this.encodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
+            return this;
+        }
+
+        /**
+         * @param apicDescriptionITunesCompatible true to write artwork descriptions iTunes can read
+         * @return this builder
+         */
+        public Builder setAPICDescriptionITunesCompatible(boolean apicDescriptionITunesCompatible)
+        {
+            this.apicDescriptionITunesCompatible = apicDescriptionITunesCompatible;
+            return this;
+        }
+
+        /**
+         * @param writeChunkSize the number of bytes copied at a time when writing
+         * @return this builder
+         */
+        public Builder setWriteChunkSize(long writeChunkSize)
+        {
+            this.writeChunkSize = writeChunkSize;
+            return this;
+        }
+
+        /**
+         * @param readCacheBlockSize the size of each block held by the read cache
+         * @return this builder
+         */
+        public Builder setReadCacheBlockSize(int readCacheBlockSize)
+        {
+            this.readCacheBlockSize = readCacheBlockSize;
+            return this;
+        }
+
+        /**
+         * @param readCacheReadAheadBlocks the number of blocks read ahead by the read cache
+         * @return this builder
+         */
+        public Builder setReadCacheReadAheadBlocks(int readCacheReadAheadBlocks)
+        {
+            this.readCacheReadAheadBlocks = readCacheReadAheadBlocks;
+            return this;
+        }
+
+        /**
+         * @param readCacheMaxBlocks the maximum number of blocks held by the read cache
+         * @return this builder
+         */
+        public Builder setReadCacheMaxBlocks(int readCacheMaxBlocks)
+        {
+            this.readCacheMaxBlocks = readCacheMaxBlocks;
+            return this;
+        }
+
+        /**
+         * @param mp3MaxSyncScanDistance how far to search for the first MP3 frame
+         * @return this builder
+         */
+        public Builder setMp3MaxSyncScanDistance(long mp3MaxSyncScanDistance)
+        {
+            this.mp3MaxSyncScanDistance = mp3MaxSyncScanDistance;
+            return this;
+        }
+
+        /**
+         * @param mp3SyncScanDensityCheckDistance how far to search before checking the data looks like MP3 audio
+         * @return this builder
+         */
+        public Builder setMp3SyncScanDensityCheckDistance(int mp3SyncScanDensityCheckDistance)
+        {
+            this.mp3SyncScanDensityCheckDistance = mp3SyncScanDensityCheckDistance;
+            return this;
+        }
+
+        /**
+         * @param lazyId3v2FrameBodyDecoding true to decode ID3v2 frame bodies when first used
+         * @return this builder
+         */
+        public Builder setLazyId3v2FrameBodyDecoding(boolean lazyId3v2FrameBodyDecoding)
+        {
+            this.lazyId3v2FrameBodyDecoding = lazyId3v2FrameBodyDecoding;
+            return this;
+        }
+
+        /**
+         * @param lazyArtwork true to read artwork when first used
+         * @return this builder
+         */
+        public Builder setLazyArtwork(boolean lazyArtwork)
+        {
+            this.lazyArtwork = lazyArtwork;
+            return this;
+        }
+
+        /**
+         * @param writeMp4GenresAsText true to write MP4 genres as text
+         * @return this builder
+         */
+        public Builder setWriteMp4GenresAsText(boolean writeMp4GenresAsText)
+        {
+            this.writeMp4GenresAsText = writeMp4GenresAsText;
+            return this;
+        }
+
+        /**
+         * @param writeMp3GenresAsText true to write MP3 genres as text
+         * @return this builder
+         */
+        public Builder setWriteMp3GenresAsText(boolean writeMp3GenresAsText)
+        {
+            this.writeMp3GenresAsText = writeMp3GenresAsText;
+            return this;
+        }
+
+        /**
+         * @param checkIsWritable true to check a file can be written before writing
+         * @return this builder
+         */
+        public Builder setCheckIsWritable(boolean checkIsWritable)
+        {
+            this.checkIsWritable = checkIsWritable;
+            return this;
+        }
+
+        /**
+         * @param preserveFileIdentity true to write files in place so they keep their identity
+         * @return this builder
+         */
+        public Builder setPreserveFileIdentity(boolean preserveFileIdentity)
+        {
+            this.preserveFileIdentity = preserveFileIdentity;
+            return this;
+        }
+
+        /**
+         * @param id   Lyrics3 field id
+         * @param save true to save the field
+         * @return this builder
+         */
+        public Builder setLyrics3SaveField(String id, boolean save)
+        {
+            lyrics3SaveFieldMap.put(id, save);
+            return this;
+        }
+
+        /**
+         * @return the options
+         */
+        public TagOptions build()
+        {
+            return new TagOptions(this);
+        }
+    }
+}
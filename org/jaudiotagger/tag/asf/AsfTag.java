@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.asf;
 
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.asf.data.AsfHeader;
 import org.jaudiotagger.audio.generic.AbstractTag;
 import org.jaudiotagger.logging.ErrorMessage;
@@ -8,11 +9,14 @@ import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -263,6 +267,38 @@ public final class AsfTag extends AbstractTag
         COMMON_FIELDS.add(AsfFieldKey.YEAR);
     }
 
+    /**
+     * The names of the metadata descriptors that need to be read to satisfy the projection, the values of
+     * descriptors with any other name can be skipped. &quot;IsVBR&quot; is always included because it is needed
+     * for the audio header.<br>
+     *
+     * @param projection fields to read.
+     * @return descriptor names, or <code>null</code> if the projection needs every descriptor.
+     */
+    public static Set<String> getFieldNames(final ReadProjection projection)
+    {
+        if (projection.isAll())
+        {
+            return null;
+        }
+
+        final Set<String> fieldNames = new HashSet<String>();
+        for (final FieldKey next : projection.getFieldKeys())
+        {
+            final AsfFieldKey asfFieldKey = tagFieldToAsfField.get(next);
+            if (asfFieldKey != null)
+            {
+                fieldNames.add(asfFieldKey.getFieldName());
+            }
+        }
+        if (projection.isArtwork())
+        {
+            fieldNames.add(AsfFieldKey.COVER_ART.getFieldName());
+        }
+        fieldNames.add(AsfFieldKey.ISVBR.getFieldName());
+        return fieldNames;
+    }
+
     /**
      * @see #isCopyingFields()
      */
@@ -469,22 +505,30 @@ public final class AsfTag extends AbstractTag
      */
     public AsfTagTextField createField(final AsfFieldKey asfFieldKey, final String value)
     {
-        if (value == null)
-        {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-        }
-        if (asfFieldKey == null)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            if (value == null)
+            {
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            }
+            if (asfFieldKey == null)
+            {
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            }
+            switch (asfFieldKey)
+            {
+                case COVER_ART:
+                    throw new UnsupportedOperationException("Cover Art cannot be created using this method");
+                case BANNER_IMAGE:
+                    throw new UnsupportedOperationException("Banner Image cannot be created using this method");
+                default:
+                    return new AsfTagTextField(asfFieldKey.getFieldName(), value);
+            }
         }
-        switch (asfFieldKey)
+        finally
         {
-            case COVER_ART:
-                throw new UnsupportedOperationException("Cover Art cannot be created using this method");
-            case BANNER_IMAGE:
-                throw new UnsupportedOperationException("Banner Image cannot be created using this method");
-            default:
-                return new AsfTagTextField(asfFieldKey.getFieldName(), value);
+            TagOptions.exit(previous);
         }
     }
 
@@ -494,20 +538,28 @@ public final class AsfTag extends AbstractTag
     @Override
     public AsfTagTextField createField(final FieldKey genericKey, final String... values) throws KeyNotFoundException, FieldDataInvalidException
     {
-        if (values == null || values[0] == null)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-        }
-        if (genericKey == null)
-        {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            if (values == null || values[0] == null)
+            {
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            }
+            if (genericKey == null)
+            {
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            }
+            final AsfFieldKey asfFieldKey = tagFieldToAsfField.get(genericKey);
+            if (asfFieldKey == null)
+            {
+                throw new KeyNotFoundException(genericKey.toString());
+            }
+            return createField(asfFieldKey, values[0]);
         }
-        final AsfFieldKey asfFieldKey = tagFieldToAsfField.get(genericKey);
-        if (asfFieldKey == null)
+        finally
         {
-            throw new KeyNotFoundException(genericKey.toString());
+            TagOptions.exit(previous);
         }
-        return createField(asfFieldKey, values[0]);
     }
 
     /**
@@ -573,8 +625,16 @@ public final class AsfTag extends AbstractTag
         for (final TagField next : coverartList)
         {
             final AsfTagCoverField coverArt = (AsfTagCoverField) next;
-            final Artwork artwork = ArtworkFactory.getNew();
-            artwork.setBinaryData(coverArt.getRawImageData());
+            final Artwork artwork;
+            if (coverArt.getImageDataInFile() != null)
+            {
+                artwork = new LazyArtwork(coverArt.getImageDataInFile(), coverArt.getMimeType());
+            }
+            else
+            {
+                artwork = ArtworkFactory.getNew();
+                artwork.setBinaryData(coverArt.getRawImageData());
+            }
             artwork.setMimeType(coverArt.getMimeType());
             artwork.setDescription(coverArt.getDescription());
             artwork.setPictureType(coverArt.getPictureType());
@@ -583,6 +643,23 @@ public final class AsfTag extends AbstractTag
         return artworkList;
     }
 
+    /**
+     * Reads any image data left in the file into memory, this must be done before
+     * the file is modified.<br>
+     *
+     * @throws IOException on I/O Errors
+     */
+    public void loadArtwork() throws IOException
+    {
+        for (final TagField next : getFields(FieldKey.COVER_ART))
+        {
+            if (next instanceof AsfTagField)
+            {
+                ((AsfTagField) next).getDescriptor().loadRawData();
+            }
+        }
+    }
+
     /**
      * This method iterates through all stored fields.<br>
      * This method can only be used if this class has been created with field
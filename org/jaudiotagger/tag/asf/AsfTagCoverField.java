@@ -6,8 +6,10 @@ import org.jaudiotagger.audio.asf.data.AsfHeader;
 import org.jaudiotagger.audio.asf.data.MetadataDescriptor;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
+import org.jaudiotagger.tag.images.FileImageData;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.logging.Logger;
 
@@ -165,6 +167,18 @@ public class AsfTagCoverField extends AbstractAsfTagImageField
         return baos.toByteArray();
     }
 
+    /**
+     * @return where the image data is held in the file if it has not been read
+     *         into memory, otherwise <code>null</code>
+     */
+    public FileImageData getImageDataInFile() {
+        if (this.toWrap.getRawDataInFile() != null
+                && this.endOfName == this.toWrap.getRawDataInMemory().length) {
+            return this.toWrap.getRawDataInFile();
+        }
+        return null;
+    }
+
     public String getDescription() {
         return this.description;
     }
@@ -187,6 +201,13 @@ public class AsfTagCoverField extends AbstractAsfTagImageField
      */
     @Override
     public byte[] getRawImageData() {
+        if (getImageDataInFile() != null) {
+            try {
+                return getImageDataInFile().read();
+            } catch (final IOException ioe) {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         baos.write(getRawContent(), this.endOfName, this.toWrap
                 .getRawDataSize()
@@ -195,12 +216,14 @@ public class AsfTagCoverField extends AbstractAsfTagImageField
     }
 
     private void processRawContent() throws UnsupportedEncodingException {
+        // The header is always held in memory even if the image data has been left in the file
+        final byte[] raw = this.toWrap.getRawDataInMemory();
+
         // PictureType
-        this.pictureType = this.getRawContent()[0];
+        this.pictureType = raw[0];
 
         // ImageDataSize
-        this.imageDataSize = org.jaudiotagger.audio.generic.Utils.getIntLE(this
-                .getRawContent(), 1, 2);
+        this.imageDataSize = org.jaudiotagger.audio.generic.Utils.getIntLE(raw, 1, 2);
 
         // Set Count to after picture type,datasize and two byte nulls
         int count = 5;
@@ -208,14 +231,14 @@ public class AsfTagCoverField extends AbstractAsfTagImageField
         this.description = null; // Optional
         int endOfMimeType = 0;
 
-        while (count < this.getRawContent().length - 1) {
-            if (getRawContent()[count] == 0 && getRawContent()[count + 1] == 0) {
+        while (count < raw.length - 1) {
+            if (raw[count] == 0 && raw[count + 1] == 0) {
                 if (this.mimeType == null) {
-                    this.mimeType = Utils.toString(getRawContent(), 5, (count) - 5,
+                    this.mimeType = Utils.toString(raw, 5, (count) - 5,
                             StandardCharsets.UTF_16LE);
                     endOfMimeType = count + 2;
                 } else if (this.description == null) {
-                    this.description = Utils.toString(getRawContent(),
+                    this.description = Utils.toString(raw,
                             endOfMimeType, count - endOfMimeType, StandardCharsets.UTF_16LE);
                     this.endOfName = count + 2;
                     break;
@@ -26,6 +26,7 @@ import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
@@ -385,13 +386,41 @@ public abstract class AbstractDataType
     /**
      * This is the starting point for reading bytes from the file into the ID3 datatype
      * starting at offset.
-     * This class must be overridden
+     *
+     * The datatype is read from a buffer wrapping the array, see {@link #readByteBuffer(ByteBuffer)}
      *
      * @param arr
      * @param offset
      * @throws InvalidDataTypeException
      */
-    public abstract void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException;
+    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    {
+        if (arr == null)
+        {
+            throw new NullPointerException("Byte array is null");
+        }
+
+        if ((offset < 0) || (offset > arr.length))
+        {
+            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+        }
+        readByteBuffer(ByteBuffer.wrap(arr, offset, arr.length - offset));
+    }
+
+    /**
+     * Read the ID3 datatype from the buffer starting at its position, the datatype cannot extend beyond the limit
+     * of the buffer so the limit should be set to the end of the frame body.
+     *
+     * This lets a frame body be read directly from the buffer it is held in rather than having to be copied to
+     * an array first. The position of the buffer is not modified, once read the size of the datatype gives the
+     * number of bytes it used.
+     *
+     * This class must be overridden
+     *
+     * @param buffer
+     * @throws InvalidDataTypeException
+     */
+    public abstract void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException;
 
 
     /**
@@ -19,6 +19,7 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -75,38 +76,37 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
     }
 
     /**
-     * Reads list of {@link EventTimingCode}s from buffer starting at the given offset.
+     * Reads list of {@link EventTimingCode}s from buffer starting at its position.
      *
      * @param buffer buffer
-     * @param offset initial offset into the buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(final byte[] buffer, final int offset) throws InvalidDataTypeException
+    public void readByteBuffer(final ByteBuffer buffer) throws InvalidDataTypeException
     {
         if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
-        }
-
-        if (offset < 0)
-        {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + buffer.length);
+            throw new NullPointerException("Byte buffer is null");
         }
 
         // no events
-        if (offset >= buffer.length)
+        if (!buffer.hasRemaining())
         {
             getValue().clear();
             return;
         }
-        for (int currentOffset = offset; currentOffset<buffer.length;) {
+
+        final int offset = buffer.position();
+        for (int currentOffset = offset; currentOffset < buffer.limit();)
+        {
             final T data = createListElement();
-            data.readByteArray(buffer, currentOffset);
+            buffer.position(currentOffset);
+            data.readByteBuffer(buffer);
             data.setBody(frameBody);
             getValue().add(data);
             currentOffset+=data.getSize();
         }
+        buffer.position(offset);
     }
 
     /**
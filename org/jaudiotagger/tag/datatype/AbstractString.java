@@ -24,13 +24,17 @@
 package org.jaudiotagger.tag.datatype;
 
 import org.extra.StandardCharsets;
+import org.extra.Utils;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 
 /**
  * A partial implementation for String based ID3 fields
@@ -131,47 +135,164 @@ public abstract class AbstractString extends AbstractDataType
      * but if missing we have to make an educated guess otherwise just use
      * specified decoder
      *
+     * The decoder is reused by the current thread, see {@link DecoderCache}
+     *
      * @param inBuffer
      * @return
      */
     protected CharsetDecoder getCorrectDecoder(ByteBuffer inBuffer)
     {
-        CharsetDecoder decoder=null;
+        final Charset charset = getTextEncodingCharSet();
         if(inBuffer.remaining()<=2)
         {
-            decoder = getTextEncodingCharSet().newDecoder();
-            decoder.reset();
-            return decoder;
+            return DecoderCache.getDecoder(charset);
         }
 
-        if(getTextEncodingCharSet()== StandardCharsets.UTF_16)
+        if(charset== StandardCharsets.UTF_16)
         {
-            if(inBuffer.getChar(0)==0xfffe || inBuffer.getChar(0)==0xfeff)
+            if(inBuffer.getChar(inBuffer.position())==0xfffe || inBuffer.getChar(inBuffer.position())==0xfeff)
             {
                 //Get the Specified Decoder
-                decoder = getTextEncodingCharSet().newDecoder();
-                decoder.reset();
+                return DecoderCache.getDecoder(charset);
             }
             else
             {
-                if(inBuffer.get(0)==0)
+                if(inBuffer.get(inBuffer.position())==0)
                 {
-                    decoder = StandardCharsets.UTF_16BE.newDecoder();
-                    decoder.reset();
+                    return DecoderCache.getDecoder(StandardCharsets.UTF_16BE);
                 }
                 else
                 {
-                    decoder = StandardCharsets.UTF_16LE.newDecoder();
-                    decoder.reset();
+                    return DecoderCache.getDecoder(StandardCharsets.UTF_16LE);
+                }
+            }
+        }
+        else
+        {
+            return DecoderCache.getDecoder(charset);
+        }
+    }
+
+    /**
+     * Decode the bytes from the position to the limit of inBuffer, without modifying its position
+     *
+     * ISO-8859-1 text, and UTF-8 text that only contains ASCII characters, maps directly to chars so is converted
+     * straight to a String, anything else is decoded using {@link #getCorrectDecoder(ByteBuffer)}.
+     *
+     * @param inBuffer
+     * @param removeBOMs remove any byte order marks found in the decoded text, as found at the start of each value
+     *                   when multiple UTF-16 values are held in one field
+     * @return the decoded text
+     */
+    protected String decode(ByteBuffer inBuffer, boolean removeBOMs)
+    {
+        String text = decodeDirectly(inBuffer);
+        if (text != null)
+        {
+            return text;
+        }
+        return decode(inBuffer, getCorrectDecoder(inBuffer), removeBOMs);
+    }
+
+    /**
+     * Convert the bytes from the position to the limit of inBuffer to a String without using a decoder, only
+     * possible for ISO-8859-1 text and for UTF-8 text that only contains ASCII characters
+     *
+     * @param inBuffer
+     * @return the text, or null if the text has to be decoded
+     */
+    protected String decodeDirectly(ByteBuffer inBuffer)
+    {
+        final Charset charset = getTextEncodingCharSet();
+        if (charset != StandardCharsets.ISO_8859_1 && charset != StandardCharsets.UTF_8)
+        {
+            return null;
+        }
+
+        final int position = inBuffer.position();
+        final int length   = inBuffer.remaining();
+        byte[] bytes;
+        int offset;
+        if (inBuffer.hasArray())
+        {
+            bytes  = inBuffer.array();
+            offset = inBuffer.arrayOffset() + position;
+        }
+        else
+        {
+            bytes  = new byte[length];
+            offset = 0;
+            inBuffer.get(bytes);
+            inBuffer.position(position);
+        }
+
+        if (charset == StandardCharsets.UTF_8)
+        {
+            for (int i = offset; i < offset + length; i++)
+            {
+                if (bytes[i] < 0)
+                {
+                    return null;
                 }
             }
         }
+        //ASCII is a subset of ISO-8859-1 so can be converted the same way
+        return Utils.getString(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Decode the bytes from the position to the limit of inBuffer using the decoder, without modifying its position
+     *
+     * If the bytes cannot be decoded the text decoded before the problem was found is returned.
+     *
+     * @param inBuffer
+     * @param decoder
+     * @param removeBOMs remove any byte order marks found in the decoded text
+     * @return the decoded text
+     */
+    protected String decode(ByteBuffer inBuffer, CharsetDecoder decoder, boolean removeBOMs)
+    {
+        ByteBuffer in;
+        if(TagOptions.current().isAndroid() && inBuffer.hasArray() && (inBuffer.arrayOffset() != 0 || inBuffer.position() != 0))
+        {
+            //#302 [dallen] truncating array manually since the decoder.decode() does not honor the offset in the in buffer
+            //Only applies to buffers backed by an array, a direct buffer has no array offset
+            byte[] truncArr = new byte[inBuffer.remaining()];
+            inBuffer.duplicate().get(truncArr);
+            in = ByteBuffer.wrap(truncArr);
+        }
         else
         {
-            decoder = getTextEncodingCharSet().newDecoder();
-            decoder.reset();
+            in = inBuffer.duplicate();
+        }
+
+        //Each byte decodes to at most one char in the ID3 encodings
+        CharBuffer outBuffer = DecoderCache.getCharBuffer(in.remaining());
+        CoderResult coderResult = decoder.decode(in, outBuffer, true);
+        if (coderResult.isError())
+        {
+            logger.warning("Decoding error:" + coderResult.toString());
+        }
+        decoder.flush(outBuffer);
+        outBuffer.flip();
+
+        if (removeBOMs)
+        {
+            //Remove in place, then only a single String needs creating
+            char[] chars = outBuffer.array();
+            int length = outBuffer.limit();
+            int end = 0;
+            for (int i = 0; i < length; i++)
+            {
+                char next = chars[i];
+                if (next != '\ufeff' && next != '\ufffe')
+                {
+                    chars[end++] = next;
+                }
+            }
+            return Utils.toString(chars, 0, end);
         }
-        return decoder;
+        return outBuffer.toString();
     }
 
     /**
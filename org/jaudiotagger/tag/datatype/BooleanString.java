@@ -26,6 +26,8 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
+
 public class BooleanString extends AbstractDataType
 {
     /**
@@ -59,13 +61,13 @@ public class BooleanString extends AbstractDataType
     }
 
     /**
-     * @param offset
+     * @param buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        byte b = arr[offset];
+        byte b = buffer.get(buffer.position());
         value = b != '0';
     }
 
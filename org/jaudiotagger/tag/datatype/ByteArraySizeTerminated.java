@@ -25,6 +25,10 @@ package org.jaudiotagger.tag.datatype;
 
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
+import org.jaudiotagger.tag.images.FileImageData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Represents a stream of bytes, continuing until the end of the buffer. Usually used for binary data or where
@@ -32,6 +36,10 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
  */
 public class ByteArraySizeTerminated extends AbstractDataType
 {
+    //Where the bytes are held in the file when they have been left there rather than read into memory, value is
+    //null until they are loaded
+    private FileImageData valueInFile;
+
     public ByteArraySizeTerminated(String identifier, AbstractTagFrameBody frameBody)
     {
         super(identifier, frameBody);
@@ -40,6 +48,68 @@ public class ByteArraySizeTerminated extends AbstractDataType
     public ByteArraySizeTerminated(ByteArraySizeTerminated object)
     {
         super(object);
+        this.valueInFile = object.valueInFile;
+    }
+
+    /**
+     * If the bytes have been left in the file they are read from the file each time this is called without being
+     * kept, use {@link #loadValue()} to keep them.
+     *
+     * @return the bytes
+     */
+    public Object getValue()
+    {
+        if (value == null && valueInFile != null)
+        {
+            try
+            {
+                return valueInFile.read();
+            }
+            catch (IOException ioe)
+            {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
+        return value;
+    }
+
+    public void setValue(Object value)
+    {
+        this.value = value;
+        this.valueInFile = null;
+    }
+
+    /**
+     * Leave the bytes in the file rather than holding them in memory
+     *
+     * @param valueInFile where the bytes are held in the file
+     */
+    public void setValueInFile(FileImageData valueInFile)
+    {
+        this.value = null;
+        this.valueInFile = valueInFile;
+    }
+
+    /**
+     * @return where the bytes are held in the file if they have not been loaded, otherwise null
+     */
+    public FileImageData getValueInFile()
+    {
+        return valueInFile;
+    }
+
+    /**
+     * Read the bytes from the file and keep them, this must be done before the file they are held in is modified
+     *
+     * @throws IOException
+     */
+    public void loadValue() throws IOException
+    {
+        if (value == null && valueInFile != null)
+        {
+            value = valueInFile.read();
+            valueInFile = null;
+        }
     }
 
     /**
@@ -55,44 +125,49 @@ public class ByteArraySizeTerminated extends AbstractDataType
         {
             len = ((byte[]) value).length;
         }
+        else if (valueInFile != null)
+        {
+            len = valueInFile.getLength();
+        }
 
         return len;
     }
 
     public boolean equals(Object obj)
     {
-        return obj instanceof ByteArraySizeTerminated && super.equals(obj);
+        if (!(obj instanceof ByteArraySizeTerminated) || !super.equals(obj))
+        {
+            return false;
+        }
+        FileImageData thatValueInFile = ((ByteArraySizeTerminated) obj).valueInFile;
+        return valueInFile == null ? thatValueInFile == null : valueInFile.equals(thatValueInFile);
 
     }
 
     /**
-     * @param arr
-     * @param offset
+     * @param buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        if (arr == null)
-        {
-            throw new NullPointerException("Byte array is null");
-        }
-
-        if (offset < 0)
+        if (buffer == null)
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new NullPointerException("Byte buffer is null");
         }
 
         //Empty Byte Array
-        if (offset >= arr.length)
+        if (!buffer.hasRemaining())
         {
-            value = null;
+            setValue(null);
             return;
         }
 
-        int len = arr.length - offset;
-        value = new byte[len];
-        System.arraycopy(arr, offset, value, 0, len);
+        int offset = buffer.position();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        buffer.position(offset);
+        setValue(bytes);
     }
 
     /**
@@ -114,6 +189,6 @@ public class ByteArraySizeTerminated extends AbstractDataType
     public byte[] writeByteArray()
     {
         logger.config("Writing byte array" + this.getIdentifier());
-        return (byte[]) value;
+        return (byte[]) getValue();
     }
 }
@@ -0,0 +1,79 @@
+package org.jaudiotagger.tag.datatype;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decoders and the char buffer used to decode text fields, held per thread so they can be reused.
+ *
+ * Creating a decoder for every text value read is costly, and text frames make up most of a typical tag, so each
+ * thread keeps one decoder for each charset it has used (at most the few charsets used by ID3) together with a char
+ * buffer to decode into.
+ *
+ * The decoder and the buffer must only be used until the text has been converted to a String, they will be
+ * reused by the next text value decoded on the same thread.
+ */
+public class DecoderCache
+{
+    /**
+     * Char buffers larger than this are not kept for reuse to avoid holding on to large amounts of memory after
+     * reading the occasional large text field such as lyrics
+     */
+    private static final int MAX_CACHED_CHAR_BUFFER_SIZE = 16 * 1024;
+
+    private static final ThreadLocal<DecoderCache> cache = new ThreadLocal<DecoderCache>()
+    {
+        @Override
+        protected DecoderCache initialValue()
+        {
+            return new DecoderCache();
+        }
+    };
+
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<>();
+    private CharBuffer charBuffer;
+
+    private DecoderCache()
+    {
+    }
+
+    /**
+     * @param charset
+     * @return decoder for the charset owned by this thread, reset ready for use
+     */
+    public static CharsetDecoder getDecoder(Charset charset)
+    {
+        Map<Charset, CharsetDecoder> decoders = cache.get().decoders;
+        CharsetDecoder decoder = decoders.get(charset);
+        if (decoder == null)
+        {
+            decoder = charset.newDecoder();
+            decoders.put(charset, decoder);
+        }
+        decoder.reset();
+        return decoder;
+    }
+
+    /**
+     * @param capacity
+     * @return cleared char buffer owned by this thread with at least the required capacity
+     */
+    public static CharBuffer getCharBuffer(int capacity)
+    {
+        if (capacity > MAX_CACHED_CHAR_BUFFER_SIZE)
+        {
+            return CharBuffer.allocate(capacity);
+        }
+
+        DecoderCache decoderCache = cache.get();
+        if (decoderCache.charBuffer == null || decoderCache.charBuffer.capacity() < capacity)
+        {
+            decoderCache.charBuffer = CharBuffer.allocate(Math.max(capacity, 256));
+        }
+        decoderCache.charBuffer.clear();
+        return decoderCache.charBuffer;
+    }
+}
@@ -28,6 +28,8 @@ import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
+
 public class ID3v2LyricLine extends AbstractDataType
 {
     /**
@@ -109,25 +111,29 @@ public class ID3v2LyricLine extends AbstractDataType
     }
 
     /**
-     * @param arr
-     * @param offset
+     * @param buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Byte buffer is null");
         }
 
-        if ((offset < 0) || (offset >= arr.length))
+        int offset = buffer.position();
+        if (offset >= buffer.limit())
         {
-            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new IndexOutOfBoundsException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + buffer.limit());
         }
 
+        byte[] arr = new byte[buffer.remaining()];
+        buffer.get(arr);
+        buffer.position(offset);
+
         //offset += ();
-        text = Utils.getString(arr, offset, arr.length - offset - 4, StandardCharsets.ISO_8859_1);
+        text = Utils.getString(arr, 0, arr.length - 4, StandardCharsets.ISO_8859_1);
 
         //text = text.substring(0, text.length() - 5);
         timeStamp = 0;
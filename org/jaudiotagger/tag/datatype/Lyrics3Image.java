@@ -28,6 +28,8 @@ import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
+
 public class Lyrics3Image extends AbstractDataType
 {
     /**
@@ -260,9 +262,11 @@ public class Lyrics3Image extends AbstractDataType
         return str;
     }
 
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        readString(arr.toString(), offset);
+        byte[] arr = new byte[buffer.remaining()];
+        buffer.duplicate().get(arr);
+        readString(Utils.getString(arr, 0, arr.length, StandardCharsets.ISO_8859_1), 0);
     }
 
     public byte[] writeByteArray()
@@ -28,6 +28,7 @@ import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.LinkedList;
 
@@ -217,9 +218,11 @@ public class Lyrics3Line extends AbstractDataType
         return str + lyric;
     }
 
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        readString(arr.toString(), offset);
+        byte[] arr = new byte[buffer.remaining()];
+        buffer.duplicate().get(arr);
+        readString(Utils.getString(arr, 0, arr.length, StandardCharsets.ISO_8859_1), 0);
     }
 
     public byte[] writeByteArray()
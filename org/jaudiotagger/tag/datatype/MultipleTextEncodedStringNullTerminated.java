@@ -5,6 +5,7 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
@@ -72,16 +73,17 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
     }
 
     /**
-     * Read Null Terminated Strings from the array starting at offset, continue until unable to find any null terminated
-     * Strings or until reached the end of the array. The offset should be set to byte after the last null terminated
-     * String found.
+     * Read Null Terminated Strings from the buffer starting at its position, continue until unable to find any null
+     * terminated Strings or until reached the limit of the buffer. The size is set to include all the null terminated
+     * Strings found.
      *
-     * @param arr    to read the Strings from
-     * @param offset in the array to start reading from
+     * @param buffer to read the Strings from
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
+        final int originalOffset = buffer.position();
+        int offset = originalOffset;
         logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
         //Continue until unable to read a null terminated String
         while (true)
@@ -90,7 +92,8 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
             {
                 //Read String
                 TextEncodedStringNullTerminated next = new TextEncodedStringNullTerminated(identifier, frameBody);
-                next.readByteArray(arr, offset);
+                buffer.position(offset);
+                next.readByteBuffer(buffer);
 
                 if (next.getSize() == 0)
                 {
@@ -115,10 +118,12 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
 
             if (size == 0)
             {
+                buffer.position(originalOffset);
                 logger.warning("No null terminated Strings found");
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
+        buffer.position(originalOffset);
         logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
     }
 
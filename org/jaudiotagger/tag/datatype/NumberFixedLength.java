@@ -25,8 +25,11 @@ package org.jaudiotagger.tag.datatype;
 
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
+
 import org.jaudiotagger.tag.id3.ID3Tags;
 
+import java.nio.ByteBuffer;
+
 
 /**
  * Represents a number held as a fixed number of digits.
@@ -112,35 +115,35 @@ public class NumberFixedLength extends AbstractDataType
     }
 
     /**
-     * Read the number from the byte array
+     * Read the number from the buffer
      *
-     * @param arr
-     * @param offset
+     * @param buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        if (arr == null)
+        if (buffer == null)
         {
-            throw new NullPointerException("Byte array is null");
+            throw new NullPointerException("Byte buffer is null");
         }
-        if ((offset < 0) || (offset >= arr.length))
+        int offset = buffer.position();
+        if (offset >= buffer.limit())
         {
-            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+            throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + buffer.limit());
         }
 
-        if(offset + size > arr.length)
+        if(offset + size > buffer.limit())
         {
             throw new InvalidDataTypeException("Offset plus size to byte array is out of bounds: offset = "
-                    + offset + ", size = "+size  +" + arr.length "+ arr.length );
+                    + offset + ", size = "+size  +" + arr.length "+ buffer.limit() );
         }
 
         long lvalue = 0;
         for (int i = offset; i < (offset + size); i++)
         {
             lvalue <<= 8;
-            lvalue += (arr[i] & 0xff);
+            lvalue += (buffer.get(i) & 0xff);
         }
         value = lvalue;
         logger.config("Read NumberFixedlength:" + value);
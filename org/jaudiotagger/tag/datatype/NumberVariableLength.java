@@ -25,8 +25,11 @@ package org.jaudiotagger.tag.datatype;
 
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
+
 import org.jaudiotagger.tag.id3.ID3Tags;
 
+import java.nio.ByteBuffer;
+
 /**
  * Represents a number which may span a number of bytes when written to file depending what size is to be represented.
  *
@@ -147,32 +150,26 @@ public class NumberVariableLength extends AbstractDataType
     }
 
     /**
-     * Read from Byte Array
+     * Read from Byte Buffer
      *
-     * @param arr
-     * @param offset
+     * @param buffer
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
         //Coding error, should never happen
-        if (arr == null)
-        {
-            throw new NullPointerException("Byte array is null");
-        }
-
-        //Coding error, should never happen as far as I can see
-        if (offset < 0)
+        if (buffer == null)
         {
-            throw new IllegalArgumentException("negativer offset into an array offset:" + offset);
+            throw new NullPointerException("Byte buffer is null");
         }
 
         //If optional then set value to zero, this will mean that if this frame is written back to file it will be created
         //with this additional datatype wheras it didnt exist but I think this is probably an advantage the frame is
         //more likely to be parsed by other applications if it contains optional fields.
         //if not optional problem with this frame
-        if (offset >= arr.length)
+        int offset = buffer.position();
+        if (offset >= buffer.limit())
         {
             if (minLength == 0)
             {
@@ -181,7 +178,7 @@ public class NumberVariableLength extends AbstractDataType
             }
             else
             {
-                throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + arr.length);
+                throw new InvalidDataTypeException("Offset to byte array is out of bounds: offset = " + offset + ", array.length = " + buffer.limit());
             }
         }
 
@@ -189,10 +186,10 @@ public class NumberVariableLength extends AbstractDataType
 
         //Read the bytes (starting from offset), the most significant byte of the number being constructed is read first,
         //we then shift the resulting long one byte over to make room for the next byte
-        for (int i = offset; i < arr.length; i++)
+        for (int i = offset; i < buffer.limit(); i++)
         {
             lvalue <<= 8;
-            lvalue += (arr[i] & 0xff);
+            lvalue += (buffer.get(i) & 0xff);
         }
 
         value = lvalue;
@@ -6,6 +6,7 @@ import org.jaudiotagger.utils.EqualsUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
@@ -81,16 +82,17 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
     }
 
     /**
-     * Read Null Terminated Strings from the array starting at offset, continue until unable to find any null terminated
-     * Strings or until reached the end of the array. The offset should be set to byte after the last null terminated
-     * String found.
+     * Read Null Terminated Strings from the buffer starting at its position, continue until unable to find any null
+     * terminated Strings or until reached the limit of the buffer. The size is set to include all the null terminated
+     * Strings found.
      *
-     * @param arr    to read the Strings from
-     * @param offset in the array to start reading from
+     * @param buffer to read the Strings from
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
+        final int originalOffset = buffer.position();
+        int offset = originalOffset;
         logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
         //Continue until unable to read a null terminated String
         while (true)
@@ -99,7 +101,8 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
             {
                 //Read Key
                 TextEncodedStringNullTerminated key = new TextEncodedStringNullTerminated(identifier, frameBody);
-                key.readByteArray(arr, offset);
+                buffer.position(offset);
+                key.readByteBuffer(buffer);
                 size   += key.getSize();
                 offset += key.getSize();
                 if (key.getSize() == 0)
@@ -111,7 +114,8 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 {
                     //Read Value
                     TextEncodedStringNullTerminated result = new TextEncodedStringNullTerminated(identifier, frameBody);
-                    result.readByteArray(arr, offset);
+                    buffer.position(offset);
+                    result.readByteBuffer(buffer);
                     size   += result.getSize();
                     offset += result.getSize();
                     if (result.getSize() == 0)
@@ -125,12 +129,13 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 {
                     //Value may not be null terminated if it is the last value
                     //Read Value
-                    if(offset>=arr.length)
+                    if(offset>=buffer.limit())
                     {
                         break;
                     }
                     TextEncodedStringSizeTerminated result = new TextEncodedStringSizeTerminated(identifier, frameBody);
-                    result.readByteArray(arr, offset);
+                    buffer.position(offset);
+                    result.readByteBuffer(buffer);
                     size   += result.getSize();
                     offset += result.getSize();
                     if (result.getSize() == 0)
@@ -149,10 +154,12 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
 
             if (size == 0)
             {
+                buffer.position(originalOffset);
                 logger.warning("No null terminated Strings found");
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
+        buffer.position(originalOffset);
         logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
     }
 
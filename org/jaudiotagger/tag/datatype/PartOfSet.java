@@ -2,7 +2,7 @@ package org.jaudiotagger.tag.datatype;
 
 import org.extra.StandardCharsets;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.options.PadNumberOption;
@@ -12,9 +12,7 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,11 +22,11 @@ import java.util.regex.Pattern;
  *
  * Some applications like to prepend the count with a zero to aid sorting, (i.e 02 comes before 10)
  *
- * If TagOptionSingleton.getInstance().isPadNumbers() is enabled then all fields will be written to file padded
+ * If TagOptions.current().isPadNumbers() is enabled then all fields will be written to file padded
  * depending on the value of agOptionSingleton.getInstance().getPadNumberTotalLength(). Additionally fields returned
  * from file will be returned as padded even if they are not currently stored as padded in the file.
  *
- * If TagOptionSingleton.getInstance().isPadNumbers() is disabled then count and track are written to file as they
+ * If TagOptions.current().isPadNumbers() is disabled then count and track are written to file as they
  * are provided, i.e if provided pre-padded they will be stored pre-padded, if not they will not. Values read from
  * file will be returned as they are currently stored in file.
  *
@@ -84,36 +82,27 @@ public class PartOfSet extends AbstractString
      * ID3 Text Frames often allow multiple strings separated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
-     * @param offset this is where to start reading in the buffer for this field
+     * @param buffer this is the buffer for the frame, its position is where to start reading for this field
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        logger.finest("Reading from array from offset:" + offset);
+        logger.finest("Reading from array from offset:" + buffer.position());
+        int bufferSize = buffer.remaining();
 
-        //Get the Specified Decoder
-        CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
-
-        //Decode sliced inBuffer
-        ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
-        decoder.reset();
-        CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-        if (coderResult.isError())
+        //Decode without guessing byte order of UTF-16 without a BOM
+        String stringValue = decodeDirectly(buffer);
+        if (stringValue == null)
         {
-            logger.warning("Decoding error:" + coderResult.toString());
+            stringValue = decode(buffer, DecoderCache.getDecoder(getTextEncodingCharSet()), false);
         }
-        decoder.flush(outBuffer);
-        outBuffer.flip();
 
         //Store value
-        String stringValue = outBuffer.toString();
         value = new PartOfSetValue(stringValue);
 
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
+        setSize(bufferSize);
         logger.config("Read SizeTerminatedString:" + value + " size:" + size);
     }
 
@@ -132,7 +121,7 @@ public class PartOfSet extends AbstractString
         //Try and write to buffer using the CharSet defined by getTextEncodingCharSet()
         try
         {
-            if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+            if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
             {
                 if (value.length() > 0)
                 {
@@ -209,7 +198,7 @@ public class PartOfSet extends AbstractString
         private Integer count;
         private Integer total;
         private String  extra;   //Any extraneous info such as null chars
-        private String  rawText;   // raw text representation used to actually save the data IF !TagOptionSingleton.getInstance().isPadNumbers()
+        private String  rawText;   // raw text representation used to actually save the data IF !TagOptions.current().isPadNumbers()
         private String  rawCount;  //count value as provided
         private String  rawTotal;  //total value as provided
         
@@ -375,13 +364,13 @@ public class PartOfSet extends AbstractString
         {
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawCount;
             }
             else
             {
-                padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, count, TagOptions.current().getPadNumberTotalLength());
             }
             return sb.toString();
         }
@@ -453,13 +442,13 @@ public class PartOfSet extends AbstractString
         {
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawTotal;
             }
             else
             {
-                padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, total, TagOptions.current().getPadNumberTotalLength());
 
             }
             return sb.toString();
@@ -470,7 +459,7 @@ public class PartOfSet extends AbstractString
 
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawText;
             }
@@ -478,16 +467,16 @@ public class PartOfSet extends AbstractString
             {
                 if (count != null)
                 {
-                    padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, count, TagOptions.current().getPadNumberTotalLength());
                 }
                 else if (total != null)
                 {
-                    padNumber(sb, 0, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, 0, TagOptions.current().getPadNumberTotalLength());
                 }
                 if (total != null)
                 {
                     sb.append(SEPARATOR);
-                    padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, total, TagOptions.current().getPadNumberTotalLength());
                 }
                 if (extra != null)
                 {
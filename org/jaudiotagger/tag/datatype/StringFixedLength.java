@@ -32,7 +32,6 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 
 
@@ -83,26 +82,30 @@ public class StringFixedLength extends AbstractString
     /**
      * Read a string from buffer of fixed size(size has already been set in constructor)
      *
-     * @param arr    this is the buffer for the frame
-     * @param offset this is where to start reading in the buffer for this field
+     * @param buffer this is the buffer for the frame, its position is where to start reading for this field
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        logger.config("Reading from array from offset:" + offset);
+        logger.config("Reading from array from offset:" + buffer.position());
         try
         {
-            final CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
 
             //Decode buffer if runs into problems should through exception which we
             //catch and then set value to empty string.
-            logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            logger.finest("Array length is:" + buffer.limit() + "offset is:" + buffer.position() + "Size is:" + size);
 
 
-            if (arr.length - offset < size)
+            if (buffer.remaining() < size)
             {
                 throw new InvalidDataTypeException("byte array is to small to retrieve string of declared length:" + size);
             }
-            String str = decoder.decode(ByteBuffer.wrap(arr, offset, size)).toString();
+            ByteBuffer inBuffer = buffer.slice();
+            inBuffer.limit(size);
+            String str = decodeDirectly(inBuffer);
+            if (str == null)
+            {
+                str = DecoderCache.getDecoder(getTextEncodingCharSet()).decode(inBuffer).toString();
+            }
             if (str == null)
             {
                 throw new NullPointerException("String is null");
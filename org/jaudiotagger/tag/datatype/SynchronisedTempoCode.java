@@ -17,6 +17,8 @@ import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.EventTimingTypes;
 
+import java.nio.ByteBuffer;
+
 /**
  * A single synchronized tempo code. Part of a list of temnpo codes ({@link SynchronisedTempoCodeList}), that are contained in
  * {@link org.jaudiotagger.tag.id3.framebody.FrameBodySYTC}
@@ -85,25 +87,25 @@ public class SynchronisedTempoCode extends AbstractDataType implements Cloneable
     }
 
     @Override
-    public void readByteArray(final byte[] buffer, final int originalOffset) throws InvalidDataTypeException
+    public void readByteBuffer(final ByteBuffer buffer) throws InvalidDataTypeException
     {
-        int localOffset = originalOffset;
+        final int originalOffset = buffer.position();
         int size = getSize();
 
-        logger.finest("offset:" + localOffset);
+        logger.finest("offset:" + originalOffset);
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
-        if (originalOffset > buffer.length-size)
+        if (originalOffset > buffer.limit()-size)
         {
             logger.warning("Invalid size for FrameBody");
             throw new InvalidDataTypeException("Invalid size for FrameBody");
         }
 
-        this.tempo.readByteArray(buffer, localOffset);
-        localOffset += this.tempo.getSize();
-        this.timestamp.readByteArray(buffer, localOffset);
-        localOffset += this.timestamp.getSize();
+        this.tempo.readByteBuffer(buffer);
+        buffer.position(originalOffset + this.tempo.getSize());
+        this.timestamp.readByteBuffer(buffer);
+        buffer.position(originalOffset);
     }
 
     @Override
@@ -2,7 +2,7 @@ package org.jaudiotagger.tag.datatype;
 
 import org.extra.StandardCharsets;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
@@ -10,9 +10,7 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 
 /**
@@ -63,12 +61,13 @@ public class TextEncodedStringNullTerminated extends AbstractString
      * ID3 Text Frames often allow multiple strings separated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
-     * @param offset this is where to start reading in the buffer for this field
+     * @param buffer this is the buffer for the frame, its position is where to start reading for this field
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        if(offset>=arr.length)
+        final int offset = buffer.position();
+        final int limit  = buffer.limit();
+        if(offset>=limit)
         {
             throw new InvalidDataTypeException("Unable to find null terminated string");
         }
@@ -84,7 +83,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         //We only want to load up to null terminator, data after this is part of different
         //field and it may not be possible to decode it so do the check before we do
         //do the decoding,encoding dependent.
-        ByteBuffer buffer = ByteBuffer.wrap(arr, offset, arr.length - offset);
+        int position = offset;
         int endPosition = 0;
 
         //Latin-1 and UTF-8 strings are terminated by a single-byte null,
@@ -92,16 +91,14 @@ public class TextEncodedStringNullTerminated extends AbstractString
         final boolean nullIsOneByte = StandardCharsets.ISO_8859_1 == charset || StandardCharsets.UTF_8 == charset;
 
         boolean isNullTerminatorFound = false;
-        while (buffer.hasRemaining())
+        while (position < limit)
         {
-            byte nextByte = buffer.get();
+            byte nextByte = buffer.get(position++);
             if (nextByte == 0x00)
             {
                 if (nullIsOneByte)
                 {
-                    buffer.mark();
-                    buffer.reset();
-                    endPosition = buffer.position() - 1;
+                    endPosition = position - 1;
                     logger.finest("Null terminator found starting at:" + endPosition);
 
                     isNullTerminatorFound = true;
@@ -110,14 +107,12 @@ public class TextEncodedStringNullTerminated extends AbstractString
                 else
                 {
                     // Looking for two-byte null
-                    if (buffer.hasRemaining())
+                    if (position < limit)
                     {
-                        nextByte = buffer.get();
+                        nextByte = buffer.get(position++);
                         if (nextByte == 0x00)
                         {
-                            buffer.mark();
-                            buffer.reset();
-                            endPosition = buffer.position() - 2;
+                            endPosition = position - 2;
                             logger.finest("UTF16:Null terminator found starting  at:" + endPosition);
                             isNullTerminatorFound = true;
                             break;
@@ -130,9 +125,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
                     }
                     else
                     {
-                        buffer.mark();
-                        buffer.reset();
-                        endPosition = buffer.position() - 1;
+                        endPosition = position - 1;
                         logger.warning("UTF16:Should be two null terminator marks but only found one starting at:" + endPosition);
 
                         isNullTerminatorFound = true;
@@ -145,9 +138,9 @@ public class TextEncodedStringNullTerminated extends AbstractString
                 //If UTF16, we should only be looking on 2 byte boundaries
                 if (!nullIsOneByte)
                 {
-                    if (buffer.hasRemaining())
+                    if (position < limit)
                     {
-                        buffer.get();
+                        position++;
                     }
                 }
             }
@@ -182,18 +175,9 @@ public class TextEncodedStringNullTerminated extends AbstractString
         else
         {
             //Decode sliced inBuffer
-            ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, bufferSize).slice();
-            CharBuffer outBuffer = CharBuffer.allocate(bufferSize);
-
-            final CharsetDecoder decoder = getCorrectDecoder(inBuffer);
-            CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-            if (coderResult.isError())
-            {
-                logger.warning("Problem decoding text encoded null terminated string:" + coderResult.toString());
-            }
-            decoder.flush(outBuffer);
-            outBuffer.flip();
-            value = outBuffer.toString();
+            ByteBuffer inBuffer = buffer.slice();
+            inBuffer.limit(bufferSize);
+            value = decode(inBuffer, false);
         }
         //Set Size so offset is ready for next field (includes the null terminator)
         logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
@@ -215,7 +199,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         {
             if (StandardCharsets.UTF_16.equals(charset))
             {
-                if(TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if(TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     final CharsetEncoder encoder = StandardCharsets.UTF_16LE.newEncoder();
                     encoder.onMalformedInput(CodingErrorAction.IGNORE);
@@ -2,16 +2,14 @@ package org.jaudiotagger.tag.datatype;
 
 import org.extra.StandardCharsets;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
-import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -77,54 +75,21 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      * ID3 Text Frames often allow multiple strings seperated by the null char
      * appropriate for the encoding.
      *
-     * @param arr    this is the buffer for the frame
-     * @param offset this is where to start reading in the buffer for this field
+     * @param buffer this is the buffer for the frame, its position is where to start reading for this field
      * @throws NullPointerException
      * @throws IndexOutOfBoundsException
      */
-    public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
+    public void readByteBuffer(ByteBuffer buffer) throws InvalidDataTypeException
     {
-        logger.finest("Reading from array from offset:" + offset);
-
-
-        //Decode sliced inBuffer
-        ByteBuffer inBuffer;
-        if(TagOptionSingleton.getInstance().isAndroid())
-        {
-           //#302 [dallen] truncating array manually since the decoder.decode() does not honor the offset in the in buffer
-           byte[] truncArr = new byte[arr.length - offset];
-           System.arraycopy(arr, offset, truncArr, 0, truncArr.length);
-           inBuffer = ByteBuffer.wrap(truncArr);
-        }
-        else
-        {
-           inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        }
-
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
-
-
-        CharsetDecoder decoder = getCorrectDecoder(inBuffer);
-        CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
-        if (coderResult.isError())
-        {
-            logger.warning("Decoding error:" + coderResult.toString());
-        }
-        decoder.flush(outBuffer);
-        outBuffer.flip();
+        logger.finest("Reading from array from offset:" + buffer.position());
+        int bufferSize = buffer.remaining();
 
         //If using UTF16 with BOM we then search through the text removing any BOMs that could exist
         //for multiple values, BOM could be Big Endian or Little Endian
-        if (StandardCharsets.UTF_16.equals(getTextEncodingCharSet()))
-        {
-            value = outBuffer.toString().replace("\ufeff","").replace("\ufffe","");
-        }
-        else
-        {
-            value = outBuffer.toString();
-        }
+        value = decode(buffer, StandardCharsets.UTF_16.equals(getTextEncodingCharSet()));
+
         //SetSize, important this is correct for finding the next datatype
-        setSize(arr.length - offset);
+        setSize(bufferSize);
         logger.finest("Read SizeTerminatedString:" + value + " size:" + size);
 
     }
@@ -232,7 +197,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     protected void stripTrailingNull()
     {
-        if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             String stringValue = (String) value;
             if (stringValue.length() > 0)
@@ -254,7 +219,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     protected void checkTrailingNull( List<String> values, String stringValue)
     {
-        if(!TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if(!TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             if (stringValue.length() > 0 && stringValue.charAt(stringValue.length() - 1) == '\0')
             {
@@ -288,7 +253,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
             Charset actualCharSet = null;
             if (StandardCharsets.UTF_16.equals(charset))
             {
-                if (TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if (TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     actualCharSet = StandardCharsets.UTF_16LE;
                 }
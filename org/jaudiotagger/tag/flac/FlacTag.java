@@ -9,7 +9,7 @@ import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
 import org.jaudiotagger.tag.reference.PictureTypes;
@@ -43,6 +43,15 @@ public class FlacTag implements Tag
         this.images = images;
     }
 
+    /**
+     * @return the options the vorbis tag was read or created with if any, otherwise the current options
+     */
+    private TagOptions options()
+    {
+        TagOptions options = tag.getTagOptions();
+        return options != null ? options : TagOptions.current();
+    }
+
     /**
      * @return images
      */
@@ -135,7 +144,7 @@ public class FlacTag implements Tag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(options().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -202,7 +211,7 @@ public class FlacTag implements Tag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(options().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
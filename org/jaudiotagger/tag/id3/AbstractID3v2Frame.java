@@ -22,10 +22,11 @@ import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.PaddingException;
 import org.jaudiotagger.tag.TagField;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyEncrypted;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -62,6 +63,24 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //when processing many files
     private String loggingFilename = "";
 
+    //When frame bodies are decoded lazily this holds the body data read from file and the identifier used to read it
+    //until the body is first needed, the body itself is null until then
+    private ByteBuffer deferredBodyBuffer;
+    private String deferredBodyIdentifier;
+
+    /**
+     * Options in use when the body was deferred, used when it is decoded
+     */
+    private TagOptions deferredBodyOptions;
+
+    //Set when the body of this frame should not be decoded on read even if bodies are not being decoded lazily,
+    //used when the frame is only being read to get past it
+    private boolean deferBodyRead;
+
+    //Position of the body data within the array backing the buffer the frame was read from, or -1 if the body was
+    //not read directly from that array because it was unsynchronised, compressed or encrypted
+    private int bodyOffsetInBuffer = -1;
+
     /**
      *
      * @return size in bytes of the frameid field
@@ -126,38 +145,20 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
         logger.config("Creating empty frame of type" + identifier);
         this.identifier = identifier;
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
-        try
+        frameBody = FrameBodyFactory.createFrameBody(identifier);
+        if (frameBody == null)
         {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) findClass(identifier);
-            frameBody = c.newInstance();
-        }
-        catch (ClassNotFoundException cnfe)
-        {
-            logger.severe(cnfe.getMessage());
+            logger.config("Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
             frameBody = new FrameBodyUnsupported(identifier);
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, "InstantiationException:" + identifier, ie);
-            throw new RuntimeException(ie);
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, "IllegalAccessException:" + identifier, iae);
-            throw new RuntimeException(iae);
-        }
         frameBody.setHeader(this);
         if (this instanceof ID3v24Frame)
         {
-            frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v24DefaultTextEncoding());
+            frameBody.setTextEncoding(TagOptions.current().getId3v24DefaultTextEncoding());
         }
         else if (this instanceof ID3v23Frame)
         {
-            frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding());
+            frameBody.setTextEncoding(TagOptions.current().getId3v23DefaultTextEncoding());
         }
 
         logger.config("Created empty frame of type" + identifier);
@@ -261,93 +262,205 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      * @return a newly created FrameBody
      * @throws InvalidFrameException unable to construct a framebody from the data
      */
-    @SuppressWarnings("unchecked")
-    //TODO using reflection is rather slow perhaps we should change this
     protected AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize)
             throws InvalidFrameException, InvalidDataTypeException
     {
-        //Use reflection to map id to frame body, which makes things much easier
-        //to keep things up to date,although slight performance hit.
         logger.finest("Creating framebody:start");
 
         AbstractID3v2FrameBody frameBody;
         try
         {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) findClass(identifier);
+            frameBody = FrameBodyFactory.createFrameBody(identifier, byteBuffer, frameSize);
 
-            Class<?>[] constructorParameterTypes = {Class.forName("java.nio.ByteBuffer"), Integer.TYPE};
-            Object[] constructorParameterValues = {byteBuffer, frameSize};
-            Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-            frameBody = (construct.newInstance(constructorParameterValues));
-        }
-        //No class defined for this frame type,use FrameUnsupported
-        catch (ClassNotFoundException cex)
-        {
-            logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
-            try
+            //No class defined for this frame type,use FrameUnsupported
+            if (frameBody == null)
             {
+                logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
                 frameBody = new FrameBodyUnsupported(byteBuffer, frameSize);
             }
-            //Should only throw InvalidFrameException but unfortunately legacy hierachy forces
-            //read method to declare it can throw InvalidtagException
-            catch (InvalidFrameException ife)
-            {
-                throw ife;
-            }
-            catch (InvalidTagException te)
-            {
-                throw new InvalidFrameException(te.getMessage());
-            }
         }
-        //An error has occurred during frame instantiation, if underlying cause is an unchecked exception or error
-        //propagate it up otherwise mark this frame as invalid
-        catch (InvocationTargetException ite)
+        //Should only throw InvalidFrameException or InvalidDataTypeException but unfortunately legacy hierachy
+        //forces read method to declare it can throw InvalidTagException
+        catch (InvalidFrameException ife)
         {
-            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + ite.getCause().getMessage());
-            if (ite.getCause() instanceof Error)
-            {
-                throw (Error) ite.getCause();
-            }
-            else if (ite.getCause() instanceof RuntimeException)
-            {
-                throw (RuntimeException) ite.getCause();
-            }
-            else if(ite.getCause() instanceof  InvalidFrameException )
-            {
-                throw (InvalidFrameException)ite.getCause();
-            }
-            else if(ite.getCause() instanceof  InvalidDataTypeException )
-            {
-                throw (InvalidDataTypeException)ite.getCause();
-            }
-            else
-            {
-                throw new InvalidFrameException(ite.getCause().getMessage());
-            }
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + ife.getMessage());
+            throw ife;
         }
-        //No Such Method should not happen
-        catch (NoSuchMethodException sme)
+        catch (InvalidDataTypeException idte)
         {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "No such method:" + sme.getMessage(), sme);
-            throw new RuntimeException(sme.getMessage());
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + idte.getMessage());
+            throw idte;
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
+        catch (InvalidTagException te)
         {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Instantiation exception:" + ie.getMessage(), ie);
-            throw new RuntimeException(ie.getMessage());
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Illegal access exception :" + iae.getMessage(), iae);
-            throw new RuntimeException(iae.getMessage());
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + te.getMessage());
+            throw new InvalidFrameException(te.getMessage());
         }
         logger.finest(getLoggingFilename() + ":" + "Created framebody:end" + frameBody.getIdentifier());
         frameBody.setHeader(this);
         return frameBody;
     }
 
+    /**
+     * Called with each body read from file, allows subclasses to convert bodies that are not valid for their
+     * version of ID3v2
+     *
+     * @param body as read from file
+     * @return the body to use for this frame
+     */
+    protected AbstractID3v2FrameBody convertReadBody(AbstractID3v2FrameBody body)
+    {
+        return body;
+    }
+
+    /**
+     * @return true if the body should be kept undecoded when read, either because this frame was created with
+     * the body deferred or because bodies are decoded lazily
+     */
+    protected boolean isDeferBodyRead()
+    {
+        return deferBodyRead || TagOptions.current().isLazyId3v2FrameBodyDecoding();
+    }
+
+    /**
+     * @param deferBodyRead true if the body should not be decoded when the frame is read
+     */
+    protected void setDeferBodyRead(boolean deferBodyRead)
+    {
+        this.deferBodyRead = deferBodyRead;
+    }
+
+    /**
+     * Record where the body data is held within the array backing the buffer the frame is being read from, only
+     * called when the body is read directly from that buffer
+     *
+     * @param frameBodyBuffer buffer holding just the frame body
+     */
+    protected void setBodyOffsetInBuffer(ByteBuffer frameBodyBuffer)
+    {
+        bodyOffsetInBuffer = frameBodyBuffer.hasArray() ? frameBodyBuffer.arrayOffset() + frameBodyBuffer.position() : -1;
+    }
+
+    /**
+     * @return position of the body data within the array backing the buffer the frame was read from, or -1 if not
+     * known
+     */
+    public int getBodyOffsetInBuffer()
+    {
+        return bodyOffsetInBuffer;
+    }
+
+    /**
+     * Keep a reference to the frame body data so the body can be decoded when it is first needed rather than now
+     *
+     * The data is not copied so the buffer read from must not be modified afterwards.
+     *
+     * @param identifier the frame identifier used to read the body
+     * @param byteBuffer containing the frame body at its position
+     * @param frameSize size of the frame body
+     */
+    protected void deferBody(String identifier, ByteBuffer byteBuffer, int frameSize)
+    {
+        deferredBodyBuffer = byteBuffer.slice();
+        deferredBodyBuffer.limit(frameSize);
+        deferredBodyIdentifier = identifier;
+        deferredBodyOptions = TagOptions.current();
+        frameBody = null;
+    }
+
+    /**
+     * Decode the deferred frame body, if the data cannot be decoded it is kept as a FrameBodyUnsupported so that
+     * it is still written back unchanged
+     */
+    private void readDeferredBody()
+    {
+        ByteBuffer bodyBuffer = deferredBodyBuffer.duplicate();
+        //Decode with the options the frame was read with rather than those in use now
+        TagOptions previous = TagOptions.enter(deferredBodyOptions);
+        try
+        {
+            frameBody = convertReadBody(readBody(deferredBodyIdentifier, bodyBuffer, bodyBuffer.remaining()));
+        }
+        catch (InvalidTagException ite)
+        {
+            logger.warning(getLoggingFilename() + ":" + "Unable to decode frame body, keeping it as unsupported:" + identifier);
+            byte[] data = writeBody();
+            FrameBodyUnsupported unsupported = new FrameBodyUnsupported(identifier, data);
+            unsupported.setSize(data.length);
+            unsupported.setHeader(this);
+            frameBody = unsupported;
+        }
+        finally
+        {
+            TagOptions.exit(previous);
+        }
+        deferredBodyBuffer = null;
+        deferredBodyIdentifier = null;
+        deferredBodyOptions = null;
+    }
+
+    /**
+     * @return false if the frame body has not been decoded yet because bodies are being decoded lazily
+     */
+    public boolean isBodyDecoded()
+    {
+        return deferredBodyBuffer == null;
+    }
+
+    /**
+     * Returns the body datatype for this frame, decoding it first if it has not been decoded yet
+     *
+     * @return the body datatype
+     */
+    @Override
+    public AbstractTagFrameBody getBody()
+    {
+        if (deferredBodyBuffer != null)
+        {
+            readDeferredBody();
+        }
+        return frameBody;
+    }
+
+    @Override
+    public void setBody(AbstractTagFrameBody frameBody)
+    {
+        deferredBodyBuffer = null;
+        deferredBodyIdentifier = null;
+        deferredBodyOptions = null;
+        super.setBody(frameBody);
+    }
+
+    /**
+     * @return size of the frame body, without decoding it if it has not been decoded yet
+     */
+    protected int getBodySize()
+    {
+        if (deferredBodyBuffer != null)
+        {
+            return deferredBodyBuffer.remaining();
+        }
+        return frameBody.getSize();
+    }
+
+    /**
+     * Write the frame body, a body that has not been decoded is written as the data originally read
+     *
+     * @return the frame body data
+     */
+    protected byte[] writeBody()
+    {
+        if (deferredBodyBuffer != null)
+        {
+            byte[] data = new byte[deferredBodyBuffer.remaining()];
+            deferredBodyBuffer.duplicate().get(data);
+            return data;
+        }
+        ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
+        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        return bodyOutputStream.toByteArray();
+    }
+
     /**
      * Get the next frame id, throwing an exception if unable to do this and check against just having padded data
      * 
@@ -23,10 +23,12 @@ import org.extra.RandomAccessFileProvider;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.UnableToCreateFileException;
 import org.jaudiotagger.audio.exceptions.UnableToModifyFileException;
 import org.jaudiotagger.audio.exceptions.UnableToRenameFileException;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.audio.mp3.MP3ReadSession;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.FileSystemMessage;
 import org.jaudiotagger.tag.FieldDataInvalidException;
@@ -35,6 +37,9 @@ import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.datatype.AbstractDataType;
+import org.jaudiotagger.tag.datatype.ByteArraySizeTerminated;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
 import org.jaudiotagger.tag.datatype.PairedTextEncodedStringNullTerminated;
@@ -58,6 +63,7 @@ import org.jaudiotagger.tag.id3.framebody.FrameBodyWXXX;
 import org.jaudiotagger.tag.id3.valuepair.ID3NumberTotalFields;
 import org.jaudiotagger.tag.id3.valuepair.StandardIPLSKey;
 import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.reference.Languages;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
@@ -82,6 +88,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Level;
 
@@ -167,6 +174,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     protected static final String TYPE_INVALIDFRAMES = "invalidFrames";
     protected int invalidFrames = 0;
 
+    /**
+     * The fields wanted when the tag is read, frames not needed for these fields are skipped without being decoded
+     */
+    private ReadProjection readProjection = ReadProjection.ALL;
+
     /**
      * True if files has a ID3v2 header
      *
@@ -254,6 +266,48 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     {
     }
 
+    /**
+     * Set the fields wanted when the tag is read, this must be called before the tag is read
+     *
+     * @param readProjection
+     */
+    public void setReadProjection(ReadProjection readProjection)
+    {
+        this.readProjection = readProjection;
+    }
+
+    /**
+     * The ids of the frames that need to be read to satisfy the read projection, frames with any other id can be
+     * skipped when reading
+     *
+     * @return frame ids, or null if every frame should be read
+     */
+    protected Set<String> getFrameIdsToRead()
+    {
+        if (readProjection.isAll())
+        {
+            return null;
+        }
+
+        Set<String> frameIds = new HashSet<String>();
+        for (FieldKey next : readProjection.getFieldKeys())
+        {
+            try
+            {
+                frameIds.add(getFrameAndSubIdFromGenericKey(next).getFrameId());
+            }
+            catch (KeyNotFoundException knfe)
+            {
+                //Field not supported by this version so no frame to read
+            }
+        }
+        if (readProjection.isArtwork())
+        {
+            frameIds.add(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
+        }
+        return frameIds;
+    }
+
     /**
      * This constructor is used when a tag is created as a duplicate of another
      * tag of the same type and version.
@@ -823,40 +877,48 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void setField(TagField field) throws FieldDataInvalidException
     {
-        if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame)))
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new FieldDataInvalidException("Field " + field + " is not of type AbstractID3v2Frame nor AggregatedFrame");
-        }
+            if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame)))
+            {
+                throw new FieldDataInvalidException("Field " + field + " is not of type AbstractID3v2Frame nor AggregatedFrame");
+            }
 
-        if (field instanceof AbstractID3v2Frame)
-        {
-            AbstractID3v2Frame newFrame = (AbstractID3v2Frame) field;
+            if (field instanceof AbstractID3v2Frame)
+            {
+                AbstractID3v2Frame newFrame = (AbstractID3v2Frame) field;
 
-            Object obj = frameMap.get(field.getId());
+                Object obj = frameMap.get(field.getId());
 
 
-            //If no frame of this type exist or if multiples are not allowed
-            if (obj == null)
-            {
-                frameMap.put(field.getId(), field);
-            }
-            //frame of this type already exists
-            else if (obj instanceof AbstractID3v2Frame)
-            {
-                List<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>();
-                frames.add((AbstractID3v2Frame) obj);
-                mergeDuplicateFrames(newFrame, frames);
+                //If no frame of this type exist or if multiples are not allowed
+                if (obj == null)
+                {
+                    frameMap.put(field.getId(), field);
+                }
+                //frame of this type already exists
+                else if (obj instanceof AbstractID3v2Frame)
+                {
+                    List<AbstractID3v2Frame> frames = new ArrayList<AbstractID3v2Frame>();
+                    frames.add((AbstractID3v2Frame) obj);
+                    mergeDuplicateFrames(newFrame, frames);
+                }
+                //Multiple frames of this type already exist
+                else if (obj instanceof List)
+                {
+                    mergeDuplicateFrames(newFrame, (List<AbstractID3v2Frame>) obj);
+                }
             }
-            //Multiple frames of this type already exist
-            else if (obj instanceof List)
+            else
+            //TODO not handling multiple aggregated frames of same type
             {
-                mergeDuplicateFrames(newFrame, (List<AbstractID3v2Frame>) obj);
+                frameMap.put(field.getId(), field);
             }
         }
-        else
-        //TODO not handling multiple aggregated frames of same type
+        finally
         {
-            frameMap.put(field.getId(), field);
+            TagOptions.exit(previous);
         }
     }
 
@@ -872,44 +934,52 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void addField(TagField field) throws FieldDataInvalidException
     {
-        if (field == null)
-        {
-            return;
-        }
-
-        if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame)))
-        {
-            throw new FieldDataInvalidException("Field " + field + " is not of type AbstractID3v2Frame or AggregatedFrame");
-        }
-
-        if (field instanceof AbstractID3v2Frame)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            AbstractID3v2Frame frame = (AbstractID3v2Frame) field;
-
-            Object o = frameMap.get(field.getId());
+            if (field == null)
+            {
+                return;
+            }
 
-            //No frame of this type
-            if (o == null)
+            if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame)))
             {
-                frameMap.put(field.getId(), field);
+                throw new FieldDataInvalidException("Field " + field + " is not of type AbstractID3v2Frame or AggregatedFrame");
             }
-            //There are already frames of this type, adding another may need to merge
-            else if (o instanceof List)
+
+            if (field instanceof AbstractID3v2Frame)
             {
-                List<TagField> list = (List<TagField>) o;
-                addNewFrameOrAddField(list, frameMap, null, frame);
+                AbstractID3v2Frame frame = (AbstractID3v2Frame) field;
+
+                Object o = frameMap.get(field.getId());
+
+                //No frame of this type
+                if (o == null)
+                {
+                    frameMap.put(field.getId(), field);
+                }
+                //There are already frames of this type, adding another may need to merge
+                else if (o instanceof List)
+                {
+                    List<TagField> list = (List<TagField>) o;
+                    addNewFrameOrAddField(list, frameMap, null, frame);
+                }
+                //One frame exists, we are adding another so may need to convert to list
+                else
+                {
+                    AbstractID3v2Frame existingFrame = (AbstractID3v2Frame) o;
+                    List<TagField> list = new ArrayList<TagField>();
+                    addNewFrameOrAddField(list, frameMap, existingFrame, frame);
+                }
             }
-            //One frame exists, we are adding another so may need to convert to list
             else
             {
-                AbstractID3v2Frame existingFrame = (AbstractID3v2Frame) o;
-                List<TagField> list = new ArrayList<TagField>();
-                addNewFrameOrAddField(list, frameMap, existingFrame, frame);
+                frameMap.put(field.getId(), field);
             }
         }
-        else
+        finally
         {
-            frameMap.put(field.getId(), field);
+            TagOptions.exit(previous);
         }
     }
 
@@ -1218,35 +1288,34 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public static long getV2TagSizeIfExists(FileSystemProvider provider) throws IOException
     {
-        RandomAccessFileProvider fis = null;
-        FileChannelProvider fc = null;
-        ByteBuffer bb = null;
+        MP3ReadSession session = new MP3ReadSession(provider, "r");
         try
         {
-            //Files
-            fis = provider.getRandomAccessFile("r");
-            fc = fis.getChannelProvider();
-
-            //Read possible Tag header  Byte Buffer
-            bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
-            fc.read(bb);
-            bb.flip();
-            if (bb.limit() < (TAG_HEADER_LENGTH))
-            {
-                return 0;
-            }
+            return getV2TagSizeIfExists(session);
         }
         finally
         {
-            if (fc != null)
-            {
-                fc.close();
-            }
+            session.close();
+        }
+    }
 
-            if (fis != null)
-            {
-                fis.close();
-            }
+    /**
+     * Checks to see if the file opened by session contains an ID3tag and if so return its size as reported in
+     * the tag header, if no such tag exists return zero. The session is left open.
+     *
+     * @param session
+     * @return the end of the tag in the file or zero if no tag exists.
+     * @throws IOException
+     */
+    public static long getV2TagSizeIfExists(MP3ReadSession session) throws IOException
+    {
+        //Read possible Tag header  Byte Buffer
+        ByteBuffer bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
+        session.read(bb, 0);
+        bb.flip();
+        if (bb.limit() < (TAG_HEADER_LENGTH))
+        {
+            return 0;
         }
 
         //ID3 identifier
@@ -1687,7 +1756,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next)
     {
-        if (next.getBody() instanceof FrameBodyEncrypted)
+        //Encrypted frames are always decoded on read, so no need to decode a lazily decoded body to check
+        if (next.isBodyDecoded() && next.getBody() instanceof FrameBodyEncrypted)
         {
             loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
         }
@@ -1915,41 +1985,49 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public List<String> getAll(FieldKey genericKey) throws KeyNotFoundException
     {
-        //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
-        //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
-        List<String> values = new ArrayList<String>();
-        List<TagField> fields = getFields(genericKey);
-
-        if (ID3NumberTotalFields.isNumber(genericKey))
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            if (fields != null && fields.size() > 0)
+            //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
+            //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
+            List<String> values = new ArrayList<String>();
+            List<TagField> fields = getFields(genericKey);
+
+            if (ID3NumberTotalFields.isNumber(genericKey))
             {
-                AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
-                values.add(((AbstractFrameBodyNumberTotal) frame.getBody()).getNumberAsText());
+                if (fields != null && fields.size() > 0)
+                {
+                    AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
+                    values.add(((AbstractFrameBodyNumberTotal) frame.getBody()).getNumberAsText());
+                }
+                return values;
             }
-            return values;
-        }
-        else if (ID3NumberTotalFields.isTotal(genericKey))
-        {
-            if (fields != null && fields.size() > 0)
+            else if (ID3NumberTotalFields.isTotal(genericKey))
             {
-                AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
-                values.add(((AbstractFrameBodyNumberTotal) frame.getBody()).getTotalAsText());
+                if (fields != null && fields.size() > 0)
+                {
+                    AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
+                    values.add(((AbstractFrameBodyNumberTotal) frame.getBody()).getTotalAsText());
+                }
+                return values;
             }
-            return values;
-        }
-        else if(genericKey == FieldKey.RATING)
-        {
-            if (fields != null && fields.size() > 0)
+            else if(genericKey == FieldKey.RATING)
+            {
+                if (fields != null && fields.size() > 0)
+                {
+                    AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
+                    values.add(String.valueOf(((FrameBodyPOPM) frame.getBody()).getRating()));
+                }
+                return values;
+            }
+            else
             {
-                AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
-                values.add(String.valueOf(((FrameBodyPOPM) frame.getBody()).getRating()));
+                return this.doGetValues(getFrameAndSubIdFromGenericKey(genericKey));
             }
-            return values;
         }
-        else
+        finally
         {
-            return this.doGetValues(getFrameAndSubIdFromGenericKey(genericKey));
+            TagOptions.exit(previous);
         }
     }
 
@@ -1981,6 +2059,70 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     }
 
 
+    /**
+     * Leave the image data of the artwork frames in the file rather than holding it in memory, it is then read from
+     * the file when requested. This is called straight after the tag has been read and only applies to frames whose
+     * body was read directly from the buffer holding the tag, so not to unsynchronised, compressed or encrypted frames
+     * or to linked images.
+     *
+     * @param provider         the file the tag was read from
+     * @param bufferFileOffset position within the file of the start of the array backing the buffer the tag was read from
+     */
+    public void leaveArtworkInFile(FileSystemProvider provider, long bufferFileOffset)
+    {
+        //Positions within the synchronized buffer do not match the positions within the file
+        if (isUnsynchronization())
+        {
+            return;
+        }
+
+        for (TagField next : getFields(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId()))
+        {
+            AbstractID3v2Frame frame = (AbstractID3v2Frame) next;
+            if (frame.getBodyOffsetInBuffer() < 0)
+            {
+                continue;
+            }
+
+            AbstractTagFrameBody body = frame.getBody();
+            boolean isImage = (body instanceof FrameBodyAPIC && !((FrameBodyAPIC) body).isImageUrl())
+                    || (body instanceof FrameBodyPIC && !((FrameBodyPIC) body).isImageUrl());
+            if (isImage)
+            {
+                //The image data is always the last part of the body
+                ByteArraySizeTerminated data = (ByteArraySizeTerminated) body.getObject(DataTypes.OBJ_PICTURE_DATA);
+                int length = data.getSize();
+                if (length > 0)
+                {
+                    long offset = bufferFileOffset + frame.getBodyOffsetInBuffer() + body.getSize() - length;
+                    data.setValueInFile(new FileImageData(provider, offset, length));
+                }
+            }
+        }
+    }
+
+    /**
+     * Read any artwork image data left in the file into memory, this must be done before the file is modified
+     *
+     * @throws IOException
+     */
+    public void loadArtwork() throws IOException
+    {
+        for (TagField next : getFields(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId()))
+        {
+            AbstractDataType data = ((AbstractID3v2Frame) next).getBody().getObject(DataTypes.OBJ_PICTURE_DATA);
+            if (data instanceof ByteArraySizeTerminated)
+            {
+                ((ByteArraySizeTerminated) data).loadValue();
+            }
+        }
+    }
+
+    /**
+     * @return true if the whole tag is unsynchronized
+     */
+    public abstract boolean isUnsynchronization();
+
     /**
      * Create Frame of correct ID3 version with the specified id
      *
@@ -2247,53 +2389,61 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public String getValue(FieldKey genericKey, int index) throws KeyNotFoundException
     {
-        if (genericKey == null)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new KeyNotFoundException();
-        }
+            if (genericKey == null)
+            {
+                throw new KeyNotFoundException();
+            }
 
-        //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
-        //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
-        if (ID3NumberTotalFields.isNumber(genericKey)||ID3NumberTotalFields.isTotal(genericKey))
-        {
-            List<TagField> fields = getFields(genericKey);
-            if (fields != null && fields.size() > 0)
+            //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
+            //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
+            if (ID3NumberTotalFields.isNumber(genericKey)||ID3NumberTotalFields.isTotal(genericKey))
             {
-                //Should only be one frame so ignore index value, and we ignore multiple values within the frame
-                //it would make no sense if it existed.
-                AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
-                if (ID3NumberTotalFields.isNumber(genericKey))
+                List<TagField> fields = getFields(genericKey);
+                if (fields != null && fields.size() > 0)
                 {
-                    return ((AbstractFrameBodyNumberTotal) frame.getBody()).getNumberAsText();
+                    //Should only be one frame so ignore index value, and we ignore multiple values within the frame
+                    //it would make no sense if it existed.
+                    AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(0);
+                    if (ID3NumberTotalFields.isNumber(genericKey))
+                    {
+                        return ((AbstractFrameBodyNumberTotal) frame.getBody()).getNumberAsText();
+                    }
+                    else if (ID3NumberTotalFields.isTotal(genericKey))
+                    {
+                        return ((AbstractFrameBodyNumberTotal) frame.getBody()).getTotalAsText();
+                    }
                 }
-                else if (ID3NumberTotalFields.isTotal(genericKey))
+                else
                 {
-                    return ((AbstractFrameBodyNumberTotal) frame.getBody()).getTotalAsText();
+                    return "";
                 }
             }
-            else
+            //Special Case, TODO may be possible to put into doGetValueAtIndex but getUserFriendlyValue in POPMGFrameBody
+            //is implemented different to what we would need.
+            else if (genericKey == FieldKey.RATING)
             {
-                return "";
+                List<TagField> fields = getFields(genericKey);
+                if (fields != null && fields.size() > index)
+                {
+                    AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(index);
+                    return String.valueOf(((FrameBodyPOPM) frame.getBody()).getRating());
+                }
+                else
+                {
+                    return "";
+                }
             }
+
+            FrameAndSubId frameAndSubId = getFrameAndSubIdFromGenericKey(genericKey);
+            return doGetValueAtIndex(frameAndSubId, index);
         }
-        //Special Case, TODO may be possible to put into doGetValueAtIndex but getUserFriendlyValue in POPMGFrameBody
-        //is implemented different to what we would need.
-        else if (genericKey == FieldKey.RATING)
+        finally
         {
-            List<TagField> fields = getFields(genericKey);
-            if (fields != null && fields.size() > index)
-            {
-                AbstractID3v2Frame frame = (AbstractID3v2Frame) fields.get(index);
-                return String.valueOf(((FrameBodyPOPM) frame.getBody()).getRating());
-            }
-            else
-            {
-                return "";
-            }
+            TagOptions.exit(previous);
         }
-
-        FrameAndSubId frameAndSubId = getFrameAndSubIdFromGenericKey(genericKey);
-        return doGetValueAtIndex(frameAndSubId, index);
     }
 
     /**
@@ -2309,38 +2459,46 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public TagField createField(FieldKey genericKey, String... values) throws KeyNotFoundException, FieldDataInvalidException
     {
-        if (genericKey == null)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new KeyNotFoundException();
-        }
+            if (genericKey == null)
+            {
+                throw new KeyNotFoundException();
+            }
 
-        if (values == null || values[0] == null)
-        {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-        }
+            if (values == null || values[0] == null)
+            {
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+            }
 
-        String value = values[0];
-        FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
+            String value = values[0];
+            FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
 
-        //FrameAndSubId does not contain enough info for these fields to be able to work out what to update
-        //that is why we need the extra processing here instead of doCreateTagField()
-        if (ID3NumberTotalFields.isNumber(genericKey))
-        {
-            AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
-            AbstractFrameBodyNumberTotal framebody = (AbstractFrameBodyNumberTotal) frame.getBody();
-            framebody.setNumber(value);
-            return frame;
-        }
-        else if (ID3NumberTotalFields.isTotal(genericKey))
-        {
-            AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
-            AbstractFrameBodyNumberTotal framebody = (AbstractFrameBodyNumberTotal) frame.getBody();
-            framebody.setTotal(value);
-            return frame;
+            //FrameAndSubId does not contain enough info for these fields to be able to work out what to update
+            //that is why we need the extra processing here instead of doCreateTagField()
+            if (ID3NumberTotalFields.isNumber(genericKey))
+            {
+                AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
+                AbstractFrameBodyNumberTotal framebody = (AbstractFrameBodyNumberTotal) frame.getBody();
+                framebody.setNumber(value);
+                return frame;
+            }
+            else if (ID3NumberTotalFields.isTotal(genericKey))
+            {
+                AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
+                AbstractFrameBodyNumberTotal framebody = (AbstractFrameBodyNumberTotal) frame.getBody();
+                framebody.setTotal(value);
+                return frame;
+            }
+            else
+            {
+                return doCreateTagField(formatKey, values);
+            }
         }
-        else
+        finally
         {
-            return doCreateTagField(formatKey, values);
+            TagOptions.exit(previous);
         }
     }
 
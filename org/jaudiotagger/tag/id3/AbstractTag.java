@@ -24,6 +24,7 @@
 package org.jaudiotagger.tag.id3;
 
 import org.extra.RandomAccessFileProvider;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -36,6 +37,20 @@ public abstract class AbstractTag extends AbstractTagItem
 {
     protected static final String TYPE_TAG = "tag";
 
+    /**
+     * Options given when this tag was read or created, used whenever it is read or changed, or null if none were
+     * given and the current options are used
+     */
+    protected final TagOptions tagOptions = TagOptions.given();
+
+    /**
+     * @return the options given when this tag was read or created, or null if none were given
+     */
+    public TagOptions getTagOptions()
+    {
+        return tagOptions;
+    }
+
 
     public AbstractTag()
     {
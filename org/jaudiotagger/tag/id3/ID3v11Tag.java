@@ -34,7 +34,7 @@ import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyCOMM;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyTALB;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyTCON;
@@ -256,6 +256,19 @@ public class ID3v11Tag extends ID3v1Tag
 
     }
 
+    /**
+     * Creates a new ID3v11 datatype from the 128 bytes of the tag already read from the file
+     *
+     * @param byteBuffer the tag data positioned at the start of the tag
+     * @param loggingFilename
+     * @throws TagNotFoundException if byteBuffer does not hold a tag of this version
+     */
+    public ID3v11Tag(ByteBuffer byteBuffer, String loggingFilename) throws TagNotFoundException
+    {
+        setLoggingFilename(loggingFilename);
+        read(byteBuffer);
+    }
+
     /**
      * Creates a new ID3v11 datatype.
      *
@@ -568,7 +581,7 @@ public class ID3v11Tag extends ID3v1Tag
         file.seek(file.length());
         System.arraycopy(TAG_ID, FIELD_TAGID_POS, buffer, FIELD_TAGID_POS, TAG_ID.length);
         int offset = FIELD_TITLE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveTitle())
+        if (TagOptions.current().isId3v1SaveTitle())
         {
             str = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -577,7 +590,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ARTIST_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveArtist())
+        if (TagOptions.current().isId3v1SaveArtist())
         {
             str = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -586,7 +599,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ALBUM_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveAlbum())
+        if (TagOptions.current().isId3v1SaveAlbum())
         {
             str = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -595,7 +608,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_YEAR_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveYear())
+        if (TagOptions.current().isId3v1SaveYear())
         {
             str = ID3Tags.truncate(year, FIELD_YEAR_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -604,7 +617,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_COMMENT_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveComment())
+        if (TagOptions.current().isId3v1SaveComment())
         {
             str = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -615,7 +628,7 @@ public class ID3v11Tag extends ID3v1Tag
         offset = FIELD_TRACK_POS;
         buffer[offset] = track; // skip one byte extra blank for 1.1 definition
         offset = FIELD_GENRE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveGenre())
+        if (TagOptions.current().isId3v1SaveGenre())
         {
             buffer[offset] = genre;
         }
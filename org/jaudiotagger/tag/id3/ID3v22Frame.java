@@ -24,6 +24,7 @@ import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidFrameIdentifierException;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyDeprecated;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -33,7 +34,6 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -153,30 +153,12 @@ public class ID3v22Frame extends AbstractID3v2Frame
             }
         }
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
-        try
-        {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) findClass(bodyIdentifier);
-            frameBody = c.newInstance();
-        }
-        catch (ClassNotFoundException cnfe)
+        frameBody = FrameBodyFactory.createFrameBody(bodyIdentifier);
+        if (frameBody == null)
         {
-            logger.log(Level.SEVERE, cnfe.getMessage(), cnfe);
+            logger.config("Identifier not recognised:" + bodyIdentifier + " using FrameBodyUnsupported");
             frameBody = new FrameBodyUnsupported(identifier);
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, ie.getMessage(), ie);
-            throw new RuntimeException(ie);
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, iae.getMessage(), iae);
-            throw new RuntimeException(iae);
-        }
         frameBody.setHeader(this);
         logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
     }
@@ -285,6 +267,24 @@ public class ID3v22Frame extends AbstractID3v2Frame
         read(byteBuffer);
     }
 
+    /**
+     * Creates a new ID3v22Frame by reading from byteBuffer, optionally without decoding the frame body.
+     *
+     * A frame whose body is deferred is decoded on first access to the body, so this is used to move past frames
+     * that are not going to be used as cheaply as possible.
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param deferBody       true if the body should not be decoded when read
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     */
+    public ID3v22Frame(ByteBuffer byteBuffer, String loggingFilename, boolean deferBody) throws InvalidFrameException, InvalidDataTypeException
+    {
+        setLoggingFilename(loggingFilename);
+        setDeferBodyRead(deferBody);
+        read(byteBuffer);
+    }
+
     /**
      * Creates a new ID3v23Frame datatype by reading from byteBuffer.
      *
@@ -304,7 +304,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
      */
     public int getSize()
     {
-        return frameBody.getSize() + getFrameHeaderSize();
+        return getBodySize() + getFrameHeaderSize();
     }
 
     @Override 
@@ -387,10 +387,18 @@ public class ID3v22Frame extends AbstractID3v2Frame
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
             ByteBuffer frameBodyBuffer = byteBuffer.slice();
             frameBodyBuffer.limit(frameSize);
+            setBodyOffsetInBuffer(frameBodyBuffer);
 
             try
             {
-                frameBody = readBody(id, frameBodyBuffer, frameSize);
+                if (isDeferBodyRead())
+                {
+                    deferBody(id, frameBodyBuffer, frameSize);
+                }
+                else
+                {
+                    frameBody = readBody(id, frameBodyBuffer, frameSize);
+                }
             }
             finally
             {
@@ -429,13 +437,12 @@ public class ID3v22Frame extends AbstractID3v2Frame
         ByteBuffer headerBuffer = ByteBuffer.allocate(getFrameHeaderSize());
 
         //Write Frame Body Data
-        ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        byte[] bodyBuffer = writeBody();
 
         //Write Frame Header
         //Write Frame ID must adjust can only be 3 bytes long
         headerBuffer.put(Utils.getBytes(getIdentifier(), StandardCharsets.ISO_8859_1), 0, getFrameIdSize());
-        encodeSize(headerBuffer, frameBody.getSize());
+        encodeSize(headerBuffer, bodyBuffer.length);
 
         //Add header to the Byte Array Output Stream
         try
@@ -443,7 +450,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
             tagBuffer.write(headerBuffer.array());
 
             //Add body to the Byte Array Output Stream
-            tagBuffer.write(bodyOutputStream.toByteArray());
+            tagBuffer.write(bodyBuffer);
         }
         catch (IOException ioe)
         {
@@ -486,7 +493,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
     {
         MP3File.getStructureFormatter().openHeadingElement(TYPE_FRAME, getIdentifier());
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
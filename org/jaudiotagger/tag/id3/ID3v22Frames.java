@@ -109,7 +109,10 @@ public class ID3v22Frames extends ID3Frames
     public static final String FRAME_ID_V2_ALBUM_ARTIST_SORT_ORDER_ITUNES = "TS2";
     public static final String FRAME_ID_V2_COMPOSER_SORT_ORDER_ITUNES = "TSC";
 
-    private static ID3v22Frames id3v22Frames;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final ID3v22Frames id3v22Frames = new ID3v22Frames();
 
     /**
      * Maps from Generic key to ID3 key
@@ -124,10 +127,6 @@ public class ID3v22Frames extends ID3Frames
 
     public static ID3v22Frames getInstanceOf()
     {
-        if (id3v22Frames == null)
-        {
-            id3v22Frames = new ID3v22Frames();
-        }
         return id3v22Frames;
     }
 
@@ -9,7 +9,15 @@ import java.util.List;
  */
 public class ID3v22PreferredFrameOrderComparator implements Comparator<String>
 {
-    private static ID3v22PreferredFrameOrderComparator comparator;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v22PreferredFrameOrderComparator INSTANCE = new ID3v22PreferredFrameOrderComparator();
+    }
+
     private static List frameIdsInPreferredOrder = new ArrayList<String>();
     static
     {
@@ -103,11 +111,7 @@ public class ID3v22PreferredFrameOrderComparator implements Comparator<String>
 
     public static ID3v22PreferredFrameOrderComparator getInstanceof()
     {
-        if(comparator ==null)
-        {
-            comparator =new ID3v22PreferredFrameOrderComparator();
-        }
-        return comparator;
+        return InstanceHolder.INSTANCE;
     }
 
     /**
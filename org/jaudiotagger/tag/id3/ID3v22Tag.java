@@ -32,7 +32,7 @@ import org.jaudiotagger.tag.PaddingException;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.framebody.AbstractFrameBodyTextInfo;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyAPIC;
@@ -42,6 +42,7 @@ import org.jaudiotagger.tag.id3.framebody.FrameBodyTDRC;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.IOException;
@@ -52,6 +53,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 
 /**
@@ -419,6 +421,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
         ID3v22Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> frameIds = getFrameIdsToRead();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
@@ -434,9 +437,13 @@ public class ID3v22Tag extends AbstractID3v2Tag
             {
                 //Read Frame
                 logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
-                next = new ID3v22Frame(byteBuffer, getLoggingFilename());
+                next = new ID3v22Frame(byteBuffer, getLoggingFilename(), frameIds != null);
                 String id = next.getIdentifier();
-                loadFrameIntoMap(id, next);
+                //Frames not wanted are only read to get past them
+                if (frameIds == null || frameIds.contains(id))
+                {
+                    loadFrameIntoMap(id, next);
+                }
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
@@ -558,7 +565,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
@@ -589,7 +596,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
         logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
 
         //Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
@@ -677,32 +684,40 @@ public class ID3v22Tag extends AbstractID3v2Tag
 
     public TagField createField(FieldKey genericKey, String... values) throws KeyNotFoundException, FieldDataInvalidException
     {
-        if (genericKey == null)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            throw new KeyNotFoundException();
-        }
+            if (genericKey == null)
+            {
+                throw new KeyNotFoundException();
+            }
 
-        if (values == null)
-        {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-        }
-        String value = values[0];
-        if (genericKey == FieldKey.GENRE)
-        {
-            if (value == null)
+            if (values == null)
             {
                 throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
             }
-            FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
-            AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
-            FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
-            framebody.setV23Format();
-            framebody.setText(FrameBodyTCON.convertGenericToID3v22Genre(value));
-            return frame;
+            String value = values[0];
+            if (genericKey == FieldKey.GENRE)
+            {
+                if (value == null)
+                {
+                    throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                }
+                FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
+                AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
+                FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
+                framebody.setV23Format();
+                framebody.setText(FrameBodyTCON.convertGenericToID3v22Genre(value));
+                return frame;
+            }
+            else
+            {
+                return super.createField(genericKey, values);
+            }
         }
-        else
+        finally
         {
-            return super.createField(genericKey, values);
+            TagOptions.exit(previous);
         }
     }
 
@@ -796,7 +811,15 @@ public class ID3v22Tag extends AbstractID3v2Tag
         for (TagField next : coverartList)
         {
             FrameBodyPIC coverArt = (FrameBodyPIC) ((AbstractID3v2Frame) next).getBody();
-            Artwork artwork = ArtworkFactory.getNew();
+            Artwork artwork;
+            if (coverArt.getImageDataInFile() != null)
+            {
+                artwork = new LazyArtwork(coverArt.getImageDataInFile(), ImageFormats.getMimeTypeForFormat(coverArt.getFormatType()));
+            }
+            else
+            {
+                artwork = ArtworkFactory.getNew();
+            }
             artwork.setMimeType(ImageFormats.getMimeTypeForFormat(coverArt.getFormatType()));
             artwork.setPictureType(coverArt.getPictureType());
             if (coverArt.isImageUrl())
@@ -804,7 +827,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
-            else
+            else if (coverArt.getImageDataInFile() == null)
             {
                 artwork.setBinaryData(coverArt.getImageData());
             }
@@ -818,30 +841,38 @@ public class ID3v22Tag extends AbstractID3v2Tag
      */
     public TagField createField(Artwork artwork) throws FieldDataInvalidException
     {
-        AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
-        FrameBodyPIC body = (FrameBodyPIC) frame.getBody();
-        if(!artwork.isLinked())
-        {
-            body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, ImageFormats.getFormatForMimeType(artwork.getMimeType()));
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
-        }
-        else
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            try
+            AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
+            FrameBodyPIC body = (FrameBodyPIC) frame.getBody();
+            if(!artwork.isLinked())
             {
-                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, ImageFormats.getFormatForMimeType(artwork.getMimeType()));
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            catch(UnsupportedEncodingException uoe)
+            else
             {
-                throw new RuntimeException(uoe.getMessage());
+                try
+                {
+                    body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                }
+                catch(UnsupportedEncodingException uoe)
+                {
+                    throw new RuntimeException(uoe.getMessage());
+                }
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, FrameBodyAPIC.IMAGE_IS_URL);
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, FrameBodyAPIC.IMAGE_IS_URL);
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
+        }
+        finally
+        {
+            TagOptions.exit(previous);
         }
     }
 
@@ -914,7 +945,8 @@ public class ID3v22Tag extends AbstractID3v2Tag
 
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next)
     {
-        if (next.getBody() instanceof FrameBodyTCON)
+        //Check id first so only genre frames are decoded when frame bodies are decoded lazily
+        if (frameId.equals(ID3v22Frames.FRAME_ID_V2_GENRE) && next.getBody() instanceof FrameBodyTCON)
         {
             ((FrameBodyTCON)next.getBody()).setV23Format();
         }
@@ -303,6 +303,24 @@ public class ID3v23Frame extends AbstractID3v2Frame
         read(byteBuffer);
     }
 
+    /**
+     * Creates a new ID3v23Frame by reading from byteBuffer, optionally without decoding the frame body.
+     *
+     * A frame whose body is deferred is decoded on first access to the body, so this is used to move past frames
+     * that are not going to be used as cheaply as possible.
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param deferBody       true if the body should not be decoded when read
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     */
+    public ID3v23Frame(ByteBuffer byteBuffer, String loggingFilename, boolean deferBody) throws InvalidFrameException, InvalidDataTypeException
+    {
+        setLoggingFilename(loggingFilename);
+        setDeferBodyRead(deferBody);
+        read(byteBuffer);
+    }
+
     /**
      * Creates a new ID3v23Frame dataType by reading from byteBuffer.
      *
@@ -322,7 +340,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
      */
     public int getSize()
     {
-        return frameBody.getSize() + ID3v23Frame.FRAME_HEADER_SIZE;
+        return getBodySize() + ID3v23Frame.FRAME_HEADER_SIZE;
     }
 
     /**
@@ -493,15 +511,19 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 //Create Buffer that only contains the body of this frame rather than the remainder of tag
                 frameBodyBuffer = byteBuffer.slice();
                 frameBodyBuffer.limit(realFrameSize);
-                frameBody = readBody(id, frameBodyBuffer, realFrameSize);
+                setBodyOffsetInBuffer(frameBodyBuffer);
+                if (isDeferBodyRead())
+                {
+                    deferBody(id, frameBodyBuffer, realFrameSize);
+                }
+                else
+                {
+                    frameBody = readBody(id, frameBodyBuffer, realFrameSize);
+                }
             }
-            //TODO code seems to assume that if the frame created is not a v23FrameBody
-            //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
-            //it then be created as FrameBodyUnsupported
-            if (!(frameBody instanceof ID3v23FrameBody))
+            if (frameBody != null)
             {
-                logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
-                frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
+                frameBody = convertReadBody((AbstractID3v2FrameBody) frameBody);
             }
         }
         finally
@@ -511,6 +533,26 @@ public class ID3v23Frame extends AbstractID3v2Frame
         }
     }
 
+    /**
+     * Frame bodies that are not v23 frame bodies are converted to deprecated frame bodies
+     *
+     * @param body as read from file
+     * @return the body to use for this frame
+     */
+    //TODO code seems to assume that if the frame created is not a v23FrameBody
+    //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
+    //it then be created as FrameBodyUnsupported
+    @Override
+    protected AbstractID3v2FrameBody convertReadBody(AbstractID3v2FrameBody body)
+    {
+        if (!(body instanceof ID3v23FrameBody))
+        {
+            logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+            return new FrameBodyDeprecated(body);
+        }
+        return body;
+    }
+
     /**
      * Write the frame to bufferOutputStream
      *
@@ -523,8 +565,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
         //Write Frame Body Data
-        ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        byte[] bodyBuffer = writeBody();
         //Write Frame Header write Frame ID
         if (getIdentifier().length() == 3)
         {
@@ -532,9 +573,9 @@ public class ID3v23Frame extends AbstractID3v2Frame
         }
         headerBuffer.put(Utils.getBytes(getIdentifier(), StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
         //Write Frame Size
-        int size = frameBody.getSize();
+        int size = bodyBuffer.length;
         logger.fine("Frame Size Is:" + size);
-        headerBuffer.putInt(frameBody.getSize());
+        headerBuffer.putInt(size);
 
         //Write the Flags
         //Status Flags:leave as they were when we read
@@ -563,7 +604,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
             }
 
             //Add body to the Byte Array Output Stream
-            tagBuffer.write(bodyOutputStream.toByteArray());
+            tagBuffer.write(bodyBuffer);
         }
         catch (IOException ioe)
         {
@@ -842,7 +883,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
         statusFlags.createStructure();
         encodingFlags.createStructure();
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
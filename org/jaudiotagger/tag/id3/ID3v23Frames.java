@@ -124,7 +124,10 @@ public class ID3v23Frames extends ID3Frames
     public static final String FRAME_ID_V3_COMPOSER_SORT_ORDER_ITUNES = "TSOC";
     public static final String FRAME_ID_V3_SET_SUBTITLE = "TSST";
 
-    private static ID3v23Frames id3v23Frames;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final ID3v23Frames id3v23Frames = new ID3v23Frames();
 
     /**
      * Maps from Generic key to ID3 key
@@ -139,10 +142,6 @@ public class ID3v23Frames extends ID3Frames
     
     public static ID3v23Frames getInstanceOf()
     {
-        if (id3v23Frames == null)
-        {
-            id3v23Frames = new ID3v23Frames();
-        }
         return id3v23Frames;
     }
 
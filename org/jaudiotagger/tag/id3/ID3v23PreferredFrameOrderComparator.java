@@ -9,7 +9,15 @@ import java.util.List;
  */
 public class ID3v23PreferredFrameOrderComparator implements Comparator<String>
 {
-    private static ID3v23PreferredFrameOrderComparator comparator;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v23PreferredFrameOrderComparator INSTANCE = new ID3v23PreferredFrameOrderComparator();
+    }
+
     private static List frameIdsInPreferredOrder = new ArrayList<String>();
     static
     {
@@ -117,11 +125,7 @@ public class ID3v23PreferredFrameOrderComparator implements Comparator<String>
 
     public static ID3v23PreferredFrameOrderComparator getInstanceof()
     {
-        if(comparator==null)
-        {
-            comparator=new  ID3v23PreferredFrameOrderComparator();
-        }
-        return comparator;
+        return InstanceHolder.INSTANCE;
     }
 
     /**
@@ -32,7 +32,7 @@ import org.jaudiotagger.tag.PaddingException;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -49,6 +49,7 @@ import org.jaudiotagger.tag.id3.framebody.FrameBodyTMCL;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyTYER;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.IOException;
@@ -60,6 +61,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 
 /**
@@ -633,6 +635,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         ID3v23Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> frameIds = getFrameIdsToRead();
 
 
         //Read the size from the Tag Header
@@ -649,10 +652,14 @@ public class ID3v23Tag extends AbstractID3v2Tag
                 //Read Frame
                 int posBeforeRead = byteBuffer.position();
                 logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
-                next = new ID3v23Frame(byteBuffer, getLoggingFilename());
+                next = new ID3v23Frame(byteBuffer, getLoggingFilename(), frameIds != null);
                 id = next.getIdentifier();
                 logger.config(getLoggingFilename() + ":Found "+ id+ " at frame at:" + posBeforeRead);
-                loadFrameIntoMap(id, next);
+                //Frames not wanted are only read to get past them
+                if (frameIds == null || frameIds.contains(id))
+                {
+                    loadFrameIntoMap(id, next);
+                }
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
@@ -807,7 +814,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
@@ -837,7 +844,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
@@ -1006,7 +1013,15 @@ public class ID3v23Tag extends AbstractID3v2Tag
         for (TagField next : coverartList)
         {
             FrameBodyAPIC coverArt = (FrameBodyAPIC) ((AbstractID3v2Frame) next).getBody();
-            Artwork artwork = ArtworkFactory.getNew();
+            Artwork artwork;
+            if (coverArt.getImageDataInFile() != null)
+            {
+                artwork = new LazyArtwork(coverArt.getImageDataInFile(), coverArt.getMimeType());
+            }
+            else
+            {
+                artwork = ArtworkFactory.getNew();
+            }
             artwork.setMimeType(coverArt.getMimeType());
             artwork.setPictureType(coverArt.getPictureType());
             if (coverArt.isImageUrl())
@@ -1014,7 +1029,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
-            else
+            else if (coverArt.getImageDataInFile() == null)
             {
                 artwork.setBinaryData(coverArt.getImageData());
             }
@@ -1028,30 +1043,38 @@ public class ID3v23Tag extends AbstractID3v2Tag
      */    
     public TagField createField(Artwork artwork) throws FieldDataInvalidException
     {
-        AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
-        FrameBodyAPIC body = (FrameBodyAPIC) frame.getBody();
-        if(!artwork.isLinked())
-        {
-            body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_MIME_TYPE, artwork.getMimeType());
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
-        }
-        else
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            try
+            AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
+            FrameBodyAPIC body = (FrameBodyAPIC) frame.getBody();
+            if(!artwork.isLinked())
             {
-                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_MIME_TYPE, artwork.getMimeType());
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            catch(UnsupportedEncodingException uoe)
+            else
             {
-                throw new RuntimeException(uoe.getMessage());
+                try
+                {
+                    body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                }
+                catch(UnsupportedEncodingException uoe)
+                {
+                    throw new RuntimeException(uoe.getMessage());
+                }
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_MIME_TYPE, FrameBodyAPIC.IMAGE_IS_URL);
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_MIME_TYPE, FrameBodyAPIC.IMAGE_IS_URL);
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
+        }
+        finally
+        {
+            TagOptions.exit(previous);
         }
     }
 
@@ -1092,110 +1115,118 @@ public class ID3v23Tag extends AbstractID3v2Tag
     @Override
     public TagField createField(FieldKey genericKey, String... values) throws KeyNotFoundException, FieldDataInvalidException
     {
-        if (genericKey == null)
-        {
-            throw new KeyNotFoundException();
-        }
-
-        if (values == null || values[0] == null)
-        {
-            throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-        }
-
-        String value = values[0];
-        if (genericKey == FieldKey.GENRE)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            if (value == null)
+            if (genericKey == null)
             {
-                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                throw new KeyNotFoundException();
             }
-            FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
-            AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
-            FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
-            framebody.setV23Format();
 
-            if(TagOptionSingleton.getInstance().isWriteMp3GenresAsText())
-            {
-                framebody.setText(value);
-            }
-            else
-            {
-                framebody.setText(FrameBodyTCON.convertGenericToID3v23Genre(value));
-            }
-            return frame;
-        }
-        else if (genericKey == FieldKey.YEAR)
-        {
-            if(value.length()==1)
-            {
-                AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
-                ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("000" + value);
-                return tyer;
-            }
-            else if(value.length()==2)
+            if (values == null || values[0] == null)
             {
-                AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
-                ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("00" + value);
-                return tyer;
-            }
-            else if(value.length()==3)
-            {
-                AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
-                ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("0" + value);
-                return tyer;
+                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
             }
-            else if(value.length()==4)
+
+            String value = values[0];
+            if (genericKey == FieldKey.GENRE)
             {
-                AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
-                ((AbstractFrameBodyTextInfo) tyer.getBody()).setText(value);
-                return tyer;
+                if (value == null)
+                {
+                    throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                }
+                FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
+                AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
+                FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
+                framebody.setV23Format();
+
+                if(TagOptions.current().isWriteMp3GenresAsText())
+                {
+                    framebody.setText(value);
+                }
+                else
+                {
+                    framebody.setText(FrameBodyTCON.convertGenericToID3v23Genre(value));
+                }
+                return frame;
             }
-            else if(value.length()> 4)
+            else if (genericKey == FieldKey.YEAR)
             {
-                AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
-                ((AbstractFrameBodyTextInfo) tyer.getBody()).setText(value.substring(0, 4));
-
-                if(value.length() >= 10)
+                if(value.length()==1)
                 {
-                    //Have a full yyyy-mm-dd value that needs storing in two frames in ID3
-                    String month = value.substring(5,7);
-                    String day   = value.substring(8,10);
-                    AbstractID3v2Frame tdat = createFrame(ID3v23Frames.FRAME_ID_V3_TDAT);
-                    ((AbstractFrameBodyTextInfo) tdat.getBody()).setText(day+month);
-
-                    TyerTdatAggregatedFrame ag = new TyerTdatAggregatedFrame();
-                    ag.addFrame(tyer);
-                    ag.addFrame(tdat);
-                    return ag;
+                    AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
+                    ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("000" + value);
+                    return tyer;
                 }
-                else if(value.length() >= 7)
+                else if(value.length()==2)
                 {
-                    //TDAT frame requires both month and day so if we only have the month we just have to make
-                    //the day up
-                    String month = value.substring(5,7);
-                    String day   = "01";
-                    AbstractID3v2Frame tdat = createFrame(ID3v23Frames.FRAME_ID_V3_TDAT);
-                    ((AbstractFrameBodyTextInfo) tdat.getBody()).setText(day+month);
-
-                    TyerTdatAggregatedFrame ag = new TyerTdatAggregatedFrame();
-                    ag.addFrame(tyer);
-                    ag.addFrame(tdat);
-                    return ag;
+                    AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
+                    ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("00" + value);
+                    return tyer;
                 }
-                else
+                else if(value.length()==3)
                 {
-                    //We only have year data
+                    AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
+                    ((AbstractFrameBodyTextInfo) tyer.getBody()).setText("0" + value);
                     return tyer;
                 }
+                else if(value.length()==4)
+                {
+                    AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
+                    ((AbstractFrameBodyTextInfo) tyer.getBody()).setText(value);
+                    return tyer;
+                }
+                else if(value.length()> 4)
+                {
+                    AbstractID3v2Frame tyer = createFrame(ID3v23Frames.FRAME_ID_V3_TYER);
+                    ((AbstractFrameBodyTextInfo) tyer.getBody()).setText(value.substring(0, 4));
+
+                    if(value.length() >= 10)
+                    {
+                        //Have a full yyyy-mm-dd value that needs storing in two frames in ID3
+                        String month = value.substring(5,7);
+                        String day   = value.substring(8,10);
+                        AbstractID3v2Frame tdat = createFrame(ID3v23Frames.FRAME_ID_V3_TDAT);
+                        ((AbstractFrameBodyTextInfo) tdat.getBody()).setText(day+month);
+
+                        TyerTdatAggregatedFrame ag = new TyerTdatAggregatedFrame();
+                        ag.addFrame(tyer);
+                        ag.addFrame(tdat);
+                        return ag;
+                    }
+                    else if(value.length() >= 7)
+                    {
+                        //TDAT frame requires both month and day so if we only have the month we just have to make
+                        //the day up
+                        String month = value.substring(5,7);
+                        String day   = "01";
+                        AbstractID3v2Frame tdat = createFrame(ID3v23Frames.FRAME_ID_V3_TDAT);
+                        ((AbstractFrameBodyTextInfo) tdat.getBody()).setText(day+month);
+
+                        TyerTdatAggregatedFrame ag = new TyerTdatAggregatedFrame();
+                        ag.addFrame(tyer);
+                        ag.addFrame(tdat);
+                        return ag;
+                    }
+                    else
+                    {
+                        //We only have year data
+                        return tyer;
+                    }
+                }
+                else
+                {
+                    return null;
+                }
             }
             else
             {
-                return null;
+                return super.createField(genericKey, values);
             }
         }
-        else
+        finally
         {
-            return super.createField(genericKey, values);
+            TagOptions.exit(previous);
         }
     }
 
@@ -1243,9 +1274,25 @@ public class ID3v23Tag extends AbstractID3v2Tag
         }
     }
 
+    /**
+     * Overridden because the year is held in TYER and TDAT frames, so if TYER is wanted TDAT is also read
+     *
+     * @return
+     */
+    protected Set<String> getFrameIdsToRead()
+    {
+        Set<String> frameIds = super.getFrameIdsToRead();
+        if (frameIds != null && frameIds.contains(ID3v23Frames.FRAME_ID_V3_TYER))
+        {
+            frameIds.add(ID3v23Frames.FRAME_ID_V3_TDAT);
+        }
+        return frameIds;
+    }
+
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next)
     {
-        if (next.getBody() instanceof FrameBodyTCON)
+        //Check id first so only genre frames are decoded when frame bodies are decoded lazily
+        if (frameId.equals(ID3v23Frames.FRAME_ID_V3_GENRE) && next.getBody() instanceof FrameBodyTCON)
         {
             ((FrameBodyTCON)next.getBody()).setV23Format();
         }
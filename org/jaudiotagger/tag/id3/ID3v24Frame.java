@@ -26,7 +26,7 @@ import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidFrameIdentifierException;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.Lyrics3Line;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyCOMM;
@@ -369,6 +369,24 @@ public class ID3v24Frame extends AbstractID3v2Frame
         read(byteBuffer);
     }
 
+    /**
+     * Creates a new ID3v24Frame by reading from byteBuffer, optionally without decoding the frame body.
+     *
+     * A frame whose body is deferred is decoded on first access to the body, so this is used to move past frames
+     * that are not going to be used as cheaply as possible.
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param deferBody       true if the body should not be decoded when read
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     */
+    public ID3v24Frame(ByteBuffer byteBuffer, String loggingFilename, boolean deferBody) throws InvalidFrameException, InvalidDataTypeException
+    {
+        setLoggingFilename(loggingFilename);
+        setDeferBodyRead(deferBody);
+        read(byteBuffer);
+    }
+
     /**
      * Creates a new ID3v24Frame datatype by reading from byteBuffer.
      *
@@ -409,7 +427,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
      */
     public int getSize()
     {
-        return frameBody.getSize() + ID3v24Frame.FRAME_HEADER_SIZE;
+        return getBodySize() + ID3v24Frame.FRAME_HEADER_SIZE;
     }
 
     /**
@@ -690,12 +708,22 @@ public class ID3v24Frame extends AbstractID3v2Frame
             }
             else
             {
-                frameBody = readBody(identifier, frameBodyBuffer, syncSize);
+                if (!((EncodingFlags) encodingFlags).isUnsynchronised())
+                {
+                    setBodyOffsetInBuffer(frameBodyBuffer);
+                }
+                if (isDeferBodyRead())
+                {
+                    deferBody(identifier, frameBodyBuffer, syncSize);
+                }
+                else
+                {
+                    frameBody = readBody(identifier, frameBodyBuffer, syncSize);
+                }
             }
-            if (!(frameBody instanceof ID3v24FrameBody))
+            if (frameBody != null)
             {
-                logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
-                frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
+                frameBody = convertReadBody((AbstractID3v2FrameBody) frameBody);
             }
         }
         finally
@@ -705,6 +733,23 @@ public class ID3v24Frame extends AbstractID3v2Frame
         }
     }
 
+    /**
+     * Frame bodies that are not v24 frame bodies are converted to deprecated frame bodies
+     *
+     * @param body as read from file
+     * @return the body to use for this frame
+     */
+    @Override
+    protected AbstractID3v2FrameBody convertReadBody(AbstractID3v2FrameBody body)
+    {
+        if (!(body instanceof ID3v24FrameBody))
+        {
+            logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+            return new FrameBodyDeprecated(body);
+        }
+        return body;
+    }
+
     /**
      * Write the frame. Writes the frame header but writing the data is delegated to the
      * frame body.
@@ -720,13 +765,11 @@ public class ID3v24Frame extends AbstractID3v2Frame
         //write bodybuffer
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
 
-        //Write Frame Body Data to a new stream
-        ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-        ((AbstractID3v2FrameBody) frameBody).write(bodyOutputStream);
+        //Write Frame Body Data
+        byte[] bodyBuffer = writeBody();
 
         //Does it need unsynchronizing, and are we allowing unsychronizing
-        byte[] bodyBuffer = bodyOutputStream.toByteArray();
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
         if (unsynchronization)
         {
             bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
@@ -1147,7 +1190,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
         MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
         statusFlags.createStructure();
         encodingFlags.createStructure();
-        frameBody.createStructure();
+        getBody().createStructure();
         MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
     }
 
@@ -137,14 +137,13 @@ public class ID3v24Frames extends ID3Frames
     protected EnumMap<ID3v24FieldKey, FieldKey> id3ToTagField = new EnumMap<ID3v24FieldKey,FieldKey>(ID3v24FieldKey.class);
 
 
-    private static ID3v24Frames id3v24Frames;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final ID3v24Frames id3v24Frames = new ID3v24Frames();
 
     public static ID3v24Frames getInstanceOf()
     {
-        if (id3v24Frames == null)
-        {
-            id3v24Frames = new ID3v24Frames();
-        }
         return id3v24Frames;
     }
 
@@ -95,7 +95,15 @@ import static org.jaudiotagger.tag.id3.ID3v24Frames.FRAME_ID_YEAR;
  */
 public class ID3v24PreferredFrameOrderComparator implements Comparator<String>
 {
-    private static ID3v24PreferredFrameOrderComparator comparator;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v24PreferredFrameOrderComparator INSTANCE = new ID3v24PreferredFrameOrderComparator();
+    }
+
     private static List frameIdsInPreferredOrder = new ArrayList<String>();
 
     static
@@ -203,11 +211,7 @@ public class ID3v24PreferredFrameOrderComparator implements Comparator<String>
 
     public static ID3v24PreferredFrameOrderComparator getInstanceof()
     {
-        if (comparator == null)
-        {
-            comparator = new ID3v24PreferredFrameOrderComparator();
-        }
-        return comparator;
+        return InstanceHolder.INSTANCE;
     }
 
 
@@ -33,7 +33,7 @@ import org.jaudiotagger.tag.PaddingException;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
@@ -53,6 +53,7 @@ import org.jaudiotagger.tag.id3.valuepair.MusicianCredits;
 import org.jaudiotagger.tag.id3.valuepair.StandardIPLSKey;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
 import org.jaudiotagger.tag.lyrics3.Lyrics3v2;
 import org.jaudiotagger.tag.lyrics3.Lyrics3v2Field;
@@ -68,6 +69,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 
 /**
@@ -932,6 +934,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
         ID3v24Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> frameIds = getFrameIdsToRead();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
@@ -944,9 +947,13 @@ public class ID3v24Tag extends AbstractID3v2Tag
             {
                 //Read Frame
                 logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
-                next = new ID3v24Frame(byteBuffer, getLoggingFilename());
+                next = new ID3v24Frame(byteBuffer, getLoggingFilename(), frameIds != null);
                 id = next.getIdentifier();
-                loadFrameIntoMap(id, next);
+                //Frames not wanted are only read to get past them
+                if (frameIds == null || frameIds.contains(id))
+                {
+                    loadFrameIntoMap(id, next);
+                }
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
@@ -1344,7 +1351,15 @@ public class ID3v24Tag extends AbstractID3v2Tag
         for (TagField next : coverartList)
         {
             FrameBodyAPIC coverArt = (FrameBodyAPIC) ((AbstractID3v2Frame) next).getBody();
-            Artwork artwork = ArtworkFactory.getNew();
+            Artwork artwork;
+            if (coverArt.getImageDataInFile() != null)
+            {
+                artwork = new LazyArtwork(coverArt.getImageDataInFile(), coverArt.getMimeType());
+            }
+            else
+            {
+                artwork = ArtworkFactory.getNew();
+            }
             artwork.setMimeType(coverArt.getMimeType());
             artwork.setPictureType(coverArt.getPictureType());
             if (coverArt.isImageUrl())
@@ -1352,7 +1367,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
             }
-            else
+            else if (coverArt.getImageDataInFile() == null)
             {
                 artwork.setBinaryData(coverArt.getImageData());
             }
@@ -1363,30 +1378,38 @@ public class ID3v24Tag extends AbstractID3v2Tag
 
     public TagField createField(Artwork artwork) throws FieldDataInvalidException
     {
-        AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
-        FrameBodyAPIC body = (FrameBodyAPIC) frame.getBody();
-        if(!artwork.isLinked())
-        {
-            body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_MIME_TYPE, artwork.getMimeType());
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
-        }
-        else
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            try
+            AbstractID3v2Frame frame = createFrame(getFrameAndSubIdFromGenericKey(FieldKey.COVER_ART).getFrameId());
+            FrameBodyAPIC body = (FrameBodyAPIC) frame.getBody();
+            if(!artwork.isLinked())
             {
-                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, artwork.getBinaryData());
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_MIME_TYPE, artwork.getMimeType());
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            catch(UnsupportedEncodingException uoe)
+            else
             {
-                throw new RuntimeException(uoe.getMessage());
+                try
+                {
+                    body.setObjectValue(DataTypes.OBJ_PICTURE_DATA, Utils.toBytes(artwork.getImageUrl(), StandardCharsets.ISO_8859_1));
+                }
+                catch(UnsupportedEncodingException uoe)
+                {
+                    throw new RuntimeException(uoe.getMessage());
+                }
+                body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
+                body.setObjectValue(DataTypes.OBJ_MIME_TYPE, FrameBodyAPIC.IMAGE_IS_URL);
+                body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
+                return frame;
             }
-            body.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, artwork.getPictureType());
-            body.setObjectValue(DataTypes.OBJ_MIME_TYPE, FrameBodyAPIC.IMAGE_IS_URL);
-            body.setObjectValue(DataTypes.OBJ_DESCRIPTION, "");
-            return frame;
+        }
+        finally
+        {
+            TagOptions.exit(previous);
         }
     }
 
@@ -1420,39 +1443,47 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     public TagField createField(FieldKey genericKey, String... values) throws KeyNotFoundException, FieldDataInvalidException
     {
-        if (genericKey == null)
-        {
-            throw new KeyNotFoundException();
-        }
-
-        if (genericKey == FieldKey.GENRE)
+        TagOptions previous = TagOptions.enter(tagOptions);
+        try
         {
-            if (values == null)
+            if (genericKey == null)
             {
-                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                throw new KeyNotFoundException();
             }
-            String value = values[0];
-            if (value == null)
-            {
-                throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
-            }
-            FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
-            AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
-            FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
 
-            if(TagOptionSingleton.getInstance().isWriteMp3GenresAsText())
+            if (genericKey == FieldKey.GENRE)
             {
-                framebody.setText(value);
+                if (values == null)
+                {
+                    throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                }
+                String value = values[0];
+                if (value == null)
+                {
+                    throw new IllegalArgumentException(ErrorMessage.GENERAL_INVALID_NULL_ARGUMENT.getMsg());
+                }
+                FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
+                AbstractID3v2Frame frame = createFrame(formatKey.getFrameId());
+                FrameBodyTCON framebody = (FrameBodyTCON) frame.getBody();
+
+                if(TagOptions.current().isWriteMp3GenresAsText())
+                {
+                    framebody.setText(value);
+                }
+                else
+                {
+                    framebody.setText(FrameBodyTCON.convertGenericToID3v24Genre(value));
+                }
+                return frame;
             }
             else
             {
-                framebody.setText(FrameBodyTCON.convertGenericToID3v24Genre(value));
+                return super.createField(genericKey, values);
             }
-            return frame;
         }
-        else
+        finally
         {
-            return super.createField(genericKey, values);
+            TagOptions.exit(previous);
         }
     }
     /**
@@ -33,15 +33,18 @@ public class ID3v2ChapterFrames extends ID3Frames
     public static final String FRAME_ID_CHAPTER = "CHAP";
     public static final String FRAME_ID_TABLE_OF_CONTENT = "CTOC";
 
-    private static ID3v2ChapterFrames id3v2ChapterFrames;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v2ChapterFrames INSTANCE = new ID3v2ChapterFrames();
+    }
 
     public static ID3v2ChapterFrames getInstanceOf()
     {
-        if (id3v2ChapterFrames == null)
-        {
-            id3v2ChapterFrames = new ID3v2ChapterFrames();
-        }
-        return id3v2ChapterFrames;
+        return InstanceHolder.INSTANCE;
     }
 
     private ID3v2ChapterFrames()
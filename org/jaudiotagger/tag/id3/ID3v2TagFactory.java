@@ -0,0 +1,112 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.audio.ReadProjection;
+import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagNotFoundException;
+
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * Creates the ID3v2 tag of the right version for a buffer holding an ID3v2 tag.
+ *
+ * The major version in the tag header identifies which of {@link ID3v22Tag}, {@link ID3v23Tag} or {@link ID3v24Tag}
+ * applies, so the header is checked once and the tag read by the matching class rather than trying each version in
+ * turn until one does not throw a {@link TagNotFoundException}.
+ */
+public class ID3v2TagFactory
+{
+    //Logger
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.id3");
+
+    /**
+     * Get the major version from the tag header at the start of the buffer, the position of the buffer is not
+     * modified
+     *
+     * @param buffer buffer holding the tag, starting at index zero
+     * @return the major version, or -1 if the buffer does not start with an ID3v2 tag header
+     */
+    public static int getMajorVersion(ByteBuffer buffer)
+    {
+        if (buffer.limit() < AbstractID3v2Tag.TAG_HEADER_LENGTH)
+        {
+            return -1;
+        }
+
+        for (int i = 0; i < AbstractID3v2Tag.FIELD_TAGID_LENGTH; i++)
+        {
+            if (buffer.get(i) != AbstractID3v2Tag.TAG_ID[i])
+            {
+                return -1;
+            }
+        }
+        return buffer.get(AbstractID3v2Tag.FIELD_TAG_MAJOR_VERSION_POS);
+    }
+
+    /**
+     * Create an empty tag of the version given by the tag header at the start of the buffer, ready for the tag to be
+     * read from the buffer
+     *
+     * @param buffer buffer holding the tag, starting at index zero
+     * @return the empty tag, or null if the buffer does not start with an ID3v2 tag header of a supported version
+     */
+    public static AbstractID3v2Tag createTag(ByteBuffer buffer)
+    {
+        int version = getMajorVersion(buffer);
+        switch (version)
+        {
+            case ID3v22Tag.MAJOR_VERSION:
+                logger.finest("Reading ID3V2.2 tag");
+                return new ID3v22Tag();
+
+            case ID3v23Tag.MAJOR_VERSION:
+                logger.finest("Reading ID3V2.3 tag");
+                return new ID3v23Tag();
+
+            case ID3v24Tag.MAJOR_VERSION:
+                logger.finest("Reading ID3V2.4 tag");
+                return new ID3v24Tag();
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Read the tag at the start of the buffer using the class for the version given in its header
+     *
+     * @param buffer          buffer holding the tag, starting at index zero
+     * @param loggingFilename
+     * @return the tag
+     * @throws TagNotFoundException if the buffer does not start with an ID3v2 tag header of a supported version
+     * @throws TagException         if the tag could not be read
+     */
+    public static AbstractID3v2Tag readTag(ByteBuffer buffer, String loggingFilename) throws TagException
+    {
+        return readTag(buffer, loggingFilename, ReadProjection.ALL);
+    }
+
+    /**
+     * Read the tag at the start of the buffer using the class for the version given in its header, only keeping
+     * the frames wanted by projection
+     *
+     * @param buffer          buffer holding the tag, starting at index zero
+     * @param loggingFilename
+     * @param projection      the fields wanted, frames for other fields are skipped without being decoded
+     * @return the tag
+     * @throws TagNotFoundException if the buffer does not start with an ID3v2 tag header of a supported version
+     * @throws TagException         if the tag could not be read
+     */
+    public static AbstractID3v2Tag readTag(ByteBuffer buffer, String loggingFilename, ReadProjection projection) throws TagException
+    {
+        AbstractID3v2Tag tag = createTag(buffer);
+        if (tag == null)
+        {
+            throw new TagNotFoundException(loggingFilename + ":" + "ID3v2 tag not found");
+        }
+        tag.setLoggingFilename(loggingFilename);
+        tag.setReadProjection(projection);
+        tag.read(buffer);
+        return tag;
+    }
+}
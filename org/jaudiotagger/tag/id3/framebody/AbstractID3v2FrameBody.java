@@ -143,17 +143,22 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
      * @param byteBuffer file to read
      * @throws InvalidFrameException if unable to construct a frameBody from the ByteBuffer
      */
-    //TODO why don't we just slice byteBuffer, set limit to size and convert readByteArray to take a ByteBuffer
-    //then we wouldn't have to temporary allocate space for the buffer, using lots of needless memory
-    //and providing extra work for the garbage collector.
     public void read(ByteBuffer byteBuffer) throws InvalidTagException
     {
         int size = getSize();
         logger.config("Reading body for" + this.getIdentifier() + ":" + size);
 
-        //Allocate a buffer to the size of the Frame Body and read from file
-        byte[] buffer = new byte[size];
-        byteBuffer.get(buffer);
+        if (size > byteBuffer.remaining())
+        {
+            logger.warning("Invalid Size for FrameBody");
+            throw new InvalidFrameException("Invalid size for Frame Body");
+        }
+
+        //Read the datatypes directly from a slice of the buffer limited to the Frame Body, rather than copying
+        //the Frame Body to an array first
+        ByteBuffer buffer = byteBuffer.slice();
+        buffer.limit(size);
+        byteBuffer.position(byteBuffer.position() + size);
 
         //Offset into buffer, incremented by length of previous dataType
         //this offset is only used internally to decide where to look for the next
@@ -178,7 +183,8 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
             //if it fails frame is invalid
             try
             {
-                object.readByteArray(buffer, offset);
+                buffer.position(offset);
+                object.readByteBuffer(buffer);
             }
             catch (InvalidDataTypeException e)
             {
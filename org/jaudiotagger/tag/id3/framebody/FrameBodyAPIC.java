@@ -18,7 +18,7 @@ package org.jaudiotagger.tag.id3.framebody;
 import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.AbstractString;
 import org.jaudiotagger.tag.datatype.ByteArraySizeTerminated;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -28,9 +28,11 @@ import org.jaudiotagger.tag.datatype.TextEncodedStringNullTerminated;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 
 /**
@@ -122,7 +124,14 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
         this.setObjectValue(DataTypes.OBJ_MIME_TYPE, ImageFormats.getMimeTypeForFormat((String) body.getObjectValue(DataTypes.OBJ_IMAGE_FORMAT)));
         this.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, body.getObjectValue(DataTypes.OBJ_PICTURE_TYPE));
         this.setObjectValue(DataTypes.OBJ_DESCRIPTION, body.getDescription());
-        this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
+        if (body.getImageDataInFile() != null)
+        {
+            this.setImageDataInFile(body.getImageDataInFile());
+        }
+        else
+        {
+            this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
+        }
 
     }
 
@@ -158,14 +167,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
 
     public String getUserFriendlyValue()
     {
-        if(getImageData()!=null)
-        {
-            return getMimeType() + ":" + getDescription() + ":" + getImageData().length;
-        }
-        else
-        {
-            return getMimeType() + ":" + getDescription() + ":0";
-        }
+        return getMimeType() + ":" + getDescription() + ":" + getObject(DataTypes.OBJ_PICTURE_DATA).getSize();
     }
 
 
@@ -229,6 +231,35 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
         return (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
     }
 
+    /**
+     * Leave the image data in the file rather than holding it in memory, it is then read from the file each time
+     * it is requested
+     *
+     * @param imageDataInFile where the image data is held in the file
+     */
+    public void setImageDataInFile(FileImageData imageDataInFile)
+    {
+        ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).setValueInFile(imageDataInFile);
+    }
+
+    /**
+     * @return where the image data is held in the file if it has not been loaded, otherwise null
+     */
+    public FileImageData getImageDataInFile()
+    {
+        return ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).getValueInFile();
+    }
+
+    /**
+     * Read image data left in the file into memory, this must be done before the file is modified
+     *
+     * @throws IOException
+     */
+    public void loadImageData() throws IOException
+    {
+        ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).loadValue();
+    }
+
     /**
      * Set Picture Type
      *
@@ -263,7 +294,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        if(TagOptionSingleton.getInstance().isAPICDescriptionITunesCompatible())
+        if(TagOptions.current().isAPICDescriptionITunesCompatible())
         {
             this.setTextEncoding(TextEncoding.ISO_8859_1);
             if (!((AbstractString) getObject(DataTypes.OBJ_DESCRIPTION)).canBeEncoded())
@@ -35,9 +35,11 @@ import org.jaudiotagger.tag.datatype.StringNullTerminated;
 import org.jaudiotagger.tag.id3.ID3v22Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 
 /**
@@ -130,9 +132,15 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
     {
         this.setObjectValue(DataTypes.OBJ_TEXT_ENCODING, body.getTextEncoding());
         this.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, ImageFormats.getFormatForMimeType((String) body.getObjectValue(DataTypes.OBJ_MIME_TYPE)));
-        this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
         this.setDescription(body.getDescription());
-        this.setImageData(body.getImageData());
+        if (body.getImageDataInFile() != null)
+        {
+            this.setImageDataInFile(body.getImageDataInFile());
+        }
+        else
+        {
+            this.setImageData(body.getImageData());
+        }
     }
 
     /**
@@ -187,6 +195,35 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
         return (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
     }
 
+    /**
+     * Leave the image data in the file rather than holding it in memory, it is then read from the file each time
+     * it is requested
+     *
+     * @param imageDataInFile where the image data is held in the file
+     */
+    public void setImageDataInFile(FileImageData imageDataInFile)
+    {
+        ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).setValueInFile(imageDataInFile);
+    }
+
+    /**
+     * @return where the image data is held in the file if it has not been loaded, otherwise null
+     */
+    public FileImageData getImageDataInFile()
+    {
+        return ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).getValueInFile();
+    }
+
+    /**
+     * Read image data left in the file into memory, this must be done before the file is modified
+     *
+     * @throws IOException
+     */
+    public void loadImageData() throws IOException
+    {
+        ((ByteArraySizeTerminated) getObject(DataTypes.OBJ_PICTURE_DATA)).loadValue();
+    }
+
     /**
      * Set Picture Type
      *
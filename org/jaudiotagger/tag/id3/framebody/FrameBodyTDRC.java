@@ -53,11 +53,51 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     private boolean monthOnly = false;
     private boolean hoursOnly = false;
 
-    private static SimpleDateFormat formatYearIn, formatYearOut;
-    private static SimpleDateFormat formatDateIn, formatDateOut, formatMonthOut;
-    private static SimpleDateFormat formatTimeIn, formatTimeOut, formatHoursOut;
+    /**
+     * The date formats used by one thread, SimpleDateFormat is not thread safe so rather than all threads queuing for
+     * one set each thread has its own
+     */
+    private static final class DateFormats
+    {
+        private final List<SimpleDateFormat> formatters = new ArrayList<SimpleDateFormat>();
+        private final SimpleDateFormat formatYearIn, formatYearOut;
+        private final SimpleDateFormat formatDateIn, formatDateOut, formatMonthOut;
+        private final SimpleDateFormat formatTimeIn, formatTimeOut, formatHoursOut;
+
+        private DateFormats()
+        {
+            //This is allowable v24 format , we use UK Locale not because we are restricting to UK
+            //but because these formats are fixed in ID3 spec, and could possibly get unexpected results if library
+            //used with a default locale that has Date Format Symbols that interfere with the pattern
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM-dd", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy-MM", Locale.UK));
+            formatters.add(new SimpleDateFormat("yyyy", Locale.UK));
+
+            //These are formats used by v23 Frames
+            formatYearIn = new SimpleDateFormat("yyyy", Locale.UK);
+            formatDateIn = new SimpleDateFormat("ddMM", Locale.UK);
+            formatTimeIn = new SimpleDateFormat("HHmm", Locale.UK);
+
+            //These are the separate components of the v24 format that the v23 formats map to
+            formatYearOut = new SimpleDateFormat("yyyy", Locale.UK);
+            formatDateOut = new SimpleDateFormat("-MM-dd", Locale.UK);
+            formatMonthOut = new SimpleDateFormat("-MM", Locale.UK);
+            formatTimeOut = new SimpleDateFormat("'T'HH:mm", Locale.UK);
+            formatHoursOut = new SimpleDateFormat("'T'HH", Locale.UK);
+        }
+    }
 
-    private static final List<SimpleDateFormat> formatters = new ArrayList<SimpleDateFormat>();
+    private static final ThreadLocal<DateFormats> dateFormats = new ThreadLocal<DateFormats>()
+    {
+        @Override
+        protected DateFormats initialValue()
+        {
+            return new DateFormats();
+        }
+    };
 
     private static final int PRECISION_SECOND = 0;
     private static final int PRECISION_MINUTE = 1;
@@ -66,32 +106,6 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     private static final int PRECISION_MONTH = 4;
     private static final int PRECISION_YEAR = 5;
 
-    static
-    {
-        //This is allowable v24 format , we use UK Locale not because we are restricting to UK
-        //but because these formats are fixed in ID3 spec, and could possibly get unexpected results if library
-        //used with a default locale that has Date Format Symbols that interfere with the pattern
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy", Locale.UK));
-
-        //These are formats used by v23 Frames
-        formatYearIn = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateIn = new SimpleDateFormat("ddMM", Locale.UK);
-        formatTimeIn = new SimpleDateFormat("HHmm", Locale.UK);
-
-        //These are the separate components of the v24 format that the v23 formats map to
-        formatYearOut = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateOut = new SimpleDateFormat("-MM-dd", Locale.UK);
-        formatMonthOut = new SimpleDateFormat("-MM", Locale.UK);
-        formatTimeOut = new SimpleDateFormat("'T'HH:mm", Locale.UK);
-        formatHoursOut = new SimpleDateFormat("'T'HH", Locale.UK);
-
-    }
-
     /**
      * Creates a new FrameBodyTDRC datatype.
      */
@@ -123,14 +137,14 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
      */
 
     /**
-     * Synchronized because SimpleDatFormat aren't thread safe
+     * Formats are owned by the calling thread so no locking is needed
      *
      * @param formatDate
      * @param parseDate
      * @param text
      * @return
      */
-    private static synchronized String formatAndParse(SimpleDateFormat formatDate,SimpleDateFormat parseDate,String text)
+    private static String formatAndParse(SimpleDateFormat formatDate,SimpleDateFormat parseDate,String text)
     {
         try
         {
@@ -154,30 +168,31 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
         }
         else
         {
+            DateFormats formats = dateFormats.get();
             if (year != null && !(TextUtils.isEmpty(year.trim())))
             {
-               sb.append(formatAndParse(formatYearOut,formatYearIn,year));
+               sb.append(formatAndParse(formats.formatYearOut,formats.formatYearIn,year));
             }
             if (!date.equals(""))
             {
                 if(isMonthOnly())
                 {
-                    sb.append(formatAndParse(formatMonthOut,formatDateIn,date));    
+                    sb.append(formatAndParse(formats.formatMonthOut,formats.formatDateIn,date));    
                 }
                 else
                 {
-                    sb.append(formatAndParse(formatDateOut,formatDateIn,date));
+                    sb.append(formatAndParse(formats.formatDateOut,formats.formatDateIn,date));
                 }
             }
             if (!time.equals(""))
             {
                 if(isHoursOnly())
                 {
-                    sb.append(formatAndParse(formatHoursOut,formatTimeIn,time));
+                    sb.append(formatAndParse(formats.formatHoursOut,formats.formatTimeIn,time));
                 }
                 else
                 {
-                    sb.append(formatAndParse(formatTimeOut,formatTimeIn,time));
+                    sb.append(formatAndParse(formats.formatTimeOut,formats.formatTimeIn,time));
                 }
 
             }
@@ -298,15 +313,12 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     public void findMatchingMaskAndExtractV3Values()
     {
         //Find the date format of the text
+        List<SimpleDateFormat> formatters = dateFormats.get().formatters;
         for (int i = 0; i < formatters.size(); i++)
         {
             try
             {
-                Date d;
-                synchronized(formatters.get(i))
-                {
-                    d = formatters.get(i).parse(getText());
-                }
+                Date d = formatters.get(i).parse(getText());
                 //If able to parse a date from the text
                 if (d != null)
                 {
@@ -330,40 +342,40 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
+     * Uses the formats owned by the calling thread so no locking is needed
      *
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsYear(Date d)
+    private static String formatDateAsYear(Date d)
     {
-        return formatYearIn.format(d);
+        return dateFormats.get().formatYearIn.format(d);
     }
 
       /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
+     * Uses the formats owned by the calling thread so no locking is needed
      *
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsDate(Date d)
+    private static String formatDateAsDate(Date d)
     {
-        return formatDateIn.format(d);
+        return dateFormats.get().formatDateIn.format(d);
     }
 
       /**
      * Format Date
      *
-     * Synchronized because SimpleDateFormat is invalid
+     * Uses the formats owned by the calling thread so no locking is needed
      *
      * @param d
      * @return
      */
-    private static synchronized String formatDateAsTime(Date d)
+    private static String formatDateAsTime(Date d)
     {
-        return formatTimeIn.format(d);
+        return dateFormats.get().formatTimeIn.format(d);
     }
 
     /**
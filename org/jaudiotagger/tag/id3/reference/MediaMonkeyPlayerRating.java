@@ -29,7 +29,15 @@ package org.jaudiotagger.tag.id3.reference;
  */
 public class MediaMonkeyPlayerRating  extends ID3Rating
 {
-    private static ID3Rating rating=null;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3Rating INSTANCE = new MediaMonkeyPlayerRating();
+    }
+
     private MediaMonkeyPlayerRating()
     {
     }
@@ -137,12 +145,8 @@ public class MediaMonkeyPlayerRating  extends ID3Rating
         return  newValue;
     }
 
-     public static ID3Rating getInstance()
+    public static ID3Rating getInstance()
     {
-        if(rating==null)
-        {
-            rating=new MediaMonkeyPlayerRating();
-        }
-        return rating;
+        return InstanceHolder.INSTANCE;
     }
 }
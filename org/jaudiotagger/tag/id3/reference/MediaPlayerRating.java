@@ -12,7 +12,15 @@ package org.jaudiotagger.tag.id3.reference;
  */
 public class MediaPlayerRating extends ID3Rating
 {
-    private static ID3Rating rating=null;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3Rating INSTANCE = new MediaPlayerRating();
+    }
+
     private MediaPlayerRating()
     {
     }
@@ -86,10 +94,6 @@ public class MediaPlayerRating extends ID3Rating
 
     public static ID3Rating getInstance()
     {
-        if(rating==null)
-        {
-            rating=new MediaPlayerRating();
-        }
-        return rating;
+        return InstanceHolder.INSTANCE;
     }
 }
@@ -26,15 +26,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 
 public class ChannelTypes extends AbstractIntStringValuePair
 {
-    private static ChannelTypes channelTypes;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final ChannelTypes INSTANCE = new ChannelTypes();
+    }
 
     public static ChannelTypes getInstanceOf()
     {
-        if (channelTypes == null)
-        {
-            channelTypes = new ChannelTypes();
-        }
-        return channelTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     private ChannelTypes()
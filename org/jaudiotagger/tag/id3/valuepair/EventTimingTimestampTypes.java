@@ -26,15 +26,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 public class EventTimingTimestampTypes extends AbstractIntStringValuePair
 {
 
-    private static EventTimingTimestampTypes eventTimingTimestampTypes;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final EventTimingTimestampTypes INSTANCE = new EventTimingTimestampTypes();
+    }
 
     public static EventTimingTimestampTypes getInstanceOf()
     {
-        if (eventTimingTimestampTypes == null)
-        {
-            eventTimingTimestampTypes = new EventTimingTimestampTypes();
-        }
-        return eventTimingTimestampTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     public static final int TIMESTAMP_KEY_FIELD_SIZE = 1;
@@ -25,15 +25,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 
 public class EventTimingTypes extends AbstractIntStringValuePair
 {
-    private static EventTimingTypes eventTimingTypes;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final EventTimingTypes INSTANCE = new EventTimingTypes();
+    }
 
     public static EventTimingTypes getInstanceOf()
     {
-        if (eventTimingTypes == null)
-        {
-            eventTimingTypes = new EventTimingTypes();
-        }
-        return eventTimingTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     private EventTimingTypes()
@@ -55,6 +55,7 @@ public class  ImageFormats
     public static final String MIME_TYPE_TIFF = "image/tiff";
     public static final String MIME_TYPE_PDF  = "image/pdf";
     public static final String MIME_TYPE_PICT = "image/x-pict";
+    public static final String MIME_TYPE_WEBP = "image/webp";
 
     /**
      * Sometimes this is used for jpg instead :or have I made this up
@@ -214,6 +215,23 @@ public class  ImageFormats
                 );
     }
 
+    /**
+     * is this binary data a webp image
+     *
+     * @param data
+     * @return true if binary data matches expected header for a webp
+     */
+    public static boolean binaryDataIsWebpFormat(byte[] data)
+    {
+        if(data.length<12)
+        {
+            return false;
+        }
+        //Read RIFF signature and form type
+        return (0x52 == (data[0] & 0xff)) && (0x49 == (data[1] & 0xff)) && (0x46 == (data[2] & 0xff)) && (0x46 == (data[3] & 0xff))
+                && (0x57 == (data[8] & 0xff)) && (0x45 == (data[9] & 0xff)) && (0x42 == (data[10] & 0xff)) && (0x50 == (data[11] & 0xff));
+    }
+
     /**
      *
      * @param data
@@ -255,6 +273,10 @@ public class  ImageFormats
         {
             return MIME_TYPE_TIFF;
         }
+        else if(binaryDataIsWebpFormat(data))
+        {
+            return MIME_TYPE_WEBP;
+        }
         else
         {
             return null;
@@ -25,15 +25,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 
 public class InterpolationTypes extends AbstractIntStringValuePair
 {
-    private static InterpolationTypes interpolationTypes;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final InterpolationTypes INSTANCE = new InterpolationTypes();
+    }
 
     public static InterpolationTypes getInstanceOf()
     {
-        if (interpolationTypes == null)
-        {
-            interpolationTypes = new InterpolationTypes();
-        }
-        return interpolationTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     private InterpolationTypes()
@@ -52,7 +52,10 @@ public class TextEncoding extends AbstractIntStringValuePair
     /** The number of bytes used to hold the text encoding field size. */
     public static final int TEXT_ENCODING_FIELD_SIZE = 1;
 
-    private static TextEncoding textEncodings;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final TextEncoding textEncodings = new TextEncoding();
 
     private final SparseArray<Charset> idToCharset = new SparseArray<>();
 
@@ -61,12 +64,8 @@ public class TextEncoding extends AbstractIntStringValuePair
      *
      * @return singleton
      */
-    public static synchronized TextEncoding getInstanceOf()
+    public static TextEncoding getInstanceOf()
     {
-        if (textEncodings == null)
-        {
-            textEncodings = new TextEncoding();
-        }
         return textEncodings;
     }
 
@@ -12,7 +12,14 @@ import java.util.List;
  */
 public class V2GenreTypes
 {
-    private static V2GenreTypes v2GenresTypes;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final V2GenreTypes INSTANCE = new V2GenreTypes();
+    }
 
     private V2GenreTypes()
     {
@@ -21,11 +28,7 @@ public class V2GenreTypes
 
     public static V2GenreTypes getInstanceOf()
     {
-        if (v2GenresTypes == null)
-        {
-            v2GenresTypes = new V2GenreTypes();
-        }
-        return v2GenresTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     /**
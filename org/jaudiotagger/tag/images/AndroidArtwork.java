@@ -6,7 +6,11 @@ import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Represents artwork in a format independent way
@@ -47,6 +51,27 @@ public class AndroidArtwork implements Artwork {
         this.binaryData = binaryData;
     }
 
+    public InputStream openStream() throws IOException
+    {
+        byte[] data = getBinaryData();
+        return new ByteArrayInputStream(data != null ? data : new byte[0]);
+    }
+
+    public long transferTo(WritableByteChannel target) throws IOException
+    {
+        byte[] data = getBinaryData();
+        if (data == null)
+        {
+            return 0;
+        }
+        ByteBuffer bb = ByteBuffer.wrap(data);
+        while (bb.hasRemaining())
+        {
+            target.write(bb);
+        }
+        return data.length;
+    }
+
     public String getMimeType() {
         return mimeType;
     }
@@ -72,20 +97,41 @@ public class AndroidArtwork implements Artwork {
     }
 
     /**
-     * Should be called when you wish to prime the artwork for saving
+     * Should be called when you wish to prime the artwork for saving, the width and height are read from the image
+     * header using {@link ImageInfo} rather than decoding the image. If the image format is not recognised the
+     * existing values are left unchanged.
      *
-     * @return
+     * @return false if the image data could not be read
      */
-    public boolean setImageFromData() {
-        /*try {
-            Bitmap image = (Bitmap)getImage();
-            setWidth(image.getWidth());
-            setHeight(image.getHeight());
+    public boolean setImageFromData()
+    {
+        ImageInfo imageInfo;
+        try
+        {
+            InputStream is = openStream();
+            try
+            {
+                imageInfo = ImageInfo.read(is);
+            }
+            finally
+            {
+                is.close();
+            }
         }
         catch(IOException ioe)
         {
             return false;
-        }*/
+        }
+
+        if(imageInfo != null)
+        {
+            setWidth(imageInfo.getWidth());
+            setHeight(imageInfo.getHeight());
+            if(mimeType == null || mimeType.length() == 0)
+            {
+                setMimeType(imageInfo.getMimeType());
+            }
+        }
         return true;
     }
 
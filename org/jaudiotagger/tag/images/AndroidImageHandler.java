@@ -12,15 +12,18 @@ import java.io.IOException;
  */
 public class AndroidImageHandler implements ImageHandler
 {
-    private static AndroidImageHandler instance;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final AndroidImageHandler INSTANCE = new AndroidImageHandler();
+    }
 
     public static AndroidImageHandler getInstanceOf()
     {
-        if(instance==null)
-        {
-            instance = new AndroidImageHandler();
-        }
-        return instance;
+        return InstanceHolder.INSTANCE;
     }
 
     private AndroidImageHandler()
@@ -4,6 +4,8 @@ import org.extra.FileSystemProvider;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * Represents artwork in a format independent  way
@@ -12,6 +14,24 @@ public interface Artwork
 {
     public byte[] getBinaryData();
 
+    /**
+     * Open a stream over the image data, for artwork that has not been loaded into memory this reads directly
+     * from the audio file without holding the whole image in memory
+     *
+     * @return stream of the image data, the caller must close it
+     * @throws IOException
+     */
+    public InputStream openStream() throws IOException;
+
+    /**
+     * Write the image data to target, for artwork that has not been loaded into memory this copies directly
+     * from the audio file
+     *
+     * @param target
+     * @return number of bytes written
+     * @throws IOException
+     */
+    public long transferTo(WritableByteChannel target) throws IOException;
 
     public void setBinaryData(byte[] binaryData);
 
@@ -28,9 +48,10 @@ public interface Artwork
     public void setDescription(String description);
 
     /**
-     * Should be called when you wish to prime the artwork for saving
+     * Should be called when you wish to prime the artwork for saving, sets the width and height (and the mime type if
+     * not already set) from the image header without decoding the image
      *
-     * @return
+     * @return false if the image data could not be read
      */
     public boolean setImageFromData();
 
@@ -27,13 +27,18 @@ public class ArtworkFactory
     }
 
     /**
-     * Create Artwork instance from A Flac Metadata Block
+     * Create Artwork instance from A Flac Metadata Block, if the image data of the block has not been loaded the
+     * artwork also leaves it in the file
      *
      * @param coverArt
      * @return
      */
     public static Artwork createArtworkFromMetadataBlockDataPicture(MetadataBlockDataPicture coverArt)
     {
+        if (coverArt.getImageDataInFile() != null)
+        {
+            return LazyArtwork.createArtworkFromMetadataBlockDataPicture(coverArt);
+        }
         //Normal
         /*if(!TagOptionSingleton.getInstance().isAndroid())
         {
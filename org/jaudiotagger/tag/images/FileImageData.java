@@ -0,0 +1,468 @@
+package org.jaudiotagger.tag.images;
+
+import org.extra.FileChannelProvider;
+import org.extra.FileSystemProvider;
+import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Image data that has been left in the audio file it was read from rather than copied into memory.
+ *
+ * <p>The data is held in one or more regions of the file, there is more than one region when the container splits
+ * the data up, for example a vorbis comment that spans several Ogg pages. The regions hold either the image data
+ * itself or base64 text that decodes to it, as used by the METADATA_BLOCK_PICTURE vorbis comment.
+ *
+ * <p>Only the position of the data is kept, it is read from the file each time it is requested. The position is only
+ * valid for the file as it was when read, so the data must be read before the file is modified if it is still needed.
+ */
+public class FileImageData
+{
+    /**
+     * How the data is stored in the file
+     */
+    public enum Encoding
+    {
+        RAW,
+        BASE64
+    }
+
+    /**
+     * Number of base64 characters decoded at a time when streaming base64 data, a multiple of four
+     */
+    private static final int BASE64_CHUNK_SIZE = 16 * 1024;
+
+    private final FileSystemProvider provider;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final Encoding encoding;
+
+    /**
+     * Number of decoded bytes to discard before the data starts, only used for base64 data which can only be decoded
+     * from a four character boundary
+     */
+    private final int skip;
+    private final int length;
+
+    /**
+     * Data held in a single region of the file without any encoding
+     *
+     * @param provider the file holding the data
+     * @param offset   position of the data within the file
+     * @param length   length of the data in bytes
+     */
+    public FileImageData(FileSystemProvider provider, long offset, int length)
+    {
+        this(provider, new long[]{offset}, new int[]{length}, Encoding.RAW, 0, length);
+    }
+
+    /**
+     * Data held in several regions of the file that are read one after another
+     *
+     * @param provider the file holding the data
+     * @param offsets  position of each region within the file
+     * @param lengths  length of each region in bytes
+     */
+    public FileImageData(FileSystemProvider provider, long[] offsets, int[] lengths)
+    {
+        this(provider, offsets, lengths, Encoding.RAW, 0, sum(lengths));
+    }
+
+    private FileImageData(FileSystemProvider provider, long[] offsets, int[] lengths, Encoding encoding, int skip, int length)
+    {
+        this.provider = provider;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.encoding = encoding;
+        this.skip = skip;
+        this.length = length;
+    }
+
+    private static int sum(int[] lengths)
+    {
+        int total = 0;
+        for (int next : lengths)
+        {
+            total += next;
+        }
+        return total;
+    }
+
+    /**
+     * @return the file holding the data
+     */
+    public FileSystemProvider getProvider()
+    {
+        return provider;
+    }
+
+    /**
+     * @return position within the file of the first region holding the data
+     */
+    public long getOffset()
+    {
+        return offsets[0];
+    }
+
+    /**
+     * @return how the data is stored in the file
+     */
+    public Encoding getEncoding()
+    {
+        return encoding;
+    }
+
+    /**
+     * @return length of the data in bytes once decoded, for base64 data whose length has not been given this is the
+     * most it can decode to
+     */
+    public int getLength()
+    {
+        return length;
+    }
+
+    /**
+     * @return number of bytes the data takes up in the file
+     */
+    public int getStoredLength()
+    {
+        return sum(lengths);
+    }
+
+    /**
+     * The same regions of the file read as base64 text, this can only be used on raw data
+     *
+     * @return data decoding the text held by this data
+     */
+    public FileImageData asBase64()
+    {
+        if (encoding != Encoding.RAW)
+        {
+            throw new IllegalStateException("Data is already encoded as:" + encoding);
+        }
+        return new FileImageData(provider, offsets, lengths, Encoding.BASE64, 0, getStoredLength() / 4 * 3);
+    }
+
+    /**
+     * Part of this data
+     *
+     * @param start  offset of the part within the (decoded) data
+     * @param length length of the part in bytes
+     * @return data holding just the part
+     */
+    public FileImageData slice(int start, int length)
+    {
+        if (start < 0 || length < 0 || start + length > this.length)
+        {
+            throw new IllegalArgumentException("Cannot take:" + start + ":" + length + " from data of length:" + this.length);
+        }
+
+        if (encoding == Encoding.RAW)
+        {
+            return sliceRegions(start, length, Encoding.RAW, 0, length);
+        }
+
+        //Base64 can only be decoded from the start of a four character group, each of which decodes to three bytes
+        int decodedStart = skip + start;
+        int storedStart = decodedStart / 3 * 4;
+        int storedEnd = Math.min(getStoredLength(), (decodedStart + length + 2) / 3 * 4);
+        return sliceRegions(storedStart, storedEnd - storedStart, Encoding.BASE64, decodedStart % 3, length);
+    }
+
+    private FileImageData sliceRegions(int storedStart, int storedLength, Encoding encoding, int skip, int length)
+    {
+        long[] newOffsets = new long[offsets.length];
+        int[] newLengths = new int[lengths.length];
+        int count = 0;
+        int regionStart = 0;
+        for (int i = 0; i < offsets.length && storedLength > 0; i++)
+        {
+            int regionEnd = regionStart + lengths[i];
+            if (storedStart < regionEnd)
+            {
+                int from = Math.max(storedStart - regionStart, 0);
+                int size = Math.min(lengths[i] - from, storedLength);
+                newOffsets[count] = offsets[i] + from;
+                newLengths[count] = size;
+                count++;
+                storedStart += size;
+                storedLength -= size;
+            }
+            regionStart = regionEnd;
+        }
+        return new FileImageData(provider, Arrays.copyOf(newOffsets, count), Arrays.copyOf(newLengths, count), encoding, skip, length);
+    }
+
+    /**
+     * Read the data from the file
+     *
+     * @return the data
+     * @throws IOException if the file could not be read or is shorter than expected
+     */
+    public byte[] read() throws IOException
+    {
+        byte[] data = new byte[length];
+        InputStream is = openStream();
+        try
+        {
+            int read = 0;
+            while (read < length)
+            {
+                int count = is.read(data, read, length - read);
+                if (count < 0)
+                {
+                    if (encoding == Encoding.BASE64)
+                    {
+                        //Length was only an upper bound
+                        return Arrays.copyOf(data, read);
+                    }
+                    throw new IOException("Unable to read image data:read:" + read + ":required:" + length);
+                }
+                read += count;
+            }
+            return data;
+        }
+        finally
+        {
+            is.close();
+        }
+    }
+
+    /**
+     * Open a stream over the data, the data is read from the file as the stream is read
+     *
+     * @return stream of the (decoded) data, the caller must close it
+     * @throws IOException
+     */
+    public InputStream openStream() throws IOException
+    {
+        InputStream is = new RegionInputStream(FileChannelProvider.open(provider));
+        if (encoding == Encoding.BASE64)
+        {
+            is = new Base64InputStream(is);
+        }
+        return is;
+    }
+
+    /**
+     * Write the data to target, raw data is copied directly from the file
+     *
+     * @param target
+     * @return number of bytes written
+     * @throws IOException
+     */
+    public long transferTo(WritableByteChannel target) throws IOException
+    {
+        long transferred = 0;
+        if (encoding == Encoding.RAW)
+        {
+            FileChannelProvider fc = FileChannelProvider.open(provider);
+            try
+            {
+                for (int i = 0; i < offsets.length; i++)
+                {
+                    long done = 0;
+                    while (done < lengths[i])
+                    {
+                        long count = fc.transferTo(offsets[i] + done, lengths[i] - done, target);
+                        if (count <= 0)
+                        {
+                            throw new IOException("Unable to transfer image data:transferred:" + (transferred + done) + ":required:" + length);
+                        }
+                        done += count;
+                    }
+                    transferred += done;
+                }
+            }
+            finally
+            {
+                fc.close();
+            }
+            return transferred;
+        }
+
+        InputStream is = openStream();
+        try
+        {
+            byte[] buffer = new byte[BASE64_CHUNK_SIZE];
+            int count;
+            while ((count = is.read(buffer)) > 0)
+            {
+                ByteBuffer bb = ByteBuffer.wrap(buffer, 0, count);
+                while (bb.hasRemaining())
+                {
+                    target.write(bb);
+                }
+                transferred += count;
+            }
+            return transferred;
+        }
+        finally
+        {
+            is.close();
+        }
+    }
+
+    public boolean equals(Object obj)
+    {
+        if (!(obj instanceof FileImageData))
+        {
+            return false;
+        }
+        FileImageData that = (FileImageData) obj;
+        return provider.equals(that.provider) && Arrays.equals(offsets, that.offsets) && Arrays.equals(lengths, that.lengths)
+                && encoding == that.encoding && skip == that.skip && length == that.length;
+    }
+
+    public int hashCode()
+    {
+        return (int) (offsets[0] ^ (offsets[0] >>> 32)) * 31 + length;
+    }
+
+    public String toString()
+    {
+        return encoding + ":offset:" + getOffset() + ":regions:" + offsets.length + ":length:" + length;
+    }
+
+    /**
+     * Reads the regions of the file one after another
+     */
+    private class RegionInputStream extends InputStream
+    {
+        private final FileChannelProvider fc;
+        private int region;
+        private int positionInRegion;
+
+        private RegionInputStream(FileChannelProvider fc)
+        {
+            this.fc = fc;
+        }
+
+        public int read() throws IOException
+        {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            while (region < offsets.length && positionInRegion == lengths[region])
+            {
+                region++;
+                positionInRegion = 0;
+            }
+            if (region == offsets.length)
+            {
+                return -1;
+            }
+            if (len == 0)
+            {
+                return 0;
+            }
+
+            ByteBuffer bb = ByteBuffer.wrap(b, off, Math.min(len, lengths[region] - positionInRegion));
+            int count = fc.read(bb, offsets[region] + positionInRegion);
+            if (count <= 0)
+            {
+                throw new IOException("Unable to read image data, file ends at:" + (offsets[region] + positionInRegion));
+            }
+            positionInRegion += count;
+            return count;
+        }
+
+        public void close() throws IOException
+        {
+            fc.close();
+        }
+    }
+
+    /**
+     * Decodes the base64 text read from the regions, dropping the skipped bytes and stopping after length bytes
+     */
+    private class Base64InputStream extends InputStream
+    {
+        private final InputStream encoded;
+        private final byte[] text = new byte[BASE64_CHUNK_SIZE];
+        private final char[] chars = new char[BASE64_CHUNK_SIZE];
+        private byte[] decoded = new byte[0];
+        private int position;
+        private int toSkip = skip;
+        private int remaining = length;
+
+        private Base64InputStream(InputStream encoded)
+        {
+            this.encoded = encoded;
+        }
+
+        public int read() throws IOException
+        {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        public int read(byte[] b, int off, int len) throws IOException
+        {
+            if (remaining <= 0)
+            {
+                return -1;
+            }
+            while (position == decoded.length || toSkip > 0)
+            {
+                if (position == decoded.length && !decodeNextChunk())
+                {
+                    return -1;
+                }
+                int skipped = Math.min(toSkip, decoded.length - position);
+                position += skipped;
+                toSkip -= skipped;
+            }
+
+            int count = Math.min(Math.min(len, decoded.length - position), remaining);
+            System.arraycopy(decoded, position, b, off, count);
+            position += count;
+            remaining -= count;
+            return count;
+        }
+
+        private boolean decodeNextChunk() throws IOException
+        {
+            int read = 0;
+            int count;
+            while (read < text.length && (count = encoded.read(text, read, text.length - read)) > 0)
+            {
+                read += count;
+            }
+            if (read == 0)
+            {
+                return false;
+            }
+            if (read % 4 != 0)
+            {
+                throw new IOException("Base64 image data is not a multiple of four characters");
+            }
+            for (int i = 0; i < read; i++)
+            {
+                chars[i] = (char) (text[i] & 0xFF);
+            }
+            try
+            {
+                decoded = Base64Coder.decode(Arrays.copyOf(chars, read));
+            }
+            catch (IllegalArgumentException iae)
+            {
+                throw new IOException(iae.getMessage(), iae);
+            }
+            position = 0;
+            return true;
+        }
+
+        public void close() throws IOException
+        {
+            encoded.close();
+        }
+    }
+}
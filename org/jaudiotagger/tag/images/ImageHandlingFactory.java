@@ -7,7 +7,6 @@ package org.jaudiotagger.tag.images;
 public class ImageHandlingFactory
 {
     //private static StandardImageHandler standardImageHandler;
-    private static AndroidImageHandler  androidImageHandler;
 
     public static ImageHandler getInstance()
     {
@@ -23,11 +22,7 @@ public class ImageHandlingFactory
         //Android
         else*/
         {
-            if(androidImageHandler==null)
-            {
-                androidImageHandler = AndroidImageHandler.getInstanceOf();
-            }
-            return androidImageHandler;
+            return AndroidImageHandler.getInstanceOf();
         }
     }
 }
@@ -0,0 +1,300 @@
+package org.jaudiotagger.tag.images;
+
+import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * The mime type and dimensions of an image, read from the image header without decoding the image.
+ *
+ * <p>Only the start of the image is read, the PNG IHDR chunk, the GIF logical screen descriptor, the BMP info
+ * header, the WebP VP8, VP8L or VP8X header, or for JPEG the segments up to the first SOFn frame header (skipping
+ * over any Exif or other application segments before it). This needs no image library so works the same on Android
+ * and elsewhere, and takes microseconds rather than the time needed to decode the image.
+ */
+public final class ImageInfo
+{
+    private final String mimeType;
+    private final int width;
+    private final int height;
+
+    private ImageInfo(String mimeType, int width, int height)
+    {
+        this.mimeType = mimeType;
+        this.width = width;
+        this.height = height;
+    }
+
+    public String getMimeType()
+    {
+        return mimeType;
+    }
+
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
+    public String toString()
+    {
+        return mimeType + ":width:" + width + ":height:" + height;
+    }
+
+    /**
+     * @param data image data
+     * @return the image info, or null if the data is not a PNG, JPEG, GIF, BMP or WebP image or its header is
+     * truncated
+     */
+    public static ImageInfo read(byte[] data)
+    {
+        if (data == null)
+        {
+            return null;
+        }
+        try
+        {
+            return read(new ByteArrayInputStream(data));
+        }
+        catch (IOException ioe)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Read the image info from the start of the stream, the stream is left part way through the image
+     *
+     * @param is stream positioned at the start of the image
+     * @return the image info, or null if the data is not a PNG, JPEG, GIF, BMP or WebP image or its header is
+     * truncated
+     * @throws IOException if the stream cannot be read
+     */
+    public static ImageInfo read(InputStream is) throws IOException
+    {
+        byte[] header = new byte[30];
+        int headerLength = readFully(is, header, 0, header.length);
+        try
+        {
+            if (headerLength >= 24 && isPng(header))
+            {
+                //Signature is followed by the IHDR chunk length and type, then width and height
+                return new ImageInfo(ImageFormats.MIME_TYPE_PNG, getIntBE(header, 16), getIntBE(header, 20));
+            }
+            else if (headerLength >= 10 && isGif(header))
+            {
+                return new ImageInfo(ImageFormats.MIME_TYPE_GIF, getShortLE(header, 6), getShortLE(header, 8));
+            }
+            else if (headerLength >= 26 && isBmp(header))
+            {
+                return readBmp(header);
+            }
+            else if (headerLength >= 30 && isWebp(header))
+            {
+                return readWebp(header);
+            }
+            else if (headerLength >= 4 && isJpeg(header))
+            {
+                return readJpeg(is, header, headerLength);
+            }
+        }
+        catch (EOFException eofe)
+        {
+            //Header truncated
+        }
+        return null;
+    }
+
+    private static ImageInfo readBmp(byte[] header)
+    {
+        int dibHeaderSize = getIntLE(header, 14);
+        //OS/2 BITMAPCOREHEADER uses 16 bit dimensions
+        if (dibHeaderSize == 12)
+        {
+            return new ImageInfo(ImageFormats.MIME_TYPE_BMP, getShortLE(header, 18), getShortLE(header, 20));
+        }
+        //Height is negative for top down bitmaps
+        return new ImageInfo(ImageFormats.MIME_TYPE_BMP, Math.abs(getIntLE(header, 18)), Math.abs(getIntLE(header, 22)));
+    }
+
+    private static ImageInfo readWebp(byte[] header)
+    {
+        //RIFF header is followed by the first chunk, the chunk data starts at 20
+        if (header[12] == 'V' && header[13] == 'P' && header[14] == '8')
+        {
+            //Lossy, 3 byte frame tag and 3 byte start code followed by 14 bit width and height
+            if (header[15] == ' ')
+            {
+                return new ImageInfo(ImageFormats.MIME_TYPE_WEBP, getShortLE(header, 26) & 0x3fff, getShortLE(header, 28) & 0x3fff);
+            }
+            //Lossless, signature byte followed by 14 bit width - 1 and height - 1
+            else if (header[15] == 'L')
+            {
+                int bits = getIntLE(header, 21);
+                return new ImageInfo(ImageFormats.MIME_TYPE_WEBP, (bits & 0x3fff) + 1, ((bits >> 14) & 0x3fff) + 1);
+            }
+            //Extended, flags and reserved bytes followed by 24 bit canvas width - 1 and height - 1
+            else if (header[15] == 'X')
+            {
+                return new ImageInfo(ImageFormats.MIME_TYPE_WEBP, getInt24LE(header, 24) + 1, getInt24LE(header, 27) + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walk the JPEG segments until the start of frame segment holding the dimensions is found
+     */
+    private static ImageInfo readJpeg(InputStream is, byte[] header, int headerLength) throws IOException
+    {
+        //Continue from the bytes already read into header following the SOI marker
+        InputStream segments = new SequenceInputStream(new ByteArrayInputStream(header, 2, headerLength - 2), is);
+        byte[] buffer = new byte[7];
+        while (true)
+        {
+            int marker = segments.read();
+            if (marker != 0xff)
+            {
+                return null;
+            }
+            //Markers may be preceded by any number of fill bytes
+            while (marker == 0xff)
+            {
+                marker = segments.read();
+            }
+            if (marker < 0)
+            {
+                return null;
+            }
+
+            //Standalone markers have no length
+            if (marker == 0x01 || (marker >= 0xd0 && marker <= 0xd8))
+            {
+                continue;
+            }
+
+            //Start of scan or end of image, no frame header found
+            if (marker == 0xda || marker == 0xd9)
+            {
+                return null;
+            }
+
+            readFullyOrThrow(segments, buffer, 0, 2);
+            int length = getShortBE(buffer, 0);
+            if (length < 2)
+            {
+                return null;
+            }
+
+            //SOF0 to SOF15 except DHT, JPG and DAC which share the range
+            if (marker >= 0xc0 && marker <= 0xcf && marker != 0xc4 && marker != 0xc8 && marker != 0xcc)
+            {
+                //Precision followed by height then width
+                readFullyOrThrow(segments, buffer, 2, 5);
+                return new ImageInfo(ImageFormats.MIME_TYPE_JPEG, getShortBE(buffer, 5), getShortBE(buffer, 3));
+            }
+            skipFully(segments, length - 2);
+        }
+    }
+
+    private static boolean isPng(byte[] data)
+    {
+        return (data[0] & 0xff) == 0x89 && data[1] == 'P' && data[2] == 'N' && data[3] == 'G'
+                && data[12] == 'I' && data[13] == 'H' && data[14] == 'D' && data[15] == 'R';
+    }
+
+    private static boolean isGif(byte[] data)
+    {
+        return data[0] == 'G' && data[1] == 'I' && data[2] == 'F';
+    }
+
+    private static boolean isBmp(byte[] data)
+    {
+        return data[0] == 'B' && data[1] == 'M';
+    }
+
+    private static boolean isWebp(byte[] data)
+    {
+        return data[0] == 'R' && data[1] == 'I' && data[2] == 'F' && data[3] == 'F'
+                && data[8] == 'W' && data[9] == 'E' && data[10] == 'B' && data[11] == 'P';
+    }
+
+    private static boolean isJpeg(byte[] data)
+    {
+        return (data[0] & 0xff) == 0xff && (data[1] & 0xff) == 0xd8 && (data[2] & 0xff) == 0xff;
+    }
+
+    private static int readFully(InputStream is, byte[] buffer, int offset, int length) throws IOException
+    {
+        int read = 0;
+        while (read < length)
+        {
+            int count = is.read(buffer, offset + read, length - read);
+            if (count < 0)
+            {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+
+    private static void readFullyOrThrow(InputStream is, byte[] buffer, int offset, int length) throws IOException
+    {
+        if (readFully(is, buffer, offset, length) < length)
+        {
+            throw new EOFException();
+        }
+    }
+
+    private static void skipFully(InputStream is, long length) throws IOException
+    {
+        while (length > 0)
+        {
+            long skipped = is.skip(length);
+            if (skipped <= 0)
+            {
+                //Some streams only skip what is buffered, fall back to reading
+                if (is.read() < 0)
+                {
+                    throw new EOFException();
+                }
+                skipped = 1;
+            }
+            length -= skipped;
+        }
+    }
+
+    private static int getShortBE(byte[] data, int offset)
+    {
+        return ((data[offset] & 0xff) << 8) | (data[offset + 1] & 0xff);
+    }
+
+    private static int getShortLE(byte[] data, int offset)
+    {
+        return (data[offset] & 0xff) | ((data[offset + 1] & 0xff) << 8);
+    }
+
+    private static int getInt24LE(byte[] data, int offset)
+    {
+        return (data[offset] & 0xff) | ((data[offset + 1] & 0xff) << 8) | ((data[offset + 2] & 0xff) << 16);
+    }
+
+    private static int getIntBE(byte[] data, int offset)
+    {
+        return ((data[offset] & 0xff) << 24) | ((data[offset + 1] & 0xff) << 16) | ((data[offset + 2] & 0xff) << 8) | (data[offset + 3] & 0xff);
+    }
+
+    private static int getIntLE(byte[] data, int offset)
+    {
+        return (data[offset] & 0xff) | ((data[offset + 1] & 0xff) << 8) | ((data[offset + 2] & 0xff) << 16) | ((data[offset + 3] & 0xff) << 24);
+    }
+}
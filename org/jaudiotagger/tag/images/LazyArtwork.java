@@ -0,0 +1,186 @@
+package org.jaudiotagger.tag.images;
+
+import org.extra.FileSystemProvider;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Artwork whose image data is left in the audio file until it is needed.
+ *
+ * <p>Only the position, length and encoding (raw or base64) of the image data within the file are recorded when the
+ * tag is read, together with the mime type, description, picture type and dimensions which are parsed from the picture
+ * header. The image data
+ * itself is read from the file each time {@link #getBinaryData()} is called, or can be streamed with
+ * {@link #openStream()} or {@link #transferTo(WritableByteChannel)} without ever being held in memory in full. This
+ * makes reading the tags of a large library with embedded artwork much cheaper when the artwork is rarely used.
+ *
+ * <p>Setting the binary data replaces the reference to the file with the data given.
+ *
+ * <p>The offset is only valid for the file as it was when read, once the file has been modified the artwork must
+ * not be used, so artwork that is still needed after a write should have its data loaded first.
+ */
+public class LazyArtwork extends AndroidArtwork
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.images");
+
+    private FileImageData imageData;
+
+    /**
+     * @param provider the file containing the image
+     * @param offset   position of the image data within the file
+     * @param length   length of the image data in bytes
+     * @param mimeType mime type read from the picture header
+     */
+    public LazyArtwork(FileSystemProvider provider, long offset, int length, String mimeType)
+    {
+        this(new FileImageData(provider, offset, length), mimeType);
+    }
+
+    /**
+     * @param imageData where the image data is held in the file
+     * @param mimeType  mime type read from the picture header
+     */
+    public LazyArtwork(FileImageData imageData, String mimeType)
+    {
+        this.imageData = imageData;
+        setMimeType(mimeType);
+    }
+
+    /**
+     * Create artwork from a Flac picture block whose image data has not been loaded
+     *
+     * @param coverArt
+     * @return
+     */
+    public static LazyArtwork createArtworkFromMetadataBlockDataPicture(MetadataBlockDataPicture coverArt)
+    {
+        LazyArtwork artwork = new LazyArtwork(coverArt.getImageDataInFile(), coverArt.getMimeType());
+        artwork.setDescription(coverArt.getDescription());
+        artwork.setPictureType(coverArt.getPictureType());
+        artwork.setWidth(coverArt.getWidth());
+        artwork.setHeight(coverArt.getHeight());
+        return artwork;
+    }
+
+    /**
+     * @return the file holding the image data, or null if the data has been set explicitly
+     */
+    public FileSystemProvider getProvider()
+    {
+        return imageData != null ? imageData.getProvider() : null;
+    }
+
+    /**
+     * @return position of the image data within the file
+     */
+    public long getOffset()
+    {
+        return imageData != null ? imageData.getOffset() : -1;
+    }
+
+    /**
+     * @return length of the image data in bytes
+     */
+    public int getLength()
+    {
+        byte[] data = super.getBinaryData();
+        return data != null ? data.length : imageData.getLength();
+    }
+
+    /**
+     * @return how the image data is stored in the file, or null if the data has been set explicitly
+     */
+    public FileImageData.Encoding getEncoding()
+    {
+        return imageData != null ? imageData.getEncoding() : null;
+    }
+
+    /**
+     * @return where the image data is held in the file, or null if the data has been set explicitly
+     */
+    public FileImageData getImageDataInFile()
+    {
+        return imageData;
+    }
+
+    /**
+     * @return true if the image data is still held in the file rather than in memory
+     */
+    public boolean isLazy()
+    {
+        return imageData != null;
+    }
+
+    /**
+     * Read the image data from the file, the data is not kept so each call reads the file again
+     *
+     * @return the image data or null if it could not be read
+     */
+    public byte[] getBinaryData()
+    {
+        if (!isLazy())
+        {
+            return super.getBinaryData();
+        }
+
+        try
+        {
+            return loadBinaryData();
+        }
+        catch (IOException ioe)
+        {
+            logger.log(Level.WARNING, "Unable to read image data from:" + imageData.getProvider().getName() + ":" + imageData, ioe);
+            return null;
+        }
+    }
+
+    public void setBinaryData(byte[] binaryData)
+    {
+        super.setBinaryData(binaryData);
+        imageData = null;
+    }
+
+    /**
+     * Read the image data from the file
+     *
+     * @return the image data
+     * @throws IOException if the file could not be read or is shorter than expected
+     */
+    public byte[] loadBinaryData() throws IOException
+    {
+        if (!isLazy())
+        {
+            return super.getBinaryData();
+        }
+        return imageData.read();
+    }
+
+    public InputStream openStream() throws IOException
+    {
+        if (!isLazy())
+        {
+            return super.openStream();
+        }
+        return imageData.openStream();
+    }
+
+    public long transferTo(WritableByteChannel target) throws IOException
+    {
+        if (!isLazy())
+        {
+            return super.transferTo(target);
+        }
+        return imageData.transferTo(target);
+    }
+
+    public String toString()
+    {
+        return "LazyArtwork:" + getMimeType() + ":" + getDescription() + ":" + imageData + ":length:" + getLength();
+    }
+}
@@ -26,7 +26,7 @@ package org.jaudiotagger.tag.lyrics3;
 import org.extra.RandomAccessFileProvider;
 import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.Lyrics3Image;
 
 import java.nio.ByteBuffer;
@@ -201,7 +201,7 @@ public class FieldFrameBodyIMG extends AbstractLyrics3v2FieldFrameBody
 
         int size = Integer.parseInt(Utils.toString(buffer, 0, 5));
 
-        if ((size == 0) && (!TagOptionSingleton.getInstance().isLyrics3KeepEmptyFieldIfRead()))
+        if ((size == 0) && (!TagOptions.current().isLyrics3KeepEmptyFieldIfRead()))
         {
             throw new InvalidTagException("Lyircs3v2 Field has size of zero.");
         }
@@ -25,7 +25,7 @@ package org.jaudiotagger.tag.lyrics3;
 import org.extra.RandomAccessFileProvider;
 import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.ID3v2LyricLine;
 import org.jaudiotagger.tag.datatype.Lyrics3Line;
 import org.jaudiotagger.tag.datatype.Lyrics3TimeStamp;
@@ -281,7 +281,7 @@ public class FieldFrameBodyLYR extends AbstractLyrics3v2FieldFrameBody
 
         int size = Integer.parseInt(Utils.toString(buffer, 0, 5));
 
-        if ((size == 0) && (!TagOptionSingleton.getInstance().isLyrics3KeepEmptyFieldIfRead()))
+        if ((size == 0) && (!TagOptions.current().isLyrics3KeepEmptyFieldIfRead()))
         {
             throw new InvalidTagException("Lyircs3v2 Field has size of zero.");
         }
@@ -27,7 +27,7 @@ import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v2Frame;
 import org.jaudiotagger.tag.id3.AbstractTag;
 import org.jaudiotagger.tag.id3.ID3v1Tag;
@@ -429,7 +429,7 @@ public class Lyrics3v2 extends AbstractLyrics3
             field = iterator.next();
 
             String id = field.getIdentifier();
-            boolean save = TagOptionSingleton.getInstance().getLyrics3SaveField(id);
+            boolean save = TagOptions.current().getLyrics3SaveField(id);
 
             if ((!id.equals("IND")) && save)
             {
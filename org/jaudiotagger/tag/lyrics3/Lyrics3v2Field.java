@@ -27,7 +27,7 @@ import org.extra.RandomAccessFileProvider;
 import org.extra.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.TagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v2Frame;
 import org.jaudiotagger.tag.id3.AbstractTagFrame;
 import org.jaudiotagger.tag.id3.framebody.AbstractFrameBodyTextInfo;
@@ -205,7 +205,7 @@ public class Lyrics3v2Field extends AbstractTagFrame
      */
     public void write(RandomAccessFileProvider file) throws IOException
     {
-        if ((frameBody.getSize() > 0) || TagOptionSingleton.getInstance().isLyrics3SaveEmptyField())
+        if ((frameBody.getSize() > 0) || TagOptions.current().isLyrics3SaveEmptyField())
         {
             byte[] buffer = new byte[3];
             String str = getIdentifier();
@@ -27,7 +27,14 @@ import org.jaudiotagger.tag.datatype.AbstractStringStringValuePair;
 public class Lyrics3v2Fields extends AbstractStringStringValuePair
 {
 
-    private static Lyrics3v2Fields lyrics3Fields;
+    /**
+     * Holds the instance, which is created the first time it is requested and can then be used from any thread
+     * without locking
+     */
+    private static class InstanceHolder
+    {
+        private static final Lyrics3v2Fields INSTANCE = new Lyrics3v2Fields();
+    }
 
     /**
      * CRLF int set
@@ -40,11 +47,7 @@ public class Lyrics3v2Fields extends AbstractStringStringValuePair
 
     public static Lyrics3v2Fields getInstanceOf()
     {
-        if (lyrics3Fields == null)
-        {
-            lyrics3Fields = new Lyrics3v2Fields();
-        }
-        return lyrics3Fields;
+        return InstanceHolder.INSTANCE;
     }
 
     public static final String FIELD_V2_INDICATIONS = "IND";
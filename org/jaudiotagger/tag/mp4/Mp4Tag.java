@@ -21,15 +21,16 @@ package org.jaudiotagger.tag.mp4;
 import android.text.TextUtils;
 
 import org.extra.StandardCharsets;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.generic.AbstractTag;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.TagField;
-import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.mp4.field.Mp4DiscNoField;
 import org.jaudiotagger.tag.mp4.field.Mp4GenreField;
 import org.jaudiotagger.tag.mp4.field.Mp4TagByteField;
@@ -39,10 +40,13 @@ import org.jaudiotagger.tag.mp4.field.Mp4TagTextField;
 import org.jaudiotagger.tag.mp4.field.Mp4TagTextNumberField;
 import org.jaudiotagger.tag.mp4.field.Mp4TrackField;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.jaudiotagger.tag.mp4.Mp4FieldKey.DISCNUMBER;
 import static org.jaudiotagger.tag.mp4.Mp4FieldKey.GENRE;
@@ -215,6 +219,59 @@ public class Mp4Tag extends AbstractTag
         tagFieldToMp4Field.put(FieldKey.WORK_TYPE, Mp4FieldKey.WORK_TYPE);
     }
 
+    /**
+     * The ids of the atoms within ilst that need to be read to satisfy the projection, atoms with any other id can
+     * be skipped. All reverse dns fields share the same atom id so if any are wanted they are all read.
+     *
+     * @param projection
+     * @return atom ids, or null if the projection needs every atom
+     */
+    public static Set<String> getFieldIds(ReadProjection projection)
+    {
+        if (projection.isAll())
+        {
+            return null;
+        }
+
+        Set<String> fieldIds = new HashSet<String>();
+        for (FieldKey next : projection.getFieldKeys())
+        {
+            Mp4FieldKey mp4FieldKey = tagFieldToMp4Field.get(next);
+            if (mp4FieldKey != null)
+            {
+                fieldIds.add(getAtomId(mp4FieldKey));
+            }
+
+            if (next == FieldKey.KEY)
+            {
+                fieldIds.add(getAtomId(KEY_OLD));
+            }
+            else if (next == FieldKey.GENRE)
+            {
+                fieldIds.add(getAtomId(GENRE_CUSTOM));
+            }
+        }
+
+        if (projection.isArtwork())
+        {
+            fieldIds.add(Mp4FieldKey.ARTWORK.getFieldName());
+        }
+        return fieldIds;
+    }
+
+    /**
+     * @param mp4FieldKey
+     * @return id of the atom within ilst holding the field
+     */
+    private static String getAtomId(Mp4FieldKey mp4FieldKey)
+    {
+        if (mp4FieldKey.isReverseDnsType())
+        {
+            return Mp4TagReverseDnsField.IDENTIFIER;
+        }
+        return mp4FieldKey.getFieldName();
+    }
+
     /**
      * Create genre field
      *
@@ -233,7 +290,7 @@ public class Mp4Tag extends AbstractTag
         }
 
         //Always write as text
-        if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+        if(options().isWriteMp4GenresAsText())
         {
             return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), content);
         }
@@ -706,7 +763,7 @@ public class Mp4Tag extends AbstractTag
         else if (genericKey == FieldKey.GENRE)
         {
             //Always write as text
-            if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+            if(options().isWriteMp4GenresAsText())
             {
                 return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), value);
             }
@@ -930,6 +987,11 @@ public class Mp4Tag extends AbstractTag
         for(TagField next:coverartList)
         {
             Mp4TagCoverField mp4CoverArt = (Mp4TagCoverField)next;
+            if (mp4CoverArt.getImageDataInFile() != null)
+            {
+                artworkList.add(new LazyArtwork(mp4CoverArt.getImageDataInFile(), Mp4TagCoverField.getMimeTypeForImageType(mp4CoverArt.getFieldType())));
+                continue;
+            }
             Artwork artwork = ArtworkFactory.getNew();
             artwork.setBinaryData(mp4CoverArt.getData());
             artwork.setMimeType(Mp4TagCoverField.getMimeTypeForImageType(mp4CoverArt.getFieldType()));
@@ -938,6 +1000,22 @@ public class Mp4Tag extends AbstractTag
         return artworkList;
     }
 
+    /**
+     * Read any cover art that was left in the file into memory, this must be done before the file is modified
+     *
+     * @throws IOException
+     */
+    public void loadArtwork() throws IOException
+    {
+        for (TagField next : get(Mp4FieldKey.ARTWORK))
+        {
+            if (next instanceof Mp4TagCoverField)
+            {
+                ((Mp4TagCoverField) next).loadImageData();
+            }
+        }
+    }
+
     public TagField createCompilationField(boolean origValue) throws KeyNotFoundException, FieldDataInvalidException
     {
         String value = "";
@@ -18,13 +18,16 @@
  */
 package org.jaudiotagger.tag.mp4.field;
 
+import org.extra.FileSystemProvider;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
+import org.jaudiotagger.tag.images.FileImageData;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
 import org.jaudiotagger.tag.mp4.atom.Mp4DataBox;
 import org.jaudiotagger.tag.mp4.atom.Mp4NameBox;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 
@@ -45,6 +48,13 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
     //may have data and name atom
     private int dataAndHeaderSize;
 
+    //File the image is left in when read lazily, and the position of the start of raw within that file
+    private FileSystemProvider provider;
+    private long rawOffsetInFile;
+
+    //Where the image data is held in the file if it has not been read into memory
+    private FileImageData imageDataInFile;
+
     /**
      * Empty CoverArt Field
      */
@@ -78,6 +88,27 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
         }
     }
 
+    /**
+     * Construct CoverField by reading the header from the audio file, leaving the image data in the file
+     *
+     * @param raw
+     * @param imageType
+     * @param provider        the file raw was read from
+     * @param rawOffsetInFile position within the file of the start of the buffer backing raw
+     */
+    public Mp4TagCoverField(ByteBuffer raw, Mp4FieldType imageType, FileSystemProvider provider, long rawOffsetInFile)
+    {
+        super(Mp4FieldKey.ARTWORK.getFieldName());
+        this.provider = provider;
+        this.rawOffsetInFile = rawOffsetInFile;
+        build(raw);
+        this.imageType = imageType;
+        if (!Mp4FieldType.isCoverArtType(imageType))
+        {
+            logger.warning(ErrorMessage.MP4_IMAGE_FORMAT_IS_NOT_TO_EXPECTED_TYPE.getMsg(imageType));
+        }
+    }
+
     /**
      * Construct new cover art with binarydata provided
      *
@@ -132,9 +163,70 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
     }
 
 
+    /**
+     * @return where the image data is held in the file if it has not been read into memory, otherwise null
+     */
+    public FileImageData getImageDataInFile()
+    {
+        return imageDataInFile;
+    }
+
+    /**
+     * If the image data has not been loaded it is read from the file each time this is called without being kept,
+     * use {@link #loadImageData()} to keep it.
+     *
+     * @return the image data
+     */
+    public byte[] getData()
+    {
+        if (dataBytes == null && imageDataInFile != null)
+        {
+            try
+            {
+                return imageDataInFile.read();
+            }
+            catch (IOException ioe)
+            {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
+        return dataBytes;
+    }
+
+    public void setData(byte[] d)
+    {
+        super.setData(d);
+        imageDataInFile = null;
+    }
+
+    protected byte[] getDataBytes() throws UnsupportedEncodingException
+    {
+        return getData();
+    }
+
+    /**
+     * Read the image data from the file and keep it, this must be done before the file the data is held in is
+     * modified
+     *
+     * @throws IOException
+     */
+    public void loadImageData() throws IOException
+    {
+        if (dataBytes == null && imageDataInFile != null)
+        {
+            dataBytes = imageDataInFile.read();
+            imageDataInFile = null;
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return imageDataInFile == null && super.isEmpty();
+    }
+
     public String toString()
     {
-        return imageType +":" + dataBytes.length + "bytes";
+        return imageType + ":" + (dataBytes != null ? dataBytes.length : imageDataInFile.getLength()) + "bytes";
     }
 
     protected void build(ByteBuffer raw)
@@ -146,9 +238,19 @@ public class Mp4TagCoverField extends Mp4TagBinaryField
         //Skip the version and length fields
         raw.position(raw.position() + Mp4DataBox.PRE_DATA_LENGTH);
 
-        //Read the raw data into byte array
-        this.dataBytes = new byte[dataSize - Mp4DataBox.PRE_DATA_LENGTH];
-        raw.get(dataBytes,0,dataBytes.length);
+        if (provider != null && raw.hasArray())
+        {
+            //Just record where the image data is and skip over it
+            int length = dataSize - Mp4DataBox.PRE_DATA_LENGTH;
+            imageDataInFile = new FileImageData(provider, rawOffsetInFile + raw.arrayOffset() + raw.position(), length);
+            raw.position(raw.position() + length);
+        }
+        else
+        {
+            //Read the raw data into byte array
+            this.dataBytes = new byte[dataSize - Mp4DataBox.PRE_DATA_LENGTH];
+            raw.get(dataBytes,0,dataBytes.length);
+        }
 
         //Is there room for another atom (remember actually passed all the data so unless Covr is last atom
         //there will be room even though more likely to be for the text top level atom)
@@ -51,14 +51,13 @@ public class GenreTypes extends AbstractIntStringValuePair
         return MAX_GENRE_ID;
     }
 
-    private static GenreTypes genreTypes;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final GenreTypes genreTypes = new GenreTypes();
 
     public static GenreTypes getInstanceOf()
     {
-        if (genreTypes == null)
-        {
-            genreTypes = new GenreTypes();
-        }
         return genreTypes;
     }
 
@@ -35,15 +35,14 @@ public class Languages extends AbstractStringStringValuePair
     //The number of bytes used to hold the language field size
     public static final int LANGUAGE_FIELD_SIZE = 3;
 
-    private static Languages languageTypes;
+    /**
+     * Created when the class is loaded, so can be used from any thread without locking
+     */
+    private static final Languages languageTypes = new Languages();
 
 
     public static Languages getInstanceOf()
     {
-        if (languageTypes == null)
-        {
-            languageTypes = new Languages();
-        }
         return languageTypes;
     }
 
@@ -20,11 +20,14 @@
 package org.jaudiotagger.tag.vorbiscomment;
 
 import org.extra.Utils;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.images.FileImageData;
 
 import java.io.IOException;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -80,6 +83,39 @@ public class VorbisCommentReader
      */
     public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit) throws IOException, CannotReadException
     {
+        return read(rawdata, isFramingBit, ReadProjection.ALL);
+    }
+
+    /**
+     * Read only the comments wanted by projection, other comments are skipped over by length without being decoded
+     *
+     * @param rawdata
+     * @param isFramingBit
+     * @param projection
+     * @return logical representation of VorbisCommentTag
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, ReadProjection projection) throws IOException, CannotReadException
+    {
+        return read(rawdata, isFramingBit, projection, null);
+    }
+
+    /**
+     * Read only the comments wanted by projection, the content of artwork comments is left in the file when
+     * rawdataInFile is given so the (base64 encoded) images are not held in memory
+     *
+     * @param rawdata
+     * @param isFramingBit
+     * @param projection
+     * @param rawdataInFile where rawdata is held in the file, or null to read all comments into memory
+     * @return logical representation of VorbisCommentTag
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, ReadProjection projection, FileImageData rawdataInFile) throws IOException, CannotReadException
+    {
+        Set<String> fieldNames = VorbisCommentTag.getFieldNames(projection);
 
         VorbisCommentTag tag = new VorbisCommentTag();
 
@@ -120,6 +156,19 @@ public class VorbisCommentReader
                 logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength,rawdata.length));
                 break;
             }
+            else if (fieldNames != null && !fieldNames.contains(getFieldName(rawdata, pos, commentLength)))
+            {
+                pos += commentLength;
+            }
+            else if (rawdataInFile != null && isArtworkField(rawdata, pos, commentLength))
+            {
+                String fieldName = getFieldName(rawdata, pos, commentLength);
+                int contentStart = fieldName.length() + 1;
+                VorbisCommentTagField fieldComment = new VorbisCommentTagField(fieldName, rawdataInFile.slice(pos + contentStart, commentLength - contentStart));
+                pos += commentLength;
+                logger.config("Adding:" + fieldComment.getId() + " left in file");
+                tag.addField(fieldComment);
+            }
             else
             {
                 b = new byte[commentLength];
@@ -142,5 +191,39 @@ public class VorbisCommentReader
         }
         return tag;
     }
+
+    /**
+     * Is the comment starting at pos one holding base64 encoded artwork
+     *
+     * @param rawdata
+     * @param pos
+     * @param commentLength
+     * @return true if the comment is an artwork comment with a value
+     */
+    private boolean isArtworkField(byte[] rawdata, int pos, int commentLength)
+    {
+        String fieldName = getFieldName(rawdata, pos, commentLength);
+        return fieldName.length() < commentLength
+                && (fieldName.equals(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName()) || fieldName.equals(VorbisCommentFieldKey.COVERART.getFieldName()));
+    }
+
+    /**
+     * Get the name of the comment starting at pos without decoding the comment, names are limited to ascii so
+     * can be read byte by byte
+     *
+     * @param rawdata
+     * @param pos
+     * @param commentLength
+     * @return upper case name, or the whole comment if it does not contain a name
+     */
+    private String getFieldName(byte[] rawdata, int pos, int commentLength)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int i = pos; i < pos + commentLength && rawdata[i] != '='; i++)
+        {
+            sb.append(Character.toUpperCase((char) (rawdata[i] & 0xFF)));
+        }
+        return sb.toString();
+    }
 }
 
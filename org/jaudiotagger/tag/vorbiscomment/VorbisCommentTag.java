@@ -22,6 +22,7 @@ import android.text.TextUtils;
 
 import org.extra.StandardCharsets;
 import org.extra.Utils;
+import org.jaudiotagger.audio.ReadProjection;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.generic.AbstractTag;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
@@ -32,10 +33,11 @@ import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
-import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.FileImageData;
+import org.jaudiotagger.tag.images.LazyArtwork;
 import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
 
 import java.io.IOException;
@@ -44,7 +46,9 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.jaudiotagger.tag.vorbiscomment.VorbisCommentFieldKey.VENDOR;
 
@@ -236,6 +240,43 @@ public class VorbisCommentTag extends AbstractTag
         return tag;
     }
 
+    /**
+     * The names of the comments that need to be read to satisfy the projection, comments with any other name
+     * can be skipped.
+     *
+     * @param projection
+     * @return upper case comment names, or null if the projection needs every comment
+     */
+    public static Set<String> getFieldNames(ReadProjection projection)
+    {
+        if (projection.isAll())
+        {
+            return null;
+        }
+
+        Set<String> fieldNames = new HashSet<>();
+        for (FieldKey next : projection.getFieldKeys())
+        {
+            VorbisCommentFieldKey vorbisCommentFieldKey = tagFieldToOggField.get(next);
+            if (vorbisCommentFieldKey != null)
+            {
+                fieldNames.add(vorbisCommentFieldKey.getFieldName().toUpperCase());
+            }
+            if (next == FieldKey.ALBUM_ARTIST)
+            {
+                fieldNames.add(VorbisCommentFieldKey.ALBUMARTIST_JRIVER.getFieldName().toUpperCase());
+            }
+        }
+
+        if (projection.isArtwork())
+        {
+            fieldNames.add(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName());
+            fieldNames.add(VorbisCommentFieldKey.COVERART.getFieldName());
+            fieldNames.add(VorbisCommentFieldKey.COVERARTMIME.getFieldName());
+        }
+        return fieldNames;
+    }
+
     /**
      * @return the vendor, generically known as the encoder
      */
@@ -428,7 +469,7 @@ public class VorbisCommentTag extends AbstractTag
 
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(options().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 case WRITE_ALBUMARTIST_AND_DELETE_JRIVER_ALBUMARTIST:
@@ -550,7 +591,11 @@ public class VorbisCommentTag extends AbstractTag
         List<Artwork> artworkList = new ArrayList<Artwork>(1);
 
         //Read Old Format
-        if (getArtworkBinaryData() != null & getArtworkBinaryData().length > 0) {
+        TagField coverArtField = getFirstField(VorbisCommentFieldKey.COVERART.getFieldName());
+        if (coverArtField instanceof VorbisCommentTagField && ((VorbisCommentTagField) coverArtField).getContentInFile() != null) {
+            FileImageData coverArtInFile = ((VorbisCommentTagField) coverArtField).getContentInFile();
+            artworkList.add(new LazyArtwork(coverArtInFile.asBase64(), getArtworkMimeType()));
+        } else if (getArtworkBinaryData() != null & getArtworkBinaryData().length > 0) {
             Artwork artwork = ArtworkFactory.getNew();
             artwork.setMimeType(getArtworkMimeType());
             artwork.setBinaryData(getArtworkBinaryData());
@@ -561,8 +606,13 @@ public class VorbisCommentTag extends AbstractTag
         List<TagField> metadataBlockPics = this.get(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE);
         for (TagField tagField : metadataBlockPics) {
             try {
-                byte[] imageBinaryData = Base64Coder.decode(((TagTextField) tagField).getContent());
-                MetadataBlockDataPicture coverArt = new MetadataBlockDataPicture(ByteBuffer.wrap(imageBinaryData));
+                MetadataBlockDataPicture coverArt;
+                if (tagField instanceof VorbisCommentTagField && ((VorbisCommentTagField) tagField).getContentInFile() != null) {
+                    coverArt = new MetadataBlockDataPicture(((VorbisCommentTagField) tagField).getContentInFile().asBase64());
+                } else {
+                    byte[] imageBinaryData = Base64Coder.decode(((TagTextField) tagField).getContent());
+                    coverArt = new MetadataBlockDataPicture(ByteBuffer.wrap(imageBinaryData));
+                }
                 Artwork artwork = ArtworkFactory.createArtworkFromMetadataBlockDataPicture(coverArt);
                 artworkList.add(artwork);
             } catch (IOException ioe) {
@@ -575,6 +625,25 @@ public class VorbisCommentTag extends AbstractTag
     }
 
 
+    /**
+     * Read the content of artwork fields still held in the file into memory, this must be done before the file is
+     * modified
+     *
+     * @throws IOException
+     */
+    public void loadArtwork() throws IOException {
+        for (TagField next : getFields(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName())) {
+            if (next instanceof VorbisCommentTagField) {
+                ((VorbisCommentTagField) next).loadContent();
+            }
+        }
+        for (TagField next : getFields(VorbisCommentFieldKey.COVERART.getFieldName())) {
+            if (next instanceof VorbisCommentTagField) {
+                ((VorbisCommentTagField) next).loadContent();
+            }
+        }
+    }
+
     /**
        * Create MetadataBlockPicture field, this is the preferred way of storing artwork in VorbisComment tag now but
        * has to be base encoded to be stored in VorbisComment
@@ -747,7 +816,7 @@ public class VorbisCommentTag extends AbstractTag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(options().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -816,7 +885,7 @@ public class VorbisCommentTag extends AbstractTag
         String value = values[0];
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtistSaveOptions())
+            switch(options().getVorbisAlbumArtistSaveOptions())
             {
                 case WRITE_ALBUMARTIST:
                 {
@@ -867,7 +936,7 @@ public class VorbisCommentTag extends AbstractTag
     {
         if(genericKey==FieldKey.ALBUM_ARTIST)
         {
-            switch(TagOptionSingleton.getInstance().getVorbisAlbumArtisReadOptions())
+            switch(options().getVorbisAlbumArtisReadOptions())
             {
                 case READ_ALBUMARTIST:
                 {
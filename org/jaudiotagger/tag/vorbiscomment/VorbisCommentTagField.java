@@ -22,7 +22,9 @@ import org.extra.StandardCharsets;
 import org.extra.Utils;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagTextField;
+import org.jaudiotagger.tag.images.FileImageData;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 
@@ -59,6 +61,12 @@ public class VorbisCommentTagField implements TagTextField
      */
     private String content;
 
+    /**
+     * Where the content is held in the file when it has not been read into memory, only used for the (base64 encoded)
+     * artwork fields
+     */
+    private FileImageData contentInFile;
+
     /**
      * Stores the id (name) of the tag field. <br>
      */
@@ -114,6 +122,20 @@ public class VorbisCommentTagField implements TagTextField
         checkCommon();
     }
 
+    /**
+     * Create field whose content is left in the file and only read when required, the content must be ascii text
+     * such as base64 encoded artwork.
+     *
+     * @param fieldId       field identifier
+     * @param contentInFile where the content is held in the file
+     */
+    public VorbisCommentTagField(String fieldId, FileImageData contentInFile)
+    {
+        this.id = fieldId.toUpperCase();
+        this.contentInFile = contentInFile;
+        checkCommon();
+    }
+
     /**
      * This method examines the ID of the current field and modifies
      * {@link #common}in order to reflect if the tag id is a commonly used one.
@@ -153,15 +175,54 @@ public class VorbisCommentTagField implements TagTextField
         if (field instanceof TagTextField)
         {
             this.content = ((TagTextField) field).getContent();
+            this.contentInFile = null;
         }
     }
 
+    /**
+     * If the content has not been loaded it is read from the file each time this is called without being kept,
+     * use {@link #loadContent()} to keep it.
+     */
     @Override
     public String getContent()
     {
+        if (content == null && contentInFile != null)
+        {
+            try
+            {
+                return Utils.getString(contentInFile.read(), StandardCharsets.ISO_8859_1.name());
+            }
+            catch (IOException ioe)
+            {
+                throw new RuntimeException(ioe.getMessage(), ioe);
+            }
+        }
         return content;
     }
 
+    /**
+     * @return where the content is held in the file if it has not been loaded, otherwise null
+     */
+    public FileImageData getContentInFile()
+    {
+        return contentInFile;
+    }
+
+    /**
+     * Read the content from the file and keep it, this must be done before the file the content is held in is
+     * modified
+     *
+     * @throws IOException
+     */
+    public void loadContent() throws IOException
+    {
+        if (content == null && contentInFile != null)
+        {
+            content = Utils.getString(contentInFile.read(), StandardCharsets.ISO_8859_1.name());
+            contentInFile = null;
+        }
+    }
+
     @Override
     public Charset getEncoding()
     {
@@ -179,7 +240,7 @@ public class VorbisCommentTagField implements TagTextField
     {
         byte[] size = new byte[VorbisCommentReader.FIELD_COMMENT_LENGTH_LENGTH];
         byte[] idBytes = Utils.toBytes(this.id, StandardCharsets.ISO_8859_1);
-        byte[] contentBytes = Utils.toBytes(this.content, StandardCharsets.UTF_8);
+        byte[] contentBytes = Utils.toBytes(getContent(), StandardCharsets.UTF_8);
         byte[] b = new byte[4 + idBytes.length + 1 + contentBytes.length];
 
         int length = idBytes.length + 1 + contentBytes.length;
@@ -225,13 +286,14 @@ public class VorbisCommentTagField implements TagTextField
     @Override
     public boolean isEmpty()
     {
-        return this.content.equals("");
+        return contentInFile == null && this.content.equals("");
     }
 
     @Override
     public void setContent(String s)
     {
         this.content = s;
+        this.contentInFile = null;
     }
 
     @Override